@@ -41,6 +41,7 @@ import org.eclipse.jface.resource.ImageRegistry;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.BundleContext;
+import org.preesm.algorithm.mathematicalmodels.PeriodicScheduleModelHoward;
 import org.preesm.algorithm.mathematicalmodels.PeriodicScheduleModelOjAlgo;
 import org.preesm.algorithm.mathematicalmodels.SolverMethod;
 import org.preesm.algorithm.schedule.sdf.PeriodicSchedulerSDF.Method;
@@ -81,6 +82,7 @@ public class PreesmAlgorithmPlugin extends AbstractUIPlugin {
     super.start(context);
     PreesmAlgorithmPlugin.setInstance(this);
     this.solverMethodRegistry.put(Method.LINEAR_PROGRAMMING_OJALGO, new PeriodicScheduleModelOjAlgo());
+    this.solverMethodRegistry.put(Method.ALGORITHM, new PeriodicScheduleModelHoward());
   }
 
   @Override
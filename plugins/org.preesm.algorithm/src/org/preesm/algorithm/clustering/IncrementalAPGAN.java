@@ -0,0 +1,279 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.algorithm.clustering;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.preesm.commons.math.MathFunctionsHelper;
+import org.preesm.model.pisdf.AbstractActor;
+import org.preesm.model.pisdf.AbstractVertex;
+import org.preesm.model.pisdf.DataInputPort;
+import org.preesm.model.pisdf.DataOutputPort;
+import org.preesm.model.pisdf.DelayActor;
+import org.preesm.model.pisdf.Fifo;
+import org.preesm.model.pisdf.InterfaceActor;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.brv.BRVMethod;
+import org.preesm.model.pisdf.brv.PiBRV;
+import org.preesm.model.pisdf.util.PiSDFMergeabilty;
+import org.preesm.model.pisdf.util.topology.PiSDFTopologyHelper;
+import org.preesm.model.scenario.Scenario;
+
+/**
+ * Incremental version of the APGAN clustering loop: the repetition vector is computed once, then only the repetition
+ * of the merged couples is updated, and the candidate couples are kept in a priority queue ordered by their common
+ * repetition count.
+ *
+ * <p>
+ * Merging two connected actors does not change the repetition of the other actors: the repetition of the cluster is
+ * the gcd of the ones of its actors, and the rates of its ports are scaled accordingly. Only the couples next to the
+ * cluster need to be checked again after a merge. The mergeability of the candidates is checked lazily, when they are
+ * polled, so the result is the same as {@link APGANAlgorithm#getBestCouple(List, Map)} applied to
+ * {@link ClusteringHelper#getClusterizableCouples(PiGraph, Map, Scenario)} after each merge.
+ * </p>
+ *
+ * <p>
+ * Usage: {@link #pollBestCouple()}, build the cluster, then call {@link #merge(AbstractActor, AbstractActor, PiGraph)}.
+ * </p>
+ */
+public class IncrementalAPGAN {
+
+  /**
+   * A couple of actors connected through the output port of index {@link #portIndex} of {@link #left}.
+   */
+  private static class Candidate {
+
+    private final AbstractActor left;
+    private final AbstractActor right;
+    private final long          commonRepetition;
+    private final long          leftRank;
+    private final int           portIndex;
+
+    private Candidate(final AbstractActor left, final AbstractActor right, final long commonRepetition,
+        final long leftRank, final int portIndex) {
+      this.left = left;
+      this.right = right;
+      this.commonRepetition = commonRepetition;
+      this.leftRank = leftRank;
+      this.portIndex = portIndex;
+    }
+  }
+
+  /**
+   * Highest common repetition first, then in the order of the couples of
+   * {@link PiSDFMergeabilty#getConnectedCouple(PiGraph, Map)}.
+   */
+  private static final Comparator<Candidate> CANDIDATE_ORDER = Comparator
+      .comparingLong((final Candidate c) -> -c.commonRepetition).thenComparingLong(c -> c.leftRank)
+      .thenComparingInt(c -> c.portIndex);
+
+  private final PiGraph                   graph;
+  private final Scenario                  scenario;
+  private final Map<AbstractVertex, Long> repetitionVector;
+  // position of the actors in the graph actor list, clusters being added at the end
+  private final Map<AbstractActor, Long>  ranks;
+  private final PriorityQueue<Candidate>  candidates;
+  private long                            nextRank;
+
+  /**
+   * Computes the repetition vector of the graph and the initial candidates.
+   *
+   * @param graph
+   *          Graph to cluster.
+   * @param scenario
+   *          Scenario holding the mapping constraints of the actors.
+   */
+  public IncrementalAPGAN(final PiGraph graph, final Scenario scenario) {
+    this.graph = graph;
+    this.scenario = scenario;
+    this.repetitionVector = PiBRV.compute(graph, BRVMethod.LCM);
+    this.ranks = new HashMap<>();
+    this.candidates = new PriorityQueue<>(CANDIDATE_ORDER);
+    this.nextRank = 0L;
+    for (final AbstractActor actor : graph.getActors()) {
+      this.ranks.put(actor, this.nextRank++);
+    }
+    for (final AbstractActor actor : graph.getActors()) {
+      addCandidatesFrom(actor);
+    }
+  }
+
+  /**
+   * @return the repetition vector, updated after each merge (it does not contain the repetition of the actors inside
+   *         the clusters).
+   */
+  public Map<AbstractVertex, Long> getRepetitionVector() {
+    return this.repetitionVector;
+  }
+
+  /**
+   * Removes the best mergeable couple from the candidates.
+   *
+   * @return the couple with the highest common repetition count, or null if no couple can be merged anymore.
+   */
+  public Pair<AbstractActor, AbstractActor> pollBestCouple() {
+    while (!this.candidates.isEmpty()) {
+      final Candidate candidate = this.candidates.poll();
+      // actors already merged in another cluster, or couple not mergeable: if a merge next to them makes them
+      // mergeable again, they will be added again
+      if (isMergeable(candidate.left, candidate.right)) {
+        return new ImmutablePair<>(candidate.left, candidate.right);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Updates the repetition vector and the candidates after the given actors have been merged.
+   *
+   * @param left
+   *          First merged actor.
+   * @param right
+   *          Second merged actor.
+   * @param cluster
+   *          Resulting cluster, in the graph.
+   */
+  public void merge(final AbstractActor left, final AbstractActor right, final PiGraph cluster) {
+    updateRepetitionVector(this.repetitionVector, Arrays.asList(left, right), cluster);
+    this.ranks.remove(left);
+    this.ranks.remove(right);
+    this.ranks.put(cluster, this.nextRank++);
+
+    // the precedence shift condition of the couples of the neighbors depends on the rates of the cluster ports
+    addCandidatesFrom(cluster);
+    for (final AbstractActor neighbor : getNeighbors(cluster)) {
+      addCandidatesFrom(neighbor);
+    }
+  }
+
+  /**
+   * Sets the repetition of a new cluster in the repetition vector of its parent graph, without computing it again.
+   *
+   * @param repetitionVector
+   *          Repetition vector of the parent graph, before clustering.
+   * @param actors
+   *          Actors of the parent graph that are now in the cluster (connected together).
+   * @param cluster
+   *          The cluster.
+   * @return the repetition of the cluster, that is the gcd of the repetitions of its actors.
+   */
+  public static long updateRepetitionVector(final Map<AbstractVertex, Long> repetitionVector,
+      final List<AbstractActor> actors, final AbstractActor cluster) {
+    long repetition = 0L;
+    for (final AbstractActor actor : actors) {
+      repetition = MathFunctionsHelper.gcd(repetition, repetitionVector.remove(actor));
+    }
+    repetitionVector.put(cluster, repetition);
+    return repetition;
+  }
+
+  private Set<AbstractActor> getNeighbors(final AbstractActor actor) {
+    final Set<AbstractActor> neighbors = new LinkedHashSet<>();
+    for (final DataOutputPort dop : actor.getDataOutputPorts()) {
+      neighbors.add(dop.getOutgoingFifo().getTargetPort().getContainingActor());
+    }
+    for (final DataInputPort dip : actor.getDataInputPorts()) {
+      neighbors.add(dip.getIncomingFifo().getSourcePort().getContainingActor());
+    }
+    neighbors.remove(actor);
+    return neighbors;
+  }
+
+  /**
+   * Adds all couples in which the actor is involved, as source or as target.
+   */
+  private void addCandidatesFrom(final AbstractActor actor) {
+    if (actor instanceof InterfaceActor) {
+      return;
+    }
+    if (!(actor instanceof DelayActor)) {
+      final List<DataOutputPort> outputs = actor.getDataOutputPorts();
+      for (int i = 0; i < outputs.size(); i++) {
+        addCandidate(actor, outputs.get(i).getOutgoingFifo().getTargetPort().getContainingActor(), i);
+      }
+    }
+    for (final DataInputPort dip : actor.getDataInputPorts()) {
+      final DataOutputPort sourcePort = dip.getIncomingFifo().getSourcePort();
+      final AbstractActor source = sourcePort.getContainingActor();
+      if (!(source instanceof InterfaceActor) && !(source instanceof DelayActor)) {
+        addCandidate(source, actor, source.getDataOutputPorts().indexOf(sourcePort));
+      }
+    }
+  }
+
+  private void addCandidate(final AbstractActor left, final AbstractActor right, final int portIndex) {
+    if (right instanceof InterfaceActor || right == left) {
+      return;
+    }
+    final Long leftRepetition = this.repetitionVector.get(left);
+    final Long rightRepetition = this.repetitionVector.get(right);
+    if (leftRepetition == null || rightRepetition == null) {
+      // not in the clustered graph
+      return;
+    }
+    this.candidates.add(new Candidate(left, right, MathFunctionsHelper.gcd(leftRepetition, rightRepetition),
+        this.ranks.get(left), portIndex));
+  }
+
+  private boolean isMergeable(final AbstractActor left, final AbstractActor right) {
+    if (left.getContainingPiGraph() != this.graph || right.getContainingPiGraph() != this.graph
+        || !isStillConnected(left, right)) {
+      return false;
+    }
+    // same conditions as PiSDFMergeabilty.isMergeable, the costly cycle check last
+    return PiSDFMergeabilty.isHiddenDelayConditionValid(left, right, this.repetitionVector)
+        && PiSDFMergeabilty.isPrecedenceShiftConditionValid(left, right, left, this.repetitionVector)
+        && PiSDFMergeabilty.isPrecedenceShiftConditionValid(right, left, right, this.repetitionVector)
+        && !ClusteringHelper.getListOfCommonComponent(Arrays.asList(left, right), this.scenario).isEmpty()
+        && !PiSDFTopologyHelper.hasLongPath(left, right);
+  }
+
+  private static boolean isStillConnected(final AbstractActor left, final AbstractActor right) {
+    for (final DataOutputPort dop : left.getDataOutputPorts()) {
+      final Fifo fifo = dop.getOutgoingFifo();
+      if (fifo != null && fifo.getTargetPort().getContainingActor() == right) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import org.preesm.algorithm.clustering.ClusteringHelper;
+import org.preesm.algorithm.clustering.IncrementalAPGAN;
 import org.preesm.commons.logger.PreesmLogger;
 import org.preesm.commons.math.MathFunctionsHelper;
 import org.preesm.model.pisdf.AbstractActor;
@@ -107,12 +108,16 @@ public class ClusterPartitioner {
       }
     }
 
+    // Compute BRV once, it is then updated for each new cluster.
+    Map<AbstractVertex, Long> brv = PiBRV.compute(this.graph, BRVMethod.LCM);
+
     // Cluster constrained URC chains.
     long index = 0;
     List<PiGraph> subGraphs = new LinkedList<>();
     for (List<AbstractActor> URC : graphURCs) {
       PiGraph subGraph = new PiSDFSubgraphBuilder(this.graph, URC, "urc_" + index++).build();
       subGraph.setClusterValue(true);
+      IncrementalAPGAN.updateRepetitionVector(brv, URC, subGraph);
       // Add constraints of the cluster in the scenario.
       for (ComponentInstance component : ClusteringHelper.getListOfCommonComponent(URC, this.scenario)) {
         this.scenario.getConstraints().addConstraint(component, subGraph);
@@ -120,8 +125,7 @@ public class ClusterPartitioner {
       subGraphs.add(subGraph);
     }
 
-    // Compute BRV and balance actor firings between coarse and fine-grained parallelism.
-    Map<AbstractVertex, Long> brv = PiBRV.compute(this.graph, BRVMethod.LCM);
+    // Balance actor firings between coarse and fine-grained parallelism.
     for (final PiGraph subgraph : subGraphs) {
       long factor = MathFunctionsHelper.gcd(brv.get(subgraph), this.numberOfPEs);
       String message = String.format("%1$s: firings balanced by %3$d, leaving %2$d firings at coarse-grained.",
@@ -42,8 +42,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
-import org.preesm.algorithm.clustering.APGANAlgorithm;
 import org.preesm.algorithm.clustering.ClusteringHelper;
+import org.preesm.algorithm.clustering.IncrementalAPGAN;
 import org.preesm.algorithm.schedule.model.ActorSchedule;
 import org.preesm.algorithm.schedule.model.HierarchicalSchedule;
 import org.preesm.algorithm.schedule.model.ParallelHiearchicalSchedule;
@@ -293,21 +293,15 @@ public class PGANScheduler {
     // Init cluster number
     int clusterId = 0;
 
-    // Compute BRV
-    Map<AbstractVertex, Long> repetitionVector = PiBRV.compute(graph, BRVMethod.LCM);
-
-    // List all clusterizable couples
-    List<Pair<AbstractActor, AbstractActor>> couples = ClusteringHelper.getClusterizableCouples(graph, repetitionVector,
-        scenario);
-
-    // Cluster until couples list is not empty
-    while (!couples.isEmpty()) {
-      // Search best candidate to be clustered according the highest common repetition count
-      Pair<AbstractActor, AbstractActor> couple = APGANAlgorithm.getBestCouple(couples, repetitionVector);
+    // Compute BRV and list all clusterizable couples, both being updated after each clustering
+    final IncrementalAPGAN apgan = new IncrementalAPGAN(graph, scenario);
 
+    // Search best candidate to be clustered according the highest common repetition count, until there is none
+    Pair<AbstractActor, AbstractActor> couple = apgan.pollBestCouple();
+    while (couple != null) {
       // Cluster given actors and generate a schedule
       HierarchicalSchedule clusterSchedule = (HierarchicalSchedule) clusterize(graph,
-          Arrays.asList(couple.getLeft(), couple.getRight()), repetitionVector, clusterId++);
+          Arrays.asList(couple.getLeft(), couple.getRight()), apgan.getRepetitionVector(), clusterId++);
 
       // Register the resulting schedule into the schedules map
       this.scheduleMap.put(clusterSchedule.getAttachedActor(), clusterSchedule);
@@ -315,11 +309,11 @@ public class PGANScheduler {
       // Store the resulting schedule
       result = clusterSchedule;
 
-      // Recompute BRV
-      repetitionVector = PiBRV.compute(graph, BRVMethod.LCM);
+      // Update BRV and couples around the new cluster
+      apgan.merge(couple.getLeft(), couple.getRight(), (PiGraph) clusterSchedule.getAttachedActor());
 
       // Search again for couple to cluster
-      couples = ClusteringHelper.getClusterizableCouples(graph, repetitionVector, scenario);
+      couple = apgan.pollBestCouple();
     }
 
     return result;
@@ -50,12 +50,10 @@ import org.preesm.algorithm.model.sdf.SDFInterfaceVertex;
 import org.preesm.algorithm.model.sdf.SDFVertex;
 import org.preesm.algorithm.model.sdf.esdf.SDFSinkInterfaceVertex;
 import org.preesm.algorithm.model.sdf.esdf.SDFSourceInterfaceVertex;
+import org.preesm.algorithm.throughput.sdf.tools.CycleRatioGraph;
 import org.preesm.commons.logger.PreesmLogger;
 import org.preesm.commons.math.MathFunctionsHelper;
-import org.preesm.model.pisdf.AbstractActor;
-import org.preesm.model.pisdf.AbstractVertex;
 import org.preesm.model.scenario.Scenario;
-import org.preesm.model.slam.Component;
 
 /**
  * Class used to search for the optimal periodic schedule and its throughput for a given hierarchical graph IBSDF.
@@ -64,347 +62,77 @@ import org.preesm.model.slam.Component;
  */
 public class IBSDFThroughputEvaluator extends ThroughputEvaluator {
 
-  private Scenario scenario;
-
   public IBSDFThroughputEvaluator(Scenario scenario) {
-    this.scenario = scenario;
+    setScenar(scenario);
   }
 
   /**
-   * Computes (not necessarily optimally) the throughput on the optimal periodic schedule (if it exists) of a given
-   * graph under the given scenario.
+   * Computes the optimal normalized period of the periodic schedule (if it exists) of a given graph under the given
+   * scenario, as the maximum cycle ratio L/H of the graph. The hierarchy is flattened into a compact graph: the edges
+   * of a hierarchical actor are connected to the interfaces of its subgraph, and every other vertex gets an edge
+   * looping on it.
    *
    * @param inputGraph
    *          the input graph
-   * @return the double
+   * @return the optimal normalized period, 0 if there is no periodic schedule
    */
   @Override
   public double launch(final SDFGraph inputGraph) {
-
-    // Find a lower bound on the minimal period by inspecting the bottom levels
-    double kMin = startingPeriod(inputGraph);
-    double k = 0;
-
-    // Step 2 : Test if k_min a valid period for the graph
-    if (testPeriod(kMin, inputGraph) != null) {
-      k = kMin;
-    } else {
-      // Step 3 : Find a value for K_max
-      double kMax = 10 * kMin;
-      // increase Kmax until it is a valid period
-      while (testPeriod(kMax, inputGraph) == null) {
-        kMin = kMax;
-        kMax *= 10;
-        // avoid infinite loop if there is no periodic schedule
-        if (kMax >= (Double.MAX_VALUE / 10)) {
-          PreesmLogger.getLogger().log(Level.SEVERE, "No periodic schedule for this graph");
-          return 0;
-        }
-      }
-
-      // adjust the precision
-      double eps = kMax / Math.pow(10, 6);
-      k = kMax;
-      // Step 4 : Improve (minimize) K
-      while (Math.abs(kMax - kMin) > eps) {
-        k = (kMax + kMin) / 2;
-        if (testPeriod(k, inputGraph) != null) {
-          kMax = k; // continue to search on the interval [Kmin,K]
-        } else {
-          kMin = k; // continue to search on the interval [K,Kmax]
-          k = kMax;
-        }
-      }
-    }
-    return k;
-  }
-
-  /**
-   * Computes a lower bound on the optimal normalized period, helpful to get the algorithm started.
-   *
-   * @param inputGraph
-   *          the input graph
-   * @return the double
-   */
-  private double startingPeriod(final SDFGraph inputGraph) {
-    boolean hierarchical = false;
-    double k;
-    double kMax = 0;
-    for (final SDFAbstractVertex vertex : inputGraph.vertexSet()) {
-      // if hierarchical vertex, go check its subgraph
-      if (vertex.getGraphDescription() instanceof SDFGraph) {
-        k = startingPeriod((SDFGraph) vertex.getGraphDescription());
-        if (k > kMax) {
-          kMax = k;
-        }
-        hierarchical = true;
-      }
-    }
-    // we are in a graph without sublevels of hierarchy,
-    // compute the optimal period of this graph with the method for SDF
-    if (!hierarchical) {
-      final ThroughputEvaluator eval = new SDFThroughputEvaluator();
-      eval.setScenar(this.getScenar());
-      kMax = eval.launch(inputGraph);
-    }
-    return kMax;
-  }
-
-  /**
-   * Tests if the given period is a valid one for a periodic schedule for the actors of the graph.
-   *
-   * @param K
-   *          the k
-   * @param sdf
-   *          the sdf
-   * @return null if the condition not respected
-   */
-  private Map<String, Map<String, Double>> testPeriod(final double K, final SDFGraph sdf) {
-    final SDFGraph g = sdf.copy();
-
-    // The set of edges that will be used to compute shortest paths
-    final Map<SDFEdge, Double> e = new LinkedHashMap<>(g.edgeSet().size());
-    // The set of vertices used to compute shortest paths
-    final Map<String, Double> v = new LinkedHashMap<>();
-    // Contains the results of the shortest paths
-    Map<String, Map<String, Double>> dist = new LinkedHashMap<>();
-    AbstractEdgePropertyType<?> eIn;
-    AbstractEdgePropertyType<?> eOut;
-
-    // Add looping edges on actors
-    addLoopingEdgesOnActors(g);
-
-    // Value all arcs of this level with L - K * H
-    setEdgeValues(K, g, e);
-
-    // We need a copy of the set of vertices, since we will add vertices in the original set
-    // while going through its elements
-    final Set<SDFAbstractVertex> vertexSetCopy = new LinkedHashSet<>(g.vertexSet());
-    for (final SDFAbstractVertex vertex : vertexSetCopy) {
-      // For each hierarchical actor
-      if (vertex.getGraphDescription() instanceof SDFGraph) {
-
-        // compute shortest paths between its in/out ports
-        dist = testPeriod(K, (SDFGraph) vertex.getGraphDescription());
-
-        // if null, then subgraph not alive, so the whole graph is not.
-        if (dist == null) {
-          return null;
-        } else {
-          // Create new nodes corresponding to the interfaces
-          for (final Entry<String, Map<String, Double>> entry : dist.entrySet()) {
-            final String input = entry.getKey();
-            final Map<String, Double> inputValue = entry.getValue();
-            // Create a new vertex for each new input interface
-            final SDFAbstractVertex vertexIn = new SDFVertex(null);
-            vertexIn.setName(input);
-            // Create a new port for the incoming edge
-            final SDFSourceInterfaceVertex inPortIN = new SDFSourceInterfaceVertex(null);
-            inPortIN.setName("in");
-            vertexIn.addSource(inPortIN);
-            // Add it to the graph
-            g.addVertex(vertexIn);
-            // Create the new incoming edge of this node
-            final SDFEdge edgeToIn = g.addEdge(vertex.getAssociatedEdge(vertex.getInterface(input)).getSource(),
-                vertexIn);
-            edgeToIn.setSourceInterface(vertex.getAssociatedEdge(vertex.getInterface(input)).getSourceInterface());
-            edgeToIn.setTargetInterface(inPortIN);
-            // Put the correct rates on the new edge
-            eIn = vertex.getAssociatedEdge(vertex.getSources().get(0)).getCons();
-            eOut = vertex.getAssociatedEdge(vertex.getSources().get(0)).getProd();
-            edgeToIn.setCons(eOut);
-            edgeToIn.setProd(eIn);
-            // Put it on the list for the BellmanFord algo, remove the ancient one
-            e.put(edgeToIn, e.get(vertex.getAssociatedEdge(vertex.getInterface(input))));
-
-            // New node for each output interface
-            for (final Entry<String, Double> entry2 : inputValue.entrySet()) {
-              final String output = entry2.getKey();
-              final double outputValue = entry2.getValue();
-              SDFAbstractVertex vertexOut = g.getVertex(output);
-              if (vertexOut == null) {
-                // Create vertex out only if it does not exist already
-                vertexOut = new SDFVertex(null);
-                vertexOut.setName(output);
-                // Create a new port port for the outgoing edge
-                final SDFSinkInterfaceVertex outPortOUT = new SDFSinkInterfaceVertex(null);
-                outPortOUT.setName("out");
-                vertexOut.addSink(outPortOUT);
-                g.addVertex(vertexOut);
-                // Create the edge going from the node out if it does not loop
-                if (vertex.getAssociatedEdge(vertex.getInterface(output)).getTarget() != vertex) {
-                  final SDFEdge edgeFromOut = g.addEdge(vertexOut,
-                      vertex.getAssociatedEdge(vertex.getInterface(output)).getTarget());
-                  edgeFromOut
-                      .setTargetInterface(vertex.getAssociatedEdge(vertex.getInterface(output)).getTargetInterface());
-
-                  // Put the correct rates on the new edge
-                  eIn = vertex.getAssociatedEdge(vertex.getSinks().get(0)).getProd();
-                  eOut = vertex.getAssociatedEdge(vertex.getSinks().get(0)).getCons();
-                  edgeFromOut.setCons(eOut);
-                  edgeFromOut.setProd(eIn);
-
-                  edgeFromOut.setSourceInterface(outPortOUT);
-                  // Put it on the list for the BellmanFord algo, remove the ancient one
-                  e.put(edgeFromOut, e.get(vertex.getAssociatedEdge(vertex.getInterface(output))));
-                }
-              }
-              // Create the edge linking the new in and out
-              final SDFEdge edgeInOut = g.addEdge(vertexIn, vertexOut);
-              // Put the correct rates on the new edge
-              eIn = vertex.getAssociatedEdge(vertex.getSources().get(0)).getCons();
-              eOut = vertex.getAssociatedEdge(vertex.getSinks().get(0)).getProd();
-              edgeInOut.setCons(eOut);
-              edgeInOut.setProd(eIn);
-              // port of origin of this edge
-              final SDFSinkInterfaceVertex outPortIN = new SDFSinkInterfaceVertex(null);
-              outPortIN.setName(output);
-              vertexIn.addSink(outPortIN);
-              edgeInOut.setSourceInterface(outPortIN);
-              // target port of this edge
-              final SDFSourceInterfaceVertex inPortOUT = new SDFSourceInterfaceVertex(null);
-              inPortOUT.setName(vertexIn.getName());
-              vertexOut.addSource(inPortOUT);
-              edgeInOut.setTargetInterface(inPortOUT);
-              // new edge to use for BellmanFord
-              e.put(edgeInOut, outputValue);
-              // new vertices to consider for BellmanFord
-              v.put(vertexOut.getName(), Double.POSITIVE_INFINITY);
-            }
-            v.put(vertexIn.getName(), Double.POSITIVE_INFINITY);
-            // check if the incoming edge loops on the actor
-            if (vertex.getAssociatedEdge(vertex.getInterface(input)).getSource() == vertex) {
-              final SDFEdge loop = g.addEdge(
-                  g.getVertex(vertexIn.getAssociatedEdge(vertexIn.getInterface("in")).getSourceInterface().getName()),
-                  vertexIn);
-              loop.setTargetInterface(vertexIn.getInterface("in"));
-              loop.setSourceInterface(
-                  g.getVertex(vertexIn.getAssociatedEdge(vertexIn.getInterface("in")).getSourceInterface().getName())
-                      .getInterface("out"));
-              e.put(loop, e.get(edgeToIn));
-              e.remove(edgeToIn);
-            }
-          }
-        }
-        // Remove the hierarchical actor from the graph
-        // Remove the hierarchical actor from the graph
-        for (final SDFInterfaceVertex inter : vertex.getSources()) {
-          e.remove(vertex.getAssociatedEdge(inter));
-        }
-        for (final SDFInterfaceVertex inter : vertex.getSinks()) {
-          e.remove(vertex.getAssociatedEdge(inter));
-        }
-        g.removeVertex(vertex);
-      } else {
-        // not a hierarchical actor
-        v.put(vertex.getName(), Double.POSITIVE_INFINITY);
-      }
-      // clear the map of distances, reused for the next hierarchical actor
-      dist.clear();
-    }
-
-    ArrayList<SDFAbstractVertex> origin;
-
-    // when at level zero
-    if (g.getParentVertex() == null) {
-      // pick a random source node
-      origin = new ArrayList<>();
-      origin.add(g.vertexSet().iterator().next());
-    } else {
-      // otherwise, source nodes of the shortest paths to compute are all the input interfaces
-      origin = new ArrayList<>(new ArrayList<>(g.getParentVertex().getSources()));
-    }
-
-    // BellmanFord from each input
-    for (final SDFAbstractVertex input : origin) {
-      // Source node for the shortest path
-      v.put(input.getName(), (double) 0);
-
-      // Relaxation
-      for (int i = 1; i <= (v.size() - 1); i++) {
-        for (final Map.Entry<SDFEdge, Double> entry : e.entrySet()) {
-          if ((v.get(entry.getKey().getSource().getName()) + entry.getValue()) < v
-              .get(entry.getKey().getTarget().getName())) {
-            v.put(entry.getKey().getTarget().getName(), v.get(entry.getKey().getSource().getName()) + entry.getValue());
-          }
-        }
-      }
-      // Check for negative cycle
-      for (final Map.Entry<SDFEdge, Double> entry : e.entrySet()) {
-        if ((v.get(entry.getKey().getSource().getName()) + entry.getValue()) < v
-            .get(entry.getKey().getTarget().getName())) {
-          // Cycle of negative weight found, condition not respected -> graph not alive
-          return null;
-        }
-      }
-      // while we are not at level zero, fill the shortest paths table
-      if (g.getParentVertex() != null) {
-        dist.put(input.getName(), new LinkedHashMap<String, Double>());
-        // distance from the input to all the outputs
-        for (final SDFAbstractVertex output : g.getParentVertex().getSinks()) {
-          dist.get(input.getName()).put(output.getName(), v.get(output.getName()));
-        }
-        // reset weight on vertices
-        for (final SDFAbstractVertex ve : g.vertexSet()) {
-          v.put(ve.getName(), Double.POSITIVE_INFINITY);
-        }
-
-      } else {
-        return dist;
-      }
+    final Map<SDFAbstractVertex, Integer> indexes = new LinkedHashMap<>();
+    indexVertices(inputGraph, indexes);
+    final CycleRatioGraph graph = new CycleRatioGraph(indexes.size(), 2 * indexes.size());
+    addEdges(inputGraph, indexes, graph);
+
+    final double period = graph.maximumCycleRatio();
+    if (Double.isInfinite(period)) {
+      PreesmLogger.getLogger().log(Level.SEVERE, "No periodic schedule for this graph");
+      return 0;
     }
-    return dist;
+    return period;
   }
 
-  private void setEdgeValues(final double K, final SDFGraph g, final Map<SDFEdge, Double> e) {
-    double h;
-    double l;
-    for (final SDFEdge edge : g.edgeSet()) {
-      if ((edge.getSource() instanceof SDFSourceInterfaceVertex)
-          || (edge.getSource().getGraphDescription() instanceof SDFGraph)) {
-        l = 0;
+  private void indexVertices(final SDFGraph g, final Map<SDFAbstractVertex, Integer> indexes) {
+    for (final SDFAbstractVertex vertex : g.vertexSet()) {
+      if (vertex.getGraphDescription() instanceof final SDFGraph subgraph) {
+        indexVertices(subgraph, indexes);
       } else {
-        final AbstractVertex referencePiMMVertex = edge.getSource().getReferencePiVertex();
-        if (referencePiMMVertex instanceof AbstractActor) {
-          final Component component = scenario.getSimulationInfo().getMainOperator().getComponent();
-          final AbstractActor actor = (AbstractActor) referencePiMMVertex;
-          l = this.getScenar().getTimings().evaluateExecutionTimeOrDefault(actor, component);
-        } else {
-          l = 0;
-        }
+        indexes.put(vertex, indexes.size());
       }
-
-      h = ((double) (edge.getDelay().getValue())
-          + MathFunctionsHelper.gcd((double) (edge.getCons().getValue()), (double) (edge.getProd().getValue())))
-          - (double) (edge.getCons().getValue());
-
-      e.put(edge, -(l - (K * h)));
     }
   }
 
-  private void addLoopingEdgesOnActors(final SDFGraph g) {
+  private void addEdges(final SDFGraph g, final Map<SDFAbstractVertex, Integer> indexes,
+      final CycleRatioGraph graph) {
     for (final SDFAbstractVertex vertex : g.vertexSet()) {
-      if (!(vertex.getGraphDescription() instanceof SDFGraph)) {
-        final SDFEdge loop = g.addEdge(vertex, vertex);
-        final SDFSourceInterfaceVertex in = new SDFSourceInterfaceVertex(null);
-        in.setName(vertex.getName() + "In");
-        final SDFSinkInterfaceVertex out = new SDFSinkInterfaceVertex(null);
-        out.setName(vertex.getName() + "Out");
+      if (vertex.getGraphDescription() instanceof final SDFGraph subgraph) {
+        addEdges(subgraph, indexes, graph);
+      } else {
+        // looping edge with M0 = Zi = Zj = x, hence H = x
         AbstractEdgePropertyType<?> x;
         if (!vertex.getSources().isEmpty()) {
           x = vertex.getAssociatedEdge(vertex.getSources().get(0)).getCons();
         } else {
           x = vertex.getAssociatedEdge(vertex.getSinks().get(0)).getProd();
         }
-        vertex.addSource(in);
-        vertex.addSink(out);
-        loop.setSourceInterface(out);
-        loop.setTargetInterface(in);
-        loop.setDelay(x);
-        loop.setCons(x);
-        loop.setProd(x);
+        final int index = indexes.get(vertex);
+        graph.addEdge(index, index, getDuration(vertex), (double) x.getValue());
       }
     }
+    for (final SDFEdge edge : g.edgeSet()) {
+      final int source = indexes.get(getInnerVertex(edge.getSource(), edge.getSourceInterface()));
+      final int target = indexes.get(getInnerVertex(edge.getTarget(), edge.getTargetInterface()));
+      graph.addEdge(source, target, getDuration(edge.getSource()), getTransit(edge));
+    }
+  }
+
+  /**
+   * Returns the vertex itself, or the interface of its subgraph connected to the given port if it is hierarchical.
+   */
+  private static SDFAbstractVertex getInnerVertex(final SDFAbstractVertex vertex, final SDFInterfaceVertex port) {
+    if (vertex.getGraphDescription() instanceof final SDFGraph subgraph) {
+      return subgraph.getVertex(port.getName());
+    }
+    return vertex;
   }
 
   /**
@@ -39,13 +39,13 @@ package org.preesm.algorithm.evaluator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.logging.Level;
-import org.preesm.algorithm.mathematicalmodels.PeriodicScheduleModelOjAlgo;
 import org.preesm.algorithm.model.AbstractEdgePropertyType;
 import org.preesm.algorithm.model.sdf.SDFAbstractVertex;
 import org.preesm.algorithm.model.sdf.SDFEdge;
 import org.preesm.algorithm.model.sdf.SDFGraph;
 import org.preesm.algorithm.model.sdf.esdf.SDFSinkInterfaceVertex;
 import org.preesm.algorithm.model.sdf.esdf.SDFSourceInterfaceVertex;
+import org.preesm.algorithm.throughput.sdf.tools.CycleRatioGraph;
 import org.preesm.commons.logger.PreesmLogger;
 import org.preesm.commons.math.MathFunctionsHelper;
 
@@ -74,8 +74,12 @@ public class SDFThroughputEvaluator extends ThroughputEvaluator {
     final boolean periodic_schedule = hasPeriodicSchedule(sdf);
 
     if (periodic_schedule) {
-      // Find the cycle with L/H max (using linear program)
+      // Find the cycle with L/H max
       period = periodComputation(sdf);
+      if (Double.isInfinite(period)) {
+        PreesmLogger.getLogger().log(Level.SEVERE, "No periodic schedule for this graph ");
+        return 0;
+      }
       // Deduce throughput of the schedule
     } else {
       PreesmLogger.getLogger().log(Level.SEVERE, "No periodic schedule for this graph ");
@@ -85,16 +89,25 @@ public class SDFThroughputEvaluator extends ThroughputEvaluator {
   }
 
   /**
-   * Computes the optimal periodic schedule for the given graph and scenario, using a linear program solved by GLPK.
+   * Computes the optimal periodic schedule for the given graph and scenario, as the maximum cycle ratio L/H of the
+   * graph.
    *
    * @param sdf
-   *          the sdf
-   * @return the optimal normalized period
+   *          the sdf, with the edges looping on the actors
+   * @return the optimal normalized period, infinite if there is none
    */
   private double periodComputation(final SDFGraph sdf) {
-    // // Map to associate each edge with an index
-    final PeriodicScheduleModelOjAlgo method = new PeriodicScheduleModelOjAlgo();
-    return method.computeNormalizedPeriod(sdf).doubleValue();
+    // Map to associate each vertex with an index
+    final Map<SDFAbstractVertex, Integer> indexes = new LinkedHashMap<>();
+    for (final SDFAbstractVertex vertex : sdf.vertexSet()) {
+      indexes.put(vertex, indexes.size());
+    }
+    final CycleRatioGraph graph = new CycleRatioGraph(indexes.size(), sdf.edgeSet().size());
+    for (final SDFEdge edge : sdf.edgeSet()) {
+      graph.addEdge(indexes.get(edge.getSource()), indexes.get(edge.getTarget()), getDuration(edge.getSource()),
+          getTransit(edge));
+    }
+    return graph.maximumCycleRatio();
   }
 
   /**
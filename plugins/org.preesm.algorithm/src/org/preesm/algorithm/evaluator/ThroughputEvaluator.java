@@ -39,7 +39,11 @@ import org.preesm.algorithm.model.sdf.SDFAbstractVertex;
 import org.preesm.algorithm.model.sdf.SDFEdge;
 import org.preesm.algorithm.model.sdf.SDFGraph;
 import org.preesm.algorithm.model.sdf.esdf.SDFSourceInterfaceVertex;
+import org.preesm.commons.math.MathFunctionsHelper;
+import org.preesm.model.pisdf.AbstractActor;
+import org.preesm.model.pisdf.AbstractVertex;
 import org.preesm.model.scenario.Scenario;
+import org.preesm.model.slam.Component;
 
 /**
  * Class used to evaluate the throughput of a SDF or IBSDF graph on its optimal periodic schedule.
@@ -96,6 +100,39 @@ public abstract class ThroughputEvaluator {
     return minThroughput;
   }
 
+  /**
+   * Returns the duration L of a vertex in the constraints of the periodic schedule: its execution time on the main
+   * operator of the scenario, or 0 for the input interfaces and the hierarchical actors.
+   *
+   * @param vertex
+   *          the source vertex of an edge
+   * @return the duration of the vertex
+   */
+  protected double getDuration(final SDFAbstractVertex vertex) {
+    if ((vertex instanceof SDFSourceInterfaceVertex) || (vertex.getGraphDescription() instanceof SDFGraph)) {
+      return 0;
+    }
+    final AbstractVertex referencePiMMVertex = vertex.getReferencePiVertex();
+    if (referencePiMMVertex instanceof final AbstractActor actor) {
+      final Component component = this.scenar.getSimulationInfo().getMainOperator().getComponent();
+      return this.scenar.getTimings().evaluateExecutionTimeOrDefault(actor, component);
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the transit time H = M0 + gcd(Zi, Zj) - Zj of an edge in the constraints of the periodic schedule.
+   *
+   * @param edge
+   *          the edge
+   * @return the transit time of the edge
+   */
+  protected static double getTransit(final SDFEdge edge) {
+    return ((double) (edge.getDelay().getValue())
+        + MathFunctionsHelper.gcd((double) (edge.getCons().getValue()), (double) (edge.getProd().getValue())))
+        - (double) (edge.getCons().getValue());
+  }
+
   public Scenario getScenar() {
     return scenar;
   }
@@ -159,8 +159,8 @@ public class IntervalFinder {
       maxIndex = this.orderManager.getTotalOrder().size();
     }
 
-    Interval oldInt = new Interval(0, 0, -1);
-    Interval newInt = null;
+    // end of the preceding non free interval
+    long oldEnd = 0;
     Interval freeInterval = new Interval(-1, -1, 0);
 
     if (schedule != null) {
@@ -170,38 +170,39 @@ public class IntervalFinder {
         // If we have the current vertex tLevel
         if (props.getTLevel() >= 0) {
 
-          // newInt is the interval corresponding to the execution of
-          // the vertex v: a non free interval
-          newInt = new Interval(props.getCost(), props.getTLevel(), this.orderManager.totalIndexOf(v));
-
-          // end of the preceding non free interval
-          final long oldEnd = oldInt.getStartTime() + oldInt.getDuration();
+          // The execution of the vertex v is a non free interval starting at its tLevel.
+          final long startTime = props.getTLevel();
           // latest date between the end of minVertex and the end of
-          // oldInt
+          // the preceding non free interval
           final long available = Math.max(minIndexVertexEndTime, oldEnd);
           // Computing the size of the free interval
-          final long freeIntervalSize = newInt.getStartTime() - available;
+          final long freeIntervalSize = startTime - available;
 
+          // The rank of v in total order is only computed once the free interval is large enough to be kept
           if (type == FindType.largestFreeInterval) {
-            // Verifying that newInt is in the interval of search
-            if ((newInt.getTotalOrderIndex() > minIndex) && (newInt.getTotalOrderIndex() <= maxIndex)
-                && freeIntervalSize > freeInterval.getDuration()) {
+            if (freeIntervalSize > freeInterval.getDuration()) {
+              final int totalOrderIndex = this.orderManager.totalIndexOf(v);
+              // Verifying that v is in the interval of search
+              if ((totalOrderIndex > minIndex) && (totalOrderIndex <= maxIndex)) {
+                // The free interval takes the index of its
+                // following task v.
+                // Inserting a vertex in this interval means
+                // inserting it before v.
+                freeInterval = new Interval(freeIntervalSize, available, totalOrderIndex);
+              }
+            }
+          } else if (type == FindType.earliestBigEnoughInterval && freeIntervalSize >= data) {
+            final int totalOrderIndex = this.orderManager.totalIndexOf(v);
+            if ((totalOrderIndex > minIndex) && (totalOrderIndex <= maxIndex)) {
               // The free interval takes the index of its
               // following task v.
               // Inserting a vertex in this interval means
               // inserting it before v.
-              freeInterval = new Interval(freeIntervalSize, available, newInt.getTotalOrderIndex());
+              freeInterval = new Interval(freeIntervalSize, available, totalOrderIndex);
+              break;
             }
-          } else if (type == FindType.earliestBigEnoughInterval && (newInt.getTotalOrderIndex() > minIndex)
-              && (newInt.getTotalOrderIndex() <= maxIndex) && freeIntervalSize >= data) {
-            // The free interval takes the index of its
-            // following task v.
-            // Inserting a vertex in this interval means
-            // inserting it before v.
-            freeInterval = new Interval(freeIntervalSize, available, newInt.getTotalOrderIndex());
-            break;
           }
-          oldInt = newInt;
+          oldEnd = startTime + props.getCost();
         }
       }
     }
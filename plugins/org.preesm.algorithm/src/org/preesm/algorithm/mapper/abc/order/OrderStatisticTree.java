@@ -0,0 +1,283 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.algorithm.mapper.abc.order;
+
+/**
+ * Sequence of elements stored in an implicit treap: each node knows the size of its subtree and its parent, so that
+ * inserting, removing, accessing an element by position and computing the position of a node are all done in
+ * logarithmic expected time.
+ *
+ * <p>
+ * Node priorities are drawn from a fixed xorshift sequence, so the shape of the tree (and thus its performance) is
+ * reproducible from one run to the other. The order of the elements never depends on the priorities.
+ * </p>
+ *
+ * @param <E>
+ *          the type of the elements
+ */
+final class OrderStatisticTree<E> {
+
+  /**
+   * Node of the tree, handed to the callers to reference an element without searching it.
+   */
+  static final class Node<E> {
+    private final E value;
+    private final int priority;
+    private int size = 1;
+    private Node<E> left = null;
+    private Node<E> right = null;
+    private Node<E> parent = null;
+
+    private Node(final E value, final int priority) {
+      this.value = value;
+      this.priority = priority;
+    }
+
+    E getValue() {
+      return this.value;
+    }
+  }
+
+  private Node<E> root = null;
+
+  private int seed = 0x9E3779B9;
+
+  // results of split(), to avoid allocating a pair for each call
+  private Node<E> splitLeft;
+  private Node<E> splitRight;
+
+  int size() {
+    return size(this.root);
+  }
+
+  void clear() {
+    this.root = null;
+  }
+
+  /**
+   * Return the node at the given position.
+   *
+   * @throws IndexOutOfBoundsException
+   *           if the index is not in [0, size()[
+   */
+  Node<E> getNode(final int index) {
+    if ((index < 0) || (index >= size())) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+    Node<E> current = this.root;
+    int remaining = index;
+    while (true) {
+      final int leftSize = size(current.left);
+      if (remaining < leftSize) {
+        current = current.left;
+      } else if (remaining == leftSize) {
+        return current;
+      } else {
+        remaining -= leftSize + 1;
+        current = current.right;
+      }
+    }
+  }
+
+  /**
+   * Return the position of the given node in the sequence.
+   */
+  int indexOf(final Node<E> node) {
+    int index = size(node.left);
+    Node<E> current = node;
+    while (current.parent != null) {
+      if (current.parent.right == current) {
+        index += size(current.parent.left) + 1;
+      }
+      current = current.parent;
+    }
+    return index;
+  }
+
+  /**
+   * Insert the value at the given position, shifting the following elements, and return its node.
+   */
+  Node<E> insert(final int index, final E value) {
+    final Node<E> node = new Node<>(value, nextPriority());
+    split(this.root, index);
+    final Node<E> before = this.splitLeft;
+    final Node<E> after = this.splitRight;
+    this.splitLeft = null;
+    this.splitRight = null;
+    this.root = merge(merge(before, node), after);
+    this.root.parent = null;
+    return node;
+  }
+
+  /**
+   * Remove the given node from the tree.
+   */
+  void remove(final Node<E> node) {
+    final Node<E> replacement = merge(node.left, node.right);
+    final Node<E> parent = node.parent;
+    if (replacement != null) {
+      replacement.parent = parent;
+    }
+    if (parent == null) {
+      this.root = replacement;
+    } else {
+      if (parent.left == node) {
+        parent.left = replacement;
+      } else {
+        parent.right = replacement;
+      }
+      for (Node<E> current = parent; current != null; current = current.parent) {
+        current.size--;
+      }
+    }
+    node.left = null;
+    node.right = null;
+    node.parent = null;
+  }
+
+  /**
+   * Return the first node of the sequence, or null if it is empty.
+   */
+  Node<E> first() {
+    Node<E> current = this.root;
+    if (current != null) {
+      while (current.left != null) {
+        current = current.left;
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Return the node following the given one in the sequence, or null if it is the last one.
+   */
+  Node<E> successor(final Node<E> node) {
+    if (node.right != null) {
+      Node<E> current = node.right;
+      while (current.left != null) {
+        current = current.left;
+      }
+      return current;
+    }
+    Node<E> current = node;
+    while ((current.parent != null) && (current.parent.right == current)) {
+      current = current.parent;
+    }
+    return current.parent;
+  }
+
+  /**
+   * Return the node preceding the given one in the sequence, or null if it is the first one.
+   */
+  Node<E> predecessor(final Node<E> node) {
+    if (node.left != null) {
+      Node<E> current = node.left;
+      while (current.right != null) {
+        current = current.right;
+      }
+      return current;
+    }
+    Node<E> current = node;
+    while ((current.parent != null) && (current.parent.left == current)) {
+      current = current.parent;
+    }
+    return current.parent;
+  }
+
+  private int nextPriority() {
+    int x = this.seed;
+    x ^= x << 13;
+    x ^= x >>> 17;
+    x ^= x << 5;
+    this.seed = x;
+    return x;
+  }
+
+  private static int size(final Node<?> node) {
+    return (node == null) ? 0 : node.size;
+  }
+
+  private static void updateSize(final Node<?> node) {
+    node.size = size(node.left) + size(node.right) + 1;
+  }
+
+  /**
+   * Split the subtree in its first count elements (stored in splitLeft) and the remaining ones (stored in splitRight).
+   * The parent of the two resulting roots is left unchanged.
+   */
+  private void split(final Node<E> node, final int count) {
+    if (node == null) {
+      this.splitLeft = null;
+      this.splitRight = null;
+    } else if (size(node.left) < count) {
+      split(node.right, count - size(node.left) - 1);
+      node.right = this.splitLeft;
+      if (node.right != null) {
+        node.right.parent = node;
+      }
+      updateSize(node);
+      this.splitLeft = node;
+    } else {
+      split(node.left, count);
+      node.left = this.splitRight;
+      if (node.left != null) {
+        node.left.parent = node;
+      }
+      updateSize(node);
+      this.splitRight = node;
+    }
+  }
+
+  /**
+   * Concatenate two subtrees. The parent of the resulting root is left unchanged.
+   */
+  private Node<E> merge(final Node<E> first, final Node<E> second) {
+    if (first == null) {
+      return second;
+    }
+    if (second == null) {
+      return first;
+    }
+    if (first.priority > second.priority) {
+      first.right = merge(first.right, second);
+      first.right.parent = first;
+      updateSize(first);
+      return first;
+    } else {
+      second.left = merge(first, second.left);
+      second.left.parent = second;
+      updateSize(second);
+      return second;
+    }
+  }
+}
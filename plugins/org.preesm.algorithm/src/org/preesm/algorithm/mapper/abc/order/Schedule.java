@@ -37,22 +37,40 @@
  */
 package org.preesm.algorithm.mapper.abc.order;
 
+import java.util.AbstractList;
 import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import org.preesm.algorithm.mapper.abc.order.OrderStatisticTree.Node;
 import org.preesm.algorithm.mapper.model.MapperDAGVertex;
 
 /**
  * A schedule represents the consecutive tasks mapped on a single component.
  *
+ * <p>
+ * The order is kept in an {@link OrderStatisticTree}, and each vertex is associated to its node, so that looking up,
+ * inserting and removing a vertex, as well as accessing a vertex by its rank, are done in logarithmic time instead of
+ * scanning the schedule.
+ * </p>
+ *
  * @author mpelcat
  */
 public class Schedule {
 
-  /** The ordered list of vertices in this schedule. */
-  private final LinkedList<MapperDAGVertex> elementList;
+  /** The ordered vertices in this schedule. */
+  private final OrderStatisticTree<MapperDAGVertex> elements;
+
+  /** The node of each vertex of the schedule. */
+  private final Map<MapperDAGVertex, Node<MapperDAGVertex>> nodes;
+
+  /** Number of structural modifications, to detect concurrent modifications of the list view. */
+  private int modCount = 0;
 
   /** The total time of the schedule vertices. */
   private long busyTime;
@@ -63,7 +81,8 @@ public class Schedule {
   public Schedule() {
 
     super();
-    this.elementList = new LinkedList<>();
+    this.elements = new OrderStatisticTree<>();
+    this.nodes = new HashMap<>();
     resetBusyTime();
   }
 
@@ -78,7 +97,7 @@ public class Schedule {
       if (vertex.getTiming().hasCost()) {
         this.busyTime += vertex.getTiming().getCost();
       }
-      this.elementList.addLast(vertex);
+      insert(this.elements.size(), vertex);
     }
   }
 
@@ -93,7 +112,7 @@ public class Schedule {
       if (vertex.getTiming().hasCost()) {
         this.busyTime += vertex.getTiming().getCost();
       }
-      this.elementList.addFirst(vertex);
+      insert(0, vertex);
     }
   }
 
@@ -115,12 +134,7 @@ public class Schedule {
 
       final int prevIndex = indexOf(previous);
       if (prevIndex >= 0) {
-        if ((prevIndex + 1) < this.elementList.size()) {
-          final MapperDAGVertex next = this.elementList.get(prevIndex + 1);
-          this.elementList.add(indexOf(next), vertex);
-        } else {
-          this.elementList.addLast(vertex);
-        }
+        insert(prevIndex + 1, vertex);
       }
     }
   }
@@ -141,18 +155,25 @@ public class Schedule {
 
       final int nextIndex = indexOf(next);
       if (nextIndex >= 0) {
-        this.elementList.add(nextIndex, vertex);
+        insert(nextIndex, vertex);
       }
     }
   }
 
+  private void insert(final int index, final MapperDAGVertex vertex) {
+    this.nodes.put(vertex, this.elements.insert(index, vertex));
+    this.modCount++;
+  }
+
   /**
    * Clear.
    */
   public void clear() {
     resetBusyTime();
 
-    this.elementList.clear();
+    this.elements.clear();
+    this.nodes.clear();
+    this.modCount++;
   }
 
   /**
@@ -169,12 +190,14 @@ public class Schedule {
    *          the element
    */
   public void remove(final MapperDAGVertex element) {
-    if (this.elementList.contains(element)) {
+    final Node<MapperDAGVertex> node = this.nodes.remove(element);
+    if (node != null) {
       if (element.getTiming().hasCost()) {
         this.busyTime -= element.getTiming().getCost();
       }
 
-      this.elementList.remove(element);
+      this.elements.remove(node);
+      this.modCount++;
     }
   }
 
@@ -188,7 +211,7 @@ public class Schedule {
    * @return the mapper DAG vertex
    */
   public MapperDAGVertex get(final int i) {
-    return this.elementList.get(i);
+    return this.elements.getNode(i).getValue();
   }
 
   /**
@@ -197,7 +220,10 @@ public class Schedule {
    * @return the last
    */
   public MapperDAGVertex getLast() {
-    return this.elementList.getLast();
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return get(size() - 1);
   }
 
   /**
@@ -208,12 +234,12 @@ public class Schedule {
    * @return the previous
    */
   public MapperDAGVertex getPrevious(final MapperDAGVertex vertex) {
-    final int index = indexOf(vertex);
-    if (index <= 0) {
+    final Node<MapperDAGVertex> node = this.nodes.get(vertex);
+    if (node == null) {
       return null;
-    } else {
-      return (this.elementList.get(index - 1));
     }
+    final Node<MapperDAGVertex> previous = this.elements.predecessor(node);
+    return (previous == null) ? null : previous.getValue();
   }
 
   /**
@@ -224,12 +250,12 @@ public class Schedule {
    * @return the next
    */
   public MapperDAGVertex getNext(final MapperDAGVertex vertex) {
-    final int currentIndex = indexOf(vertex);
-    if ((currentIndex < 0) || (currentIndex >= (this.elementList.size() - 1))) {
+    final Node<MapperDAGVertex> node = this.nodes.get(vertex);
+    if (node == null) {
       return null;
-    } else {
-      return (this.elementList.get(currentIndex + 1));
     }
+    final Node<MapperDAGVertex> next = this.elements.successor(node);
+    return (next == null) ? null : next.getValue();
   }
 
   /**
@@ -240,14 +266,15 @@ public class Schedule {
    * @return the successors
    */
   public Set<MapperDAGVertex> getSuccessors(final MapperDAGVertex vertex) {
-    final Set<MapperDAGVertex> vSet = new LinkedHashSet<>();
-    final int currentIndex = indexOf(vertex);
-    if ((currentIndex < 0) || (currentIndex >= this.elementList.size())) {
+    final Node<MapperDAGVertex> node = this.nodes.get(vertex);
+    if (node == null) {
       return Collections.emptySet();
     }
 
-    for (int i = currentIndex + 1; i < this.elementList.size(); i++) {
-      vSet.add(this.elementList.get(i));
+    final Set<MapperDAGVertex> vSet = new LinkedHashSet<>();
+    for (Node<MapperDAGVertex> next = this.elements.successor(node); next != null; next = this.elements
+        .successor(next)) {
+      vSet.add(next.getValue());
     }
     return vSet;
   }
@@ -260,7 +287,8 @@ public class Schedule {
    * @return the int
    */
   public int indexOf(final MapperDAGVertex v) {
-    return this.elementList.indexOf(v);
+    final Node<MapperDAGVertex> node = this.nodes.get(v);
+    return (node == null) ? -1 : this.elements.indexOf(node);
   }
 
   /**
@@ -271,10 +299,8 @@ public class Schedule {
    * @return the schedule elt
    */
   public MapperDAGVertex getScheduleElt(final MapperDAGVertex v) {
-    final int index = this.elementList.indexOf(v);
-
     // Searching in synchronized vertices
-    if (index != -1) {
+    if (this.nodes.containsKey(v)) {
       return v;
     }
 
@@ -298,16 +324,16 @@ public class Schedule {
    * @return true, if is empty
    */
   public boolean isEmpty() {
-    return this.elementList.isEmpty();
+    return this.elements.size() == 0;
   }
 
   /**
    * Gets the list.
    *
-   * @return the list
+   * @return an unmodifiable view of the schedule, following its modifications
    */
   public List<MapperDAGVertex> getList() {
-    return Collections.unmodifiableList(this.elementList);
+    return new ListView();
   }
 
   /*
@@ -317,7 +343,7 @@ public class Schedule {
    */
   @Override
   public String toString() {
-    return this.elementList.toString();
+    return getList().toString();
   }
 
   /**
@@ -329,12 +355,11 @@ public class Schedule {
 
     final VertexOrderList order = new VertexOrderList();
 
-    for (final MapperDAGVertex elt : this.elementList) {
-      if (elt instanceof MapperDAGVertex) {
-        final MapperDAGVertex v = elt;
-        final VertexOrderList.OrderProperty op = order.new OrderProperty(v.getName(), indexOf(v));
-        order.addLast(op);
-      }
+    int index = 0;
+    for (final MapperDAGVertex v : getList()) {
+      final VertexOrderList.OrderProperty op = order.new OrderProperty(v.getName(), index);
+      order.addLast(op);
+      index++;
     }
 
     return order;
@@ -355,6 +380,63 @@ public class Schedule {
    * @return the int
    */
   public int size() {
-    return this.elementList.size();
+    return this.elements.size();
+  }
+
+  /**
+   * Unmodifiable view of the schedule. Iterations walk the tree in order and fail on concurrent modifications.
+   */
+  private class ListView extends AbstractList<MapperDAGVertex> {
+
+    @Override
+    public MapperDAGVertex get(final int index) {
+      return Schedule.this.get(index);
+    }
+
+    @Override
+    public int size() {
+      return Schedule.this.size();
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+      return (o instanceof MapperDAGVertex) ? Schedule.this.indexOf((MapperDAGVertex) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+      return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+      return (o instanceof MapperDAGVertex) && Schedule.this.contains((MapperDAGVertex) o);
+    }
+
+    @Override
+    public Iterator<MapperDAGVertex> iterator() {
+      return new Iterator<MapperDAGVertex>() {
+        private Node<MapperDAGVertex> next = Schedule.this.elements.first();
+        private final int expectedModCount = Schedule.this.modCount;
+
+        @Override
+        public boolean hasNext() {
+          return this.next != null;
+        }
+
+        @Override
+        public MapperDAGVertex next() {
+          if (Schedule.this.modCount != this.expectedModCount) {
+            throw new ConcurrentModificationException();
+          }
+          if (this.next == null) {
+            throw new NoSuchElementException();
+          }
+          final MapperDAGVertex value = this.next.getValue();
+          this.next = Schedule.this.elements.successor(this.next);
+          return value;
+        }
+      };
+    }
   }
 }
@@ -65,7 +65,6 @@ import org.preesm.model.slam.Design;
 import org.preesm.model.slam.SlamRoute;
 import org.preesm.model.slam.SlamRouteStep;
 import org.preesm.model.slam.SlamRouteStepType;
-import org.preesm.model.slam.route.RouteCostEvaluator;
 import org.preesm.model.slam.route.SlamRoutingTable;
 
 /**
@@ -112,7 +111,7 @@ public class CommunicationRouter {
     this.implementers = new LinkedHashMap<>();
     setManagers(implementation, edgeScheduler, orderManager);
 
-    this.routingTable = new SlamRoutingTable(archi);
+    this.routingTable = SlamRoutingTable.get(archi);
 
     // Initializing the available router implementers
     addImplementer(SlamRouteStepType.DMA_TYPE, new DmaComRouterImplementer(this));
@@ -365,8 +364,7 @@ public class CommunicationRouter {
 
     // Retrieving the route
     if ((sourceOp != null) && (destOp != null)) {
-      final SlamRoute route = this.routingTable.getRoute(sourceOp, destOp);
-      cost = RouteCostEvaluator.evaluateTransferCost(route, dataSize);
+      cost = this.routingTable.evaluateTransferCost(sourceOp, destOp, dataSize);
     } else {
       final String msg = "trying to evaluate a transfer between non mapped operators.";
       throw new PreesmRuntimeException(msg);
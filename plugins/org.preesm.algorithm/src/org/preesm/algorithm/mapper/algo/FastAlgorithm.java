@@ -42,6 +42,7 @@ import java.util.List;
 import java.util.Observable;
 import java.util.Random;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -51,6 +52,7 @@ import org.preesm.algorithm.mapper.abc.taskscheduling.AbstractTaskSched;
 import org.preesm.algorithm.mapper.abc.taskscheduling.TaskSwitcher;
 import org.preesm.algorithm.mapper.gantt.GanttData;
 import org.preesm.algorithm.mapper.model.MapperDAG;
+import org.preesm.algorithm.mapper.model.MapperDAGSnapshot;
 import org.preesm.algorithm.mapper.model.MapperDAGVertex;
 import org.preesm.algorithm.mapper.params.AbcParameters;
 import org.preesm.algorithm.mapper.params.FastAlgoParameters;
@@ -84,6 +86,9 @@ public class FastAlgorithm extends Observable {
   /** The scenario. */
   private Scenario scenario = null;
 
+  /** Best cost found by all the FAST instances running in parallel, if any. */
+  private AtomicLong sharedBestCost = null;
+
   /**
    * Constructor.
    *
@@ -98,6 +103,39 @@ public class FastAlgorithm extends Observable {
     this.scenario = scenario;
   }
 
+  /**
+   * Sets the best cost shared with other FAST instances. Each solution found by this instance is published to it, and
+   * neighborhood searches that stall above it are abandoned early (see {@link #isOutperformed(long, int, int)}).
+   *
+   * @param sharedBestCost
+   *          the shared best cost
+   */
+  public void setSharedBestCost(final AtomicLong sharedBestCost) {
+    this.sharedBestCost = sharedBestCost;
+  }
+
+  private void publishCost(final long cost) {
+    if (this.sharedBestCost != null) {
+      this.sharedBestCost.accumulateAndGet(cost, Math::min);
+    }
+  }
+
+  /**
+   * Tells if the current neighborhood search can be abandoned because another FAST instance already found a better
+   * solution: the search has not improved the cost for half of its margin of unsuccessful moves, and its cost is still
+   * above the shared best cost. The search then goes on with the next critical path perturbation instead.
+   *
+   * @param cost
+   *          cost of the current solution of the neighborhood search
+   * @param localCounter
+   *          number of consecutive moves that did not improve the cost
+   * @param margin
+   *          number of consecutive unsuccessful moves after which the neighborhood search stops anyway
+   */
+  private boolean isOutperformed(final long cost, final int localCounter, final int margin) {
+    return (this.sharedBestCost != null) && (localCounter >= ((margin + 1) / 2)) && (cost > this.sharedBestCost.get());
+  }
+
   /**
    * Map.
    *
@@ -176,6 +214,21 @@ public class FastAlgorithm extends Observable {
       final boolean displaySolutions, final IProgressMonitor monitor, final List<MapperDAGVertex> cpnDominantList,
       final List<MapperDAGVertex> blockingNodesList, final List<MapperDAGVertex> finalcriticalpathList,
       final AbstractTaskSched taskSched) {
+    return mapSnapshot(threadName, abcParams, fastParams, dag, archi, alreadyMapped, pfastused, displaySolutions,
+        monitor, cpnDominantList, blockingNodesList, finalcriticalpathList, taskSched).toDAG();
+  }
+
+  /**
+   * map : same as the FAST algorithm above, but returns the best solution as a snapshot of the given DAG instead of a
+   * copy of it.
+   *
+   * @return the snapshot of the best solution
+   */
+  public MapperDAGSnapshot mapSnapshot(final String threadName, final AbcParameters abcParams,
+      final FastAlgoParameters fastParams, final MapperDAG dag, final Design archi, final boolean alreadyMapped,
+      final boolean pfastused, final boolean displaySolutions, final IProgressMonitor monitor,
+      final List<MapperDAGVertex> cpnDominantList, final List<MapperDAGVertex> blockingNodesList,
+      final List<MapperDAGVertex> finalcriticalpathList, final AbstractTaskSched taskSched) {
 
     final Random randomGenerator = new Random(System.nanoTime());
 
@@ -241,13 +294,15 @@ public class FastAlgorithm extends Observable {
     logger.log(Level.FINE, msg2);
 
     dag.setScheduleCost(initial);
+    publishCost(initial);
     if (blockingNodesList.size() < 2) {
-      return simulator.getDAG().copy();
+      return MapperDAGSnapshot.capture(simulator.getDAG(), this.bestTotalOrder);
     }
     long bestSL = initial;
     Long iBest;
-    MapperDAG dagfinal = simulator.getDAG().copy();
-    dagfinal.setScheduleCost(bestSL);
+    // The best solution is kept as a snapshot of the simulator DAG, which is only copied when returned
+    simulator.getDAG().setScheduleCost(bestSL);
+    MapperDAGSnapshot bestSolution = MapperDAGSnapshot.capture(simulator.getDAG(), this.bestTotalOrder);
 
     // A switcher task scheduler is chosen for the fast refinement
     simulator.setTaskScheduler(new TaskSwitcher());
@@ -283,7 +338,7 @@ public class FastAlgorithm extends Observable {
         // Mode stop
         if ((costPlotter.getActionType() == 1) || ((monitor != null) && monitor.isCanceled())) {
 
-          return dagfinal.copy();
+          return bestSolution;
         } else if (costPlotter.getActionType() == 2) {
           // Mode Pause
           try {
@@ -346,17 +401,15 @@ public class FastAlgorithm extends Observable {
         searchStep++;
         // step 11
       } while ((searchStep < maxStep) && (localCounter < margin)
-          && (System.currentTimeMillis() < fastLocalSearchStopTime));
+          && (System.currentTimeMillis() < fastLocalSearchStopTime)
+          && !isOutperformed(simulator.getFinalCost(), localCounter, margin));
 
       // step 12
       simulator.updateFinalCosts();
 
       if (bestSL > simulator.getFinalCost()) {
 
-        // step 13
-        dagfinal = simulator.getDAG().copy();
         // step 14
-
         bestSL = simulator.getFinalCost();
 
         this.bestTotalOrder = simulator.getTotalOrder();
@@ -370,7 +423,10 @@ public class FastAlgorithm extends Observable {
         final String msg3 = "Found Fast solution; Cost:" + bestSL;
         PreesmLogger.getLogger().log(Level.INFO, msg3);
 
-        dagfinal.setScheduleCost(bestSL);
+        // step 13
+        simulator.getDAG().setScheduleCost(bestSL);
+        bestSolution = bestSolution.recapture(this.bestTotalOrder);
+        publishCost(bestSL);
       }
 
       // step 16
@@ -386,7 +442,7 @@ public class FastAlgorithm extends Observable {
       } while ((operatorList.size() < 2) && (nonBlockingIndex < 100));
 
       // Choosing an operator different from the current vertex operator
-      final ComponentInstance currentOp = dagfinal.getMapperDAGVertex(fcpvertex.getName()).getEffectiveOperator();
+      final ComponentInstance currentOp = bestSolution.getEffectiveOperator(fcpvertex);
 
       do {
         final int randomIndex = randomGenerator.nextInt(operatorList.size());
@@ -400,7 +456,7 @@ public class FastAlgorithm extends Observable {
 
     }
 
-    return dagfinal;
+    return bestSolution;
   }
 
   /**
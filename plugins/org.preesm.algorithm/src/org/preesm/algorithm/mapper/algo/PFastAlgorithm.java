@@ -40,23 +40,23 @@
 package org.preesm.algorithm.mapper.algo;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Observable;
+import java.util.Random;
 import java.util.Set;
-import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.FutureTask;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import org.preesm.algorithm.mapper.abc.impl.latency.LatencyAbc;
 import org.preesm.algorithm.mapper.abc.order.VertexOrderList;
 import org.preesm.algorithm.mapper.abc.taskscheduling.AbstractTaskSched;
 import org.preesm.algorithm.mapper.model.MapperDAG;
+import org.preesm.algorithm.mapper.model.MapperDAGSnapshot;
 import org.preesm.algorithm.mapper.model.MapperDAGVertex;
 import org.preesm.algorithm.mapper.params.AbcParameters;
 import org.preesm.algorithm.mapper.params.FastAlgoParameters;
@@ -77,59 +77,14 @@ import org.preesm.model.slam.Design;
  */
 public class PFastAlgorithm extends Observable {
 
+  /** Seed of the random generator dealing the blocking nodes to the subtasks. */
+  private static final long PARTITION_SEED = 42L;
+
   /**
    * The scheduling (total order of tasks) for the best found solution.
    */
   private VertexOrderList bestTotalOrder = null;
 
-  /**
-   * FinalTimeComparator : comparator between two different implementation based on.
-   */
-  private class FinalTimeComparator implements Comparator<MapperDAG> {
-
-    /**
-     * Compare.
-     *
-     * @param o1
-     *          the o 1
-     * @param o2
-     *          the o 2
-     * @return : integer
-     * @Override compare
-     */
-    @Override
-    public int compare(final MapperDAG o1, final MapperDAG o2) {
-
-      long difference = o1.getScheduleCost() - o2.getScheduleCost();
-
-      if (difference >= 0) {
-        difference = 1;
-      } else {
-        difference = 0;
-      }
-
-      return (int) difference;
-    }
-
-    /**
-     * Constructor : FinalTimeComparator.
-     *
-     * @param abcParams
-     *          the abc params
-     * @param dag
-     *          the dag
-     * @param archi
-     *          the archi
-     * @param scenario
-     *          the scenario
-     */
-    public FinalTimeComparator(final AbcParameters abcParams, final MapperDAG dag, final Design archi,
-        final Scenario scenario) {
-      super();
-    }
-
-  }
-
   /**
    * Constructor : PFastAlgorithm.
    */
@@ -138,25 +93,18 @@ public class PFastAlgorithm extends Observable {
   }
 
   /**
-   * chooseNbCores : Determine how many processors will be used among the available ones and return the set of nodes on
-   * which each processor will perform the fast algorithm.
+   * chooseNbSubTasks : Determine how many FAST subtasks will be run in parallel at each round.
    *
-   * @param initialLists
-   *          the initial lists
+   * @param blockingNodelist
+   *          // BlockingNodesList
    * @param nboperator
    *          // number of available processor
    * @param nodesmin
    *          // number of nodes necessary for each thread
-   * @param subSet
-   *          // Set with the partial BlockingNodesLists
    * @return integer
    */
-  private int chooseNbCores(final InitialLists initialLists, final int nboperator, final int nodesmin,
-      final Set<Set<String>> subSet) {
-
-    // initialization
-    final List<MapperDAGVertex> blockingNodelist = new ArrayList<>();
-    blockingNodelist.addAll(initialLists.getBlockingNodes());
+  private int chooseNbSubTasks(final List<MapperDAGVertex> blockingNodelist, final int nboperator,
+      final int nodesmin) {
 
     // find number of thread possible
     final int nbsubsets = setThreadNumber(blockingNodelist, nboperator, nodesmin);
@@ -164,29 +112,36 @@ public class PFastAlgorithm extends Observable {
     if (nbsubsets == 0) {
       PreesmLogger.getLogger().log(Level.SEVERE,
           "Not enough nodes to execute PFAST. Try reducing nodesmin in workflow or use another mapper.");
+      return 1;
     }
+    return nbsubsets;
+  }
 
-    // find number of nodes per thread
-    final int nbnodes = nbnodes(blockingNodelist, nbsubsets, nodesmin);
-    subSet.add(new LinkedHashSet<String>());
-
-    // Put the nodes of the BlockingNodes List in the Sublist
-    for (int i = 0; i < nbsubsets; i++) {
-      subSet.add(new LinkedHashSet<String>());
-      final Iterator<Set<String>> itera = subSet.iterator();
-      final Set<String> tempSet = itera.next();
-      for (int j = 0; j < nbnodes; j++) {
-        if (!(subSet.containsAll(blockingNodelist))) {
-          final Iterator<MapperDAGVertex> riter = blockingNodelist.iterator();
-          final MapperDAGVertex currentvertex = riter.next();
-          tempSet.add(currentvertex.getName());
-          blockingNodelist.remove(currentvertex);
-
-        }
-      }
+  /**
+   * partitionBlockingNodes : Deal the blocking nodes, in a random order, to the given number of subtasks. Each subtask
+   * gets at least nodesmin nodes when there are enough of them.
+   *
+   * @param blockingNodelist
+   *          // BlockingNodesList
+   * @param nbSubTasks
+   *          // number of subtasks
+   * @param random
+   *          // the random generator used to shuffle the nodes
+   * @return the names of the blocking nodes of each subtask
+   */
+  private List<Set<String>> partitionBlockingNodes(final List<MapperDAGVertex> blockingNodelist,
+      final int nbSubTasks, final Random random) {
+    final List<MapperDAGVertex> shuffledNodes = new ArrayList<>(blockingNodelist);
+    Collections.shuffle(shuffledNodes, random);
+
+    final List<Set<String>> partition = new ArrayList<>(nbSubTasks);
+    for (int i = 0; i < nbSubTasks; i++) {
+      partition.add(new LinkedHashSet<>());
     }
-
-    return nbsubsets;
+    for (int i = 0; i < shuffledNodes.size(); i++) {
+      partition.get(i % nbSubTasks).add(shuffledNodes.get(i).getName());
+    }
+    return partition;
   }
 
   /**
@@ -217,31 +172,6 @@ public class PFastAlgorithm extends Observable {
     return nbsubsets;
   }
 
-  /**
-   * nbnodes : return the number of nodes per partial BlockingNodesList.
-   *
-   * @param bLlist
-   *          // BlockingNodesList
-   * @param nbsubsets
-   *          // Number of thread
-   * @param nodesmin
-   *          // Number of nodes per thread
-   * @return integer
-   */
-  private int nbnodes(final List<MapperDAGVertex> bLlist, int nbsubsets, final int nodesmin) {
-
-    final int nbnodes = bLlist.size();
-    if (nbsubsets == 0) {
-      nbsubsets = 1;
-    }
-    // Find the number of nodes for each thread
-    int nbnodeset = nbnodes / nbsubsets;
-    if ((nbnodes % nodesmin) != 0) {
-      nbnodeset++;
-    }
-    return nbnodeset;
-  }
-
   /**
    * map = perform the Pfast Algo (it is the main thread)
    *
@@ -280,7 +210,6 @@ public class PFastAlgorithm extends Observable {
       int populationsize, final boolean isDisplaySolutions, final List<MapperDAG> populationList,
       final AbstractTaskSched taskSched) {
 
-    int i = 0;
     if (populationsize < 1) {
       populationsize = 1;
     }
@@ -292,7 +221,6 @@ public class PFastAlgorithm extends Observable {
     MapperDAG dagfinal;
     final KwokListScheduler scheduler = new KwokListScheduler();
     final LatencyAbc archisimu = LatencyAbc.getInstance(abcParams, dag, archi, scenario);
-    final Set<Set<String>> subSet = new LinkedHashSet<>();
 
     final FastAlgoParameters fastParams = new FastAlgoParameters(pFastParams.getFastTime(),
         pFastParams.getFastLocalSearchTime(), pFastParams.isDisplaySolutions());
@@ -330,60 +258,52 @@ public class PFastAlgorithm extends Observable {
     dagfinal.setScheduleCost(iBest);
     dag.setScheduleCost(iBest);
     // step 3/4
-    final int nbCores = chooseNbCores(initialLists, pFastParams.getProcNumber(), pFastParams.getNodesmin(), subSet);
-
-    final ConcurrentSkipListSet<MapperDAG> mappedDAGSet = new ConcurrentSkipListSet<>(
-        new FinalTimeComparator(abcParams, dagfinal, archi, scenario));
-
-    // step 5/7/8
-    int totalsearchcount = 0;
-    while (totalsearchcount < pFastParams.getFastNumber()) {
-
-      // step 11
-
-      // create ExecutorService to manage threads
-      final Iterator<Set<String>> subiter = subSet.iterator();
-      final Set<FutureTask<MapperDAG>> futureTasks = new LinkedHashSet<>();
-      final ExecutorService es = Executors.newFixedThreadPool(nbCores);
-
-      // step 6
-      for (i = k; i < (nbCores + k); i++) {
-        final String name = String.format("thread%d", i);
-
-        // step 9/11
-        final PFastCallable thread = new PFastCallable(name, dag, archi, subiter.next(), isDisplaySolutions, true,
-            abcParams, fastParams, scenario);
-
-        final FutureTask<MapperDAG> task = new FutureTask<>(thread);
-        futureTasks.add(task);
-        es.submit(task);
-
-      }
-      k = i;
-
-      // step 10
-      try {
-
-        final Iterator<FutureTask<MapperDAG>> it = futureTasks.iterator();
-
-        while (it.hasNext()) {
-
-          final FutureTask<MapperDAG> task = it.next();
-
-          final MapperDAG currentOutDAG = task.get();
-          mappedDAGSet.add(currentOutDAG);
-
+    final int nbSubTasks = chooseNbSubTasks(blockingnodeVector, pFastParams.getProcNumber(),
+        pFastParams.getNodesmin());
+
+    final PFastSolutions mappedDAGSet = new PFastSolutions();
+
+    // Best cost found so far by any FAST subtask, updated without locking
+    final AtomicLong bestCost = new AtomicLong(iBest);
+
+    // A single work-stealing pool runs the subtasks of all the rounds
+    final ForkJoinPool pool = new ForkJoinPool(nbSubTasks);
+    // Seeded so that the successive partitions of the blocking nodes are the same from one run to another
+    final Random random = new Random(PFastAlgorithm.PARTITION_SEED);
+
+    try {
+      // step 5/7/8
+      int totalsearchcount = 0;
+      while (totalsearchcount < pFastParams.getFastNumber()) {
+
+        // step 6
+        // The blocking nodes are dealt again to the subtasks at each round
+        final List<Set<String>> partition = partitionBlockingNodes(blockingnodeVector, nbSubTasks, random);
+        final List<Future<MapperDAGSnapshot>> futures = new ArrayList<>(partition.size());
+        final int firstSubTask = k;
+        for (final Set<String> blockingNodeNames : partition) {
+          final String name = String.format("thread%d", k++);
+
+          // step 9/11
+          final PFastCallable thread = new PFastCallable(name, dag, archi, blockingNodeNames, isDisplaySolutions,
+              true, abcParams, fastParams, scenario, bestCost);
+          futures.add(pool.submit(thread));
         }
-        while (mappedDAGSet.size() > populationsize) {
 
-          mappedDAGSet.pollLast();
+        // step 10
+        // Solutions are ordered by cost then subtask index, the result does not depend on the completion order
+        for (int i = 0; i < futures.size(); i++) {
+          mappedDAGSet.add(firstSubTask + i, futures.get(i).get());
         }
+        mappedDAGSet.retainBest(populationsize);
 
         // step 12
         if (!population) {
-          dag = mappedDAGSet.first().copy();
+          final MapperDAGSnapshot best = mappedDAGSet.getBest();
+          dag = best.toDAG();
 
-          iBest = dag.getScheduleCost();
+          // cost of the kept solution, not the shared bound
+          iBest = best.getScheduleCost();
           setChanged();
           notifyObservers(iBest);
 
@@ -399,29 +319,28 @@ public class PFastAlgorithm extends Observable {
 
         }
 
-        es.shutdown();
+        // step 13
+        totalsearchcount++;
 
-      } catch (final InterruptedException | ExecutionException e) {
-        Thread.currentThread().interrupt();
-        throw new PreesmRuntimeException("Error in PFast", e);
       }
-      // step 13
-      totalsearchcount++;
-
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PreesmRuntimeException("Error in PFast", e);
+    } catch (final ExecutionException e) {
+      throw new PreesmRuntimeException("Error in PFast", e);
+    } finally {
+      pool.shutdownNow();
     }
 
     if (population) {
-      final Iterator<MapperDAG> ite = mappedDAGSet.iterator();
-      while (ite.hasNext()) {
-        MapperDAG currentdag;
-        currentdag = ite.next();
-        populationList.add(currentdag);
+      for (final MapperDAGSnapshot snapshot : mappedDAGSet.getSnapshots()) {
+        populationList.add(snapshot.toDAG());
       }
 
     }
 
-    this.bestTotalOrder = mappedDAGSet.first().getPropertyBean().getValue("bestTotalOrder");
-    dagfinal = mappedDAGSet.first().copy();
+    this.bestTotalOrder = mappedDAGSet.getBest().getTotalOrder();
+    dagfinal = mappedDAGSet.getBest().toDAG();
 
     return dagfinal;
   }
@@ -41,10 +41,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
 import org.preesm.algorithm.mapper.abc.impl.latency.InfiniteHomogeneousAbc;
 import org.preesm.algorithm.mapper.abc.impl.latency.LatencyAbc;
 import org.preesm.algorithm.mapper.abc.taskscheduling.TopologicalTaskSched;
 import org.preesm.algorithm.mapper.model.MapperDAG;
+import org.preesm.algorithm.mapper.model.MapperDAGSnapshot;
 import org.preesm.algorithm.mapper.model.MapperDAGVertex;
 import org.preesm.algorithm.mapper.params.AbcParameters;
 import org.preesm.algorithm.mapper.params.FastAlgoParameters;
@@ -56,7 +58,7 @@ import org.preesm.model.slam.Design;
  *
  * @author pmenuet
  */
-class PFastCallable implements Callable<MapperDAG> {
+class PFastCallable implements Callable<MapperDAGSnapshot> {
 
   /** The abc params. */
   // Simulator chosen
@@ -86,6 +88,9 @@ class PFastCallable implements Callable<MapperDAG> {
   // True if we want to display the best found solutions
   private final boolean isDisplaySolutions;
 
+  /** Best cost found by all the threads, shared with them. */
+  private final AtomicLong bestCost;
+
   /** The already mapped. */
   // Variables to know if we have to do the initial scheduling or not
   private final boolean alreadyMapped;
@@ -114,10 +119,13 @@ class PFastCallable implements Callable<MapperDAG> {
    *          the fast params
    * @param scenario
    *          the scenario
+   * @param bestCost
+   *          the best cost found by all the threads, updated by this one
    */
   public PFastCallable(final String name, final MapperDAG inputDAG, final Design inputArchi,
       final Set<String> blockingNodeNames, final boolean isDisplaySolutions, final boolean alreadyMapped,
-      final AbcParameters abcParams, final FastAlgoParameters fastParams, final Scenario scenario) {
+      final AbcParameters abcParams, final FastAlgoParameters fastParams, final Scenario scenario,
+      final AtomicLong bestCost) {
     this.threadName = name;
     this.inputDAG = inputDAG;
     this.inputArchi = inputArchi;
@@ -127,18 +135,19 @@ class PFastCallable implements Callable<MapperDAG> {
     this.abcParams = abcParams;
     this.isDisplaySolutions = isDisplaySolutions;
     this.scenario = scenario;
+    this.bestCost = bestCost;
   }
 
   /**
    * Call.
    *
-   * @return : MapperDAG
+   * @return : the snapshot of the best solution, sharing its structure with a copy of the input DAG
    * @throws Exception
    *           the exception
    * @Override call():
    */
   @Override
-  public MapperDAG call() throws Exception {
+  public MapperDAGSnapshot call() throws Exception {
 
     // intern variables
     MapperDAG callableDAG;
@@ -170,14 +179,11 @@ class PFastCallable implements Callable<MapperDAG> {
 
     // performing the fast algorithm
     final FastAlgorithm algo = new FastAlgorithm(initialLists, this.scenario);
-    final MapperDAG outputDAG = algo.map(this.threadName, this.abcParams, this.fastParams, callableDAG, callableArchi,
+    algo.setSharedBestCost(this.bestCost);
+    // The best total order is kept in the snapshot for future display
+    return algo.mapSnapshot(this.threadName, this.abcParams, this.fastParams, callableDAG, callableArchi,
         this.alreadyMapped, true, this.isDisplaySolutions, null, initialLists.getCpnDominant(), callableBlockingNodes,
         initialLists.getCriticalpath(), taskSched);
 
-    // Saving best total order for future display
-    outputDAG.getPropertyBean().setValue("bestTotalOrder", algo.getBestTotalOrder());
-
-    return outputDAG;
-
   }
 }
@@ -0,0 +1,115 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.algorithm.mapper.algo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import org.preesm.algorithm.mapper.model.MapperDAGSnapshot;
+
+/**
+ * Solutions found by the PFAST subtasks, ordered by increasing schedule cost. Solutions having the same cost are
+ * ordered by the index of the subtask that found them, so that the order does not depend on the order in which the
+ * subtasks complete.
+ */
+public class PFastSolutions {
+
+  /** Solution found by a subtask. */
+  private static final class Solution {
+    private final int               subtaskIndex;
+    private final MapperDAGSnapshot snapshot;
+
+    private Solution(final int subtaskIndex, final MapperDAGSnapshot snapshot) {
+      this.subtaskIndex = subtaskIndex;
+      this.snapshot = snapshot;
+    }
+  }
+
+  /**
+   * Compares the schedule costs, then the subtask indices. Subtask indices are unique, so no solution is considered
+   * as a duplicate of another one.
+   */
+  private static final Comparator<Solution> COMPARATOR = (o1, o2) -> {
+    final int costComparison = Long.compare(o1.snapshot.getScheduleCost(), o2.snapshot.getScheduleCost());
+    if (costComparison != 0) {
+      return costComparison;
+    }
+    return Integer.compare(o1.subtaskIndex, o2.subtaskIndex);
+  };
+
+  private final TreeSet<Solution> solutions = new TreeSet<>(COMPARATOR);
+
+  /**
+   * Adds the solution found by a subtask.
+   *
+   * @param subtaskIndex
+   *          index of the subtask, unique among the subtasks of a PFAST run
+   * @param snapshot
+   *          best solution of the subtask
+   */
+  public void add(final int subtaskIndex, final MapperDAGSnapshot snapshot) {
+    this.solutions.add(new Solution(subtaskIndex, snapshot));
+  }
+
+  /**
+   * Keeps only the given number of best solutions.
+   */
+  public void retainBest(final int count) {
+    while (this.solutions.size() > count) {
+      this.solutions.pollLast();
+    }
+  }
+
+  public int size() {
+    return this.solutions.size();
+  }
+
+  /**
+   * Gets the solution with the lowest cost, found by the subtask with the lowest index among the ones with this cost.
+   */
+  public MapperDAGSnapshot getBest() {
+    return this.solutions.first().snapshot;
+  }
+
+  /**
+   * Gets the solutions, from the best to the worst.
+   */
+  public List<MapperDAGSnapshot> getSnapshots() {
+    final List<MapperDAGSnapshot> snapshots = new ArrayList<>(this.solutions.size());
+    for (final Solution solution : this.solutions) {
+      snapshots.add(solution.snapshot);
+    }
+    return snapshots;
+  }
+}
@@ -0,0 +1,246 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.algorithm.mapper.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.preesm.algorithm.mapper.abc.order.VertexOrderList;
+import org.preesm.algorithm.mapper.model.property.VertexTiming;
+import org.preesm.algorithm.model.dag.DAGEdge;
+import org.preesm.algorithm.model.dag.DAGVertex;
+import org.preesm.model.slam.ComponentInstance;
+import org.preesm.model.slam.ProcessingElement;
+
+/**
+ * Snapshot of the mapping state of a {@link MapperDAG}: effective components, vertex timings and total orders, edge
+ * costs, schedule cost and, optionally, the total order of the schedule.
+ *
+ * <p>
+ * The structure of the DAG (vertices, edges, mapping groups, properties) is copied once, when a snapshot is captured
+ * with {@link #capture(MapperDAG)}, and shared with all the snapshots captured again from the same DAG with
+ * {@link #recapture()}. The mapping state is copied in primitive arrays indexed by the rank of the vertices and edges
+ * in the DAG, so that recapturing or comparing snapshots is much cheaper than {@link MapperDAG#copy()}. A snapshot
+ * holds no mutable object of the DAG it is captured from: later changes of this DAG do not alter it. A full DAG is
+ * only built when needed, with {@link #toDAG()}.
+ * </p>
+ */
+public class MapperDAGSnapshot {
+
+  private static final int NO_TOTAL_ORDER = Integer.MIN_VALUE;
+
+  /**
+   * Vertices and edges of the DAG, shared by all the snapshots of the same DAG.
+   */
+  private static class Layout {
+    private final MapperDAG                     dag;
+    /** Copy of the DAG when the layout was built, the snapshots are restored in copies of it. */
+    private final MapperDAG                     structure;
+    private final MapperDAGVertex[]             vertices;
+    private final MapperDAGEdge[]               edges;
+    private final Map<MapperDAGVertex, Integer> vertexIndices;
+
+    private Layout(final MapperDAG dag) {
+      this.dag = dag;
+      this.structure = dag.copy();
+      this.vertices = new MapperDAGVertex[dag.vertexSet().size()];
+      this.vertexIndices = new HashMap<>();
+      int index = 0;
+      for (final DAGVertex vertex : dag.vertexSet()) {
+        this.vertices[index] = (MapperDAGVertex) vertex;
+        this.vertexIndices.put(this.vertices[index], index);
+        index++;
+      }
+      this.edges = new MapperDAGEdge[dag.edgeSet().size()];
+      index = 0;
+      for (final DAGEdge edge : dag.edgeSet()) {
+        this.edges[index++] = (MapperDAGEdge) edge;
+      }
+    }
+
+    private boolean matches(final MapperDAG graph) {
+      return (graph == this.dag) && (graph.vertexSet().size() == this.vertices.length)
+          && (graph.edgeSet().size() == this.edges.length);
+    }
+  }
+
+  /**
+   * Captures the mapping state of the given DAG.
+   */
+  public static MapperDAGSnapshot capture(final MapperDAG dag) {
+    return capture(dag, null);
+  }
+
+  /**
+   * Captures the mapping state of the given DAG and the total order of its schedule.
+   *
+   * @param dag
+   *          the DAG
+   * @param totalOrder
+   *          the total order of the schedule of the DAG, not modified after the call; may be null
+   */
+  public static MapperDAGSnapshot capture(final MapperDAG dag, final VertexOrderList totalOrder) {
+    return new MapperDAGSnapshot(new Layout(dag), totalOrder);
+  }
+
+  private final Layout layout;
+
+  private final ComponentInstance[] components;
+  private final long[]              costs;
+  private final long[]              tLevels;
+  private final long[]              bLevels;
+  private final int[]               totalOrders;
+  private final long[]              edgeCosts;
+  private final long                scheduleCost;
+  private final VertexOrderList     totalOrder;
+
+  private MapperDAGSnapshot(final Layout layout, final VertexOrderList totalOrder) {
+    this.layout = layout;
+    this.totalOrder = totalOrder;
+    final int nbVertices = layout.vertices.length;
+    this.components = new ComponentInstance[nbVertices];
+    this.costs = new long[nbVertices];
+    this.tLevels = new long[nbVertices];
+    this.bLevels = new long[nbVertices];
+    this.totalOrders = new int[nbVertices];
+    for (int i = 0; i < nbVertices; i++) {
+      final MapperDAGVertex vertex = layout.vertices[i];
+      this.components[i] = vertex.getEffectiveComponent();
+      final VertexTiming timing = vertex.getTiming();
+      if (timing != null) {
+        this.costs[i] = timing.getCost();
+        this.tLevels[i] = timing.getTLevel();
+        this.bLevels[i] = timing.getBLevel();
+        this.totalOrders[i] = timing.hasTotalOrder(vertex.getName()) ? timing.getTotalOrder(vertex) : NO_TOTAL_ORDER;
+      }
+    }
+    this.edgeCosts = new long[layout.edges.length];
+    for (int i = 0; i < layout.edges.length; i++) {
+      this.edgeCosts[i] = layout.edges[i].getTiming().getCost();
+    }
+    this.scheduleCost = layout.dag.getScheduleCost();
+  }
+
+  /**
+   * Captures the current mapping state of the DAG this snapshot was captured from, sharing its structure with this
+   * snapshot.
+   */
+  public MapperDAGSnapshot recapture() {
+    return recapture(null);
+  }
+
+  /**
+   * Captures the current mapping state of the DAG this snapshot was captured from and the total order of its schedule,
+   * sharing its structure with this snapshot.
+   *
+   * @param totalOrder
+   *          the total order of the schedule of the DAG, not modified after the call; may be null
+   */
+  public MapperDAGSnapshot recapture(final VertexOrderList totalOrder) {
+    if (this.layout.matches(this.layout.dag)) {
+      return new MapperDAGSnapshot(this.layout, totalOrder);
+    }
+    return capture(this.layout.dag, totalOrder);
+  }
+
+  /**
+   * Gets the DAG this snapshot was captured from. Its current state may differ from the snapshot.
+   */
+  public MapperDAG getDAG() {
+    return this.layout.dag;
+  }
+
+  public long getScheduleCost() {
+    return this.scheduleCost;
+  }
+
+  /**
+   * Gets the total order of the schedule given when the snapshot was captured, or null if none was given.
+   */
+  public VertexOrderList getTotalOrder() {
+    return this.totalOrder;
+  }
+
+  /**
+   * Gets the effective operator of the vertex with the same name as the given one when the snapshot was captured, or
+   * null if it was not mapped on an operator.
+   */
+  public ComponentInstance getEffectiveOperator(final MapperDAGVertex vertex) {
+    final Integer index = this.layout.vertexIndices.get(vertex);
+    if (index == null) {
+      return null;
+    }
+    final ComponentInstance component = this.components[index];
+    if ((component != null) && (component.getComponent() instanceof ProcessingElement)) {
+      return component;
+    }
+    return null;
+  }
+
+  /**
+   * Builds a new DAG with the structure of the original DAG and the captured state.
+   */
+  public MapperDAG toDAG() {
+    final MapperDAG copy = this.layout.structure.copy();
+    restore(copy);
+    return copy;
+  }
+
+  /**
+   * Writes the captured state in a copy of the structure of the original DAG. Vertices and edges of the given DAG are
+   * found by name.
+   */
+  private void restore(final MapperDAG target) {
+    for (int i = 0; i < this.components.length; i++) {
+      final MapperDAGVertex vertex = target.getMapperDAGVertex(this.layout.vertices[i].getName());
+      vertex.setEffectiveComponent(this.components[i]);
+      final VertexTiming timing = vertex.getTiming();
+      if (timing != null) {
+        timing.setCost(this.costs[i]);
+        timing.setTLevel(this.tLevels[i]);
+        timing.setBLevel(this.bLevels[i]);
+        if (this.totalOrders[i] == NO_TOTAL_ORDER) {
+          timing.resetTotalOrder(vertex.getName());
+        } else {
+          timing.setTotalOrder(vertex.getName(), this.totalOrders[i]);
+        }
+      }
+    }
+    for (int i = 0; i < this.edgeCosts.length; i++) {
+      final MapperDAGEdge original = this.layout.edges[i];
+      final MapperDAGEdge edge = (MapperDAGEdge) target.getEdge(target.getVertex(original.getSource().getName()),
+          target.getVertex(original.getTarget().getName()));
+      edge.getTiming().setCost(this.edgeCosts[i]);
+    }
+    target.setScheduleCost(this.scheduleCost);
+  }
+}
@@ -50,6 +50,9 @@ public class EdgeTiming implements CloneableProperty<EdgeTiming> {
 
   private long cost;
 
+  /** Listener notified of the changes of the cost, not copied. */
+  private TimingListener listener = null;
+
   public EdgeTiming() {
     super();
     resetCost();
@@ -72,7 +75,16 @@ public class EdgeTiming implements CloneableProperty<EdgeTiming> {
   }
 
   public void setCost(final long cost) {
-    this.cost = cost;
+    if (cost != this.cost) {
+      this.cost = cost;
+      if (this.listener != null) {
+        this.listener.edgeTimingChanged(this);
+      }
+    }
+  }
+
+  public void setListener(final TimingListener listener) {
+    this.listener = listener;
   }
 
   public boolean hasCost() {
@@ -71,6 +71,9 @@ public class VertexTiming extends GroupProperty {
    */
   private Map<String, Integer> totalOrders;
 
+  /** Listener notified of the changes of the cost and of the T level, not copied. */
+  private TimingListener listener = null;
+
   /**
    */
   public VertexTiming() {
@@ -102,6 +105,17 @@ public class VertexTiming extends GroupProperty {
     this.tLevel = VertexTiming.UNAVAILABLE;
     this.bLevel = VertexTiming.UNAVAILABLE;
     this.totalOrders = new LinkedHashMap<>();
+    fireChanged();
+  }
+
+  public void setListener(final TimingListener listener) {
+    this.listener = listener;
+  }
+
+  private void fireChanged() {
+    if (this.listener != null) {
+      this.listener.vertexTimingChanged(this);
+    }
   }
 
   @Override
@@ -114,7 +128,10 @@ public class VertexTiming extends GroupProperty {
   }
 
   public void setCost(final long cost) {
-    this.cost = cost;
+    if (cost != this.cost) {
+      this.cost = cost;
+      fireChanged();
+    }
   }
 
   public boolean hasCost() {
@@ -142,11 +159,14 @@ public class VertexTiming extends GroupProperty {
   }
 
   public void setTLevel(final long newtLevel) {
-    this.tLevel = newtLevel;
+    if (newtLevel != this.tLevel) {
+      this.tLevel = newtLevel;
+      fireChanged();
+    }
   }
 
   public void resetTLevel() {
-    this.tLevel = VertexTiming.UNAVAILABLE;
+    setTLevel(VertexTiming.UNAVAILABLE);
   }
 
   public boolean hasTLevel() {
@@ -160,4 +180,12 @@ public class VertexTiming extends GroupProperty {
   public void setTotalOrder(final String vertexId, final int totalOrder) {
     this.totalOrders.put(vertexId, totalOrder);
   }
+
+  public boolean hasTotalOrder(final String vertexId) {
+    return this.totalOrders.containsKey(vertexId);
+  }
+
+  public void resetTotalOrder(final String vertexId) {
+    this.totalOrders.remove(vertexId);
+  }
 }
@@ -0,0 +1,489 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.algorithm.mapper.timekeeper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.preesm.algorithm.mapper.model.MapperDAG;
+import org.preesm.algorithm.mapper.model.MapperDAGEdge;
+import org.preesm.algorithm.mapper.model.MapperDAGVertex;
+import org.preesm.algorithm.mapper.model.property.EdgeTiming;
+import org.preesm.algorithm.mapper.model.property.TimingListener;
+import org.preesm.algorithm.mapper.model.property.VertexTiming;
+import org.preesm.algorithm.model.AbstractGraph;
+import org.preesm.algorithm.model.IModelObserver;
+import org.preesm.algorithm.model.dag.DAGVertex;
+import org.preesm.commons.exceptions.PreesmRuntimeException;
+
+/**
+ * Incremental computation of the T levels and B levels of an implementation, giving the same values as a complete
+ * pass of {@link TLevelVisitor} and {@link BLevelVisitor}.
+ *
+ * <p>
+ * The vertices are ranked once in topological order, and their predecessors and successors (including the ones of
+ * their synchronized vertices) are stored as arrays of ranks. The structure is rebuilt only when vertices or edges are
+ * added to or removed from the implementation. The engine listens to the timings of the vertices and edges of the
+ * implementation: a change of the cost or T level of a vertex, or of the cost of one of its input edges, queues the
+ * rank of the vertex. T levels are then recomputed forward from the queued ranks only, in rank order, and only through
+ * the vertices whose T level or cost actually changed since the last update. An update thus costs time proportional
+ * to the number of affected vertices, not to the size of the implementation.
+ * </p>
+ */
+public class LevelEngine implements IModelObserver, TimingListener {
+
+  /** Cached value of a vertex that was never computed. */
+  private static final long NOT_COMPUTED = Long.MIN_VALUE;
+
+  private static final int[]           NO_RANK = new int[0];
+  private static final MapperDAGEdge[] NO_EDGE = new MapperDAGEdge[0];
+
+  /** The implementation. */
+  private final MapperDAG implementation;
+
+  /** True if the structure must be rebuilt before the next update. */
+  private boolean structureChanged = true;
+
+  /** True if all the T levels must be recomputed on the next update. */
+  private boolean allDirty = true;
+
+  /** Rank of each vertex. */
+  private Map<MapperDAGVertex, Integer> ranks      = Collections.emptyMap();
+  private MapperDAGVertex[]             vertices   = new MapperDAGVertex[0];
+  private VertexTiming[]                timings    = new VertexTiming[0];
+  private boolean[]                     sources    = new boolean[0];
+  private boolean[]                     sinks      = new boolean[0];
+  /** For each vertex, the ranks of its predecessors and the corresponding edges, as in {@link TLevelVisitor}. */
+  private int[][]                       preds      = new int[0][];
+  private MapperDAGEdge[][]             predEdges  = new MapperDAGEdge[0][];
+  /** For each vertex, the ranks of its successors and the corresponding edges, as in {@link BLevelVisitor}. */
+  private int[][]                       succs      = new int[0][];
+  private MapperDAGEdge[][]             succEdges  = new MapperDAGEdge[0][];
+  /** For each vertex, the ranks of the vertices having it as predecessor. */
+  private int[][]                       dependents = new int[0][];
+
+  /** Ranks of the vertices having the timing, and of the vertices having the edge timing as input. */
+  private Map<VertexTiming, int[]> vertexTimingRanks = new IdentityHashMap<>();
+  private Map<EdgeTiming, int[]>   edgeTimingRanks   = new IdentityHashMap<>();
+
+  /** T level and cost of each vertex at the last update. */
+  private long[] tLevels = new long[0];
+  private long[] costs   = new long[0];
+
+  /** Ranks of the vertices to update, and whether each rank is queued. */
+  private final PriorityQueue<Integer> pending = new PriorityQueue<>();
+  private boolean[]                    queued  = new boolean[0];
+
+  /** True while the engine writes the T levels, its own changes are not queued. */
+  private boolean propagating = false;
+
+  /**
+   * Instantiates a new engine, observing the given implementation.
+   *
+   * @param implementation
+   *          the implementation
+   */
+  public LevelEngine(final MapperDAG implementation) {
+    this.implementation = implementation;
+    this.implementation.addObserver(this);
+  }
+
+  /**
+   * Stops observing the implementation.
+   */
+  public void dispose() {
+    this.implementation.removeObserver(this);
+    setListeners(null);
+  }
+
+  /**
+   * Forces the recomputation of all T levels on the next update.
+   */
+  public void invalidate() {
+    this.allDirty = true;
+  }
+
+  @Override
+  public void update(final AbstractGraph<?, ?> observable, final Object arg) {
+    this.structureChanged = true;
+  }
+
+  @Override
+  public void vertexTimingChanged(final VertexTiming timing) {
+    if (!this.propagating) {
+      queueAll(this.vertexTimingRanks.get(timing));
+    }
+  }
+
+  @Override
+  public void edgeTimingChanged(final EdgeTiming timing) {
+    if (!this.propagating) {
+      queueAll(this.edgeTimingRanks.get(timing));
+    }
+  }
+
+  private void queueAll(final int[] timingRanks) {
+    if (timingRanks != null) {
+      for (final int rank : timingRanks) {
+        queue(rank);
+      }
+    }
+  }
+
+  private void queue(final int rank) {
+    if (!this.queued[rank]) {
+      this.queued[rank] = true;
+      this.pending.add(rank);
+    }
+  }
+
+  /**
+   * Updates the T levels of the implementation, giving the same values as {@link TLevelVisitor}. The changes of the
+   * timings of the implementation are tracked by the engine; the given vertices are updated in addition to them.
+   *
+   * @param dirtyVertices
+   *          vertices to update, for instance the ones which timings objects were replaced
+   */
+  public void updateTLevels(final Collection<MapperDAGVertex> dirtyVertices) {
+    if (this.structureChanged) {
+      rebuild();
+    }
+    this.propagating = true;
+    try {
+      if (this.allDirty) {
+        this.allDirty = false;
+        this.pending.clear();
+        Arrays.fill(this.queued, false);
+        for (int rank = 0; rank < this.vertices.length; rank++) {
+          updateTLevel(rank);
+        }
+        return;
+      }
+      for (final MapperDAGVertex vertex : dirtyVertices) {
+        final Integer rank = this.ranks.get(vertex);
+        if (rank != null) {
+          queue(rank);
+        }
+      }
+
+      // dependents have greater ranks: each vertex is updated once, after all its predecessors
+      while (!this.pending.isEmpty()) {
+        final int rank = this.pending.poll();
+        this.queued[rank] = false;
+        if (updateTLevel(rank)) {
+          for (final int dependent : this.dependents[rank]) {
+            queue(dependent);
+          }
+        }
+      }
+    } finally {
+      this.propagating = false;
+    }
+  }
+
+  /**
+   * Recomputes all the B levels of the implementation, in reverse rank order. T levels are considered to be valid.
+   */
+  public void updateBLevels() {
+    if (this.structureChanged) {
+      rebuild();
+    }
+    for (int i = this.vertices.length - 1; i >= 0; i--) {
+      final VertexTiming timing = this.timings[i];
+      if (this.sinks[i]) {
+        timing.setBLevel(timing.getCost());
+        continue;
+      }
+      long maxBLevel = -1;
+      final int[] successors = this.succs[i];
+      for (int k = 0; k < successors.length; k++) {
+        final VertexTiming succTiming = this.timings[successors[k]];
+        final EdgeTiming edgeTiming = this.succEdges[i][k].getTiming();
+        if (succTiming.hasBLevel() && timing.hasCost() && edgeTiming.hasCost()) {
+          final long currentBLevel = succTiming.getBLevel() + timing.getCost() + edgeTiming.getCost();
+          if (currentBLevel > maxBLevel) {
+            maxBLevel = currentBLevel;
+          }
+        } else {
+          timing.resetBLevel();
+        }
+      }
+      if (maxBLevel >= 0) {
+        timing.setBLevel(maxBLevel);
+      }
+    }
+  }
+
+  /**
+   * Recomputes the T level of the vertex of the given rank, in the same way as {@link TLevelVisitor}.
+   *
+   * @return true if the T level or the cost of the vertex changed since its last update
+   */
+  private boolean updateTLevel(final int rank) {
+    final VertexTiming timing = this.timings[rank];
+    if (this.sources[rank]) {
+      timing.setTLevel(0L);
+    } else {
+      long maxTLevel = -1;
+      final int[] predecessors = this.preds[rank];
+      for (int k = 0; k < predecessors.length; k++) {
+        final VertexTiming predTiming = this.timings[predecessors[k]];
+        final EdgeTiming edgeTiming = this.predEdges[rank][k].getTiming();
+        if (predTiming.hasTLevel() && predTiming.hasCost() && edgeTiming.hasCost()) {
+          final long currentTLevel = predTiming.getTLevel() + predTiming.getCost() + edgeTiming.getCost();
+          if (currentTLevel > maxTLevel) {
+            maxTLevel = currentTLevel;
+          }
+        } else {
+          timing.resetTLevel();
+        }
+      }
+      if (maxTLevel >= 0) {
+        timing.setTLevel(maxTLevel);
+      }
+    }
+
+    final long tLevel = timing.getTLevel();
+    final long cost = timing.getCost();
+    final boolean changed = (tLevel != this.tLevels[rank]) || (cost != this.costs[rank]);
+    this.tLevels[rank] = tLevel;
+    this.costs[rank] = cost;
+    return changed;
+  }
+
+  /**
+   * Ranks the vertices of the implementation in topological order and stores their predecessors and successors. The
+   * cached timings of the vertices that keep the same input edges are preserved, the other vertices are queued, as
+   * well as the ones that were queued before.
+   */
+  private void rebuild() {
+    final List<MapperDAGVertex> vertexList = new ArrayList<>();
+    final Map<MapperDAGVertex, Integer> indexes = new HashMap<>();
+    for (final DAGVertex vertex : this.implementation.vertexSet()) {
+      indexes.put((MapperDAGVertex) vertex, vertexList.size());
+      vertexList.add((MapperDAGVertex) vertex);
+    }
+    final int nbVertices = vertexList.size();
+
+    // Predecessors and successors, indexed by position in the vertex set
+    final List<List<MapperDAGEdge>> predEdgeLists = new ArrayList<>(nbVertices);
+    final List<List<MapperDAGEdge>> succEdgeLists = new ArrayList<>(nbVertices);
+    final int[] inDegrees = new int[nbVertices];
+    final List<List<Integer>> dependencies = new ArrayList<>(nbVertices);
+    for (int i = 0; i < nbVertices; i++) {
+      dependencies.add(new ArrayList<>());
+    }
+    for (int i = 0; i < nbVertices; i++) {
+      final MapperDAGVertex vertex = vertexList.get(i);
+      final List<MapperDAGVertex> synchroVertices = getSynchroVertices(vertex);
+      final Map<MapperDAGVertex, MapperDAGEdge> predecessors = new LinkedHashMap<>();
+      final Map<MapperDAGVertex, MapperDAGEdge> successors = new LinkedHashMap<>();
+      for (final MapperDAGVertex v : synchroVertices) {
+        predecessors.putAll(v.getPredecessors(false));
+        successors.putAll(v.getSuccessors(false));
+      }
+      final List<MapperDAGEdge> predList = new ArrayList<>(predecessors.values());
+      final List<MapperDAGEdge> succList = new ArrayList<>(successors.values());
+      predEdgeLists.add(predList);
+      succEdgeLists.add(succList);
+      // T level depends on predecessors, B level on successors
+      for (final MapperDAGEdge edge : predList) {
+        dependencies.get(indexes.get(edge.getSource())).add(i);
+        inDegrees[i]++;
+      }
+      for (final MapperDAGEdge edge : succList) {
+        dependencies.get(i).add(indexes.get(edge.getTarget()));
+        inDegrees[indexes.get(edge.getTarget())]++;
+      }
+    }
+
+    // Topological ranking, in vertex set order for independent vertices
+    final int[] order = new int[nbVertices];
+    final int[] newRanks = new int[nbVertices];
+    int nbRanked = 0;
+    for (int i = 0; i < nbVertices; i++) {
+      if (inDegrees[i] == 0) {
+        order[nbRanked++] = i;
+      }
+    }
+    for (int head = 0; head < nbRanked; head++) {
+      final int i = order[head];
+      newRanks[i] = head;
+      for (final int next : dependencies.get(i)) {
+        if (--inDegrees[next] == 0) {
+          order[nbRanked++] = next;
+        }
+      }
+    }
+    if (nbRanked != nbVertices) {
+      throw new PreesmRuntimeException("Cannot compute timings of an implementation that contains a cycle.");
+    }
+
+    final Map<MapperDAGVertex, Integer> oldRanks = this.ranks;
+    final MapperDAGVertex[] oldVertices = this.vertices;
+    final boolean[] oldSources = this.sources;
+    final MapperDAGEdge[][] oldPredEdges = this.predEdges;
+    final long[] oldTLevels = this.tLevels;
+    final long[] oldCosts = this.costs;
+    final List<MapperDAGVertex> queuedVertices = new ArrayList<>();
+    for (final int oldRank : this.pending) {
+      queuedVertices.add(oldVertices[oldRank]);
+    }
+    this.pending.clear();
+    setListeners(null);
+
+    this.ranks = new HashMap<>();
+    this.vertices = new MapperDAGVertex[nbVertices];
+    this.timings = new VertexTiming[nbVertices];
+    this.sources = new boolean[nbVertices];
+    this.sinks = new boolean[nbVertices];
+    this.preds = new int[nbVertices][];
+    this.predEdges = new MapperDAGEdge[nbVertices][];
+    this.succs = new int[nbVertices][];
+    this.succEdges = new MapperDAGEdge[nbVertices][];
+    this.tLevels = new long[nbVertices];
+    this.costs = new long[nbVertices];
+    this.queued = new boolean[nbVertices];
+    final int[] nbDependents = new int[nbVertices];
+
+    for (int rank = 0; rank < nbVertices; rank++) {
+      final int i = order[rank];
+      final MapperDAGVertex vertex = vertexList.get(i);
+      this.ranks.put(vertex, rank);
+      this.vertices[rank] = vertex;
+      this.timings[rank] = vertex.getTiming();
+      this.sources[rank] = vertex.incomingEdges().isEmpty();
+      this.sinks[rank] = vertex.outgoingEdges().isEmpty();
+
+      final List<MapperDAGEdge> predList = predEdgeLists.get(i);
+      this.predEdges[rank] = predList.toArray(NO_EDGE);
+      this.preds[rank] = new int[predList.size()];
+      for (int k = 0; k < predList.size(); k++) {
+        final int pred = newRanks[indexes.get(predList.get(k).getSource())];
+        this.preds[rank][k] = pred;
+        nbDependents[pred]++;
+      }
+      final List<MapperDAGEdge> succList = succEdgeLists.get(i);
+      this.succEdges[rank] = succList.toArray(NO_EDGE);
+      this.succs[rank] = new int[succList.size()];
+      for (int k = 0; k < succList.size(); k++) {
+        this.succs[rank][k] = newRanks[indexes.get(succList.get(k).getTarget())];
+      }
+
+      // Preserve the cached timings of unchanged vertices
+      final Integer oldRank = oldRanks.get(vertex);
+      if ((oldRank != null) && (oldVertices[oldRank] == vertex) && (oldSources[oldRank] == this.sources[rank])
+          && Arrays.equals(oldPredEdges[oldRank], this.predEdges[rank])) {
+        this.tLevels[rank] = oldTLevels[oldRank];
+        this.costs[rank] = oldCosts[oldRank];
+      } else {
+        this.tLevels[rank] = NOT_COMPUTED;
+        this.costs[rank] = NOT_COMPUTED;
+        queue(rank);
+      }
+    }
+
+    this.dependents = new int[nbVertices][];
+    for (int rank = 0; rank < nbVertices; rank++) {
+      this.dependents[rank] = (nbDependents[rank] == 0) ? NO_RANK : new int[nbDependents[rank]];
+      nbDependents[rank] = 0;
+    }
+    for (int rank = 0; rank < nbVertices; rank++) {
+      for (final int pred : this.preds[rank]) {
+        this.dependents[pred][nbDependents[pred]++] = rank;
+      }
+    }
+
+    for (final MapperDAGVertex vertex : queuedVertices) {
+      final Integer rank = this.ranks.get(vertex);
+      if (rank != null) {
+        queue(rank);
+      }
+    }
+    indexTimings();
+    setListeners(this);
+    this.structureChanged = false;
+  }
+
+  /**
+   * Indexes the ranks of the vertices by their timing, and by the timings of their input edges.
+   */
+  private void indexTimings() {
+    final Map<VertexTiming, List<Integer>> vertexLists = new IdentityHashMap<>();
+    final Map<EdgeTiming, List<Integer>> edgeLists = new IdentityHashMap<>();
+    for (int rank = 0; rank < this.vertices.length; rank++) {
+      vertexLists.computeIfAbsent(this.timings[rank], t -> new ArrayList<>()).add(rank);
+      for (final MapperDAGEdge edge : this.predEdges[rank]) {
+        edgeLists.computeIfAbsent(edge.getTiming(), t -> new ArrayList<>()).add(rank);
+      }
+    }
+    this.vertexTimingRanks = new IdentityHashMap<>();
+    vertexLists.forEach((timing, list) -> this.vertexTimingRanks.put(timing, toArray(list)));
+    this.edgeTimingRanks = new IdentityHashMap<>();
+    edgeLists.forEach((timing, list) -> this.edgeTimingRanks.put(timing, toArray(list)));
+  }
+
+  private static int[] toArray(final List<Integer> list) {
+    return list.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Sets the listener of all the indexed timings.
+   */
+  private void setListeners(final TimingListener listener) {
+    for (final VertexTiming timing : this.vertexTimingRanks.keySet()) {
+      timing.setListener(listener);
+    }
+    for (final EdgeTiming timing : this.edgeTimingRanks.keySet()) {
+      timing.setListener(listener);
+    }
+  }
+
+  /**
+   * Gets the vertices synchronized with the given one, as {@link VertexTiming#getVertices(MapperDAG)}.
+   */
+  private List<MapperDAGVertex> getSynchroVertices(final MapperDAGVertex vertex) {
+    final VertexTiming timing = vertex.getTiming();
+    if (timing.getNumberOfVertices() == 1) {
+      return Collections.singletonList(vertex);
+    }
+    return timing.getVertices(this.implementation);
+  }
+}
@@ -68,6 +68,9 @@ public class TimeKeeper implements Observer {
   /** Vertices which timings need to be recomputed. */
   private final Set<MapperDAGVertex> dirtyVertices;
 
+  /** Incremental computation of the T and B levels. */
+  private final LevelEngine levelEngine;
+
   /**
    * Constructor.
    *
@@ -82,6 +85,7 @@ public class TimeKeeper implements Observer {
     this.orderManager = orderManager;
     this.orderManager.addObserver(this);
     this.dirtyVertices = new LinkedHashSet<>();
+    this.levelEngine = new LevelEngine(implementation);
   }
 
   /**
@@ -93,6 +97,7 @@ public class TimeKeeper implements Observer {
     while (it.hasNext()) {
       ((MapperDAGVertex) it.next()).getTiming().reset();
     }
+    this.levelEngine.invalidate();
   }
 
   // // Final Time Section
@@ -182,8 +187,7 @@ public class TimeKeeper implements Observer {
    * Update T levels.
    */
   public void updateTLevels() {
-    final TLevelVisitor tLevelVisitor = new TLevelVisitor(this.dirtyVertices);
-    tLevelVisitor.visit(this.implementation);
+    this.levelEngine.updateTLevels(this.dirtyVertices);
     this.dirtyVertices.clear();
   }
 
@@ -191,10 +195,8 @@ public class TimeKeeper implements Observer {
    * Update tand B levels.
    */
   public void updateTandBLevels() {
-    final TLevelVisitor tLevelVisitor = new TLevelVisitor(this.dirtyVertices);
-    final BLevelVisitor bLevelVisitor = new BLevelVisitor();
-    tLevelVisitor.visit(this.implementation);
-    bLevelVisitor.visit(this.implementation);
+    this.levelEngine.updateTLevels(this.dirtyVertices);
+    this.levelEngine.updateBLevels();
     this.dirtyVertices.clear();
   }
 
@@ -0,0 +1,89 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.algorithm.mathematicalmodels;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import org.apache.commons.lang3.math.Fraction;
+import org.preesm.algorithm.model.sdf.SDFAbstractVertex;
+import org.preesm.algorithm.model.sdf.SDFEdge;
+import org.preesm.algorithm.model.sdf.SDFGraph;
+import org.preesm.algorithm.throughput.sdf.tools.CycleRatioGraph;
+import org.preesm.commons.exceptions.PreesmRuntimeException;
+import org.preesm.commons.logger.PreesmLogger;
+import org.preesm.commons.math.MathFunctionsHelper;
+
+/**
+ * Computes the normalized period of a normalized SDF graph as its maximum cycle ratio L/H, with Howard's policy
+ * iteration algorithm instead of a linear program.
+ */
+public class PeriodicScheduleModelHoward implements SolverMethod {
+
+  /**
+   * @param sdf
+   *          normalized graph
+   * @return normalized period
+   */
+  @Override
+  public Fraction computeNormalizedPeriod(final SDFGraph sdf) {
+    final Map<SDFAbstractVertex, Integer> indexes = new LinkedHashMap<>(sdf.vertexSet().size());
+    for (final SDFAbstractVertex a : sdf.vertexSet()) {
+      indexes.put(a, indexes.size());
+    }
+
+    // L = duration of the source, H = (M0 - Zj + gcd) * alpha
+    final CycleRatioGraph graph = new CycleRatioGraph(indexes.size(), sdf.edgeSet().size());
+    for (final SDFEdge e : sdf.edgeSet()) {
+      final double l = (Double) e.getSource().getPropertyBean().getValue("duration");
+      final long difference = e.getDelay().longValue() - e.getCons().longValue();
+      final long gcd = MathFunctionsHelper.gcd(e.getProd().longValue(), e.getCons().longValue());
+      final double normalizationFactor = e.getPropertyBean().getValue("normalizationFactor");
+      final double h = (difference + gcd) * normalizationFactor;
+      graph.addEdge(indexes.get(e.getSource()), indexes.get(e.getTarget()), l, h);
+    }
+
+    final double ratio = graph.maximumCycleRatio();
+    if (Double.isInfinite(ratio)) {
+      throw new PreesmRuntimeException("A Periodic Schedule does not exist for this graph");
+    }
+    final Fraction period = Fraction.getFraction(ratio);
+
+    // set he normalized period
+    sdf.setPropertyValue("normalizedPeriod", period);
+    final String msg = "Normalized period found K = " + period;
+    PreesmLogger.getLogger().log(Level.INFO, msg);
+    return period;
+  }
+
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.algorithm.memory.allocation;
+
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Set of memory ranges where a memory object can not be allocated, because they are used by the already allocated
+ * memory objects it excludes. This is the shared core of the first fit and best fit allocators.
+ *
+ * <p>
+ * Ranges are stored merged, as a {@link TreeMap} from the start to the end of disjoint ranges: adding the range of a
+ * neighbor costs a logarithmic time (amortized), and the free spaces are the gaps between consecutive stored ranges.
+ * Ranges that overlap or touch are merged: the original sweep over sorted range bounds handled the start of a range
+ * before the end of another range at the same offset, so the empty gap between touching ranges was never a free space
+ * either. Empty ranges are kept: as in the sweep, they split the free space they fall in. The offsets, including the
+ * ones of zero-size objects, are thus the same as the ones of the sweep.
+ * </p>
+ */
+public class ExclusionRanges {
+
+  private final TreeMap<Long, Long> ranges = new TreeMap<>();
+
+  /**
+   * Remove all the ranges.
+   */
+  public void clear() {
+    this.ranges.clear();
+  }
+
+  public boolean isEmpty() {
+    return this.ranges.isEmpty();
+  }
+
+  /**
+   * Exclude the range [from, to[.
+   */
+  public void add(final long from, final long to) {
+    long start = from;
+    long end = to;
+    final Entry<Long, Long> floor = this.ranges.floorEntry(start);
+    if ((floor != null) && (floor.getValue() >= start)) {
+      start = floor.getKey();
+      end = Math.max(end, floor.getValue());
+      this.ranges.remove(floor.getKey());
+    }
+    Entry<Long, Long> next = this.ranges.ceilingEntry(start);
+    while ((next != null) && (next.getKey() <= end)) {
+      end = Math.max(end, next.getValue());
+      this.ranges.remove(next.getKey());
+      next = this.ranges.ceilingEntry(start);
+    }
+    this.ranges.put(start, end);
+  }
+
+  /**
+   * Return the lowest offset where a memory object of the given size fits between the excluded ranges, or the offset
+   * following the last excluded range if there is no such space.
+   *
+   * @param size
+   *          size of the memory object
+   * @param align
+   *          alignment of the free spaces, or -1 if no alignment is needed
+   */
+  public long firstFit(final long size, final long align) {
+    long freeFrom = 0; // Where the last exclusion ended
+    for (final Entry<Long, Long> range : this.ranges.entrySet()) {
+      // This is the end of a free space. check if the object fits here ?
+      if (size <= (range.getKey() - freeFrom)) {
+        return freeFrom;
+      }
+      freeFrom = align(range.getValue(), align);
+    }
+    // Put it right after the last element of the list
+    return freeFrom;
+  }
+
+  /**
+   * Return the offset of the free space between the excluded ranges that best fits a memory object of the given size
+   * (that is where the ratio size / free space is closest to 1), or the offset following the last excluded range if no
+   * free space is large enough.
+   *
+   * @param size
+   *          size of the memory object
+   * @param align
+   *          alignment of the free spaces, or -1 if no alignment is needed
+   */
+  public long bestFit(final long size, final long align) {
+    long bestFitOffset = -1;
+    // The closest the occupation is from 1, the best it fits !
+    double bestFitOccupation = 0;
+    long freeFrom = 0; // Where the last exclusion ended
+    for (final Entry<Long, Long> range : this.ranges.entrySet()) {
+      final long freeSpaceSize = range.getKey() - freeFrom;
+      final double occupation = (double) size / (double) freeSpaceSize;
+      if ((occupation <= 1.0) && (occupation > bestFitOccupation)) {
+        bestFitOffset = freeFrom;
+        bestFitOccupation = occupation;
+      }
+      freeFrom = align(range.getValue(), align);
+    }
+    // If no free space was found between excluding elements, put it right after the last element of the list
+    return (bestFitOffset <= -1) ? freeFrom : bestFitOffset;
+  }
+
+  private static long align(final long offset, final long align) {
+    if (align > -1) {
+      return offset + (((offset % align) == 0) ? 0 : align - (offset % align));
+    }
+    return offset;
+  }
+}
@@ -83,7 +83,14 @@ import org.preesm.workflow.implement.AbstractWorkflowNodeImplementation;
             + " log the start and completion time of the build, as well as characteristics (number of memory"
             + " objects, density of exclusions) of the produced MEG.",
         values = { @Value(name = "false", effect = "(Default) The task will not log information."),
-            @Value(name = "true", effect = "The task will log build and MEG information.") }) },
+            @Value(name = "true", effect = "The task will log build and MEG information.") }),
+        @Parameter(name = "Bitset Build",
+            description = "How the exclusions are computed. With bitsets, memory objects are numbered densely and"
+                + " predecessor sets and exclusions are stored as bit matrices, which scales much better on graphs"
+                + " with many buffers. The bit matrix is kept with the MEG to speed up its update and allocation.",
+            values = {
+                @Value(name = "false", effect = "(Default) Exclusions are computed with sets of memory objects."),
+                @Value(name = "true", effect = "Exclusions are computed with bitsets.") }) },
 
     seeAlso = { "**MEG**: K. Desnos, M. Pelcat, J.-F. Nezan, and S. Aridhi. Memory bounds for the distributed "
         + "execution of a hierarchical synchronous data-flow graph. In Embedded Computer Systems: "
@@ -91,6 +98,7 @@ import org.preesm.workflow.implement.AbstractWorkflowNodeImplementation;
 public class MemoryExclusionGraphBuilder extends AbstractTaskImplementation {
 
   public static final String PARAM_VERBOSE            = "Verbose";
+  public static final String PARAM_BITSET_BUILD       = "Bitset Build";
   public static final String VALUE_TRUE_FALSE_DEFAULT = "? C {True, False}";
   public static final String VALUE_TRUE               = "True";
   public static final String VALUE_FALSE              = "False";
@@ -102,6 +110,8 @@ public class MemoryExclusionGraphBuilder extends AbstractTaskImplementation {
     final boolean verbose = MemoryExclusionGraphBuilder.VALUE_TRUE
         .equalsIgnoreCase(parameters.get(MemoryExclusionGraphBuilder.PARAM_VERBOSE));
     final Level logLevel = verbose ? Level.INFO : Level.FINEST;
+    final boolean useBitSets = MemoryExclusionGraphBuilder.VALUE_TRUE
+        .equalsIgnoreCase(parameters.get(MemoryExclusionGraphBuilder.PARAM_BITSET_BUILD));
 
     final Scenario scenario = (Scenario) inputs.get("scenario");
     final DirectedAcyclicGraph dag = (DirectedAcyclicGraph) inputs.get("DAG");
@@ -117,7 +127,7 @@ public class MemoryExclusionGraphBuilder extends AbstractTaskImplementation {
     // Build the exclusion graph
     PreesmLogger.getLogger().log(logLevel, "Memory exclusion graph : start building");
     final MemoryExclusionGraph memEx = new MemoryExclusionGraph(scenario);
-    memEx.buildGraph(localDAG);
+    memEx.buildGraph(localDAG, useBitSets);
     logStats(logLevel, memEx);
 
     // Generate output
@@ -127,7 +137,7 @@ public class MemoryExclusionGraphBuilder extends AbstractTaskImplementation {
   }
 
   private void logStats(final Level logLevel, final MemoryExclusionGraph memEx) {
-    final int edgeCount = memEx.edgeSet().size();
+    final int edgeCount = memEx.getNumberOfExclusions();
     final int vertexCount = memEx.vertexSet().size();
     final double density = edgeCount / ((vertexCount * (vertexCount - 1)) / 2.0);
     PreesmLogger.getLogger().log(logLevel,
@@ -138,6 +148,7 @@ public class MemoryExclusionGraphBuilder extends AbstractTaskImplementation {
   public Map<String, String> getDefaultParameters() {
     final Map<String, String> parameters = new LinkedHashMap<>();
     parameters.put(MemoryExclusionGraphBuilder.PARAM_VERBOSE, MemoryExclusionGraphBuilder.VALUE_TRUE_FALSE_DEFAULT);
+    parameters.put(MemoryExclusionGraphBuilder.PARAM_BITSET_BUILD, MemoryExclusionGraphBuilder.VALUE_FALSE);
     return parameters;
   }
 
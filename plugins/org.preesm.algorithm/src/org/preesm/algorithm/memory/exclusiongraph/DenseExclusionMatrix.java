@@ -0,0 +1,191 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.algorithm.memory.exclusiongraph;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exclusions of a {@link MemoryExclusionGraph} stored as an adjacency matrix of bits.
+ *
+ * <p>
+ * Each {@link MemoryExclusionVertex} receives a dense integer id when it is added, and keeps it until it is removed
+ * (ids of removed vertices are not reused). The exclusions of each vertex are stored in a {@link BitSet} indexed by
+ * these ids, so that sets of memory objects (predecessors, neighbors, complementary) can be computed with word-wide
+ * operations instead of hashed sets.
+ * </p>
+ *
+ * @see MemoryExclusionGraph#buildGraph(org.preesm.algorithm.model.dag.DirectedAcyclicGraph, boolean)
+ */
+public class DenseExclusionMatrix {
+
+  private final Map<MemoryExclusionVertex, Integer> ids;
+  private final List<MemoryExclusionVertex>         vertices;
+  private final List<BitSet>                        rows;
+  private final BitSet                              liveIds;
+
+  /**
+   * Builds an empty matrix.
+   */
+  public DenseExclusionMatrix() {
+    this.ids = new HashMap<>();
+    this.vertices = new ArrayList<>();
+    this.rows = new ArrayList<>();
+    this.liveIds = new BitSet();
+  }
+
+  private DenseExclusionMatrix(final DenseExclusionMatrix other) {
+    this.ids = new HashMap<>(other.ids);
+    this.vertices = new ArrayList<>(other.vertices);
+    this.rows = new ArrayList<>(other.rows.size());
+    for (final BitSet row : other.rows) {
+      this.rows.add((BitSet) row.clone());
+    }
+    this.liveIds = (BitSet) other.liveIds.clone();
+  }
+
+  /**
+   * Returns a copy of this matrix, referencing the same {@link MemoryExclusionVertex}.
+   */
+  public DenseExclusionMatrix copy() {
+    return new DenseExclusionMatrix(this);
+  }
+
+  /**
+   * Adds the vertex to the matrix, without exclusion.
+   *
+   * @return the id of the vertex, or the id of the equal vertex already in the matrix
+   */
+  public int add(final MemoryExclusionVertex vertex) {
+    final Integer existing = this.ids.get(vertex);
+    if (existing != null) {
+      return existing;
+    }
+    final int id = this.vertices.size();
+    this.ids.put(vertex, id);
+    this.vertices.add(vertex);
+    this.rows.add(new BitSet());
+    this.liveIds.set(id);
+    return id;
+  }
+
+  /**
+   * Removes the vertex and all its exclusions from the matrix.
+   */
+  public void remove(final MemoryExclusionVertex vertex) {
+    final Integer id = this.ids.remove(vertex);
+    if (id != null) {
+      final BitSet row = this.rows.get(id);
+      for (int j = row.nextSetBit(0); j >= 0; j = row.nextSetBit(j + 1)) {
+        this.rows.get(j).clear(id);
+      }
+      row.clear();
+      this.vertices.set(id, null);
+      this.liveIds.clear(id);
+    }
+  }
+
+  /**
+   * @return the id of the vertex equal to the given one, or -1 if it is not in the matrix
+   */
+  public int indexOf(final MemoryExclusionVertex vertex) {
+    final Integer id = this.ids.get(vertex);
+    return (id != null) ? id : -1;
+  }
+
+  /**
+   * @return the vertex with the given id, or null if it has been removed
+   */
+  public MemoryExclusionVertex getVertex(final int id) {
+    return this.vertices.get(id);
+  }
+
+  /**
+   * @return the ids of the vertices currently in the matrix. The returned {@link BitSet} must not be modified.
+   */
+  public BitSet getLiveIds() {
+    return this.liveIds;
+  }
+
+  /**
+   * @return the ids of the vertices excluding the vertex with the given id. The returned {@link BitSet} must not be
+   *         modified.
+   */
+  public BitSet getExclusions(final int id) {
+    return this.rows.get(id);
+  }
+
+  /**
+   * Adds an exclusion between the vertices with the given ids. Nothing is done if one of the ids is negative.
+   */
+  public void addExclusion(final int i, final int j) {
+    if ((i < 0) || (j < 0)) {
+      return;
+    }
+    this.rows.get(i).set(j);
+    this.rows.get(j).set(i);
+  }
+
+  /**
+   * Removes the exclusion between the vertices with the given ids. Nothing is done if one of the ids is negative.
+   */
+  public void removeExclusion(final int i, final int j) {
+    if ((i < 0) || (j < 0)) {
+      return;
+    }
+    this.rows.get(i).clear(j);
+    this.rows.get(j).clear(i);
+  }
+
+  public boolean isExclusive(final int i, final int j) {
+    return this.rows.get(i).get(j);
+  }
+
+  public int getDegree(final int id) {
+    return this.rows.get(id).cardinality();
+  }
+
+  /**
+   * @return the number of exclusions of the matrix (each exclusion being counted once)
+   */
+  public int getNumberOfExclusions() {
+    int nbBits = 0;
+    for (int i = this.liveIds.nextSetBit(0); i >= 0; i = this.liveIds.nextSetBit(i + 1)) {
+      nbBits += this.rows.get(i).cardinality();
+    }
+    return nbBits / 2;
+  }
+}
@@ -60,7 +60,7 @@ public class MemExUpdaterEngine {
     this.verbose = verbose;
     this.dag = dag;
     this.memEx = memEx;
-    this.before = memEx.edgeSet().size();
+    this.before = memEx.getNumberOfExclusions();
   }
 
   /**
@@ -84,14 +84,15 @@ public class MemExUpdaterEngine {
 
     this.memEx.updateWithSchedule(this.localDAG);
 
-    this.density = this.memEx.edgeSet().size()
+    this.density = this.memEx.getNumberOfExclusions()
         / ((this.memEx.vertexSet().size() * (this.memEx.vertexSet().size() - 1)) / 2.0);
 
     if (this.verbose) {
       this.logger.log(Level.INFO, () -> "Memory exclusion graph updated with " + this.memEx.vertexSet().size()
           + " vertices and density = " + this.density);
-      this.logger.log(Level.INFO, () -> "Exclusions removed: " + (this.before - this.memEx.edgeSet().size()) + " ("
-          + Math.round((100.00 * (this.before - this.memEx.edgeSet().size())) / this.before) + "%)");
+      final int removed = this.before - this.memEx.getNumberOfExclusions();
+      this.logger.log(Level.INFO,
+          () -> "Exclusions removed: " + removed + " (" + Math.round((100.00 * removed) / this.before) + "%)");
     }
   }
 }
@@ -40,6 +40,7 @@
 package org.preesm.algorithm.memory.exclusiongraph;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -136,6 +137,25 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
    */
   private final transient Map<String, Set<MemoryExclusionVertex>> verticesPredecessors = new LinkedHashMap<>();
 
+  /**
+   * Bit matrix of the exclusions when the graph is built with bitsets (see
+   * {@link #buildGraph(DirectedAcyclicGraph, boolean)}), null otherwise. Once the edges of the graph are created, the
+   * matrix is maintained along with them.
+   */
+  private transient DenseExclusionMatrix denseExclusions = null;
+
+  /**
+   * True when the exclusions are only stored in {@link #denseExclusions}. The {@link DefaultEdge} of the graph are then
+   * created by {@link #materializeEdges()} the first time the edges are accessed through the JGraphT API.
+   */
+  private transient boolean pendingEdges = false;
+
+  /**
+   * Same as {@link #verticesPredecessors}, but storing the ids of the {@link MemoryExclusionVertex} in
+   * {@link #denseExclusions}. Only filled when the graph is built with bitsets.
+   */
+  private final transient Map<String, BitSet> verticesPredecessorIds = new LinkedHashMap<>();
+
   /**
    * {@link MemoryExclusionVertex} of the {@link MemoryExclusionGraph} in the scheduling order retrieved in the
    * {@link #updateWithSchedule(DirectedAcyclicGraph)} method.
@@ -159,6 +179,7 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
 
   @Override
   public DefaultEdge addEdge(final MemoryExclusionVertex arg0, final MemoryExclusionVertex arg1) {
+    materializeEdges();
     final Set<MemoryExclusionVertex> set0 = this.adjacentVerticesBackup.get(arg0);
     if (set0 != null) {
       set0.add(arg1);
@@ -167,7 +188,191 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
     if (set1 != null) {
       set1.add(arg0);
     }
-    return super.addEdge(arg0, arg1);
+    final DefaultEdge result = super.addEdge(arg0, arg1);
+    if ((result != null) && (this.denseExclusions != null)) {
+      this.denseExclusions.addExclusion(this.denseExclusions.indexOf(arg0), this.denseExclusions.indexOf(arg1));
+    }
+    return result;
+  }
+
+  @Override
+  public boolean addVertex(final MemoryExclusionVertex v) {
+    final boolean added = super.addVertex(v);
+    if (added && (this.denseExclusions != null)) {
+      this.denseExclusions.add(v);
+    }
+    return added;
+  }
+
+  @Override
+  public boolean removeVertex(final MemoryExclusionVertex v) {
+    if (this.pendingEdges && containsVertex(v)) {
+      // the vertex has no edge yet: its exclusions are only in the matrix
+      this.denseExclusions.remove(v);
+    }
+    // edges are removed one by one, which keeps the dense exclusions up to date
+    final boolean removed = super.removeVertex(v);
+    if (removed && (this.denseExclusions != null)) {
+      this.denseExclusions.remove(v);
+    }
+    return removed;
+  }
+
+  @Override
+  public boolean addEdge(final MemoryExclusionVertex sourceVertex, final MemoryExclusionVertex targetVertex,
+      final DefaultEdge e) {
+    materializeEdges();
+    return super.addEdge(sourceVertex, targetVertex, e);
+  }
+
+  @Override
+  public Set<DefaultEdge> edgeSet() {
+    materializeEdges();
+    return super.edgeSet();
+  }
+
+  @Override
+  public Set<DefaultEdge> edgesOf(final MemoryExclusionVertex vertex) {
+    // A vertex that is not in the matrix has no pending edge (see removeVertex)
+    if (this.pendingEdges && (this.denseExclusions.indexOf(vertex) >= 0)) {
+      materializeEdges();
+    }
+    return super.edgesOf(vertex);
+  }
+
+  @Override
+  public Set<DefaultEdge> incomingEdgesOf(final MemoryExclusionVertex vertex) {
+    materializeEdges();
+    return super.incomingEdgesOf(vertex);
+  }
+
+  @Override
+  public Set<DefaultEdge> outgoingEdgesOf(final MemoryExclusionVertex vertex) {
+    materializeEdges();
+    return super.outgoingEdgesOf(vertex);
+  }
+
+  @Override
+  public int degreeOf(final MemoryExclusionVertex vertex) {
+    if (this.pendingEdges && containsVertex(vertex)) {
+      return this.denseExclusions.getDegree(this.denseExclusions.indexOf(vertex));
+    }
+    return super.degreeOf(vertex);
+  }
+
+  @Override
+  public int inDegreeOf(final MemoryExclusionVertex vertex) {
+    return degreeOf(vertex);
+  }
+
+  @Override
+  public int outDegreeOf(final MemoryExclusionVertex vertex) {
+    return degreeOf(vertex);
+  }
+
+  @Override
+  public boolean containsEdge(final MemoryExclusionVertex sourceVertex, final MemoryExclusionVertex targetVertex) {
+    if (this.pendingEdges) {
+      final int sourceId = this.denseExclusions.indexOf(sourceVertex);
+      final int targetId = this.denseExclusions.indexOf(targetVertex);
+      return (sourceId >= 0) && (targetId >= 0) && this.denseExclusions.isExclusive(sourceId, targetId);
+    }
+    return super.containsEdge(sourceVertex, targetVertex);
+  }
+
+  @Override
+  public DefaultEdge getEdge(final MemoryExclusionVertex sourceVertex, final MemoryExclusionVertex targetVertex) {
+    materializeEdges();
+    return super.getEdge(sourceVertex, targetVertex);
+  }
+
+  @Override
+  public Set<DefaultEdge> getAllEdges(final MemoryExclusionVertex sourceVertex,
+      final MemoryExclusionVertex targetVertex) {
+    materializeEdges();
+    return super.getAllEdges(sourceVertex, targetVertex);
+  }
+
+  /**
+   * Creates the {@link DefaultEdge} corresponding to the exclusions of {@link #denseExclusions}, if they were not
+   * created yet.
+   */
+  private void materializeEdges() {
+    if (this.pendingEdges) {
+      this.pendingEdges = false;
+      final BitSet liveIds = this.denseExclusions.getLiveIds();
+      for (int i = liveIds.nextSetBit(0); i >= 0; i = liveIds.nextSetBit(i + 1)) {
+        final MemoryExclusionVertex source = this.denseExclusions.getVertex(i);
+        final BitSet exclusions = this.denseExclusions.getExclusions(i);
+        for (int j = exclusions.nextSetBit(i + 1); j >= 0; j = exclusions.nextSetBit(j + 1)) {
+          super.addEdge(source, this.denseExclusions.getVertex(j));
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds an exclusion between the two vertices, without creating the {@link DefaultEdge} if the edges of the graph are
+   * still pending.
+   */
+  private void addExclusion(final MemoryExclusionVertex vertex0, final MemoryExclusionVertex vertex1) {
+    if (!this.pendingEdges) {
+      this.addEdge(vertex0, vertex1);
+      return;
+    }
+    final int id0 = this.denseExclusions.indexOf(vertex0);
+    final int id1 = this.denseExclusions.indexOf(vertex1);
+    if ((id0 >= 0) && (id1 >= 0) && (id0 != id1)) {
+      this.denseExclusions.addExclusion(id0, id1);
+      final Set<MemoryExclusionVertex> set0 = this.adjacentVerticesBackup.get(vertex0);
+      if (set0 != null) {
+        set0.add(this.denseExclusions.getVertex(id1));
+      }
+      final Set<MemoryExclusionVertex> set1 = this.adjacentVerticesBackup.get(vertex1);
+      if (set1 != null) {
+        set1.add(this.denseExclusions.getVertex(id0));
+      }
+    }
+  }
+
+  /**
+   * Removes the exclusion between the two vertices, without creating the {@link DefaultEdge} if the edges of the graph
+   * are still pending.
+   *
+   * @return true if the exclusion existed
+   */
+  private boolean removeExclusion(final MemoryExclusionVertex vertex0, final MemoryExclusionVertex vertex1) {
+    if (!this.pendingEdges) {
+      return this.removeEdge(vertex0, vertex1) != null;
+    }
+    final int id0 = this.denseExclusions.indexOf(vertex0);
+    final int id1 = this.denseExclusions.indexOf(vertex1);
+    if ((id0 < 0) || (id1 < 0) || !this.denseExclusions.isExclusive(id0, id1)) {
+      return false;
+    }
+    this.denseExclusions.removeExclusion(id0, id1);
+    final Set<MemoryExclusionVertex> set0 = this.adjacentVerticesBackup.get(vertex0);
+    if (set0 != null) {
+      set0.remove(vertex1);
+    }
+    final Set<MemoryExclusionVertex> set1 = this.adjacentVerticesBackup.get(vertex1);
+    if (set1 != null) {
+      set1.remove(vertex0);
+    }
+    return true;
+  }
+
+  /**
+   * Returns the number of exclusions of the graph. Contrary to <code>edgeSet().size()</code>, this does not create the
+   * edges of a graph built with bitsets.
+   *
+   * @return the number of exclusions
+   */
+  public int getNumberOfExclusions() {
+    if (this.pendingEdges) {
+      return this.denseExclusions.getNumberOfExclusions();
+    }
+    return super.edgeSet().size();
   }
 
   /**
@@ -280,10 +485,10 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
           // For Edges
           if (correspondingEdge != null) {
             if (!between.contains(correspondingEdge)) {
-              this.addEdge(headMemoryNode, memObject);
+              addExclusion(headMemoryNode, memObject);
             }
           } else if (memObject != headMemoryNode) {
-            this.addEdge(headMemoryNode, memObject);
+            addExclusion(headMemoryNode, memObject);
           }
         }
 
@@ -305,8 +510,40 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
    *          "merge" node are treated before treating the "merge" node. The DAG will be modified by this function.
    */
   public void buildGraph(final DirectedAcyclicGraph dag) {
+    buildGraph(dag, false);
+  }
+
+  /**
+   * Method to build the graph based on a DirectedAcyclicGraph.
+   *
+   * @param dag
+   *          This DirectedAcyclicGraph is analyzed to create the nodes and edges of the MemoryExclusionGraph. The DAG
+   *          used must be the output of a scheduling process. This property ensures that all preceding nodes of a
+   *          "merge" node are treated before treating the "merge" node. The DAG will be modified by this function.
+   * @param useBitSets
+   *          if true, memory objects are numbered densely and predecessor sets and exclusions are computed as bitsets
+   *          (see {@link DenseExclusionMatrix}). The exclusions are then only stored in the bit matrix, which serves
+   *          {@link #getAdjacentVertexOf(MemoryExclusionVertex)}, {@link #getComplementary()},
+   *          {@link #getNumberOfExclusions()} and {@link #updateWithSchedule(DirectedAcyclicGraph)}. The
+   *          {@link DefaultEdge} of the graph are only created the first time the edges are accessed through the
+   *          JGraphT API (e.g. {@link #edgeSet()} or {@link #edgesOf(MemoryExclusionVertex)}).
+   */
+  public void buildGraph(final DirectedAcyclicGraph dag, final boolean useBitSets) {
 
-    buildFifosMemoryObjects(dag);
+    if (useBitSets) {
+      this.denseExclusions = new DenseExclusionMatrix();
+      for (final MemoryExclusionVertex vertex : vertexSet()) {
+        this.denseExclusions.add(vertex);
+      }
+      for (final DefaultEdge edge : edgeSet()) {
+        this.denseExclusions.addExclusion(this.denseExclusions.indexOf(getEdgeSource(edge)),
+            this.denseExclusions.indexOf(getEdgeTarget(edge)));
+      }
+      this.pendingEdges = true;
+      buildFifosMemoryObjectsWithBitSets(dag);
+    } else {
+      buildFifosMemoryObjects(dag);
+    }
 
     // Add the memory objects corresponding to the delays.
     buildDelaysMemoryObjects(dag);
@@ -315,10 +552,10 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
     this.setPropertyValue(MemoryExclusionGraph.SOURCE_DAG, dag);
   }
 
-  private void buildFifosMemoryObjects(final DirectedAcyclicGraph dag) {
-    final Map<DAGVertex,
-        Pair<Set<MemoryExclusionVertex>, Set<MemoryExclusionVertex>>> associatedMemExVertices = new LinkedHashMap<>();
-
+  /**
+   * Remove the non-task vertices (send/receive) from the dag, and return the remaining vertices in topological order.
+   */
+  private LinkedHashSet<DAGVertex> removeNonTaskVertices(final DirectedAcyclicGraph dag) {
     /*
      * Declarations & initializations
      */
@@ -364,6 +601,14 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
     }
     dag.removeAllVertices(nonTaskVertices);
     dagVertices.removeAll(nonTaskVertices);
+    return dagVertices;
+  }
+
+  private void buildFifosMemoryObjects(final DirectedAcyclicGraph dag) {
+    final Map<DAGVertex,
+        Pair<Set<MemoryExclusionVertex>, Set<MemoryExclusionVertex>>> associatedMemExVertices = new LinkedHashMap<>();
+
+    final LinkedHashSet<DAGVertex> dagVertices = removeNonTaskVertices(dag);
 
     for (DAGVertex v : dag.vertexSet()) {
       associatedMemExVertices.put(v, Pair.of(new LinkedHashSet<MemoryExclusionVertex>() /* predecessor */,
@@ -426,6 +671,54 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
     }
   }
 
+  /**
+   * Same as {@link #buildFifosMemoryObjects(DirectedAcyclicGraph)}, with predecessor and incoming sets stored as
+   * bitsets over the ids of {@link #denseExclusions}.
+   */
+  private void buildFifosMemoryObjectsWithBitSets(final DirectedAcyclicGraph dag) {
+    final LinkedHashSet<DAGVertex> dagVertices = removeNonTaskVertices(dag);
+
+    final Map<DAGVertex, BitSet> predecessors = new LinkedHashMap<>();
+    final Map<DAGVertex, BitSet> incomings = new LinkedHashMap<>();
+    for (final DAGVertex v : dag.vertexSet()) {
+      predecessors.put(v, new BitSet());
+      incomings.put(v, new BitSet());
+    }
+
+    for (final DAGVertex vertexDAG : dagVertices) {
+      final BitSet inclusions = predecessors.get(vertexDAG);
+      for (final DAGEdge edge : vertexDAG.outgoingEdges()) {
+        // Add the node to the Exclusion Graph
+        final MemoryExclusionVertex newNode = addNode(edge);
+        if (newNode == null) {
+          // If the node was not added. Should never happen
+          throw new PreesmRuntimeException(
+              "The exclusion graph vertex corresponding to edge " + edge.toString() + " was not added to the graph.");
+        }
+        final int newId = this.denseExclusions.indexOf(newNode);
+
+        // Add Exclusions with all non-predecessors of the current vertex
+        final BitSet exclusions = (BitSet) this.denseExclusions.getLiveIds().clone();
+        exclusions.clear(newId);
+        exclusions.andNot(inclusions);
+        for (int j = exclusions.nextSetBit(0); j >= 0; j = exclusions.nextSetBit(j + 1)) {
+          this.denseExclusions.addExclusion(newId, j);
+        }
+
+        final DAGVertex target = edge.getTarget();
+        // Add newNode to the incoming list of the consumer of this edge
+        incomings.get(target).set(newId);
+        // Update the predecessor list of the consumer of this edge
+        final BitSet predecessor = predecessors.get(target);
+        predecessor.or(inclusions);
+        predecessor.or(incomings.get(vertexDAG));
+      }
+      // Save predecessor list, and include incoming to it.
+      inclusions.or(incomings.get(vertexDAG));
+      this.verticesPredecessorIds.put(vertexDAG.getName(), inclusions);
+    }
+  }
+
   /**
    * Method to clear the adjacent vertices list. As the adjacent vertices lists are passed as references, their content
    * might be corrupted if they are modified by the user of the class. Moreover, if a vertex is removed from the class
@@ -448,7 +741,13 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
    */
   @Override
   public MemoryExclusionGraph copy() {
-    return (MemoryExclusionGraph) super.clone();
+    // the clone copies the edges of the graph
+    materializeEdges();
+    final MemoryExclusionGraph result = (MemoryExclusionGraph) super.clone();
+    if (this.denseExclusions != null) {
+      result.denseExclusions = this.denseExclusions.copy();
+    }
+    return result;
   }
 
   /**
@@ -549,8 +848,18 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
     }
 
     // Copy exclusions
-    for (final DefaultEdge edge : edgeSet()) {
-      result.addEdge(getEdgeSource(edge), getEdgeTarget(edge));
+    if (this.pendingEdges) {
+      final BitSet liveIds = this.denseExclusions.getLiveIds();
+      for (int i = liveIds.nextSetBit(0); i >= 0; i = liveIds.nextSetBit(i + 1)) {
+        final BitSet exclusions = this.denseExclusions.getExclusions(i);
+        for (int j = exclusions.nextSetBit(i + 1); j >= 0; j = exclusions.nextSetBit(j + 1)) {
+          result.addEdge(this.denseExclusions.getVertex(i), this.denseExclusions.getVertex(j));
+        }
+      }
+    } else {
+      for (final DefaultEdge edge : edgeSet()) {
+        result.addEdge(getEdgeSource(edge), getEdgeTarget(edge));
+      }
     }
 
     // Deep copy of mObj properties
@@ -802,6 +1111,17 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
     // Else create the list of neighbors of the vertex
     result = new LinkedHashSet<>();
 
+    final int id = (this.denseExclusions != null) ? this.denseExclusions.indexOf(vertex) : -1;
+    if (id >= 0) {
+      // Vertices of the dense exclusions are the ones of the vertexSet()
+      final BitSet exclusions = this.denseExclusions.getExclusions(id);
+      for (int j = exclusions.nextSetBit(0); j >= 0; j = exclusions.nextSetBit(j + 1)) {
+        result.add(this.denseExclusions.getVertex(j));
+      }
+      this.adjacentVerticesBackup.put(vertex, result);
+      return result;
+    }
+
     // Add to result all vertices that have an edge with vertex
     final Set<DefaultEdge> edges = edgesOf(vertex);
     for (final DefaultEdge edge : edges) {
@@ -848,6 +1168,22 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
    */
   public MemoryExclusionGraph getComplementary() {
     final MemoryExclusionGraph target = new MemoryExclusionGraph(this.getScenario());
+    if (this.denseExclusions != null) {
+      for (final MemoryExclusionVertex vertex : vertexSet()) {
+        target.addVertex(vertex);
+      }
+      final BitSet liveIds = this.denseExclusions.getLiveIds();
+      for (int i = liveIds.nextSetBit(0); i >= 0; i = liveIds.nextSetBit(i + 1)) {
+        final BitSet inclusions = (BitSet) liveIds.clone();
+        inclusions.clear(0, i + 1);
+        inclusions.andNot(this.denseExclusions.getExclusions(i));
+        final MemoryExclusionVertex source = this.denseExclusions.getVertex(i);
+        for (int j = inclusions.nextSetBit(0); j >= 0; j = inclusions.nextSetBit(j + 1)) {
+          target.addEdge(source, this.denseExclusions.getVertex(j));
+        }
+      }
+      return target;
+    }
     final ComplementGraphGenerator<MemoryExclusionVertex,
         DefaultEdge> complementGraphGenerator = new ComplementGraphGenerator<>(this);
     complementGraphGenerator.generateGraph(target);
@@ -950,6 +1286,10 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
 
     final boolean result = super.removeEdge(arg0);
     if (result) {
+      if (this.denseExclusions != null) {
+        this.denseExclusions.removeExclusion(this.denseExclusions.indexOf(source),
+            this.denseExclusions.indexOf(target));
+      }
       final Set<MemoryExclusionVertex> targetNeighbors = this.adjacentVerticesBackup.get(target);
       if (targetNeighbors != null) {
         targetNeighbors.remove(source);
@@ -966,6 +1306,9 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
   public DefaultEdge removeEdge(final MemoryExclusionVertex arg0, final MemoryExclusionVertex arg1) {
     final DefaultEdge result = super.removeEdge(arg0, arg1);
     if (result != null) {
+      if (this.denseExclusions != null) {
+        this.denseExclusions.removeExclusion(this.denseExclusions.indexOf(arg0), this.denseExclusions.indexOf(arg1));
+      }
       final Set<MemoryExclusionVertex> arg0Neighbors = this.adjacentVerticesBackup.get(arg0);
       if (arg0Neighbors != null) {
         arg0Neighbors.remove(arg1);
@@ -1085,7 +1428,7 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
             MemoryExclusionGraph.FIFO_HEAD_PREFIX + dagEndVertex.getName(), dagInitVertex.getName(), 0, this.scenario);
         for (final DAGEdge edge : edgesBetween) {
           final MemoryExclusionVertex mObj = new MemoryExclusionVertex(edge, this.scenario);
-          this.removeEdge(headMemoryNode, mObj);
+          removeExclusion(headMemoryNode, mObj);
         }
       }
 
@@ -1162,100 +1505,156 @@ public class MemoryExclusionGraph extends SimpleGraph<MemoryExclusionVertex, Def
     final ArrayList<Integer> schedulingOrders = new ArrayList<>(verticesMap.keySet());
     Collections.sort(schedulingOrders);
 
-    final List<DAGVertex> dagVerticesInSchedulingOrder = new ArrayList<>();
+    if (!this.verticesPredecessorIds.isEmpty()) {
+      // Graph built with bitsets
+      updateBufferExclusionsWithBitSets(schedulingOrders, verticesMap);
+    } else {
+      final List<DAGVertex> dagVerticesInSchedulingOrder = new ArrayList<>();
+
+      // Update the buffer exclusions
+      // Scan the vertices in scheduling order
+      for (final int order : schedulingOrders) {
+        final DAGVertex currentVertex = verticesMap.get(order);
+        dagVerticesInSchedulingOrder.add(currentVertex);
+
+        // retrieve new predecessor list, if any.
+        // else, create an empty one
+        final String vertexName = currentVertex.getName();
+        Set<MemoryExclusionVertex> newPredecessors = newVerticesPredecessors.get(vertexName);
+        if (newPredecessors == null) {
+          newPredecessors = new LinkedHashSet<>();
+          newVerticesPredecessors.put(vertexName, newPredecessors);
+        }
+
+        // Retrieve component
+        final ComponentInstance comp = currentVertex.getPropertyBean().getValue("Operator");
+
+        // Retrieve last DAGVertex executed on this component
+        final DAGVertex lastScheduled = lastVerticesScheduled.get(comp);
+
+        // If this is not the first time this component is encountered
+        if (lastScheduled != null) {
+          // update new predecessors of current vertex
+          // with all predecessor (new and not new) of previous
+          // DAGVertex executed on this component.
+          newPredecessors.addAll(newVerticesPredecessors.get(lastScheduled.getName()));
+          newPredecessors.addAll(this.verticesPredecessors.get(lastScheduled.getName()));
+          // "old" predecessors will be excluded later
+        }
+        // Save currentVertex as lastScheduled on this component
+        lastVerticesScheduled.put(comp, currentVertex);
+
+        // Exclude all "old" predecessors from "new" list
+        newPredecessors.removeAll(this.verticesPredecessors.get(vertexName));
+
+        if (!newPredecessors.isEmpty()) {
+          // Remove exclusion between the Exclusion Vertex corresponding
+          // to the working memory (if any) of the currentVertex and the
+          // exclusion vertices in the newPredecessors list
+
+          // Remove exclusion between ExclusionVertices corresponding
+          // to outgoing edges of the currentVertex, and ExclusionVertices
+          // in newPredecessors list
+          for (final DAGEdge outgoingEdge : currentVertex.outgoingEdges()) {
+            if (outgoingEdge.getTarget().getPropertyBean().getValue(ImplementationPropertyNames.Vertex_vertexType)
+                .equals(VertexType.TASK)) {
+              final MemoryExclusionVertex edgeVertex = new MemoryExclusionVertex(outgoingEdge, this.scenario);
+              for (final MemoryExclusionVertex newPredecessor : newPredecessors) {
+                if (this.removeEdge(edgeVertex, newPredecessor) == null) {
+                  /**
+                   * Possible causes are: <br>
+                   * -edgeVertex or newPredecessor no longer are in the graph <br>
+                   * -this.verticesPredecessors was corrupted before calling updateWithSchedule() <br>
+                   * -The exclusion or one of the vertex could not be found because the MemoryExclusionVertex.equals()
+                   * method is corrupted -Explode Implode were removed when creating the MemEx but not when updating it.
+                   */
+                  throw new PreesmRuntimeException(
+                      "Failed removing exclusion between " + edgeVertex + " and " + newPredecessor);
+                }
+              }
+
+              // Update newPredecessor list of successors
+              // DAGVertices (the target of the current edge)
+              Set<MemoryExclusionVertex> successorPredecessor;
+              final String targetName = outgoingEdge.getTarget().getName();
+              successorPredecessor = newVerticesPredecessors.get(targetName);
+              if (successorPredecessor == null) {
+                // if successor did not have a new predecessor
+                // list, create one
+                successorPredecessor = new LinkedHashSet<>();
+                newVerticesPredecessors.put(targetName, successorPredecessor);
+              }
+              successorPredecessor.addAll(newPredecessors);
+            }
+          }
+        }
+      }
+    }
+
+    // Update the fifo exclusions
+    updateFIFOMemObjectWithSchedule(dag);
+
+    // Save memory object "scheduling" order
+    this.memExVerticesInSchedulingOrder = new ArrayList<>();
+    // Copy the set of graph vertices (as a list to speedup search in
+    // remaining code)
+    /** Begin by putting all FIFO related Memory objects (if any) */
+    for (final MemoryExclusionVertex vertex : vertexSet()) {
+      if (vertex.getSource().startsWith(MemoryExclusionGraph.FIFO_HEAD_PREFIX)) {
+        this.memExVerticesInSchedulingOrder.add(vertex);
+      }
+    }
+  }
+
+  /**
+   * Same as the update of buffer exclusions in {@link #updateWithSchedule(DirectedAcyclicGraph)}, with predecessor
+   * sets computed as bitsets over the ids of {@link #denseExclusions}.
+   */
+  private void updateBufferExclusionsWithBitSets(final List<Integer> schedulingOrders,
+      final Map<Integer, DAGVertex> verticesMap) {
+    final Map<ComponentInstance, DAGVertex> lastVerticesScheduled = new LinkedHashMap<>();
+    // Same a verticesPredecessorIds but only store predecessors that results from scheduling info
+    final Map<String, BitSet> newVerticesPredecessors = new LinkedHashMap<>();
 
-    // Update the buffer exclusions
-    // Scan the vertices in scheduling order
     for (final int order : schedulingOrders) {
       final DAGVertex currentVertex = verticesMap.get(order);
-      dagVerticesInSchedulingOrder.add(currentVertex);
-
-      // retrieve new predecessor list, if any.
-      // else, create an empty one
       final String vertexName = currentVertex.getName();
-      Set<MemoryExclusionVertex> newPredecessors = newVerticesPredecessors.get(vertexName);
-      if (newPredecessors == null) {
-        newPredecessors = new LinkedHashSet<>();
-        newVerticesPredecessors.put(vertexName, newPredecessors);
-      }
+      final BitSet newPredecessors = newVerticesPredecessors.computeIfAbsent(vertexName, n -> new BitSet());
 
-      // Retrieve component
       final ComponentInstance comp = currentVertex.getPropertyBean().getValue("Operator");
-
-      // Retrieve last DAGVertex executed on this component
       final DAGVertex lastScheduled = lastVerticesScheduled.get(comp);
-
-      // If this is not the first time this component is encountered
       if (lastScheduled != null) {
-        // update new predecessors of current vertex
-        // with all predecessor (new and not new) of previous
-        // DAGVertex executed on this component.
-        newPredecessors.addAll(newVerticesPredecessors.get(lastScheduled.getName()));
-        newPredecessors.addAll(this.verticesPredecessors.get(lastScheduled.getName()));
-        // "old" predecessors will be excluded later
+        // update new predecessors of current vertex with all predecessor (new and not new) of previous DAGVertex
+        // executed on this component.
+        newPredecessors.or(newVerticesPredecessors.get(lastScheduled.getName()));
+        newPredecessors.or(this.verticesPredecessorIds.get(lastScheduled.getName()));
       }
-      // Save currentVertex as lastScheduled on this component
       lastVerticesScheduled.put(comp, currentVertex);
 
       // Exclude all "old" predecessors from "new" list
-      newPredecessors.removeAll(this.verticesPredecessors.get(vertexName));
+      newPredecessors.andNot(this.verticesPredecessorIds.get(vertexName));
 
       if (!newPredecessors.isEmpty()) {
-        // Remove exclusion between the Exclusion Vertex corresponding
-        // to the working memory (if any) of the currentVertex and the
-        // exclusion vertices in the newPredecessors list
-
-        // Remove exclusion between ExclusionVertices corresponding
-        // to outgoing edges of the currentVertex, and ExclusionVertices
-        // in newPredecessors list
         for (final DAGEdge outgoingEdge : currentVertex.outgoingEdges()) {
           if (outgoingEdge.getTarget().getPropertyBean().getValue(ImplementationPropertyNames.Vertex_vertexType)
               .equals(VertexType.TASK)) {
             final MemoryExclusionVertex edgeVertex = new MemoryExclusionVertex(outgoingEdge, this.scenario);
-            for (final MemoryExclusionVertex newPredecessor : newPredecessors) {
-              if (this.removeEdge(edgeVertex, newPredecessor) == null) {
-                /**
-                 * Possible causes are: <br>
-                 * -edgeVertex or newPredecessor no longer are in the graph <br>
-                 * -this.verticesPredecessors was corrupted before calling updateWithSchedule() <br>
-                 * -The exclusion or one of the vertex could not be found because the MemoryExclusionVertex.equals()
-                 * method is corrupted -Explode Implode were removed when creating the MemEx but not when updating it.
-                 */
+            for (int j = newPredecessors.nextSetBit(0); j >= 0; j = newPredecessors.nextSetBit(j + 1)) {
+              final MemoryExclusionVertex newPredecessor = this.denseExclusions.getVertex(j);
+              if ((newPredecessor == null) || !removeExclusion(edgeVertex, newPredecessor)) {
+                // See updateWithSchedule() for possible causes
                 throw new PreesmRuntimeException(
                     "Failed removing exclusion between " + edgeVertex + " and " + newPredecessor);
               }
             }
 
-            // Update newPredecessor list of successors
-            // DAGVertices (the target of the current edge)
-            Set<MemoryExclusionVertex> successorPredecessor;
-            final String targetName = outgoingEdge.getTarget().getName();
-            successorPredecessor = newVerticesPredecessors.get(targetName);
-            if (successorPredecessor == null) {
-              // if successor did not have a new predecessor
-              // list, create one
-              successorPredecessor = new LinkedHashSet<>();
-              newVerticesPredecessors.put(targetName, successorPredecessor);
-            }
-            successorPredecessor.addAll(newPredecessors);
+            // Update newPredecessor list of successors DAGVertices (the target of the current edge)
+            newVerticesPredecessors.computeIfAbsent(outgoingEdge.getTarget().getName(), n -> new BitSet())
+                .or(newPredecessors);
           }
         }
       }
     }
-
-    // Update the fifo exclusions
-    updateFIFOMemObjectWithSchedule(dag);
-
-    // Save memory object "scheduling" order
-    this.memExVerticesInSchedulingOrder = new ArrayList<>();
-    // Copy the set of graph vertices (as a list to speedup search in
-    // remaining code)
-    /** Begin by putting all FIFO related Memory objects (if any) */
-    for (final MemoryExclusionVertex vertex : vertexSet()) {
-      if (vertex.getSource().startsWith(MemoryExclusionGraph.FIFO_HEAD_PREFIX)) {
-        this.memExVerticesInSchedulingOrder.add(vertex);
-      }
-    }
   }
 
   public Scenario getScenario() {
@@ -38,7 +38,10 @@ package org.preesm.algorithm.memory.script;
 import bsh.BshClassManager;
 import bsh.EvalError;
 import bsh.Interpreter;
+import bsh.NameSpace;
 import bsh.ParseException;
+import bsh.Primitive;
+import bsh.UtilEvalError;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
@@ -115,6 +118,23 @@ public class ScriptRunner {
    */
   private final Map<DAGVertex, URL> scriptedVertices = new LinkedHashMap<>();
 
+  /**
+   * A {@link Map} that associates each special vertex of the {@link #scriptedVertices} map to the Java implementation
+   * of its memory script, run instead of the BeanShell script.
+   */
+  private final Map<DAGVertex, SpecialScript> specialScripts = new LinkedHashMap<>();
+
+  /**
+   * The {@link Interpreter} of each user memory script, shared by all the vertices running this script. Each vertex
+   * runs the script in its own {@link NameSpace}.
+   */
+  private final Map<URL, Interpreter> interpreters = new LinkedHashMap<>();
+
+  /**
+   * The content of each user memory script, read once.
+   */
+  private final Map<URL, String> scriptContents = new LinkedHashMap<>();
+
   /**
    * Each {@link List} of {@link Buffer} stored in this {@link List} corresponds to an independent connected
    * {@link Match} tree resulting from the execution of the memory scripts.
@@ -354,19 +374,22 @@ public class ScriptRunner {
             }
             break;
           case MapperDAGVertex.DAG_FORK_VERTEX:
-            associateScriptToSpecialVertex(dagVertex, "fork", specialScriptFiles.get(ScriptRunner.FORK));
+            associateScriptToSpecialVertex(dagVertex, "fork", SpecialScript.FORK,
+                specialScriptFiles.get(ScriptRunner.FORK));
             break;
           case MapperDAGVertex.DAG_JOIN_VERTEX:
-            associateScriptToSpecialVertex(dagVertex, "join", specialScriptFiles.get(ScriptRunner.JOIN));
+            associateScriptToSpecialVertex(dagVertex, "join", SpecialScript.JOIN,
+                specialScriptFiles.get(ScriptRunner.JOIN));
             break;
           case MapperDAGVertex.DAG_BROADCAST_VERTEX:
             final String specialType = dagVertex.getPropertyBean().getValue(MapperDAGVertex.SPECIAL_TYPE);
             switch (specialType) {
               case MapperDAGVertex.SPECIAL_TYPE_BROADCAST:
-                associateScriptToSpecialVertex(dagVertex, "broadcast", specialScriptFiles.get(ScriptRunner.BROADCAST));
+                associateScriptToSpecialVertex(dagVertex, "broadcast", SpecialScript.BROADCAST,
+                    specialScriptFiles.get(ScriptRunner.BROADCAST));
                 break;
               case MapperDAGVertex.SPECIAL_TYPE_ROUNDBUFFER:
-                associateScriptToSpecialVertex(dagVertex, "roundbuffer",
+                associateScriptToSpecialVertex(dagVertex, "roundbuffer", SpecialScript.ROUNDBUFFER,
                     specialScriptFiles.get(ScriptRunner.ROUNDBUFFER));
                 break;
               default:
@@ -386,13 +409,14 @@ public class ScriptRunner {
    * Associate a script file to a special DAGVertex if this script file have been extracted, display an error otherwise
    */
   private void associateScriptToSpecialVertex(final DAGVertex dagVertex, final String vertexName,
-      final URL scriptFile) {
+      final SpecialScript specialScript, final URL scriptFile) {
     if (scriptFile == null) {
       final String message = "Memory script [" + scriptFile + "] of [" + vertexName
           + "] vertices not found. Please contact Preesm developers.";
       throw new IllegalStateException(message);
     } else {
       this.scriptedVertices.put(dagVertex, scriptFile);
+      this.specialScripts.put(dagVertex, specialScript);
     }
   }
 
@@ -1678,12 +1702,6 @@ public class ScriptRunner {
   *
   */
   private void runScript(final DAGVertex dagVertex, final URL script) throws EvalError {
-    final Interpreter interpreter = new Interpreter();
-
-    // TODO : isolate Interpreter initializatino
-    final BshClassManager classManager = interpreter.getClassManager();
-    classManager.cacheClassInfo("Buffer", Buffer.class);
-
     // Retrieve the corresponding sdf vertex
     // val sdfVertex = dagVertex.getPropertyBean().getValue(DAGVertex.SDF_VERTEX, SDFAbstractVertex)
 
@@ -1753,38 +1771,68 @@ public class ScriptRunner {
       }
     }).collect(Collectors.toList());
 
-    // Import the necessary libraries
-    interpreter.eval("import " + Buffer.class.getName() + ";");
-    interpreter.eval("import " + List.class.getName() + ";");
-
-    // Feed the parameters/inputs/outputs to the interpreter
-    for (final Entry<String, Long> e : parameters.entrySet()) {
-      interpreter.set(e.getKey(), e.getValue());
-    }
-    for (final Buffer i : inputs) {
-      interpreter.set("i_" + i.name, i);
-    }
-    for (final Buffer o : outputs) {
-      interpreter.set("o_" + o.name, o);
-    }
-    if (interpreter.get("parameters") == null) {
-      interpreter.set("parameters", parameters);
-    }
-    if (interpreter.get("inputs") == null) {
-      interpreter.set("inputs", inputs);
+    final SpecialScript specialScript = this.specialScripts.get(dagVertex);
+    if (specialScript != null) {
+      runSpecialScript(dagVertex, specialScript, inputs, outputs);
+    } else {
+      runUserScript(dagVertex, script, parameters, inputs, outputs);
     }
-    if (interpreter.get("outputs") == null) {
-      interpreter.set("outputs", outputs);
+  }
+
+  /**
+   * Run the Java implementation of the memory script of a special vertex. As for BeanShell scripts, a failure is
+   * printed in the {@link Logger log} as a warning and no result is stored.
+   */
+  private void runSpecialScript(final DAGVertex dagVertex, final SpecialScript specialScript,
+      final List<Buffer> inputs, final List<Buffer> outputs) {
+    try {
+      specialScript.run(inputs, outputs, Buffer::getNbTokens, Buffer::matchWith);
+
+      // Store the result if the execution was successful
+      this.scriptResults.put(dagVertex, new Pair<>(inputs, outputs));
+    } catch (final RuntimeException error) {
+      ScriptRunner.logger.log(Level.WARNING,
+          "Evaluation error in " + dagVertex.getName() + " memory script:\n" + error.getMessage(), error);
     }
+  }
 
+  /**
+   * Run the BeanShell memory script of a vertex, in a fresh {@link NameSpace} of the {@link Interpreter} of the script.
+   */
+  private void runUserScript(final DAGVertex dagVertex, final URL script, final Map<String, Long> parameters,
+      final List<Buffer> inputs, final List<Buffer> outputs) throws EvalError {
     try {
+      final String scriptContent = getScriptContent(script);
+      final Interpreter interpreter = getInterpreter(script);
+      final NameSpace nameSpace = new NameSpace(interpreter.getNameSpace(), dagVertex.getName());
+
+      // Feed the parameters/inputs/outputs to the interpreter
+      for (final Entry<String, Long> e : parameters.entrySet()) {
+        nameSpace.setVariable(e.getKey(), e.getValue(), false);
+      }
+      for (final Buffer i : inputs) {
+        nameSpace.setVariable("i_" + i.name, i, false);
+      }
+      for (final Buffer o : outputs) {
+        nameSpace.setVariable("o_" + o.name, o, false);
+      }
+      if (Primitive.unwrap(nameSpace.getVariable("parameters")) == null) {
+        nameSpace.setVariable("parameters", parameters, false);
+      }
+      if (Primitive.unwrap(nameSpace.getVariable("inputs")) == null) {
+        nameSpace.setVariable("inputs", inputs, false);
+      }
+      if (Primitive.unwrap(nameSpace.getVariable("outputs")) == null) {
+        nameSpace.setVariable("outputs", outputs, false);
+      }
 
       // Run the script
-      final String readURL = URLHelper.read(script);
-      interpreter.eval(readURL);
+      interpreter.eval(scriptContent, nameSpace);
 
       // Store the result if the execution was successful
       this.scriptResults.put(dagVertex, new Pair<>(inputs, outputs));
+    } catch (final UtilEvalError error) {
+      throw new PreesmRuntimeException("Cannot set the variables of " + dagVertex.getName() + " memory script", error);
     } catch (final ParseException error) {
 
       // Logger is used to display messages in the console
@@ -1802,6 +1850,37 @@ public class ScriptRunner {
     }
   }
 
+  /**
+   * Return the content of the script, reading it on the first call only.
+   */
+  private String getScriptContent(final URL script) throws IOException {
+    String content = this.scriptContents.get(script);
+    if (content == null) {
+      content = URLHelper.read(script);
+      this.scriptContents.put(script, content);
+    }
+    return content;
+  }
+
+  /**
+   * Return the {@link Interpreter} of the script, creating it and importing the necessary libraries on the first call
+   * only.
+   */
+  private Interpreter getInterpreter(final URL script) throws EvalError {
+    Interpreter interpreter = this.interpreters.get(script);
+    if (interpreter == null) {
+      interpreter = new Interpreter();
+      final BshClassManager classManager = interpreter.getClassManager();
+      classManager.cacheClassInfo("Buffer", Buffer.class);
+
+      // Import the necessary libraries
+      interpreter.eval("import " + Buffer.class.getName() + ";");
+      interpreter.eval("import " + List.class.getName() + ";");
+      this.interpreters.put(script, interpreter);
+    }
+    return interpreter;
+  }
+
   /**
   *
   */
@@ -0,0 +1,156 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.algorithm.memory.script;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import org.preesm.commons.exceptions.PreesmRuntimeException;
+
+/**
+ * Java implementations of the memory scripts of the special actors (fork, join, broadcast and roundbuffer), producing
+ * the same matches as the BeanShell scripts of the "scripts" resource folder without running an interpreter.
+ *
+ * <p>
+ * The scripts are generic in the type of buffers, so that they apply both to {@link Buffer} and to the buffers of the
+ * PiSDF script runner. As the BeanShell scripts, they may throw a {@link PreesmRuntimeException} if the buffers cannot
+ * be matched.
+ * </p>
+ */
+public enum SpecialScript {
+
+  /**
+   * Match consecutive ranges of the single input with each output.
+   */
+  FORK {
+    @Override
+    public <B> void run(final List<B> inputs, final List<B> outputs, final ToLongFunction<B> nbTokens,
+        final BufferMatcher<B> matcher) {
+      final B input = inputs.get(0);
+      long inIdx = 0L;
+      for (final B output : outputs) {
+        final long outSize = nbTokens.applyAsLong(output);
+        matcher.matchWith(input, inIdx, output, 0, outSize);
+        inIdx += outSize;
+      }
+    }
+  },
+
+  /**
+   * Match consecutive ranges of the single output with each input.
+   */
+  JOIN {
+    @Override
+    public <B> void run(final List<B> inputs, final List<B> outputs, final ToLongFunction<B> nbTokens,
+        final BufferMatcher<B> matcher) {
+      final B output = outputs.get(0);
+      long outIdx = 0L;
+      for (final B input : inputs) {
+        final long inSize = nbTokens.applyAsLong(input);
+        matcher.matchWith(output, outIdx, input, 0, inSize);
+        outIdx += inSize;
+      }
+    }
+  },
+
+  /**
+   * Match each output with the single input, wrapping around the input when the output is larger.
+   */
+  BROADCAST {
+    @Override
+    public <B> void run(final List<B> inputs, final List<B> outputs, final ToLongFunction<B> nbTokens,
+        final BufferMatcher<B> matcher) {
+      final B input = inputs.get(0);
+      final long inSize = nbTokens.applyAsLong(input);
+      long inIdx = 0L;
+      for (final B output : outputs) {
+        long remaining = nbTokens.applyAsLong(output);
+        long outIdx = 0L;
+        do {
+          final long matchSize = ((remaining + inIdx) <= inSize) ? remaining : (inSize - inIdx);
+          matcher.matchWith(input, inIdx, output, outIdx, matchSize);
+          inIdx = (inIdx + matchSize) % inSize;
+          outIdx += matchSize;
+          remaining -= matchSize;
+        } while (remaining > 0);
+      }
+    }
+  },
+
+  /**
+   * Match the last tokens of the inputs with the single output. As the BeanShell script, the order of the input list
+   * is reversed in place.
+   */
+  ROUNDBUFFER {
+    @Override
+    public <B> void run(final List<B> inputs, final List<B> outputs, final ToLongFunction<B> nbTokens,
+        final BufferMatcher<B> matcher) {
+      final B output = outputs.get(0);
+      Collections.reverse(inputs);
+      long totalLengthMatched = 0L;
+      final long outSize = nbTokens.applyAsLong(output);
+      for (final B input : inputs) {
+        if (totalLengthMatched < outSize) {
+          final long inSize = nbTokens.applyAsLong(input);
+          final long matchSize = Math.min(outSize - totalLengthMatched, inSize);
+          totalLengthMatched += matchSize;
+          matcher.matchWith(input, inSize - matchSize, output, outSize - totalLengthMatched, matchSize);
+        }
+      }
+      if (totalLengthMatched != outSize) {
+        throw new PreesmRuntimeException("Unsupported roundbuffer with input.nbTokens != output.nbTokens.");
+      }
+    }
+  };
+
+  /**
+   * Match a range of a buffer with a range of another buffer.
+   */
+  @FunctionalInterface
+  public interface BufferMatcher<B> {
+    void matchWith(B localBuffer, long localIdx, B remoteBuffer, long remoteIdx, long size);
+  }
+
+  /**
+   * Match the input and output buffers of a special actor, as its memory script would.
+   */
+  public abstract <B> void run(final List<B> inputs, final List<B> outputs, final ToLongFunction<B> nbTokens,
+      final BufferMatcher<B> matcher);
+
+  /**
+   * Match the input and output {@link Buffer buffers} of a special actor, as its memory script would.
+   */
+  public void run(final List<Buffer> inputs, final List<Buffer> outputs) {
+    run(inputs, outputs, Buffer::getNbTokens, Buffer::matchWith);
+  }
+}
@@ -136,6 +136,26 @@ public abstract class AbstractGraph<V extends AbstractVertex, E extends Abstract
     return edge;
   }
 
+  /**
+   * Registers an observer, notified of the vertices and edges added to or removed from this graph.
+   *
+   * @param observer
+   *          The observer to register
+   */
+  public void addObserver(final IModelObserver observer) {
+    this.observers.add(observer);
+  }
+
+  /**
+   * Unregisters an observer.
+   *
+   * @param observer
+   *          The observer to unregister
+   */
+  public void removeObserver(final IModelObserver observer) {
+    this.observers.remove(observer);
+  }
+
   /**
    * Add the given parameter to his graph parameter set.
    *
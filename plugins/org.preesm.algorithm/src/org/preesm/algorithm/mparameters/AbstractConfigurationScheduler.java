@@ -50,6 +50,25 @@ public abstract class AbstractConfigurationScheduler {
    */
   public abstract boolean supportsExtraDelayCuts();
 
+  /**
+   * Creates a new scheduler with the same settings, so that several configurations can be run concurrently (a
+   * scheduler keeps the results of its last run).
+   * 
+   * @return A new scheduler of the same type.
+   */
+  public abstract AbstractConfigurationScheduler copy();
+
+  /**
+   * Gives a lower bound of the latency (as used in the {@link DSEpointIR}) of a configuration, without scheduling it.
+   * 
+   * @param graph
+   *          Graph with resolved parameters.
+   * @return Lower bound of the latency, 0 if unknown.
+   */
+  public int getLatencyLowerBound(final PiGraph graph) {
+    return 0;
+  }
+
   /**
    * Run a given DSE configuration (graph with resolved parameters).
    * 
@@ -24,6 +24,11 @@ public class ConfigurationSchedulerFPGA extends AbstractConfigurationScheduler {
     return false;
   }
 
+  @Override
+  public AbstractConfigurationScheduler copy() {
+    return new ConfigurationSchedulerFPGA();
+  }
+
   @Override
   public DSEpointIR runConfiguration(Scenario scenario, PiGraph graph, Design architecture) {
     final Level backupLevel = PreesmLogger.getLogger().getLevel();
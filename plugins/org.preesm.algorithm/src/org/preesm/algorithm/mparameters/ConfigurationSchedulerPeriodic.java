@@ -61,6 +61,17 @@ public class ConfigurationSchedulerPeriodic extends AbstractConfigurationSchedul
     return true;
   }
 
+  @Override
+  public AbstractConfigurationScheduler copy() {
+    return new ConfigurationSchedulerPeriodic(shouldEstimateMemory);
+  }
+
+  @Override
+  public int getLatencyLowerBound(final PiGraph graph) {
+    // the latency is not changed by the scheduling itself
+    return IterationDelayedEvaluator.computeLatency(graph);
+  }
+
   @Override
   public DSEpointIR runConfiguration(Scenario scenario, PiGraph graph, Design architecture) {
     final Level backupLevel = PreesmLogger.getLogger().getLevel();
@@ -45,7 +45,7 @@ import org.preesm.model.pisdf.check.MalleableParameterExprChecker;
  * 
  * @author ahonorat
  */
-class MalleableParameterIR {
+public class MalleableParameterIR {
 
   final MalleableParameter mp;               // original malleable parameter
   final List<String>       exprs;            // expressions stored in mp
@@ -53,7 +53,7 @@ class MalleableParameterIR {
   int                      nbValues;         // size of the number of exprs/values (redundant)
   int                      currentExprIndex; // index from 0 to nbValues (included)
 
-  MalleableParameterIR(MalleableParameter mp) {
+  public MalleableParameterIR(MalleableParameter mp) {
     this.mp = mp;
     exprs = mp.getStrExpressions();
     values = new ArrayList<>(MalleableParameterExprChecker.getUniqueValues(mp.getUserExpression()));
@@ -52,7 +52,7 @@ public class MalleableParameterNumberIR extends MalleableParameterIR {
   int              indexLow;   // >= startIndex, <= indexHigh (equal only if one value
   int              indexHigh;  // <= endIndex, >= indexLow (equal only if one value)
 
-  MalleableParameterNumberIR(MalleableParameter mp) {
+  public MalleableParameterNumberIR(MalleableParameter mp) {
     super(mp);
     oriValues = values;
     startIndex = 0;
@@ -2,30 +2,49 @@ package org.preesm.algorithm.mparameters;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import org.apache.commons.math3.ml.clustering.Cluster;
 import org.apache.commons.math3.ml.clustering.Clusterable;
 import org.apache.commons.math3.ml.clustering.DBSCANClusterer;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.xbase.lib.Pair;
 import org.preesm.algorithm.mparameters.DSEpointIR.DSEpointGlobalComparator;
 import org.preesm.algorithm.mparameters.DSEpointIR.DSEpointParetoComparator;
 import org.preesm.algorithm.pisdf.autodelays.AutoDelaysTask;
+import org.preesm.commons.exceptions.PreesmRuntimeException;
+import org.preesm.commons.logger.ForwardingLogger;
 import org.preesm.commons.logger.PreesmLogger;
 import org.preesm.model.pisdf.Parameter;
 import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.expression.ResolvedValueStore;
 import org.preesm.model.pisdf.factory.PiMMUserFactory;
 import org.preesm.model.pisdf.statictools.PiMMHelper;
 import org.preesm.model.pisdf.statictools.PiSDFFlattener;
 import org.preesm.model.scenario.Scenario;
+import org.preesm.model.scenario.ScenarioPackage;
 import org.preesm.model.slam.Design;
 
 /**
  * This class computes and set the best values of malleable parameters.
  * 
+ * Configurations are enumerated in batches of {@link #BATCH_SIZE}, each configuration being evaluated on its own copy
+ * of the graph and of the scenario, possibly concurrently. The copies are taken when the evaluation starts, so that
+ * only one copy per thread is alive. The results are then processed in the enumeration order, so that the explored
+ * points, the logs and the best point do not depend on the number of threads.
+ * 
  * @author ahonorat
  */
 public class SetMalleableParameters {
@@ -36,6 +55,17 @@ public class SetMalleableParameters {
    */
   public final int NB_POINTS_MIN_CLUSTERING = 2;
 
+  /**
+   * Number of configurations evaluated between two updates of the best point (used to prune the next ones). It does
+   * not depend on the number of threads so that the DSE result does not either.
+   */
+  public static final int BATCH_SIZE = 32;
+
+  /**
+   * Header of the CSV logs, without the malleable parameter names.
+   */
+  public static final String CSV_HEADER_STRING = DSEpointIR.CSV_HEADER_STRING + ";EvaluationTimeMs";
+
   protected final Scenario                   scenario;
   protected final PiGraph                    graph;
   protected final Design                     architecture;
@@ -43,12 +73,21 @@ public class SetMalleableParameters {
   protected final DSEpointGlobalComparator   globalComparator;
   protected final DSEpointParetoComparator   paretoComparator;
   protected final boolean                    delayRetryValue;
+  protected final int                        nbThreads;
 
   protected final Map<Parameter, String> backupParamOverride;
 
+  // scenario parameters of the malleable parameters, in the same order as mparamsIR
+  protected final List<Parameter> mparamsScenario;
+  // the copies only read the shared graph and scenario, but EMF may initialize their lists lazily
+  private final Object copyLock = new Object();
+
   protected StringBuilder                   logComparator;
   protected List<DSEpointIRclusteringProxy> paretoFrontAndDsecr;
 
+  // evaluations of the current DSE, per values of the malleable parameters
+  protected final Map<List<Long>, DSEevaluation> memoizedEvaluations;
+
   /**
    * Set the right attributes for the DSE.
    * 
@@ -68,6 +107,30 @@ public class SetMalleableParameters {
   public SetMalleableParameters(final Scenario scenario, final PiGraph graph, final Design architecture,
       final List<MalleableParameterIR> mparamsIR, final DSEpointGlobalComparator globalComparator,
       final boolean delayRetryValue) {
+    this(scenario, graph, architecture, mparamsIR, globalComparator, delayRetryValue, 1);
+  }
+
+  /**
+   * Set the right attributes for the DSE.
+   * 
+   * @param scenario
+   *          Scenario to be used.
+   * @param graph
+   *          Graph to be used.
+   * @param architecture
+   *          Architecture to be used.
+   * @param mparamsIR
+   *          Malleable parameters IR to be used.
+   * @param globalComparator
+   *          Global comparator
+   * @param delayRetryValue
+   *          If cuts should be added.
+   * @param nbThreads
+   *          Number of configurations evaluated concurrently.
+   */
+  public SetMalleableParameters(final Scenario scenario, final PiGraph graph, final Design architecture,
+      final List<MalleableParameterIR> mparamsIR, final DSEpointGlobalComparator globalComparator,
+      final boolean delayRetryValue, final int nbThreads) {
 
     this.scenario = scenario;
     this.graph = graph;
@@ -76,6 +139,7 @@ public class SetMalleableParameters {
     this.globalComparator = globalComparator;
     this.paretoComparator = new DSEpointParetoComparator(globalComparator.comparators);
     this.delayRetryValue = delayRetryValue;
+    this.nbThreads = Math.max(1, nbThreads);
 
     // set the scenario graph since it is used for timings
     backupParamOverride = new HashMap<>();
@@ -84,7 +148,9 @@ public class SetMalleableParameters {
     }
 
     logComparator = new StringBuilder();
-    paretoFrontAndDsecr = new ArrayList<>();
+    paretoFrontAndDsecr = new CopyOnWriteArrayList<>();
+    memoizedEvaluations = new HashMap<>();
+    mparamsScenario = new ArrayList<>();
   }
 
   /**
@@ -115,26 +181,35 @@ public class SetMalleableParameters {
    * @return The PiGraph set with values of best parameter.
    */
   public PiGraph exhaustiveDSE(final AbstractConfigurationScheduler confSched) {
-    logComparator = new StringBuilder();
-    paretoFrontAndDsecr = new ArrayList<>();
+    initDSE();
 
     // build and test all possible configurations
     final ParameterCombinationExplorer pce = new ParameterCombinationExplorer(mparamsIR, scenario);
     DSEpointIR bestPoint = new DSEpointIR();
     List<Integer> bestConfig = null;
     int index = 0;
-    while (pce.setNext()) {
-      index++;
-
-      final DSEpointIR dsep = runAndRetryConfiguration(confSched, index);
-      PreesmLogger.getLogger().log(Level.FINE, dsep::toString);
-      if (dsep.isSchedulable) {
-        if (globalComparator.compare(dsep, bestPoint) < 0) {
-          bestConfig = pce.recordConfiguration();
-          bestPoint = dsep;
+    final ExecutorService pool = createPool();
+    try {
+      boolean hasNext = pce.setNext();
+      while (hasNext) {
+        final List<DSEconfiguration> batch = new ArrayList<>(BATCH_SIZE);
+        while (hasNext && batch.size() < BATCH_SIZE) {
+          index++;
+          batch.add(newConfiguration(index, pce.recordConfiguration(), batch));
+          hasNext = pce.setNext();
+        }
+
+        final List<DSEpointIR> points = evaluateBatch(pool, confSched, batch, bestPoint);
+        for (int i = 0; i < points.size(); i++) {
+          final DSEpointIR dsep = points.get(i);
+          if (dsep != null && dsep.isSchedulable && globalComparator.compare(dsep, bestPoint) < 0) {
+            bestConfig = batch.get(i).config;
+            bestPoint = dsep;
+          }
         }
-        paretoFrontierUpdate(paretoFrontAndDsecr, dsep, paretoComparator);
       }
+    } finally {
+      shutdownPool(pool);
     }
     if (bestConfig == null) {
       resetAllMparams(mparamsIR);
@@ -154,8 +229,7 @@ public class SetMalleableParameters {
    * @return The PiGraph set with values of best parameter.
    */
   public PiGraph numbersDSE(final AbstractConfigurationScheduler confSched) {
-    logComparator = new StringBuilder();
-    paretoFrontAndDsecr = new ArrayList<>();
+    initDSE();
 
     // build and test all possible configurations
     ParameterCombinationNumberExplorer pce = null;
@@ -166,89 +240,360 @@ public class SetMalleableParameters {
     List<Integer> bestLocalConfig;
     int indexTot = 0;
     int indexRound = 0;
-    do {
-      indexRound++;
-      PreesmLogger.getLogger().log(Level.INFO, "New DSE heuristic round: " + indexRound);
-
-      bestLocalPoint = new DSEpointIR();
-      bestLocalConfig = null;
-      pce = new ParameterCombinationNumberExplorer(mparamsIR, scenario);
-      while (pce.setNext()) {
-        indexTot++;
-
-        final DSEpointIR dsep = runAndRetryConfiguration(confSched, indexTot);
-        PreesmLogger.getLogger().log(Level.FINE, dsep::toString);
-        if (dsep.isSchedulable) {
-          if (globalComparator.compare(dsep, bestPoint) < 0) {
-            bestConfig = pce.recordConfiguration();
-            bestPoint = dsep;
-            bestPceRound = pce;
+    final ExecutorService pool = createPool();
+    try {
+      do {
+        indexRound++;
+        PreesmLogger.getLogger().log(Level.INFO, "New DSE heuristic round: " + indexRound);
+
+        bestLocalPoint = new DSEpointIR();
+        bestLocalConfig = null;
+        pce = new ParameterCombinationNumberExplorer(mparamsIR, scenario);
+        boolean hasNext = pce.setNext();
+        while (hasNext) {
+          final List<DSEconfiguration> batch = new ArrayList<>(BATCH_SIZE);
+          while (hasNext && batch.size() < BATCH_SIZE) {
+            indexTot++;
+            batch.add(newConfiguration(indexTot, pce.recordConfiguration(), batch));
+            hasNext = pce.setNext();
           }
-          if (globalComparator.compare(dsep, bestLocalPoint) < 0) {
-            bestLocalConfig = pce.recordConfiguration();
-            bestLocalPoint = dsep;
+
+          // the local best point is the worst of both, so pruning against it keeps both exact
+          final List<DSEpointIR> points = evaluateBatch(pool, confSched, batch, bestLocalPoint);
+          for (int i = 0; i < points.size(); i++) {
+            final DSEpointIR dsep = points.get(i);
+            if (dsep == null || !dsep.isSchedulable) {
+              continue;
+            }
+            if (globalComparator.compare(dsep, bestPoint) < 0) {
+              bestConfig = batch.get(i).config;
+              bestPoint = dsep;
+              bestPceRound = pce;
+            }
+            if (globalComparator.compare(dsep, bestLocalPoint) < 0) {
+              bestLocalConfig = batch.get(i).config;
+              bestLocalPoint = dsep;
+            }
           }
-          paretoFrontierUpdate(paretoFrontAndDsecr, dsep, paretoComparator);
         }
+        if (bestConfig == null) {
+          resetAllMparams(mparamsIR);
+          scenario.getParameterValues().putAll(backupParamOverride);
+          PreesmLogger.getLogger()
+              .warning("No configuration was good, default malleable parameter values are put back.");
+          break;
+        }
+      } while (pce.setForNextPartialDSEround(bestLocalConfig));
+    } finally {
+      shutdownPool(pool);
+    }
+
+    return logAndSetBestPoint(bestPceRound, bestPoint, bestConfig);
+
+  }
+
+  protected void initDSE() {
+    logComparator = new StringBuilder();
+    paretoFrontAndDsecr = new CopyOnWriteArrayList<>();
+    memoizedEvaluations.clear();
+    mparamsScenario.clear();
+    final PiGraph algoScenar = scenario.getAlgorithm();
+    for (final MalleableParameterIR mpir : mparamsIR) {
+      final Parameter ps = algoScenar.lookupParameterGivenGraph(mpir.mp.getName(),
+          mpir.mp.getContainingPiGraph().getName());
+      if (ps == null) {
+        throw new PreesmRuntimeException("Unable to find malleable parameter in scenario.");
       }
-      if (bestConfig == null) {
-        resetAllMparams(mparamsIR);
-        scenario.getParameterValues().putAll(backupParamOverride);
-        PreesmLogger.getLogger().warning("No configuration was good, default malleable parameter values are put back.");
-        break;
+      mparamsScenario.add(ps);
+    }
+  }
+
+  protected ExecutorService createPool() {
+    if (nbThreads <= 1) {
+      return null;
+    }
+    return Executors.newFixedThreadPool(nbThreads);
+  }
+
+  protected static void shutdownPool(final ExecutorService pool) {
+    if (pool != null) {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Creates the configuration currently set in the graph and in the scenario. The expressions of the malleable
+   * parameters are recorded only if their values have not been evaluated yet, nor met in the current batch.
+   * 
+   * @param index
+   *          Index of the configuration, for logs.
+   * @param config
+   *          As returned by {@link ParameterCombinationExplorer#recordConfiguration}.
+   * @param batch
+   *          Configurations already in the batch.
+   * @return The configuration.
+   */
+  protected DSEconfiguration newConfiguration(final int index, final List<Integer> config,
+      final List<DSEconfiguration> batch) {
+    final List<Long> mparamsValues = getMparamsValues();
+    if (memoizedEvaluations.containsKey(mparamsValues)
+        || batch.stream().anyMatch(x -> x.mparamsValues.equals(mparamsValues))) {
+      return new DSEconfiguration(index, config, mparamsValues, null, null);
+    }
+    final List<String> mparamsExprs = new ArrayList<>(mparamsIR.size());
+    final List<String> scenarioExprs = new ArrayList<>(mparamsIR.size());
+    for (int i = 0; i < mparamsIR.size(); i++) {
+      mparamsExprs.add(mparamsIR.get(i).mp.getExpression().getExpressionAsString());
+      scenarioExprs.add(scenario.getParameterValues().get(mparamsScenario.get(i)));
+    }
+    return new DSEconfiguration(index, config, mparamsValues, mparamsExprs, scenarioExprs);
+  }
+
+  /**
+   * Copies the graph and the scenario, and sets the malleable parameters of a configuration in the copies. The shared
+   * graph and scenario must not be modified meanwhile, they hold the last configuration enumerated.
+   * 
+   * @param conf
+   *          The configuration to set, with its expressions.
+   * @return The graph copy, and the scenario copy.
+   */
+  protected Pair<PiGraph, Scenario> copyConfiguration(final DSEconfiguration conf) {
+    final PiGraph graphCopy;
+    final Scenario scenarioCopy;
+    synchronized (copyLock) {
+      graphCopy = PiMMUserFactory.instance.copyPiGraphWithHistory(graph);
+      scenarioCopy = EcoreUtil.copy(scenario);
+    }
+    for (int i = 0; i < mparamsIR.size(); i++) {
+      final Parameter mp = mparamsIR.get(i).mp;
+      final Parameter mpCopy = graphCopy.lookupParameterGivenGraph(mp.getName(),
+          mp.getContainingPiGraph().getName());
+      mpCopy.setExpression(conf.mparamsExprs.get(i));
+      // the scenario copy refers to the parameters of the scenario algorithm, which is not copied
+      final String scenarioExpr = conf.scenarioExprs.get(i);
+      if (scenarioExpr == null) {
+        scenarioCopy.getParameterValues().removeKey(mparamsScenario.get(i));
+      } else {
+        scenarioCopy.getParameterValues().put(mparamsScenario.get(i), scenarioExpr);
       }
-    } while (pce.setForNextPartialDSEround(bestLocalConfig));
+    }
+    return new Pair<>(graphCopy, scenarioCopy);
+  }
 
-    return logAndSetBestPoint(bestPceRound, bestPoint, bestConfig);
+  /**
+   * Values of the malleable parameters in the current configuration, as set in the graph.
+   * 
+   * @return Values in the same order as {@link #mparamsIR}.
+   */
+  protected List<Long> getMparamsValues() {
+    final List<Long> values = new ArrayList<>(mparamsIR.size());
+    for (final MalleableParameterIR mpir : mparamsIR) {
+      values.add(mpir.mp.getExpression().evaluate());
+    }
+    return values;
+  }
 
+  /**
+   * Evaluates a batch of configurations, on the pool if any, and updates the logs and the Pareto front in the order of
+   * the configurations. Configurations having the same malleable parameter values as an already evaluated one are not
+   * evaluated again.
+   * 
+   * @param pool
+   *          Pool to run the evaluations, or {@code null} to run them in the current thread.
+   * @param confSched
+   *          The configuration scheduler to be used, copied for each evaluation.
+   * @param batch
+   *          Configurations to evaluate.
+   * @param referencePoint
+   *          Point to which configurations are compared before being scheduled, see {@link #canBePruned}.
+   * @return Evaluated point of each configuration, {@code null} if it has been pruned.
+   */
+  protected List<DSEpointIR> evaluateBatch(final ExecutorService pool, final AbstractConfigurationScheduler confSched,
+      final List<DSEconfiguration> batch, final DSEpointIR referencePoint) {
+    final Map<List<Long>, Future<DSEevaluation>> futures = new LinkedHashMap<>();
+    final Map<List<Long>, DSEevaluation> batchEvaluations = new HashMap<>();
+    // the front is updated after the batch only, so that pruning does not depend on the number of threads either
+    final List<DSEpointIR> paretoPoints = paretoFrontAndDsecr.stream().map(x -> x.dsep).collect(Collectors.toList());
+    // the evaluations log through a logger of their thread: the schedulers change its level while running, and the
+    // concurrent evaluations only publish their severe records
+    final Logger logger = PreesmLogger.getLogger();
+    final Level evaluationLevel = pool != null ? Level.SEVERE : Level.ALL;
+    try {
+      for (final DSEconfiguration conf : batch) {
+        if (conf.mparamsExprs == null) {
+          // already evaluated, or evaluated with a previous configuration of this batch
+          continue;
+        }
+        final Callable<DSEevaluation> task = () -> callWithThreadLogger(logger, evaluationLevel,
+            () -> runAndRetryConfiguration(confSched.copy(), conf, referencePoint, paretoPoints));
+        if (pool != null) {
+          futures.put(conf.mparamsValues, pool.submit(task));
+        } else {
+          final FutureTask<DSEevaluation> future = new FutureTask<>(task);
+          future.run();
+          futures.put(conf.mparamsValues, future);
+        }
+      }
+      for (final Entry<List<Long>, Future<DSEevaluation>> e : futures.entrySet()) {
+        batchEvaluations.put(e.getKey(), e.getValue().get());
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PreesmRuntimeException("Interrupted while evaluating the malleable parameter configurations.", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw new PreesmRuntimeException(e.getCause());
+    }
+
+    final List<DSEpointIR> points = new ArrayList<>(batch.size());
+    for (final DSEconfiguration conf : batch) {
+      PreesmLogger.getLogger().fine("==> Testing combination: " + conf.index);
+      final DSEevaluation eval = batchEvaluations.remove(conf.mparamsValues);
+      if (eval == null) {
+        // memoized evaluation (or already met in this batch): metrics only, no new log entry
+        final DSEevaluation memoized = memoizedEvaluations.get(conf.mparamsValues);
+        points.add(memoized == null ? null : memoized.point);
+      } else if (eval.point == null) {
+        // pruned configurations are not memoized since the reference point may be worse in a next round
+        PreesmLogger.getLogger().log(Level.FINE, () -> "Combination " + conf.mparamsValues
+            + " pruned, it cannot meet the thresholds nor enter the Pareto front, its metrics are at least: "
+            + eval.lowerBound);
+        points.add(null);
+      } else {
+        memoizedEvaluations.put(conf.mparamsValues, eval);
+        logComparator.append(eval.csvRows);
+        PreesmLogger.getLogger().log(Level.FINE, eval.point::toString);
+        if (eval.point.isSchedulable) {
+          paretoFrontierUpdate(paretoFrontAndDsecr, eval.point, eval.csvPointRow, paretoComparator);
+        }
+        points.add(eval.point);
+      }
+    }
+    return points;
+  }
+
+  /**
+   * Computes a lower bound of the metrics of a configuration, without scheduling it.
+   * 
+   * @param confSched
+   *          The configuration scheduler to be used.
+   * @param graphResolved
+   *          Graph of the configuration, with resolved parameters.
+   * @param paramsValues
+   *          Values of parameters having objectives.
+   * @return Point with minimal energy, memory and durationII; the latency can only grow with extra delays.
+   */
+  protected DSEpointIR getLowerBound(final AbstractConfigurationScheduler confSched, final PiGraph graphResolved,
+      final Map<Pair<String, String>, Long> paramsValues) {
+    final int latency = confSched.getLatencyLowerBound(graphResolved);
+    return new DSEpointIR(0L, latency, 1L, 0L, 0, 0, paramsValues, true);
+  }
+
+  /**
+   * Checks if a configuration cannot be better than the reference point, without scheduling it: this is the case if a
+   * threshold is not met by a lower bound of its metrics while the reference point meets all thresholds. The
+   * configuration must also be dominated by a point of the Pareto front, otherwise it is still a candidate of the
+   * front.
+   * 
+   * @param lowerBound
+   *          Lower bound of the configuration metrics, see {@link #getLowerBound}.
+   * @param referencePoint
+   *          Point to compare with.
+   * @param paretoPoints
+   *          Points of the Pareto front.
+   * @return Whether or not the configuration can be skipped.
+   */
+  protected boolean canBePruned(final DSEpointIR lowerBound, final DSEpointIR referencePoint,
+      final List<DSEpointIR> paretoPoints) {
+    if (!globalComparator.hasThresholds() || !referencePoint.isSchedulable
+        || !globalComparator.areAllThresholdMet(referencePoint)) {
+      return false;
+    }
+    // all metrics of the configuration are greater or equal to the bound ones, so it is dominated too
+    return !globalComparator.areAllThresholdMet(lowerBound) && globalComparator.compare(lowerBound, referencePoint) > 0
+        && paretoPoints.stream().anyMatch(x -> paretoComparator.compare(lowerBound, x) > 0);
   }
 
   protected void paretoFrontierUpdate(final List<DSEpointIRclusteringProxy> listPareto, final DSEpointIR dsep,
-      final DSEpointParetoComparator paretoComparator) {
-
-    final Iterator<DSEpointIRclusteringProxy> itPareto = listPareto.iterator();
-    DSEpointIR currentParetoPoint;
-    while (itPareto.hasNext()) {
-      currentParetoPoint = itPareto.next().dsep;
-      switch (paretoComparator.compare(dsep, currentParetoPoint)) {
-        case -1:
-          // the new point is better than the current one, removing it
-          itPareto.remove();
-          break;
-        case 0:
-          // the new point is not comparable with others
-          break;
-        case 1:
-          // bad point, we can return immediately
-          return;
-        default:
-          break;
+      final String descr, final DSEpointParetoComparator paretoComparator) {
+
+    // points of the front are not comparable, so the new point cannot both dominate and be dominated
+    for (final DSEpointIRclusteringProxy currentParetoPoint : listPareto) {
+      if (paretoComparator.compare(dsep, currentParetoPoint.dsep) > 0) {
+        // bad point, we can return immediately
+        return;
       }
     }
+    // the new point is better than the removed ones
+    listPareto.removeIf(x -> paretoComparator.compare(dsep, x.dsep) < 0);
     // add the point
-    final StringBuilder sb = new StringBuilder();
-    logCsvContentMparams(sb, mparamsIR, dsep);
-    listPareto.add(new DSEpointIRclusteringProxy(dsep, sb.toString()));
+    listPareto.add(new DSEpointIRclusteringProxy(dsep, descr));
   }
 
-  protected DSEpointIR runAndRetryConfiguration(final AbstractConfigurationScheduler confSched, final int index) {
+  /**
+   * Calls the task with a thread logger forwarding to the given logger, so that the level changes made while the task
+   * runs do not affect the other threads logging to the given logger.
+   *
+   * @param logger
+   *          The logger publishing the records of the task.
+   * @param level
+   *          The initial level of the thread logger.
+   * @param task
+   *          The task to call in the current thread.
+   * @return The result of the task.
+   */
+  private static <T> T callWithThreadLogger(final Logger logger, final Level level, final Callable<T> task)
+      throws Exception {
+    final Logger previousThreadLogger = PreesmLogger.getThreadLogger();
+    PreesmLogger.setThreadLogger(new ForwardingLogger(logger, level));
+    try {
+      return task.call();
+    } finally {
+      PreesmLogger.setThreadLogger(previousThreadLogger);
+    }
+  }
 
-    PreesmLogger.getLogger().fine("==> Testing combination: " + index);
-    // for (Parameter p : graph.getAllParameters()) {
-    // PreesmLogger.getLogger().fine(p.getVertexPath() + ": " + p.getExpression().getExpressionAsString());
-    // }
+  /**
+   * Evaluates a configuration on its own copy of the graph and of the scenario.
+   * 
+   * @param confSched
+   *          The configuration scheduler to be used, not shared.
+   * @param conf
+   *          The configuration, with its expressions.
+   * @param referencePoint
+   *          Point to which the configuration is compared before being scheduled, see {@link #canBePruned}.
+   * @param paretoPoints
+   *          Points of the Pareto front, see {@link #canBePruned}.
+   * @return The evaluation, with a {@code null} point if the configuration has been pruned.
+   */
+  protected DSEevaluation runAndRetryConfiguration(final AbstractConfigurationScheduler confSched,
+      final DSEconfiguration conf, final DSEpointIR referencePoint, final List<DSEpointIR> paretoPoints) {
+    final Pair<PiGraph, Scenario> copies = copyConfiguration(conf);
+    final PiGraph graphCopy = copies.getKey();
+    final Scenario scenarioCopy = copies.getValue();
+    // the copies are evaluated several times (parameters, rates, timings), they do not share the store of the graph
+    ResolvedValueStore.attach(graphCopy).observeOverrides(scenarioCopy,
+        ScenarioPackage.eINSTANCE.getScenario_ParameterValues());
+
+    PiMMHelper.resolveAllParameters(graphCopy);
+    final Map<Pair<String, String>, Long> paramsValues = globalComparator.getParamsValues(graphCopy);
+    final DSEpointIR lowerBound = getLowerBound(confSched, graphCopy, paramsValues);
+    if (canBePruned(lowerBound, referencePoint, paretoPoints)) {
+      return new DSEevaluation(lowerBound);
+    }
 
-    final PiGraph graphResolvedCopy = PiMMUserFactory.instance.copyPiGraphWithHistory(graph);
-    PiMMHelper.resolveAllParameters(graphResolvedCopy);
-    final Map<Pair<String, String>, Long> paramsValues = globalComparator.getParamsValues(graphResolvedCopy);
-    DSEpointIR res = confSched.runConfiguration(scenario, graph, architecture);
+    final StringBuilder csvRows = new StringBuilder();
+    long start = System.nanoTime();
+    DSEpointIR res = confSched.runConfiguration(scenarioCopy, graphCopy, architecture);
     res = new DSEpointIR(res.energy, res.latency, res.durationII, res.memory, 0, 0, paramsValues, res.isSchedulable);
-    logCsvContentMparams(logComparator, mparamsIR, res);
+    final String csvRow = logCsvContentMparams(conf.mparamsValues, res, System.nanoTime() - start);
+    csvRows.append(csvRow);
 
     // retry with extra delays if allowed
     if (delayRetryValue && confSched.supportsExtraDelayCuts() && globalComparator.doesAcceptsMoreDelays()
         && globalComparator.areAllNonThroughputAndEnergyThresholdsMet(res)) {
-      PreesmLogger.getLogger().fine("Retrying combination with delays.");
 
       // compute possible amount of delays
       final int nbCore = architecture.getProcessingElements().get(0).getInstances().size();
@@ -259,7 +604,7 @@ public class SetMalleableParameters {
         maxCuts -= iterationDelay;
       } else {
         // we cannot add delays, so no retry
-        return res;
+        return new DSEevaluation(res, csvRows.toString(), csvRow);
       }
 
       final Pair<Long, Long> maxLoads = confSched.getLastMaxLoads();
@@ -267,37 +612,39 @@ public class SetMalleableParameters {
           maxLoads.getValue(), maxLoads.getKey());
       if (nbCuts == 0) {
         // may happen with makespan threshold
-        return res;
+        return new DSEevaluation(res, csvRows.toString(), csvRow);
       }
       final int nbPreCuts = nbCuts + 1;
 
+      start = System.nanoTime();
       // deactivate fine logging for automatic pipelining
       final Level backupLevel = PreesmLogger.getLogger().getLevel();
       PreesmLogger.getLogger().setLevel(Level.SEVERE);
       // copy and flatten transfo graph
-      final PiGraph flatGraphCopy = PiSDFFlattener.flatten(graph, true);
+      final PiGraph flatGraphCopy = PiSDFFlattener.flatten(graphCopy, true);
       // add more delays
-      final PiGraph flatGraphWithDelays = AutoDelaysTask.addDelays(flatGraphCopy, architecture, scenario, false, false,
-          false, nbCore, nbPreCuts, nbCuts);
+      final PiGraph flatGraphWithDelays = AutoDelaysTask.addDelays(flatGraphCopy, architecture, scenarioCopy, false,
+          false, false, nbCore, nbPreCuts, nbCuts);
       // reactivate logging
       PreesmLogger.getLogger().setLevel(backupLevel);
 
       // retry with more delays
       // case of flatten graph with extra delays, so parameter names are not same,
       // the real values will be updated by the calling method
-      DSEpointIR resRetry = confSched.runConfiguration(scenario, flatGraphWithDelays, architecture);
+      DSEpointIR resRetry = confSched.runConfiguration(scenarioCopy, flatGraphWithDelays, architecture);
       // adds cut information and params (from the unflat version since flattning change param names) to the point
       resRetry = new DSEpointIR(resRetry.energy, resRetry.latency, resRetry.durationII, resRetry.memory, nbCuts,
           nbPreCuts, res.paramsValues, resRetry.isSchedulable);
-      logCsvContentMparams(logComparator, mparamsIR, resRetry);
+      final String csvRetryRow = logCsvContentMparams(conf.mparamsValues, resRetry, System.nanoTime() - start);
+      csvRows.append(csvRetryRow);
 
       if (globalComparator.compare(resRetry, res) < 0) {
-        return resRetry;
+        return new DSEevaluation(resRetry, csvRows.toString(), csvRetryRow);
       }
 
     }
 
-    return res;
+    return new DSEevaluation(res, csvRows.toString(), csvRow);
   }
 
   /**
@@ -340,12 +687,14 @@ public class SetMalleableParameters {
     return graph;
   }
 
-  protected static void logCsvContentMparams(final StringBuilder logDSEpoints,
-      final List<MalleableParameterIR> mparamsIR, final DSEpointIR point) {
-    for (MalleableParameterIR mpir : mparamsIR) {
-      logDSEpoints.append(mpir.mp.getExpression().evaluate() + ";");
+  protected static String logCsvContentMparams(final List<Long> mparamsValues, final DSEpointIR point,
+      final long durationNs) {
+    final StringBuilder sb = new StringBuilder();
+    for (final Long value : mparamsValues) {
+      sb.append(value + ";");
     }
-    logDSEpoints.append(point.toCsvContentString() + "\n");
+    sb.append(point.toCsvContentString() + ";" + (durationNs / 1_000_000L) + "\n");
+    return sb.toString();
   }
 
   protected static void resetAllMparams(List<MalleableParameterIR> mparamsIR) {
@@ -358,6 +707,54 @@ public class SetMalleableParameters {
     }
   }
 
+  /**
+   * A configuration of the malleable parameters, as enumerated by a {@link ParameterCombinationExplorer}.
+   */
+  protected static class DSEconfiguration {
+
+    protected final int           index;
+    protected final List<Integer> config;        // as returned by ParameterCombinationExplorer#recordConfiguration
+    protected final List<Long>    mparamsValues; // in the same order as mparamsIR
+    protected final List<String>  mparamsExprs;  // null if it does not need to be evaluated
+    protected final List<String>  scenarioExprs; // null if it does not need to be evaluated
+
+    protected DSEconfiguration(final int index, final List<Integer> config, final List<Long> mparamsValues,
+        final List<String> mparamsExprs, final List<String> scenarioExprs) {
+      this.index = index;
+      this.config = config;
+      this.mparamsValues = mparamsValues;
+      this.mparamsExprs = mparamsExprs;
+      this.scenarioExprs = scenarioExprs;
+    }
+
+  }
+
+  /**
+   * Result of the evaluation of a configuration.
+   */
+  protected static class DSEevaluation {
+
+    protected final DSEpointIR point;       // null if pruned
+    protected final String     csvRows;     // all points evaluated for this configuration
+    protected final String     csvPointRow; // the kept point only
+    protected final DSEpointIR lowerBound;  // null if not pruned
+
+    protected DSEevaluation(final DSEpointIR point, final String csvRows, final String csvPointRow) {
+      this.point = point;
+      this.csvRows = csvRows;
+      this.csvPointRow = csvPointRow;
+      this.lowerBound = null;
+    }
+
+    protected DSEevaluation(final DSEpointIR lowerBound) {
+      this.point = null;
+      this.csvRows = "";
+      this.csvPointRow = "";
+      this.lowerBound = lowerBound;
+    }
+
+  }
+
   protected class DSEpointIRclusteringProxy implements Clusterable {
 
     protected final DSEpointIR dsep;
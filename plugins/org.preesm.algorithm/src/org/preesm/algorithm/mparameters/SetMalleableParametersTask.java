@@ -61,7 +61,9 @@ import org.preesm.model.pisdf.MalleableParameter;
 import org.preesm.model.pisdf.Parameter;
 import org.preesm.model.pisdf.PiGraph;
 import org.preesm.model.pisdf.check.MalleableParameterExprChecker;
+import org.preesm.model.pisdf.expression.ResolvedValueStore;
 import org.preesm.model.scenario.Scenario;
+import org.preesm.model.scenario.ScenarioPackage;
 import org.preesm.model.slam.Design;
 import org.preesm.workflow.elements.Workflow;
 import org.preesm.workflow.implement.AbstractTaskImplementation;
@@ -125,7 +127,11 @@ import org.preesm.workflow.implement.AbstractWorkflowNodeImplementation;
         @org.preesm.commons.doc.annotations.Parameter(name = SetMalleableParametersTask.DEFAULT_LOG_NAME,
             description = "Export all explored points with associated metrics in a csv file.",
             values = { @Value(name = SetMalleableParametersTask.DEFAULT_LOG_VALUE,
-                effect = "Path relative to the project root.") }) })
+                effect = "Path relative to the project root.") }),
+        @org.preesm.commons.doc.annotations.Parameter(name = SetMalleableParametersTask.DEFAULT_THREADS_NAME,
+            description = "Number of configurations evaluated concurrently. The result does not depend on it.",
+            values = { @Value(name = SetMalleableParametersTask.DEFAULT_THREADS_VALUE,
+                effect = "Uses as many threads as available processors if 0.") }) })
 public class SetMalleableParametersTask extends AbstractTaskImplementation {
 
   public static final String SCHEDULER_PARAM_VALUE_LIST = "homogeneousListPeriodic";
@@ -139,6 +145,7 @@ public class SetMalleableParametersTask extends AbstractTaskImplementation {
   public static final String DEFAULT_SCHEDULER_VALUE        = SCHEDULER_PARAM_VALUE_LIST;
   public static final String DEFAULT_CLUSTER_DISTANCE_VALUE = "0.0";
   public static final String DEFAULT_LOG_VALUE              = "/Code/generated/";
+  public static final String DEFAULT_THREADS_VALUE          = "1";
 
   public static final String DEFAULT_COMPARISONS_NAME      = "1. Comparisons";
   public static final String DEFAULT_THRESHOLDS_NAME       = "2. Thresholds";
@@ -148,6 +155,7 @@ public class SetMalleableParametersTask extends AbstractTaskImplementation {
   public static final String DEFAULT_SCHEDULER_NAME        = "6. Scheduler";
   public static final String DEFAULT_CLUSTER_DISTANCE_NAME = "7. Clustering distance";
   public static final String DEFAULT_LOG_NAME              = "8. Log path";
+  public static final String DEFAULT_THREADS_NAME          = "9. Threads";
 
   public static final String COMPARISONS_REGEX = "[EPLTMS](>[EPLTMS])*";
   public static final String THRESHOLDS_REGEX  = "[0-9]+(.[0-9]+)?(>[0-9]+(.[0-9]+))*";
@@ -231,17 +239,26 @@ public class SetMalleableParametersTask extends AbstractTaskImplementation {
           "You ask for extra delays/cuts but the scheduler you asked does not support it, ignoring it.");
     }
 
+    final int nbThreads = getNbThreads(parameters.get(DEFAULT_THREADS_NAME));
+
     PiGraph outputGraph; // different of input graph only if delays has been added by the heuristic
     final SetMalleableParameters smp = new SetMalleableParameters(scenario, graph, architecture, mparamsIR,
-        globalComparator, delayRetryValue);
+        globalComparator, delayRetryValue, nbThreads);
 
     String suffix = "";
-    if (heuristicValue) {
-      outputGraph = smp.numbersDSE(acs);
-      suffix = "numberh";
-    } else {
-      outputGraph = smp.exhaustiveDSE(acs);
-      suffix = "exhaustive";
+    // only one malleable parameter changes between two configurations: memoize the other parameter values
+    ResolvedValueStore.attach(graph).observeOverrides(scenario,
+        ScenarioPackage.eINSTANCE.getScenario_ParameterValues());
+    try {
+      if (heuristicValue) {
+        outputGraph = smp.numbersDSE(acs);
+        suffix = "numberh";
+      } else {
+        outputGraph = smp.exhaustiveDSE(acs);
+        suffix = "exhaustive";
+      }
+    } finally {
+      ResolvedValueStore.detach(graph);
     }
     // erase previous value
     output.put(AbstractWorkflowNodeImplementation.KEY_PI_GRAPH, outputGraph);
@@ -271,7 +288,7 @@ public class SetMalleableParametersTask extends AbstractTaskImplementation {
     for (MalleableParameterIR mpir : mparamsIR) {
       header.append(mpir.mp.getName() + ";");
     }
-    header.append(DSEpointIR.CSV_HEADER_STRING + "\n");
+    header.append(SetMalleableParameters.CSV_HEADER_STRING + "\n");
 
     // Get the root of the workspace
     final IWorkspace workspace = ResourcesPlugin.getWorkspace();
@@ -297,6 +314,33 @@ public class SetMalleableParametersTask extends AbstractTaskImplementation {
 
   }
 
+  /**
+   * Parse the number of threads parameter.
+   * 
+   * @param nbThreadsStr
+   *          User parameter, may be null.
+   * @return Number of threads, at least 1.
+   */
+  protected static int getNbThreads(final String nbThreadsStr) {
+    if (nbThreadsStr == null) {
+      return 1;
+    }
+    try {
+      final int nbThreads = Integer.parseInt(nbThreadsStr.trim());
+      if (nbThreads == 0) {
+        return Runtime.getRuntime().availableProcessors();
+      }
+      if (nbThreads > 0) {
+        return nbThreads;
+      }
+    } catch (final NumberFormatException e) {
+      // handled below
+    }
+    PreesmLogger.getLogger().log(Level.WARNING,
+        "The number of threads could not be parsed to a positive number, using 1. Got: " + nbThreadsStr);
+    return 1;
+  }
+
   /**
    * Instantiate the global comparator, based on parameters.
    * 
@@ -437,6 +481,7 @@ public class SetMalleableParametersTask extends AbstractTaskImplementation {
     parameters.put(DEFAULT_SCHEDULER_NAME, DEFAULT_SCHEDULER_VALUE);
     parameters.put(DEFAULT_CLUSTER_DISTANCE_NAME, DEFAULT_CLUSTER_DISTANCE_VALUE);
     parameters.put(DEFAULT_LOG_NAME, DEFAULT_LOG_VALUE);
+    parameters.put(DEFAULT_THREADS_NAME, DEFAULT_THREADS_VALUE);
     return parameters;
   }
 
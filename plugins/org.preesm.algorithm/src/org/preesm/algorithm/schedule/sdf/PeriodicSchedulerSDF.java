@@ -40,6 +40,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import org.apache.commons.lang3.math.Fraction;
 import org.preesm.algorithm.PreesmAlgorithmPlugin;
+import org.preesm.algorithm.mathematicalmodels.PeriodicScheduleModelHoward;
 import org.preesm.algorithm.mathematicalmodels.PeriodicScheduleModelOjAlgo;
 import org.preesm.algorithm.mathematicalmodels.SolverMethod;
 import org.preesm.algorithm.model.sdf.SDFAbstractVertex;
@@ -284,6 +285,9 @@ public class PeriodicSchedulerSDF {
     if (PreesmAlgorithmPlugin.getInstance().solverMethodRegistry.containsKey(method)) {
       final SolverMethod solverMethod = PreesmAlgorithmPlugin.getInstance().solverMethodRegistry.get(method);
       period = solverMethod.computeNormalizedPeriod(graph);
+    } else if (method == Method.ALGORITHM) {
+      // no external solver needed, available even if the activator have not been executed yet
+      period = new PeriodicScheduleModelHoward().computeNormalizedPeriod(graph);
     } else {
       // use the default method
       SolverMethod solverMethod = PreesmAlgorithmPlugin.getInstance().solverMethodRegistry
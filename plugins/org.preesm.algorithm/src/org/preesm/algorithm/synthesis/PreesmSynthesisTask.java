@@ -94,7 +94,9 @@ import org.preesm.workflow.implement.AbstractWorkflowNodeImplementation;
     inputs = { @Port(name = "PiMM", type = PiGraph.class), @Port(name = "architecture", type = Design.class),
         @Port(name = "scenario", type = Scenario.class) },
     outputs = { @Port(name = "Schedule", type = Schedule.class), @Port(name = "Mapping", type = Mapping.class),
-        @Port(name = "Allocation", type = Allocation.class) })
+        @Port(name = "Allocation", type = Allocation.class) },
+
+    cacheable = true)
 public class PreesmSynthesisTask extends AbstractTaskImplementation {
 
   @Override
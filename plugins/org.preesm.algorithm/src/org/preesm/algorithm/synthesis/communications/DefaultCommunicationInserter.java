@@ -104,7 +104,7 @@ public class DefaultCommunicationInserter implements ICommunicationInserter {
     PreesmLogger.getLogger().log(Level.FINER, "[COMINSERT] Communication insertion starting");
 
     final List<CommunicationActor> res = new ArrayList<>();
-    final SlamRoutingTable routeTable = new SlamRoutingTable(slamDesign);
+    final SlamRoutingTable routeTable = SlamRoutingTable.get(slamDesign);
 
     PreesmLogger.getLogger().log(Level.INFO, "Build total ordering of tasks.");
     // iterate over actors in scheduling (and topological) order
@@ -37,14 +37,8 @@
  */
 package org.preesm.algorithm.synthesis.memalloc.allocation;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Set;
+import org.preesm.algorithm.memory.allocation.ExclusionRanges;
 import org.preesm.algorithm.synthesis.memalloc.meg.PiMemoryExclusionGraph;
-import org.preesm.algorithm.synthesis.memalloc.meg.PiMemoryExclusionVertex;
-import org.preesm.commons.math.MathFunctionsHelper;
 
 /**
  * In this class, an adapted version of the best fit allocator is implemented. As the lifetime of the memory elements is
@@ -69,123 +63,11 @@ public class PiBestFitAllocator extends PiOrderedAllocator {
   }
 
   /**
-   * This method allocate the memory elements with the best fit algorithm and return the cost of the allocation.
-   *
-   * @param vertexList
-   *          the ordered vertex list.
-   * @return the resulting allocation size.
+   * Return the offset of the space between the exclusion ranges that the memory object fills best (at 0 if there is
+   * none).
    */
   @Override
-  protected long allocateInOrder(final List<PiMemoryExclusionVertex> vertexList) {
-    // clear all previous allocation
-    clear();
-
-    // Allocate vertices in the list order
-    for (final PiMemoryExclusionVertex vertex : vertexList) {
-      // Get vertex neighbors
-      final Set<PiMemoryExclusionVertex> neighbors = this.inputExclusionGraph.getAdjacentVertexOf(vertex);
-
-      // Construct two lists that contains the exclusion ranges in memory
-      final List<Long> excludeFrom = new ArrayList<>();
-      final List<Long> excludeTo = new ArrayList<>();
-      for (final PiMemoryExclusionVertex neighbor : neighbors) {
-        if (this.memExNodeAllocation.containsKey(neighbor)) {
-          final long neighborOffset = this.memExNodeAllocation.get(neighbor);
-          excludeFrom.add(neighborOffset);
-          excludeTo.add(neighborOffset + neighbor.getWeight());
-        }
-      }
-      Collections.sort(excludeFrom);
-      Collections.sort(excludeTo);
-
-      long bestFitOffset = -1;
-      long freeFrom = 0; // Where the last exclusion ended
-
-      // Alignment constraint
-      long align = -1;
-      final Long typeSize = vertex.getPropertyBean().getValue(PiMemoryExclusionVertex.TYPE_SIZE);
-      if (this.alignment == 0) {
-        align = typeSize;
-      } else if (this.alignment > 0) {
-        align = MathFunctionsHelper.lcm(typeSize, this.alignment);
-      }
-
-      // Look for best fit only if there are exclusions. Else, simply
-      // allocate at 0.
-      if (!excludeFrom.isEmpty()) {
-        // Look for free spaces between the exclusion ranges.
-        final Iterator<Long> iterFrom = excludeFrom.iterator();
-        final Iterator<Long> iterTo = excludeTo.iterator();
-        long from = iterFrom.next();
-        long to = iterTo.next();
-        // Number of from encountered minus number of to encountered. If
-        // this value is 0, the space between the last "to" and the next
-        // "from" is free !
-        int nbExcludeFrom = 0;
-
-        // this value is the occupation rate of the best fit occupation
-        // = size_element / size_best_fit_space.
-        // The closest it is from 1, the best it fits !
-        double bestFitOccupation = 0;
-        boolean lastFromTreated = false;
-        boolean lastToTreated = false;
-
-        while (!lastToTreated) {
-          if (from <= to) {
-            if (nbExcludeFrom == 0) {
-              // This is the end of a free space. check if the
-              // current element best fits here ?
-              final long freeSpaceSize = from - freeFrom;
-              final double occupation = (double) vertex.getWeight() / (double) freeSpaceSize;
-              // If the element fits in the space AND fits better
-              // than previous best fit
-              if ((occupation <= 1.0) && (occupation > bestFitOccupation)) {
-                bestFitOffset = freeFrom;
-                bestFitOccupation = occupation;
-              }
-            }
-            if (iterFrom.hasNext()) {
-              from = iterFrom.next();
-              nbExcludeFrom++;
-            } else {
-              if (!lastFromTreated) {
-                lastFromTreated = true;
-                // Add a from to avoid considering the end of
-                // lastTo as a free space
-                nbExcludeFrom++;
-              }
-            }
-          }
-
-          if ((to < from) || !iterFrom.hasNext()) {
-            nbExcludeFrom--;
-            if (nbExcludeFrom == 0) {
-              // This is the beginning of a free space !
-              freeFrom = to;
-              // Correct the from if an alignment is needed
-              if (align > -1) {
-                freeFrom += ((freeFrom % align) == 0) ? 0 : align - (freeFrom % align);
-              }
-            }
-
-            if (iterTo.hasNext()) {
-              to = iterTo.next();
-            } else {
-              lastToTreated = true;
-            }
-          }
-        }
-      }
-
-      // If no free space was found between excluding elements
-      if (bestFitOffset <= -1) {
-        // Put it right after the last element of the list
-        bestFitOffset = freeFrom;
-      }
-
-      allocateMemoryObject(vertex, bestFitOffset);
-    }
-
-    return getMemorySizeInByte();
+  protected long fitOffset(final ExclusionRanges excludedRanges, final long size, final long align) {
+    return excludedRanges.bestFit(size, align);
   }
 }
@@ -37,14 +37,8 @@
  */
 package org.preesm.algorithm.synthesis.memalloc.allocation;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Set;
+import org.preesm.algorithm.memory.allocation.ExclusionRanges;
 import org.preesm.algorithm.synthesis.memalloc.meg.PiMemoryExclusionGraph;
-import org.preesm.algorithm.synthesis.memalloc.meg.PiMemoryExclusionVertex;
-import org.preesm.commons.math.MathFunctionsHelper;
 
 /**
  * In this class, an adapted version of the first fit allocator is implemented. As the lifetime of the memory elements
@@ -63,119 +57,11 @@ public class PiFirstFitAllocator extends PiOrderedAllocator {
   }
 
   /**
-   * This method allocate the memory elements with the first fit algorithm and return the cost of the allocation.
-   *
-   * @param vertexList
-   *          the ordered vertex list.
-   * @return the resulting allocation size.
+   * Return the offset of the first space between the exclusion ranges where the memory object fits (at 0 if there is
+   * none).
    */
   @Override
-  protected long allocateInOrder(final List<PiMemoryExclusionVertex> vertexList) {
-    // clear all previous allocation
-    clear();
-
-    // Allocate vertices in the list order
-    for (final PiMemoryExclusionVertex vertex : vertexList) {
-      // Get vertex neighbors
-      final Set<PiMemoryExclusionVertex> neighbors = this.inputExclusionGraph.getAdjacentVertexOf(vertex);
-
-      // Construct two lists that contains the exclusion ranges in memory
-      final List<Long> excludeFrom = new ArrayList<>();
-      final List<Long> excludeTo = new ArrayList<>();
-      for (final PiMemoryExclusionVertex neighbor : neighbors) {
-        if (this.memExNodeAllocation.containsKey(neighbor)) {
-          final long neighborOffset = this.memExNodeAllocation.get(neighbor);
-          excludeFrom.add(neighborOffset);
-          excludeTo.add(neighborOffset + neighbor.getWeight());
-        }
-      }
-      Collections.sort(excludeFrom);
-      Collections.sort(excludeTo);
-
-      long firstFitOffset = -1;
-      long freeFrom = 0; // Where the last exclusion ended
-
-      long align = -1;
-      final Long typeSize = vertex.getPropertyBean().getValue(PiMemoryExclusionVertex.TYPE_SIZE);
-      // Alignment constraint
-      if (this.alignment == 0) {
-        align = typeSize;
-      } else if (this.alignment > 0) {
-        align = MathFunctionsHelper.lcm(typeSize, this.alignment);
-      }
-
-      // Look for first fit only if there are exclusions. Else, simply
-      // allocate at 0.
-      if (!excludeFrom.isEmpty()) {
-        // Look for the first free spaces between the exclusion ranges.
-        final Iterator<Long> iterFrom = excludeFrom.iterator();
-        final Iterator<Long> iterTo = excludeTo.iterator();
-        long from = iterFrom.next();
-        long to = iterTo.next();
-        // Number of from encountered minus number of to encountered. If
-        // this value is 0, the space between the last "to" and the next
-        // "from" is free !
-        long nbExcludeFrom = 0;
-
-        boolean lastFromTreated = false;
-        boolean lastToTreated = false;
-
-        // Iterate over the excludeFrom and excludeTo lists
-        while (!lastToTreated && (firstFitOffset == -1)) {
-          if (from <= to) {
-            if (nbExcludeFrom == 0) {
-              // This is the end of a free space. check if the
-              // current element fits here ?
-              final long freeSpaceSize = from - freeFrom;
-
-              // If the element fits in the space
-              if (vertex.getWeight() <= freeSpaceSize) {
-                firstFitOffset = freeFrom;
-              }
-            }
-            if (iterFrom.hasNext()) {
-              from = iterFrom.next();
-              nbExcludeFrom++;
-            } else {
-              if (!lastFromTreated) {
-                lastFromTreated = true;
-                // Add a from to avoid considering the end of
-                // lastTo as a free space
-                nbExcludeFrom++;
-              }
-            }
-          }
-
-          if ((to < from) || !iterFrom.hasNext()) {
-            nbExcludeFrom--;
-            if (nbExcludeFrom == 0) {
-              // This is the beginning of a free space !
-              freeFrom = to;
-              // Correct the from if an alignment is needed
-              if (align > -1) {
-                freeFrom += ((freeFrom % align) == 0) ? 0 : align - (freeFrom % align);
-              }
-
-            }
-
-            if (iterTo.hasNext()) {
-              to = iterTo.next();
-            } else {
-              lastToTreated = true;
-            }
-          }
-        }
-      }
-
-      // If no free space was found between excluding elements
-      if (firstFitOffset <= -1) {
-        // Put it right after the last element of the list
-        firstFitOffset = freeFrom;
-      }
-
-      allocateMemoryObject(vertex, firstFitOffset);
-    }
-
-    return getMemorySizeInByte();
+  protected long fitOffset(final ExclusionRanges excludedRanges, final long size, final long align) {
+    return excludedRanges.firstFit(size, align);
   }
 }
@@ -41,15 +41,25 @@ package org.preesm.algorithm.synthesis.memalloc.allocation;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.graph.SimpleGraph;
+import org.preesm.algorithm.memory.allocation.ExclusionRanges;
 import org.preesm.algorithm.memory.bounds.AbstractMaximumWeightCliqueSolver;
 import org.preesm.algorithm.memory.bounds.HeuristicSolver;
 import org.preesm.algorithm.memory.bounds.OstergardSolver;
 import org.preesm.algorithm.synthesis.memalloc.meg.PiMemoryExclusionGraph;
 import org.preesm.algorithm.synthesis.memalloc.meg.PiMemoryExclusionVertex;
 import org.preesm.commons.exceptions.PreesmRuntimeException;
+import org.preesm.commons.math.MathFunctionsHelper;
 
 /**
  * The Class OrderedAllocator.
@@ -68,6 +78,23 @@ public abstract class PiOrderedAllocator extends PiMemoryAllocator {
     AVERAGE, BEST, MEDIANE, WORST
   }
 
+  /**
+   * Pool computing the concurrent {@link Order#SHUFFLE} allocations, created on first use and shared by all the
+   * allocators. Its threads are daemons so that the pool never needs to be shut down.
+   */
+  private static final class ShufflePool {
+    private static final ExecutorService INSTANCE = Executors
+        .newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+          final Thread thread = new Thread(runnable, "Shuffled memory allocation");
+          thread.setDaemon(true);
+          return thread;
+        });
+
+    private ShufflePool() {
+      // disallow instantiation
+    }
+  }
+
   /**
    * Ordered list of {@link PiMemoryExclusionVertex} used to perform the shuffled allocations. These lists are memorized
    * in order to retrieve the one that corresponds best to the Policy after all "shuffled" allocations were performed
@@ -90,12 +117,22 @@ public abstract class PiOrderedAllocator extends PiMemoryAllocator {
    * The current {@link Order} used to {@link #allocate()} vertices of the {@link PiMemoryExclusionGraph}.
    */
   private Order                               order;
+  /**
+   * The seed of the random orders of the {@link Order#SHUFFLE} allocations.
+   */
+  private long                                seed;
+  /**
+   * The maximum number of shuffled allocations performed concurrently.
+   */
+  private int                                 nbThreads;
 
   /**
    */
   protected PiOrderedAllocator(final PiMemoryExclusionGraph memEx) {
     super(memEx);
     this.nbShuffle = 10;
+    this.seed = 0L;
+    this.nbThreads = Runtime.getRuntime().availableProcessors();
     this.policy = Policy.BEST;
     this.lists = new ArrayList<>(this.nbShuffle);
     this.listsSize = new ArrayList<>(this.nbShuffle);
@@ -124,6 +161,19 @@ public abstract class PiOrderedAllocator extends PiMemoryAllocator {
     }
   }
 
+  /**
+   * Return the offset at which a memory object must be allocated with the current algorithm.
+   *
+   * @param excludedRanges
+   *          the memory ranges occupied by the already allocated neighbors of the memory object.
+   * @param size
+   *          the size of the memory object.
+   * @param align
+   *          the alignment of the memory object, -1 if it needs not be aligned.
+   * @return the offset of the memory object.
+   */
+  protected abstract long fitOffset(final ExclusionRanges excludedRanges, final long size, final long align);
+
   /**
    * This method allocate the memory elements with the current algorithm and return the cost of the allocation.
    *
@@ -131,7 +181,72 @@ public abstract class PiOrderedAllocator extends PiMemoryAllocator {
    *          the ordered vertex list.
    * @return the resulting allocation size.
    */
-  protected abstract long allocateInOrder(final List<PiMemoryExclusionVertex> vertexList);
+  protected long allocateInOrder(final List<PiMemoryExclusionVertex> vertexList) {
+    // clear all previous allocation
+    clear();
+
+    // Exclusion ranges in memory, reused for all vertices
+    final ExclusionRanges excludedRanges = new ExclusionRanges();
+
+    // Allocate vertices in the list order
+    for (final PiMemoryExclusionVertex vertex : vertexList) {
+      final Set<PiMemoryExclusionVertex> neighbors = this.inputExclusionGraph.getAdjacentVertexOf(vertex);
+      final long offset = findOffset(vertex, neighbors, this.memExNodeAllocation, excludedRanges);
+      allocateMemoryObject(vertex, offset);
+    }
+
+    return getMemorySizeInByte();
+  }
+
+  /**
+   * Compute the size of the allocation of the memory elements in the given order, without allocating them. The
+   * {@link #inputExclusionGraph} is only read, through the given neighbors, so that several trials can be computed
+   * concurrently. Valid only if the graph has no host memory objects, whose allocation modifies the graph.
+   *
+   * @param vertexList
+   *          the ordered vertex list.
+   * @param neighbors
+   *          the neighbors of each vertex of the list in the {@link #inputExclusionGraph}.
+   * @return the resulting allocation size, as {@link #allocateInOrder(List)} would return it.
+   */
+  private long computeInOrder(final List<PiMemoryExclusionVertex> vertexList,
+      final Map<PiMemoryExclusionVertex, Set<PiMemoryExclusionVertex>> neighbors) {
+    final Map<PiMemoryExclusionVertex, Long> allocation = new HashMap<>();
+    final ExclusionRanges excludedRanges = new ExclusionRanges();
+    long memorySize = 0;
+    for (final PiMemoryExclusionVertex vertex : vertexList) {
+      final long offset = findOffset(vertex, neighbors.get(vertex), allocation, excludedRanges);
+      allocation.put(vertex, offset);
+      memorySize = Math.max(memorySize, offset + vertex.getWeight());
+    }
+    return (memorySize + 7L) / 8L;
+  }
+
+  /**
+   * Return the offset of the vertex, given the current allocation of its neighbors.
+   */
+  private long findOffset(final PiMemoryExclusionVertex vertex, final Set<PiMemoryExclusionVertex> neighbors,
+      final Map<PiMemoryExclusionVertex, Long> allocation, final ExclusionRanges excludedRanges) {
+    // Build the exclusion ranges in memory
+    excludedRanges.clear();
+    for (final PiMemoryExclusionVertex neighbor : neighbors) {
+      final Long neighborOffset = allocation.get(neighbor);
+      if (neighborOffset != null) {
+        excludedRanges.add(neighborOffset, neighborOffset + neighbor.getWeight());
+      }
+    }
+
+    // Alignment constraint
+    long align = -1;
+    final Long typeSize = vertex.getPropertyBean().getValue(PiMemoryExclusionVertex.TYPE_SIZE);
+    if (this.alignment == 0) {
+      align = typeSize;
+    } else if (this.alignment > 0) {
+      align = MathFunctionsHelper.lcm(typeSize, this.alignment);
+    }
+
+    return fitOffset(excludedRanges, vertex.getWeight(), align);
+  }
 
   /**
    * Perform the allocation with the vertex ordered according to largest first order. If the policy of the allocator is
@@ -171,6 +286,13 @@ public abstract class PiOrderedAllocator extends PiMemoryAllocator {
 
   /**
    * Perform the allocation with the vertex ordered randomly. The allocation will be performet {@link #nbShuffle} times.
+   *
+   * <p>
+   * The random order of each trial is drawn from {@link #seed} plus the index of the trial, so that the result does not
+   * depend on {@link #nbThreads} nor on the other trials. When the {@link #inputExclusionGraph} has no host memory
+   * objects, the trials only compute the size of their allocation, on up to {@link #nbThreads} threads, and only the
+   * one selected by the policy is actually allocated.
+   * </p>
    */
   private void allocateShuffledOrder() {
 
@@ -184,24 +306,69 @@ public abstract class PiOrderedAllocator extends PiMemoryAllocator {
     this.lists = new ArrayList<>(this.nbShuffle);
     this.listsSize = new ArrayList<>(this.nbShuffle);
 
+    // Create the random lists containing the nodes of the exclusion Graph
+    clear();
+    final List<PiMemoryExclusionVertex> vertices = new ArrayList<>(this.inputExclusionGraph.vertexSet());
     for (int iter = 0; iter < this.nbShuffle; iter++) {
-      clear();
+      final List<PiMemoryExclusionVertex> list = new ArrayList<>(vertices);
+      Collections.shuffle(list, new Random(this.seed + iter));
+      this.lists.add(list);
+    }
 
-      // Create a list containing the nodes of the exclusion Graph
-      final ArrayList<PiMemoryExclusionVertex> list = new ArrayList<>(this.inputExclusionGraph.vertexSet());
+    final Map<PiMemoryExclusionVertex, Set<PiMemoryExclusionVertex>> hostMap = this.inputExclusionGraph
+        .getPropertyBean().getValue(PiMemoryExclusionGraph.HOST_MEMORY_OBJECT_PROPERTY);
+    if ((this.nbThreads > 1) && (this.nbShuffle > 1) && ((hostMap == null) || hostMap.isEmpty())) {
+      computeShuffledOrders(vertices);
+    } else {
+      for (final List<PiMemoryExclusionVertex> list : this.lists) {
+        // Allocate it and store the results
+        this.listsSize.add(allocateInOrder(list));
+      }
+    }
 
-      Collections.shuffle(list);
+    // Re-set the policy to select the appropriate allocation
+    setPolicy(backupPolicy);
+  }
 
-      // Allocate it
-      final long size = allocateInOrder(list);
+  /**
+   * Compute the size of the allocations of all {@link #lists} concurrently, and store them in {@link #listsSize}. The
+   * trials are split between {@code min(nbThreads, nbShuffle)} tasks of the {@link ShufflePool}, each computing every
+   * n-th list, so that no more than {@link #nbThreads} trials of this allocator run at once.
+   */
+  private void computeShuffledOrders(final List<PiMemoryExclusionVertex> vertices) {
+    // Neighbors are backed-up lazily by the graph: retrieve them once before sharing them between threads
+    final Map<PiMemoryExclusionVertex, Set<PiMemoryExclusionVertex>> neighbors = new HashMap<>();
+    for (final PiMemoryExclusionVertex vertex : vertices) {
+      neighbors.put(vertex, this.inputExclusionGraph.getAdjacentVertexOf(vertex));
+    }
 
-      // Store the results
-      this.lists.add(new ArrayList<>(list));
+    final int nbTasks = Math.min(this.nbThreads, this.nbShuffle);
+    final long[] sizes = new long[this.nbShuffle];
+    final List<Future<?>> tasks = new ArrayList<>(nbTasks);
+    try {
+      for (int task = 0; task < nbTasks; task++) {
+        final int first = task;
+        tasks.add(ShufflePool.INSTANCE.submit(() -> {
+          for (int iter = first; iter < sizes.length; iter += nbTasks) {
+            sizes[iter] = computeInOrder(this.lists.get(iter), neighbors);
+          }
+        }));
+      }
+      for (final Future<?> task : tasks) {
+        task.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PreesmRuntimeException("Shuffled allocation was interrupted", e);
+    } catch (final ExecutionException e) {
+      throw new PreesmRuntimeException("Could not allocate memory in shuffled order", e.getCause());
+    } finally {
+      // the pool is shared: only stop the tasks of this allocation that are still running after a failure
+      tasks.forEach(task -> task.cancel(true));
+    }
+    for (final long size : sizes) {
       this.listsSize.add(size);
     }
-
-    // Re-set the policy to select the appropriate allocation
-    setPolicy(backupPolicy);
   }
 
   /**
@@ -228,6 +395,14 @@ public abstract class PiOrderedAllocator extends PiMemoryAllocator {
     return this.policy;
   }
 
+  public long getSeed() {
+    return this.seed;
+  }
+
+  public int getNbThreads() {
+    return this.nbThreads;
+  }
+
   /**
    * This method return the list of vertices of the exclusionGraph. The order of this list is the following :<br>
    * The Maximum-Weight Stable set is computed.<br>
@@ -273,6 +448,14 @@ public abstract class PiOrderedAllocator extends PiMemoryAllocator {
     this.order = order;
   }
 
+  public void setSeed(final long seed) {
+    this.seed = seed;
+  }
+
+  public void setNbThreads(final int nbThreads) {
+    this.nbThreads = nbThreads;
+  }
+
   /**
    * The change of policy is relevant only if the classic random list version of the allocate method was called before.
    *
@@ -38,7 +38,10 @@ package org.preesm.algorithm.synthesis.memalloc.script;
 import bsh.BshClassManager;
 import bsh.EvalError;
 import bsh.Interpreter;
+import bsh.NameSpace;
 import bsh.ParseException;
+import bsh.Primitive;
+import bsh.UtilEvalError;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
@@ -63,6 +66,7 @@ import org.preesm.algorithm.memory.script.Buffer;
 import org.preesm.algorithm.memory.script.CheckPolicy;
 import org.preesm.algorithm.memory.script.Match;
 import org.preesm.algorithm.memory.script.MatchType;
+import org.preesm.algorithm.memory.script.SpecialScript;
 import org.preesm.algorithm.model.dag.DAGEdge;
 import org.preesm.algorithm.model.dag.DAGVertex;
 import org.preesm.algorithm.model.dag.DirectedAcyclicGraph;
@@ -128,6 +132,23 @@ public class PiScriptRunner {
    */
   private final Map<AbstractActor, URL> scriptedVertices = new LinkedHashMap<>();
 
+  /**
+   * A {@link Map} that associates each special vertex of the {@link #scriptedVertices} map to the Java implementation
+   * of its memory script, run instead of the BeanShell script.
+   */
+  private final Map<AbstractActor, SpecialScript> specialScripts = new LinkedHashMap<>();
+
+  /**
+   * The {@link Interpreter} of each user memory script, shared by all the vertices running this script. Each vertex
+   * runs the script in its own {@link NameSpace}.
+   */
+  private final Map<URL, Interpreter> interpreters = new LinkedHashMap<>();
+
+  /**
+   * The content of each user memory script, read once.
+   */
+  private final Map<URL, String> scriptContents = new LinkedHashMap<>();
+
   /**
    * Each {@link List} of {@link Buffer} stored in this {@link List} corresponds to an independent connected
    * {@link Match} tree resulting from the execution of the memory scripts.
@@ -344,13 +365,17 @@ public class PiScriptRunner {
     for (final AbstractActor dagVertex : dag.getAllActors()) {
 
       if (dagVertex instanceof ForkActor) {
-        associateScriptToSpecialVertex(dagVertex, "fork", specialScriptFiles.get(PiScriptRunner.FORK));
+        associateScriptToSpecialVertex(dagVertex, "fork", SpecialScript.FORK,
+            specialScriptFiles.get(PiScriptRunner.FORK));
       } else if (dagVertex instanceof JoinActor) {
-        associateScriptToSpecialVertex(dagVertex, "join", specialScriptFiles.get(PiScriptRunner.JOIN));
+        associateScriptToSpecialVertex(dagVertex, "join", SpecialScript.JOIN,
+            specialScriptFiles.get(PiScriptRunner.JOIN));
       } else if (dagVertex instanceof RoundBufferActor) {
-        associateScriptToSpecialVertex(dagVertex, "roundbuffer", specialScriptFiles.get(PiScriptRunner.ROUNDBUFFER));
+        associateScriptToSpecialVertex(dagVertex, "roundbuffer", SpecialScript.ROUNDBUFFER,
+            specialScriptFiles.get(PiScriptRunner.ROUNDBUFFER));
       } else if (dagVertex instanceof BroadcastActor) {
-        associateScriptToSpecialVertex(dagVertex, "broadcast", specialScriptFiles.get(PiScriptRunner.BROADCAST));
+        associateScriptToSpecialVertex(dagVertex, "broadcast", SpecialScript.BROADCAST,
+            specialScriptFiles.get(PiScriptRunner.BROADCAST));
       } else if (dagVertex instanceof Actor) {
         final String pathString = ((Actor) dagVertex).getMemoryScriptPath();
         if (pathString != null) {
@@ -380,13 +405,14 @@ public class PiScriptRunner {
    * Associate a script file to a special DAGVertex if this script file have been extracted, display an error otherwise
    */
   private void associateScriptToSpecialVertex(final AbstractActor dagVertex, final String vertexName,
-      final URL scriptFile) {
+      final SpecialScript specialScript, final URL scriptFile) {
     if (scriptFile == null) {
       final String message = "Memory script [" + scriptFile + "] of [" + vertexName
           + "] vertices not found. Please contact Preesm developers.";
       throw new IllegalStateException(message);
     } else {
       this.scriptedVertices.put(dagVertex, scriptFile);
+      this.specialScripts.put(dagVertex, specialScript);
     }
   }
 
@@ -1673,12 +1699,6 @@ public class PiScriptRunner {
   *
   */
   private void runScript(final AbstractActor dagVertex, final URL script) throws EvalError {
-    final Interpreter interpreter = new Interpreter();
-
-    // TODO : isolate Interpreter initializatino
-    final BshClassManager classManager = interpreter.getClassManager();
-    classManager.cacheClassInfo("Buffer", Buffer.class);
-
     // Retrieve the corresponding sdf vertex
     // val sdfVertex = dagVertex.getPropertyBean().getValue(DAGVertex.SDF_VERTEX, SDFAbstractVertex)
 
@@ -1740,38 +1760,68 @@ public class PiScriptRunner {
       }
     }).collect(Collectors.toList());
 
-    // Import the necessary libraries
-    interpreter.eval("import " + Buffer.class.getName() + ";");
-    interpreter.eval("import " + List.class.getName() + ";");
-
-    // Feed the parameters/inputs/outputs to the interpreter
-    for (final Entry<String, Long> e : parameters.entrySet()) {
-      interpreter.set(e.getKey(), e.getValue());
-    }
-    for (final PiBuffer i : inputs) {
-      interpreter.set("i_" + i.name, i);
-    }
-    for (final PiBuffer o : outputs) {
-      interpreter.set("o_" + o.name, o);
-    }
-    if (interpreter.get("parameters") == null) {
-      interpreter.set("parameters", parameters);
-    }
-    if (interpreter.get("inputs") == null) {
-      interpreter.set("inputs", inputs);
+    final SpecialScript specialScript = this.specialScripts.get(dagVertex);
+    if (specialScript != null) {
+      runSpecialScript(dagVertex, specialScript, inputs, outputs);
+    } else {
+      runUserScript(dagVertex, script, parameters, inputs, outputs);
     }
-    if (interpreter.get("outputs") == null) {
-      interpreter.set("outputs", outputs);
+  }
+
+  /**
+   * Run the Java implementation of the memory script of a special vertex. As for BeanShell scripts, a failure is
+   * printed in the {@link Logger log} as a warning and no result is stored.
+   */
+  private void runSpecialScript(final AbstractActor dagVertex, final SpecialScript specialScript,
+      final List<PiBuffer> inputs, final List<PiBuffer> outputs) {
+    try {
+      specialScript.run(inputs, outputs, PiBuffer::getNbTokens, PiBuffer::matchWith);
+
+      // Store the result if the execution was successful
+      this.scriptResults.put(dagVertex, new Pair<>(inputs, outputs));
+    } catch (final RuntimeException error) {
+      PiScriptRunner.logger.log(Level.WARNING,
+          "Evaluation error in " + dagVertex.getName() + " memory script:\n" + error.getMessage(), error);
     }
+  }
 
+  /**
+   * Run the BeanShell memory script of a vertex, in a fresh {@link NameSpace} of the {@link Interpreter} of the script.
+   */
+  private void runUserScript(final AbstractActor dagVertex, final URL script, final Map<String, Long> parameters,
+      final List<PiBuffer> inputs, final List<PiBuffer> outputs) throws EvalError {
     try {
+      final String scriptContent = getScriptContent(script);
+      final Interpreter interpreter = getInterpreter(script);
+      final NameSpace nameSpace = new NameSpace(interpreter.getNameSpace(), dagVertex.getName());
+
+      // Feed the parameters/inputs/outputs to the interpreter
+      for (final Entry<String, Long> e : parameters.entrySet()) {
+        nameSpace.setVariable(e.getKey(), e.getValue(), false);
+      }
+      for (final PiBuffer i : inputs) {
+        nameSpace.setVariable("i_" + i.name, i, false);
+      }
+      for (final PiBuffer o : outputs) {
+        nameSpace.setVariable("o_" + o.name, o, false);
+      }
+      if (Primitive.unwrap(nameSpace.getVariable("parameters")) == null) {
+        nameSpace.setVariable("parameters", parameters, false);
+      }
+      if (Primitive.unwrap(nameSpace.getVariable("inputs")) == null) {
+        nameSpace.setVariable("inputs", inputs, false);
+      }
+      if (Primitive.unwrap(nameSpace.getVariable("outputs")) == null) {
+        nameSpace.setVariable("outputs", outputs, false);
+      }
 
       // Run the script
-      final String readURL = URLHelper.read(script);
-      interpreter.eval(readURL);
+      interpreter.eval(scriptContent, nameSpace);
 
       // Store the result if the execution was successful
       this.scriptResults.put(dagVertex, new Pair<>(inputs, outputs));
+    } catch (final UtilEvalError error) {
+      throw new PreesmRuntimeException("Cannot set the variables of " + dagVertex.getName() + " memory script", error);
     } catch (final ParseException error) {
 
       // Logger is used to display messages in the console
@@ -1789,6 +1839,37 @@ public class PiScriptRunner {
     }
   }
 
+  /**
+   * Return the content of the script, reading it on the first call only.
+   */
+  private String getScriptContent(final URL script) throws IOException {
+    String content = this.scriptContents.get(script);
+    if (content == null) {
+      content = URLHelper.read(script);
+      this.scriptContents.put(script, content);
+    }
+    return content;
+  }
+
+  /**
+   * Return the {@link Interpreter} of the script, creating it and importing the necessary libraries on the first call
+   * only.
+   */
+  private Interpreter getInterpreter(final URL script) throws EvalError {
+    Interpreter interpreter = this.interpreters.get(script);
+    if (interpreter == null) {
+      interpreter = new Interpreter();
+      final BshClassManager classManager = interpreter.getClassManager();
+      classManager.cacheClassInfo("Buffer", Buffer.class);
+
+      // Import the necessary libraries
+      interpreter.eval("import " + Buffer.class.getName() + ";");
+      interpreter.eval("import " + List.class.getName() + ";");
+      this.interpreters.put(script, interpreter);
+    }
+    return interpreter;
+  }
+
   /**
   *
   */
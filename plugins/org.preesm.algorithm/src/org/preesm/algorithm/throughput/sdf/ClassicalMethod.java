@@ -57,6 +57,20 @@ public class ClassicalMethod {
    * @return throughput of the graph
    */
   public double evaluate(final SDFGraph inputGraph, final boolean withExecRulres) {
+    return evaluate(inputGraph, withExecRulres, PeriodicSchedulerSDF.Method.LINEAR_PROGRAMMING_GUROBI);
+  }
+
+  /**
+   * Compute the throughput of the graph using the classical method base on flattening the hierarchy into a srSDF graph
+   *
+   * @param inputGraph
+   *          srSDF graph
+   * @param method
+   *          method computing the normalized period of the srSDF graph
+   * @return throughput of the graph
+   */
+  public double evaluate(final SDFGraph inputGraph, final boolean withExecRulres,
+      final PeriodicSchedulerSDF.Method method) {
     PreesmLogger.getLogger().log(Level.FINEST, "Computing the throughput of the graph using classical method ...");
 
     // Phase 1: convert the IBSDF graph to a flat srSDF graph
@@ -71,7 +85,7 @@ public class ClassicalMethod {
 
     // -> Step 2: compute the normalized period
     final PeriodicSchedulerSDF periodic = new PeriodicSchedulerSDF();
-    final Fraction k = periodic.computeNormalizedPeriod(srSDF, PeriodicSchedulerSDF.Method.LINEAR_PROGRAMMING_GUROBI);
+    final Fraction k = periodic.computeNormalizedPeriod(srSDF, method);
 
     // -> Step 3: compute the throughput as 1/k
     final double throughput = 1 / k.doubleValue();
@@ -43,6 +43,7 @@ import org.preesm.algorithm.deadlock.IBSDFConsistency;
 import org.preesm.algorithm.deadlock.IBSDFLiveness;
 import org.preesm.algorithm.model.sdf.SDFAbstractVertex;
 import org.preesm.algorithm.model.sdf.SDFGraph;
+import org.preesm.algorithm.schedule.sdf.PeriodicSchedulerSDF;
 import org.preesm.algorithm.throughput.sdf.tools.GraphStructureHelper;
 import org.preesm.commons.doc.annotations.Parameter;
 import org.preesm.commons.doc.annotations.Port;
@@ -73,7 +74,10 @@ import org.preesm.workflow.implement.AbstractTaskImplementation;
             @Value(name = "SR", effect = "Schedule-Replace technique"),
             @Value(name = "ESR", effect = "Evaluate-Schedule-Replace method"),
             @Value(name = "HPeriodic", effect = "Hierarchical Periodic Schedule method"),
-            @Value(name = "Classical", effect = "Based on Flattening the hierarchy")
+            @Value(name = "Classical", effect = "Based on Flattening the hierarchy"),
+            @Value(name = "MCR",
+                effect = "Based on Flattening the hierarchy, with an exact maximum cycle ratio algorithm instead of"
+                    + " a linear program")
 
         })
 
@@ -95,6 +99,7 @@ public class ThroughputEvaluationTask extends AbstractTaskImplementation {
     ESR, // Evaluate-Schedule-Replace method
     H_PERIODIC, // Hierarchical Periodic Schedule method
     CLASSICAL, // Based on Flattening the hierarchy
+    MCR, // Based on Flattening the hierarchy, with a maximum cycle ratio algorithm
   }
 
   // Plug-in parameters
@@ -141,6 +146,12 @@ public class ThroughputEvaluationTask extends AbstractTaskImplementation {
           throughput = classicalMethod.evaluate(inputGraph, false);
           break;
 
+        case MCR:
+          // Based on flattening the hierarchy, with Howard's maximum cycle ratio algorithm
+          final ClassicalMethod mcrMethod = new ClassicalMethod();
+          throughput = mcrMethod.evaluate(inputGraph, false, PeriodicSchedulerSDF.Method.ALGORITHM);
+          break;
+
         default:
           PreesmLogger.getLogger().log(Level.WARNING, "Method not yet suported !");
           break;
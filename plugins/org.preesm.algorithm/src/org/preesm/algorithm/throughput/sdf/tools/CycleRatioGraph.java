@@ -0,0 +1,444 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.algorithm.throughput.sdf.tools;
+
+import java.util.Arrays;
+import org.preesm.commons.exceptions.PreesmRuntimeException;
+
+/**
+ * Compact graph stored in primitive arrays, whose edges have a weight and a transit time, used to compute the maximum
+ * cycle ratio max(W(c) / T(c)) over its cycles c with Howard's policy iteration algorithm.
+ *
+ * <p>
+ * For the periodic schedule of a normalized SDF graph, the weight of an edge is the duration L of its source actor and
+ * its transit time is H = (M0 - Zj + gcd) * alpha: the maximum cycle ratio is then the optimal normalized period K.
+ * </p>
+ */
+public final class CycleRatioGraph {
+
+  /** Relative tolerance of the comparisons between ratios and values. */
+  private static final double EPSILON = 1e-10;
+
+  private final int nbVertices;
+
+  private int nbEdges = 0;
+
+  private int[] sources;
+
+  private int[] targets;
+
+  private double[] weights;
+
+  private double[] transits;
+
+  /** Edges sorted by source: the out edges of u are outEdges[outStart[u]] to outEdges[outStart[u + 1] - 1]. */
+  private int[] outStart;
+
+  private int[] outEdges;
+
+  /**
+   * Builds an empty graph.
+   *
+   * @param nbVertices
+   *          number of vertices, indexed from 0 to nbVertices - 1
+   * @param expectedNbEdges
+   *          number of edges, used to size the arrays
+   */
+  public CycleRatioGraph(final int nbVertices, final int expectedNbEdges) {
+    this.nbVertices = nbVertices;
+    final int capacity = Math.max(1, expectedNbEdges);
+    this.sources = new int[capacity];
+    this.targets = new int[capacity];
+    this.weights = new double[capacity];
+    this.transits = new double[capacity];
+  }
+
+  /**
+   * Adds an edge to the graph.
+   *
+   * @param source
+   *          index of the source vertex
+   * @param target
+   *          index of the target vertex
+   * @param weight
+   *          weight W of the edge
+   * @param transit
+   *          transit time T of the edge
+   * @return the index of the edge
+   */
+  public int addEdge(final int source, final int target, final double weight, final double transit) {
+    if ((source < 0) || (source >= this.nbVertices) || (target < 0) || (target >= this.nbVertices)) {
+      throw new PreesmRuntimeException("Edge (" + source + ", " + target + ") out of the " + this.nbVertices
+          + " vertices of the graph.");
+    }
+    if (this.nbEdges == this.sources.length) {
+      final int capacity = 2 * this.nbEdges;
+      this.sources = Arrays.copyOf(this.sources, capacity);
+      this.targets = Arrays.copyOf(this.targets, capacity);
+      this.weights = Arrays.copyOf(this.weights, capacity);
+      this.transits = Arrays.copyOf(this.transits, capacity);
+    }
+    this.sources[this.nbEdges] = source;
+    this.targets[this.nbEdges] = target;
+    this.weights[this.nbEdges] = weight;
+    this.transits[this.nbEdges] = transit;
+    this.outStart = null;
+    return this.nbEdges++;
+  }
+
+  public int getNbVertices() {
+    return this.nbVertices;
+  }
+
+  public int getNbEdges() {
+    return this.nbEdges;
+  }
+
+  /**
+   * Computes the maximum cycle ratio of the graph.
+   *
+   * @return the maximum of W(c) / T(c) over the cycles c of the graph; 0 if the graph has no cycle; positive infinity
+   *         if the ratio is unbounded, that is if a cycle has a negative transit time, or a null transit time and a
+   *         positive weight
+   */
+  public double maximumCycleRatio() {
+    buildAdjacency();
+    if (hasUnboundedCycle()) {
+      return Double.POSITIVE_INFINITY;
+    }
+
+    // only the edges inside a strongly connected component belong to cycles
+    final boolean[] allEdges = new boolean[this.nbEdges];
+    Arrays.fill(allEdges, true);
+    final int[] components = stronglyConnectedComponents(allEdges);
+    final boolean[] cyclicEdges = new boolean[this.nbEdges];
+    final int[] policy = new int[this.nbVertices];
+    Arrays.fill(policy, -1);
+    boolean hasCycle = false;
+    for (int e = 0; e < this.nbEdges; e++) {
+      final int u = this.sources[e];
+      if (components[u] == components[this.targets[e]]) {
+        cyclicEdges[e] = true;
+        hasCycle = true;
+        // initial policy: heaviest out edge
+        if ((policy[u] == -1) || (this.weights[e] > this.weights[policy[u]])) {
+          policy[u] = e;
+        }
+      }
+    }
+    if (!hasCycle) {
+      return 0;
+    }
+
+    final double[] ratios = new double[this.nbVertices];
+    final double[] values = new double[this.nbVertices];
+    // Howard's algorithm converges in a few iterations in practice; this bound only guards against numerical cycling
+    final long maxIterations = 100L + (10L * this.nbEdges);
+    for (long iteration = 0; iteration < maxIterations; iteration++) {
+      evaluatePolicy(policy, ratios, values);
+      if (!improvePolicy(policy, ratios, values, cyclicEdges)) {
+        return criticalCycleRatio(policy, ratios);
+      }
+    }
+    throw new PreesmRuntimeException("Maximum cycle ratio computation did not converge.");
+  }
+
+  private void buildAdjacency() {
+    if (this.outStart != null) {
+      return;
+    }
+    this.outStart = new int[this.nbVertices + 1];
+    for (int e = 0; e < this.nbEdges; e++) {
+      this.outStart[this.sources[e] + 1]++;
+    }
+    for (int u = 0; u < this.nbVertices; u++) {
+      this.outStart[u + 1] += this.outStart[u];
+    }
+    this.outEdges = new int[this.nbEdges];
+    final int[] next = Arrays.copyOf(this.outStart, this.nbVertices);
+    for (int e = 0; e < this.nbEdges; e++) {
+      this.outEdges[next[this.sources[e]]++] = e;
+    }
+  }
+
+  /**
+   * Detects the cycles making the ratio unbounded. Bellman-Ford on the transit times first detects the cycles of
+   * negative transit time. Its distances then reduce the transit times to non negative values, null exactly on the
+   * edges of the cycles of null transit time: any such cycle with a positive weight is unbounded.
+   */
+  private boolean hasUnboundedCycle() {
+    final double[] distances = new double[this.nbVertices];
+    boolean relaxed = true;
+    for (int iteration = 0; relaxed && (iteration <= this.nbVertices); iteration++) {
+      relaxed = false;
+      for (int e = 0; e < this.nbEdges; e++) {
+        final double distance = distances[this.sources[e]] + this.transits[e];
+        if (greater(distances[this.targets[e]], distance)) {
+          distances[this.targets[e]] = distance;
+          relaxed = true;
+        }
+      }
+    }
+    if (relaxed) {
+      // still relaxing after |V| iterations: negative cycle
+      return true;
+    }
+
+    final boolean[] tightEdges = new boolean[this.nbEdges];
+    for (int e = 0; e < this.nbEdges; e++) {
+      final double reducedTransit = (distances[this.sources[e]] + this.transits[e]) - distances[this.targets[e]];
+      tightEdges[e] = !greater(reducedTransit, 0);
+    }
+    final int[] components = stronglyConnectedComponents(tightEdges);
+    for (int e = 0; e < this.nbEdges; e++) {
+      if (tightEdges[e] && (components[this.sources[e]] == components[this.targets[e]])
+          && greater(this.weights[e], 0)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Computes the ratio of the cycle reached by each vertex following the policy, and the values (relative potentials)
+   * of the vertices for this ratio.
+   */
+  private void evaluatePolicy(final int[] policy, final double[] ratios, final double[] values) {
+    // 0: not visited, 1: on the current walk, 2: evaluated
+    final byte[] states = new byte[this.nbVertices];
+    final int[] walk = new int[this.nbVertices];
+    for (int start = 0; start < this.nbVertices; start++) {
+      if ((policy[start] == -1) || (states[start] != 0)) {
+        continue;
+      }
+      int length = 0;
+      int u = start;
+      while (states[u] == 0) {
+        states[u] = 1;
+        walk[length++] = u;
+        u = this.targets[policy[u]];
+      }
+      int end = length;
+      if (states[u] == 1) {
+        // new cycle, from u to the end of the walk
+        int cycleStart = length - 1;
+        while (walk[cycleStart] != u) {
+          cycleStart--;
+        }
+        double weight = 0;
+        double transit = 0;
+        for (int i = cycleStart; i < length; i++) {
+          weight += this.weights[policy[walk[i]]];
+          transit += this.transits[policy[walk[i]]];
+        }
+        // cycles of null transit time left by hasUnboundedCycle have a null weight: they bound nothing
+        final double ratio = greater(transit, 0) ? (weight / transit) : 0;
+        // the value of u is kept from the previous iteration, which prevents the policy from cycling
+        ratios[u] = ratio;
+        states[u] = 2;
+        for (int i = length - 1; i > cycleStart; i--) {
+          evaluateVertex(walk[i], policy, ratios, values);
+          states[walk[i]] = 2;
+        }
+        end = cycleStart;
+      }
+      for (int i = end - 1; i >= 0; i--) {
+        evaluateVertex(walk[i], policy, ratios, values);
+        states[walk[i]] = 2;
+      }
+    }
+  }
+
+  private void evaluateVertex(final int u, final int[] policy, final double[] ratios, final double[] values) {
+    final int e = policy[u];
+    final int v = this.targets[e];
+    ratios[u] = ratios[v];
+    values[u] = (this.weights[e] - (ratios[v] * this.transits[e])) + values[v];
+  }
+
+  /**
+   * Improves the policy: first by moving vertices to the cycles of greater ratio, then, if no vertex moved, by
+   * increasing their values.
+   *
+   * @return true if the policy changed
+   */
+  private boolean improvePolicy(final int[] policy, final double[] ratios, final double[] values,
+      final boolean[] cyclicEdges) {
+    boolean changed = false;
+    for (int u = 0; u < this.nbVertices; u++) {
+      if (policy[u] == -1) {
+        continue;
+      }
+      int best = policy[u];
+      double bestRatio = ratios[u];
+      for (int i = this.outStart[u]; i < this.outStart[u + 1]; i++) {
+        final int e = this.outEdges[i];
+        if (cyclicEdges[e] && greater(ratios[this.targets[e]], bestRatio)) {
+          best = e;
+          bestRatio = ratios[this.targets[e]];
+        }
+      }
+      if (best != policy[u]) {
+        policy[u] = best;
+        changed = true;
+      }
+    }
+    if (changed) {
+      return true;
+    }
+    for (int u = 0; u < this.nbVertices; u++) {
+      if (policy[u] == -1) {
+        continue;
+      }
+      int best = policy[u];
+      double bestValue = values[u];
+      for (int i = this.outStart[u]; i < this.outStart[u + 1]; i++) {
+        final int e = this.outEdges[i];
+        final int v = this.targets[e];
+        if (cyclicEdges[e] && !greater(ratios[u], ratios[v]) && !greater(ratios[v], ratios[u])) {
+          final double value = (this.weights[e] - (ratios[u] * this.transits[e])) + values[v];
+          if (greater(value, bestValue)) {
+            best = e;
+            bestValue = value;
+          }
+        }
+      }
+      if (best != policy[u]) {
+        policy[u] = best;
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Sums the weights and transit times along the cycle of the final policy with the greatest ratio, so that the
+   * returned ratio is not affected by the accumulated rounding of the values.
+   */
+  private double criticalCycleRatio(final int[] policy, final double[] ratios) {
+    int critical = -1;
+    for (int u = 0; u < this.nbVertices; u++) {
+      if ((policy[u] != -1) && ((critical == -1) || (ratios[u] > ratios[critical]))) {
+        critical = u;
+      }
+    }
+    // walk until a vertex repeats to land on the cycle
+    final boolean[] visited = new boolean[this.nbVertices];
+    int u = critical;
+    while (!visited[u]) {
+      visited[u] = true;
+      u = this.targets[policy[u]];
+    }
+    double weight = 0;
+    double transit = 0;
+    int v = u;
+    do {
+      weight += this.weights[policy[v]];
+      transit += this.transits[policy[v]];
+      v = this.targets[policy[v]];
+    } while (v != u);
+    return greater(transit, 0) ? (weight / transit) : 0;
+  }
+
+  /**
+   * Tarjan's algorithm, iterative, on the subgraph of the kept edges.
+   *
+   * @return the index of the strongly connected component of each vertex
+   */
+  private int[] stronglyConnectedComponents(final boolean[] keptEdges) {
+    final int[] components = new int[this.nbVertices];
+    final int[] indexes = new int[this.nbVertices];
+    final int[] lowLinks = new int[this.nbVertices];
+    Arrays.fill(indexes, -1);
+    final boolean[] onStack = new boolean[this.nbVertices];
+    final int[] stack = new int[this.nbVertices];
+    int stackSize = 0;
+    // depth first search call stack: vertex and position in its out edges
+    final int[] callVertices = new int[this.nbVertices];
+    final int[] callPositions = new int[this.nbVertices];
+    int index = 0;
+    int nbComponents = 0;
+
+    for (int root = 0; root < this.nbVertices; root++) {
+      if (indexes[root] != -1) {
+        continue;
+      }
+      int depth = 0;
+      callVertices[0] = root;
+      callPositions[0] = this.outStart[root];
+      indexes[root] = lowLinks[root] = index++;
+      stack[stackSize++] = root;
+      onStack[root] = true;
+      while (depth >= 0) {
+        final int u = callVertices[depth];
+        if (callPositions[depth] < this.outStart[u + 1]) {
+          final int e = this.outEdges[callPositions[depth]++];
+          if (!keptEdges[e]) {
+            continue;
+          }
+          final int v = this.targets[e];
+          if (indexes[v] == -1) {
+            indexes[v] = lowLinks[v] = index++;
+            stack[stackSize++] = v;
+            onStack[v] = true;
+            depth++;
+            callVertices[depth] = v;
+            callPositions[depth] = this.outStart[v];
+          } else if (onStack[v]) {
+            lowLinks[u] = Math.min(lowLinks[u], indexes[v]);
+          }
+        } else {
+          if (lowLinks[u] == indexes[u]) {
+            int w;
+            do {
+              w = stack[--stackSize];
+              onStack[w] = false;
+              components[w] = nbComponents;
+            } while (w != u);
+            nbComponents++;
+          }
+          depth--;
+          if (depth >= 0) {
+            final int parent = callVertices[depth];
+            lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[u]);
+          }
+        }
+      }
+    }
+    return components;
+  }
+
+  private static boolean greater(final double a, final double b) {
+    return a > (b + (EPSILON * Math.max(1.0, Math.max(Math.abs(a), Math.abs(b)))));
+  }
+}
@@ -38,9 +38,22 @@
 package org.preesm.cli;
 
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -60,8 +73,12 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
+import org.preesm.commons.exceptions.PreesmRuntimeException;
+import org.preesm.commons.files.WorkspaceUtils;
 import org.preesm.commons.logger.CLIWorkflowLogger;
+import org.preesm.commons.logger.PreesmLogger;
 import org.preesm.workflow.AbstractWorkflowExecutor;
+import org.preesm.workflow.elements.Workflow;
 
 /**
  * IApplication to execute PREESM workflows through command line interface.
@@ -94,6 +111,12 @@ public class CLIWorkflowExecutor extends AbstractWorkflowExecutor implements IAp
   /** The Constant scenarioExt. */
   private static final String SCENARIO_EXT = SCENARIO_LITERAL;
 
+  /** Debug mode, forwarded to the executors of the concurrent runs. */
+  private boolean debugMode = false;
+
+  /** Set when a concurrent run failed, so that the runs not started yet are skipped without --keep-going. */
+  private final AtomicBoolean failureOccurred = new AtomicBoolean(false);
+
   /*
    * (non-Javadoc)
    *
@@ -116,6 +139,7 @@ public class CLIWorkflowExecutor extends AbstractWorkflowExecutor implements IAp
       final CommandLine line = parser.parse(options,
           (String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
       final boolean isDebug = line.hasOption('d');
+      this.debugMode = isDebug;
       this.setDebug(isDebug);
       this.setLogger(new CLIWorkflowLogger(isDebug));
 
@@ -157,19 +181,138 @@ public class CLIWorkflowExecutor extends AbstractWorkflowExecutor implements IAp
     workflowPaths = extractWorkflowPaths(projectName, workflowPaths, workflowPath);
     scenarioPaths = extractScenarioPaths(scenarioPaths, scenarioPath);
 
+    final int jobs = getJobs(line);
+    final boolean keepGoing = line.hasOption('k');
+
     getLogger().log(Level.FINE, "Launching workflows execution");
     // Launch the execution of the workflos with the scenarios
+    final List<BatchRun> runs = new ArrayList<>();
     for (final String wPath : workflowPaths) {
       for (final String sPath : scenarioPaths) {
-        if (!execute(wPath, sPath, null)) {
-          final String message = "Workflow " + wPath + " did not complete its execution normally with scenario " + sPath
-              + ".";
-          getLogger().log(Level.SEVERE, message);
-          return EXIT_ERROR;
+        runs.add(new BatchRun(wPath, sPath));
+      }
+    }
+    if (jobs == 1) {
+      executeSequentially(runs, keepGoing);
+    } else {
+      executeConcurrently(runs, jobs, keepGoing);
+    }
+    if (runs.size() > 1) {
+      logSummary(runs);
+    }
+    return runs.stream().allMatch(run -> run.status == RunStatus.SUCCEEDED) ? IApplication.EXIT_OK : EXIT_ERROR;
+  }
+
+  private static int getJobs(final CommandLine line) throws ParseException {
+    if (!line.hasOption('j')) {
+      return 1;
+    }
+    final String value = line.getOptionValue('j');
+    int jobs;
+    try {
+      jobs = Integer.parseInt(value);
+    } catch (final NumberFormatException e) {
+      jobs = 0;
+    }
+    if (jobs < 1) {
+      throw new ParseException("Expected a positive number of jobs, got " + value, 0);
+    }
+    return jobs;
+  }
+
+  /**
+   * Executes the runs one after the other with this executor, logging directly to the console. Unless keepGoing is
+   * set, the runs following a failure are skipped.
+   */
+  private void executeSequentially(final List<BatchRun> runs, final boolean keepGoing) {
+    boolean failed = false;
+    for (final BatchRun run : runs) {
+      if (failed && !keepGoing) {
+        continue;
+      }
+      final long start = System.nanoTime();
+      final boolean success = execute(run.workflowPath, run.scenarioPath, null);
+      run.complete(success, System.nanoTime() - start);
+      if (!success) {
+        logFailure(run);
+        failed = true;
+      }
+    }
+  }
+
+  /**
+   * Executes the runs on a pool of jobs threads. Each run has its own executor and logger, and its logs are printed in
+   * one block when it completes, so that the outputs of the runs do not interleave. Unless keepGoing is set, the runs
+   * not started yet when a failure occurs are skipped; the runs already started are completed.
+   */
+  private void executeConcurrently(final List<BatchRun> runs, final int jobs, final boolean keepGoing) {
+    final ExecutorService pool = Executors.newFixedThreadPool(jobs);
+    final CompletionService<BatchRun> completionService = new ExecutorCompletionService<>(pool);
+    try {
+      for (final BatchRun run : runs) {
+        completionService.submit(() -> executeIsolated(run, keepGoing));
+      }
+      for (int i = 0; i < runs.size(); i++) {
+        final BatchRun run = completionService.take().get();
+        if (run.status == RunStatus.SKIPPED) {
+          continue;
+        }
+        getLogger().log(Level.INFO, () -> "Logs of workflow " + run.workflowPath + " with scenario " + run.scenarioPath
+            + ":");
+        run.logs.replay(getLogger());
+        if (run.status == RunStatus.FAILED) {
+          logFailure(run);
         }
       }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PreesmRuntimeException("Interrupted while executing the workflows", e);
+    } catch (final ExecutionException e) {
+      throw new PreesmRuntimeException("Unexpected error while executing the workflows", e.getCause());
+    } finally {
+      pool.shutdownNow();
     }
-    return IApplication.EXIT_OK;
+  }
+
+  private BatchRun executeIsolated(final BatchRun run, final boolean keepGoing) {
+    if (!keepGoing && this.failureOccurred.get()) {
+      return run;
+    }
+    final Logger runLogger = new CLIWorkflowLogger(run.logs);
+    final BatchRunExecutor executor = new BatchRunExecutor();
+    executor.setDebug(this.debugMode);
+    final long start = System.nanoTime();
+    boolean success = false;
+    PreesmLogger.setThreadLogger(runLogger);
+    try {
+      executor.setLogger(runLogger);
+      success = executor.execute(run.workflowPath, run.scenarioPath, null);
+    } catch (final RuntimeException e) {
+      runLogger.log(Level.SEVERE, "Unexpected Exception: " + e.getClass().getCanonicalName() + ":" + e.getMessage(),
+          e);
+    } finally {
+      PreesmLogger.setThreadLogger(null);
+      run.complete(success, System.nanoTime() - start);
+    }
+    if (!success) {
+      this.failureOccurred.set(true);
+    }
+    return run;
+  }
+
+  private void logFailure(final BatchRun run) {
+    final String message = "Workflow " + run.workflowPath + " did not complete its execution normally with scenario "
+        + run.scenarioPath + ".";
+    getLogger().log(Level.SEVERE, message);
+  }
+
+  private void logSummary(final List<BatchRun> runs) {
+    final StringBuilder summary = new StringBuilder("Summary of the workflow executions:");
+    for (final BatchRun run : runs) {
+      summary.append(String.format(Locale.ROOT, "%n  %-9s %10.3f s  %s with %s", run.status,
+          run.wallTime / 1_000_000_000d, run.workflowPath, run.scenarioPath));
+    }
+    getLogger().log(Level.INFO, summary.toString());
   }
 
   private Set<String> extractScenarioPaths(Set<String> scenarioPaths, String scenarioPath) throws CoreException {
@@ -266,6 +409,12 @@ public class CLIWorkflowExecutor extends AbstractWorkflowExecutor implements IAp
     opt = new Option("mdd", "markdowndoc", true, "outputs MarkDown task reference to file given as argument");
     options.addOption(opt);
 
+    opt = new Option("j", "jobs", true, "Number of (workflow, scenario) pairs executed concurrently (default 1)");
+    options.addOption(opt);
+
+    opt = new Option("k", "keep-going", false, "Keep executing the remaining pairs after a failure");
+    options.addOption(opt);
+
     return options;
   }
 
@@ -289,4 +438,82 @@ public class CLIWorkflowExecutor extends AbstractWorkflowExecutor implements IAp
     helpFormatter.printHelp(getClass().getSimpleName() + " [options] ", "Valid options are :", options, footer);
   }
 
+  /**
+   * Status of a (workflow, scenario) pair at the end of the execution.
+   */
+  private enum RunStatus {
+    SUCCEEDED, FAILED, SKIPPED
+  }
+
+  /**
+   * A (workflow, scenario) pair to execute, with its logs and result.
+   */
+  private static final class BatchRun {
+
+    private final String workflowPath;
+
+    private final String scenarioPath;
+
+    private final RecordingHandler logs = new RecordingHandler();
+
+    private RunStatus status = RunStatus.SKIPPED;
+
+    private long wallTime = 0L;
+
+    private BatchRun(final String workflowPath, final String scenarioPath) {
+      this.workflowPath = workflowPath;
+      this.scenarioPath = scenarioPath;
+    }
+
+    private void complete(final boolean success, final long elapsedNanos) {
+      this.status = success ? RunStatus.SUCCEEDED : RunStatus.FAILED;
+      this.wallTime = elapsedNanos;
+    }
+  }
+
+  /**
+   * Handler keeping the records of a run, to publish them later to the handlers of the console logger.
+   */
+  private static final class RecordingHandler extends Handler {
+
+    private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void publish(final LogRecord logRecord) {
+      this.records.add(logRecord);
+    }
+
+    private void replay(final Logger target) {
+      synchronized (this.records) {
+        for (final LogRecord logRecord : this.records) {
+          for (final Handler handler : target.getHandlers()) {
+            handler.publish(logRecord);
+          }
+        }
+      }
+    }
+
+    @Override
+    public void flush() {
+      // nothing
+    }
+
+    @Override
+    public void close() {
+      // nothing
+    }
+  }
+
+  /**
+   * Executor of a concurrent run. Refreshes only the project of the workflow, since the whole workspace is shared
+   * between the runs.
+   */
+  private static final class BatchRunExecutor extends AbstractWorkflowExecutor {
+
+    @Override
+    protected void refreshWorkspace(final Workflow workflow) {
+      WorkspaceUtils.updateProject(workflow.getProjectName());
+    }
+  }
+
 }
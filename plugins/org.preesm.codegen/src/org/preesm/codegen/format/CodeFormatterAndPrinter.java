@@ -39,4 +39,29 @@ public class CodeFormatterAndPrinter {
 
   }
 
+  /**
+   * Format the code in memory if language is recognized (based on file extension), before it is printed.
+   * 
+   * @param fileName
+   *          Name (with extension) of the file the code is generated for.
+   * @param content
+   *          Code to format.
+   * @return The formatted code, or the given code if its language is not recognized.
+   */
+  public static String format(final String fileName, final CharSequence content) {
+    final String ext = fileName.substring(fileName.lastIndexOf('.') + 1);
+    switch (ext) {
+      case "c":
+      case "h":
+      case "cpp":
+        return PreesmCFormatter.formatContent(fileName, content.toString());
+      case "xml":
+        return PreesmXMLFormatter.formatXMLContent(content.toString());
+      default:
+        final String msg = "One file with extension '" + ext + "' has been generated but not formatted.";
+        PreesmLogger.getLogger().log(Level.FINE, msg);
+        return content.toString();
+    }
+  }
+
 }
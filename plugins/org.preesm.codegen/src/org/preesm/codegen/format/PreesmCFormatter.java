@@ -61,51 +61,76 @@ import org.preesm.commons.logger.PreesmLogger;
  */
 public class PreesmCFormatter {
 
+  /** The CDT formatter is costly to create and not thread-safe: each thread reuses its own. */
+  private static final ThreadLocal<CodeFormatter> FORMATTER = ThreadLocal
+      .withInitial(PreesmCFormatter::createFormatter);
+
   private PreesmCFormatter() {
     // forbid instantiation
   }
 
-  /**
-   *
-   */
-  public static final void format(final IFile file) {
+  private static CodeFormatter createFormatter() {
     final Map<String, String> options = CCorePlugin.getOptions();
     options.put("org.eclipse.cdt.core.formatter.tabulation.char", "space");
     options.put("org.eclipse.cdt.core.formatter.tabulation.size", "2");
     options.put("org.eclipse.cdt.core.formatter.lineSplit", "120");
     options.put("org.eclipse.cdt.core.encoding", "UTF-8");
-    final CodeFormatter formatter = ToolFactory.createDefaultCodeFormatter(options);
-    PreesmCFormatter.formatFile(file.getRawLocation().toFile(), formatter);
+    return ToolFactory.createDefaultCodeFormatter(options);
+  }
+
+  /**
+   *
+   */
+  public static final void format(final IFile file) {
+    PreesmCFormatter.formatFile(file.getRawLocation().toFile());
+  }
+
+  /**
+   * Formats C code in memory.
+   *
+   * @param fileName
+   *          name of the file the code is generated for, used in the messages
+   * @param contents
+   *          the code to format
+   * @return the formatted code, or the given code if it could not be formatted
+   */
+  public static final String formatContent(final String fileName, final String contents) {
+    final TextEdit edit = FORMATTER.get().format(CodeFormatter.K_TRANSLATION_UNIT, contents, 0, contents.length(), 0,
+        null);
+    if (edit == null) {
+      final String errorMessage = NLS.bind(Messages.FormatProblem, fileName);
+      PreesmLogger.getLogger().log(Level.WARNING, errorMessage);
+      return contents;
+    }
+    final IDocument doc = new Document(contents);
+    try {
+      edit.apply(doc);
+    } catch (final BadLocationException e) {
+      final String errorMessage = NLS.bind(Messages.CaughtException, "BadLocationException", e.getLocalizedMessage());
+      PreesmLogger.getLogger().log(Level.WARNING, errorMessage);
+      return contents;
+    }
+    return doc.get();
   }
 
-  private static void formatFile(final File file, final CodeFormatter codeFormatter) {
-    final IDocument doc = new Document();
+  private static void formatFile(final File file) {
     try {
       // read the file
       final String contents = URLHelper.read(file.toURI().toURL());
       // format the file (the meat and potatoes)
-      doc.set(contents);
-      final TextEdit edit = codeFormatter.format(CodeFormatter.K_TRANSLATION_UNIT, contents, 0, contents.length(), 0,
-          null);
-      if (edit != null) {
-        edit.apply(doc);
-      } else {
-        final String errorMessage = NLS.bind(Messages.FormatProblem, file.getAbsolutePath());
-        PreesmLogger.getLogger().log(Level.WARNING, errorMessage);
+      final String formattedContents = formatContent(file.getAbsolutePath(), contents);
+      if (formattedContents.equals(contents)) {
         return;
       }
 
       // write the file
       try (final BufferedWriter out = new BufferedWriter(new FileWriter(file))) {
-        out.write(doc.get());
+        out.write(formattedContents);
         out.flush();
       }
     } catch (final IOException e) {
       final String errorMessage = NLS.bind(Messages.CaughtException, "IOException", e.getLocalizedMessage());
       PreesmLogger.getLogger().log(Level.WARNING, errorMessage);
-    } catch (final BadLocationException e) {
-      final String errorMessage = NLS.bind(Messages.CaughtException, "BadLocationException", e.getLocalizedMessage());
-      PreesmLogger.getLogger().log(Level.WARNING, errorMessage);
     }
   }
 }
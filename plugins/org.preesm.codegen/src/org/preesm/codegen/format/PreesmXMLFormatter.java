@@ -83,9 +83,13 @@ public class PreesmXMLFormatter {
   }
 
   /**
+   * Formats XML content in memory.
    *
+   * @param unformattedXml
+   *          the XML content to format
+   * @return the indented XML content
    */
-  private static final String formatXMLContent(final String unformattedXml) {
+  public static final String formatXMLContent(final String unformattedXml) {
     final Document document = parseXmlFile(unformattedXml);
     ByteArrayOutputStream out = new ByteArrayOutputStream();
     DomUtil.writeDocument(document, out);
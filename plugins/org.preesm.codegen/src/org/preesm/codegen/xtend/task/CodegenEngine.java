@@ -54,6 +54,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
@@ -278,6 +282,8 @@ public class CodegenEngine {
    */
   public void print() {
 
+    // The printers are stateful: generate the content of their files one block after the other.
+    final Map<String, String> files = new LinkedHashMap<>();
     for (final Entry<IConfigurationElement, List<Block>> printerAndBlocks : this.registeredPrintersAndBlocks
         .entrySet()) {
 
@@ -286,27 +292,41 @@ public class CodegenEngine {
 
       for (final Block b : printerAndBlocks.getValue()) {
         final String fileContentString = printer.postProcessing(printer.doSwitch(b)).toString();
-        final String fileName = b.getName() + extension;
-        final IFile iFile = PreesmIOHelper.getInstance().print(this.codegenPath, fileName, fileContentString);
-        CodeFormatterAndPrinter.format(iFile);
+        files.put(b.getName() + extension, fileContentString);
       }
 
       // Print secondary files
       final Map<String, CharSequence> createSecondaryFiles = printer.createSecondaryFiles(printerAndBlocks.getValue(),
           this.codeBlocks);
-      for (final Entry<String, CharSequence> entry : createSecondaryFiles.entrySet()) {
-        final String fileName = entry.getKey();
-        final IFile iFile = PreesmIOHelper.getInstance().print(this.codegenPath, fileName, entry.getValue());
-        CodeFormatterAndPrinter.format(iFile);
-      }
+      createSecondaryFiles.forEach((fileName, content) -> files.put(fileName, content.toString()));
 
       // Add standard files for this printer
       final Map<String, CharSequence> generateStandardLibFiles = printer.generateStandardLibFiles();
-      for (final Entry<String, CharSequence> entry : generateStandardLibFiles.entrySet()) {
-        final String fileName = entry.getKey();
-        final IFile iFile = PreesmIOHelper.getInstance().print(this.codegenPath, fileName, entry.getValue());
-        CodeFormatterAndPrinter.format(iFile);
+      generateStandardLibFiles.forEach((fileName, content) -> files.put(fileName, content.toString()));
+    }
+
+    // Format the files in memory and write the changed ones, in parallel.
+    final int nbThreads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), files.size()));
+    final ExecutorService pool = Executors.newFixedThreadPool(nbThreads);
+    try {
+      final List<Future<IFile>> printedFiles = new ArrayList<>();
+      for (final Entry<String, String> file : files.entrySet()) {
+        printedFiles.add(pool.submit(() -> PreesmIOHelper.getInstance().printIfChanged(this.codegenPath,
+            file.getKey(), CodeFormatterAndPrinter.format(file.getKey(), file.getValue()))));
+      }
+      for (final Future<IFile> printedFile : printedFiles) {
+        printedFile.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PreesmRuntimeException("Interrupted while printing the generated code.", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
       }
+      throw new PreesmRuntimeException(e.getCause());
+    } finally {
+      pool.shutdownNow();
     }
   }
 
@@ -0,0 +1,287 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.commons;
+
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.preesm.commons.exceptions.PreesmFrameworkException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Streams an XML document with StAX and builds DOM {@link Element}s one item at a time, so that the memory used while
+ * parsing is bounded by the largest item rather than by the whole document. The {@link Handler} decides which elements
+ * are streamed (only their attributes are read) and which are built with all their children.
+ *
+ * <p>
+ * Built elements are detached from any document tree; they have the same names, attributes and text content as the
+ * elements of a DOM document parsed from the same input, without comments.
+ * </p>
+ *
+ * <p>
+ * The whole document can also be mirrored, event by event, to a SAX {@link ContentHandler} such as a
+ * {@link javax.xml.validation.ValidatorHandler}, so that it is validated in the same pass as it is read. Each event is
+ * mirrored before the element it belongs to is passed to the {@link Handler}.
+ * </p>
+ */
+public final class StreamedDocumentReader {
+
+  /**
+   * Receives the elements of a streamed document, in document order.
+   */
+  public interface Handler {
+
+    /**
+     * Called for each element whose parent was streamed (including the document element), with its attributes only.
+     *
+     * @return true to stream the children of the element, false to build the element with all its children and pass it
+     *         to {@link #element(Element)}
+     */
+    boolean open(Element element);
+
+    /**
+     * Called with an element built with all its children.
+     */
+    void element(Element element);
+
+    /**
+     * Called at the end of a streamed element.
+     */
+    default void close(final Element element) {
+      // nothing by default
+    }
+  }
+
+  private StreamedDocumentReader() {
+    // forbid instantiation
+  }
+
+  /**
+   * Streams the document read from the given input stream to the given handler.
+   *
+   * @throws XMLStreamException
+   *           if the document is not well formed
+   */
+  public static void read(final InputStream inputStream, final Handler handler) throws XMLStreamException {
+    read(inputStream, handler, new DefaultHandler());
+  }
+
+  /**
+   * Streams the document read from the given input stream to the given handler, and mirrors all of its events to the
+   * given SAX content handler.
+   *
+   * @throws XMLStreamException
+   *           if the document is not well formed, or wrapping the {@link SAXException} thrown by the content handler
+   */
+  public static void read(final InputStream inputStream, final Handler handler, final ContentHandler mirror)
+      throws XMLStreamException {
+    final XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+
+    final Document document = createDocument();
+    final XMLStreamReader reader = factory.createXMLStreamReader(inputStream);
+    try {
+      mirror.setDocumentLocator(new ReaderLocator(reader));
+      mirror.startDocument();
+      final Deque<Element> streamed = new ArrayDeque<>();
+      while (reader.hasNext()) {
+        final int event = reader.next();
+        mirror(reader, mirror);
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          final Element element = createElement(document, reader);
+          if (handler.open(element)) {
+            streamed.push(element);
+          } else {
+            readChildren(document, reader, element, mirror);
+            handler.element(element);
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          handler.close(streamed.pop());
+        }
+      }
+      mirror.endDocument();
+    } catch (final SAXException e) {
+      throw new XMLStreamException(e.getMessage(), reader.getLocation(), e);
+    } finally {
+      reader.close();
+    }
+  }
+
+  /**
+   * Appends the children of the current element of the reader to the given element, up to its end tag.
+   */
+  private static void readChildren(final Document document, final XMLStreamReader reader, final Element parent,
+      final ContentHandler mirror) throws XMLStreamException, SAXException {
+    while (reader.hasNext()) {
+      final int event = reader.next();
+      mirror(reader, mirror);
+      switch (event) {
+        case XMLStreamConstants.START_ELEMENT:
+          final Element child = createElement(document, reader);
+          parent.appendChild(child);
+          readChildren(document, reader, child, mirror);
+          break;
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+          parent.appendChild(document.createTextNode(reader.getText()));
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          return;
+        default:
+          // comments and processing instructions are dropped
+      }
+    }
+  }
+
+  /**
+   * Sends the current event of the reader to the given SAX content handler. Namespace declarations are reported as
+   * prefix mappings only, as a namespace aware SAX parser does.
+   */
+  private static void mirror(final XMLStreamReader reader, final ContentHandler mirror) throws SAXException {
+    switch (reader.getEventType()) {
+      case XMLStreamConstants.START_ELEMENT:
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+          mirror.startPrefixMapping(nullToEmpty(reader.getNamespacePrefix(i)), nullToEmpty(reader.getNamespaceURI(i)));
+        }
+        final AttributesImpl attributes = new AttributesImpl();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+          attributes.addAttribute(nullToEmpty(reader.getAttributeNamespace(i)), reader.getAttributeLocalName(i),
+              qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+              reader.getAttributeType(i), reader.getAttributeValue(i));
+        }
+        mirror.startElement(nullToEmpty(reader.getNamespaceURI()), reader.getLocalName(),
+            qualifiedName(reader.getPrefix(), reader.getLocalName()), attributes);
+        break;
+      case XMLStreamConstants.END_ELEMENT:
+        mirror.endElement(nullToEmpty(reader.getNamespaceURI()), reader.getLocalName(),
+            qualifiedName(reader.getPrefix(), reader.getLocalName()));
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+          mirror.endPrefixMapping(nullToEmpty(reader.getNamespacePrefix(i)));
+        }
+        break;
+      case XMLStreamConstants.CHARACTERS:
+      case XMLStreamConstants.CDATA:
+      case XMLStreamConstants.SPACE:
+        mirror.characters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+        break;
+      default:
+        // comments and processing instructions are not mirrored
+    }
+  }
+
+  /**
+   * Creates the element at the current position of the reader, with its namespace declarations and attributes.
+   */
+  private static Element createElement(final Document document, final XMLStreamReader reader) {
+    final Element element = document.createElementNS(emptyToNull(reader.getNamespaceURI()),
+        qualifiedName(reader.getPrefix(), reader.getLocalName()));
+    for (int i = 0; i < reader.getNamespaceCount(); i++) {
+      final String prefix = reader.getNamespacePrefix(i);
+      final String name = (prefix == null || prefix.isEmpty()) ? XMLConstants.XMLNS_ATTRIBUTE
+          : XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix;
+      element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, name, reader.getNamespaceURI(i));
+    }
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      element.setAttributeNS(emptyToNull(reader.getAttributeNamespace(i)),
+          qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)), reader.getAttributeValue(i));
+    }
+    return element;
+  }
+
+  private static String qualifiedName(final String prefix, final String localName) {
+    return (prefix == null || prefix.isEmpty()) ? localName : prefix + ":" + localName;
+  }
+
+  private static String emptyToNull(final String namespace) {
+    return (namespace == null || namespace.isEmpty()) ? null : namespace;
+  }
+
+  private static String nullToEmpty(final String namespace) {
+    return namespace == null ? "" : namespace;
+  }
+
+  /**
+   * Reports the current position of the reader, so that the errors of the mirrored content handler locate the event.
+   */
+  private static final class ReaderLocator implements Locator {
+    private final XMLStreamReader reader;
+
+    private ReaderLocator(final XMLStreamReader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public String getPublicId() {
+      return this.reader.getLocation().getPublicId();
+    }
+
+    @Override
+    public String getSystemId() {
+      return this.reader.getLocation().getSystemId();
+    }
+
+    @Override
+    public int getLineNumber() {
+      return this.reader.getLocation().getLineNumber();
+    }
+
+    @Override
+    public int getColumnNumber() {
+      return this.reader.getLocation().getColumnNumber();
+    }
+  }
+
+  private static Document createDocument() {
+    try {
+      return DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    } catch (final ParserConfigurationException e) {
+      throw new PreesmFrameworkException("Could not instantiate DOM", e);
+    }
+  }
+}
@@ -66,4 +66,10 @@ public @interface PreesmTask {
   DocumentedError[] documentedErrors() default {};
 
   String[] seeAlso() default {};
+
+  /**
+   * Whether the outputs of the task only depend on its inputs and parameters, and can be restored from the result cache
+   * of the workflow instead of executing the task again. Tasks modifying their inputs in place must not be cacheable.
+   */
+  boolean cacheable() default false;
 }
@@ -35,14 +35,18 @@
 package org.preesm.commons.files;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.nio.file.Files;
+import java.util.Arrays;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
@@ -88,7 +92,7 @@ public class PreesmIOHelper {
       createFolderRecursively(iFolder, false, true, new NullProgressMonitor());
 
       if (!iFile.exists()) {
-        iFile.create(new ByteArrayInputStream("".getBytes()), false, new NullProgressMonitor());
+        createFile(iFile);
       }
       iFile.setContents(new ByteArrayInputStream(fileContent.toString().getBytes()), true, false,
           new NullProgressMonitor());
@@ -98,6 +102,36 @@ public class PreesmIOHelper {
     return iFile;
   }
 
+  /**
+   * Print the given content at a specific location, unless the file already exists with the same content. Leaving
+   * unchanged files untouched preserves their timestamps, keeping the builds of generated code incremental.
+   * 
+   * @param filePath
+   *          Path to the file to write.
+   * @param fileName
+   *          Name (with extension) of the file to write.
+   * @param fileContent
+   *          Content to write in the file.
+   * @return The printed or unchanged file.
+   */
+  public IFile printIfChanged(final String filePath, final String fileName, final CharSequence fileContent) {
+    final IFile iFile = ResourcesPlugin.getWorkspace().getRoot().getFile(new Path(filePath + fileName));
+    final IPath location = iFile.getLocation();
+    if (location != null) {
+      final File file = location.toFile();
+      final byte[] content = fileContent.toString().getBytes();
+      try {
+        if (file.isFile() && (file.length() == content.length)
+            && Arrays.equals(Files.readAllBytes(file.toPath()), content)) {
+          return iFile;
+        }
+      } catch (final IOException e) {
+        // cannot compare, print the file anyway
+      }
+    }
+    return print(filePath, fileName, fileContent);
+  }
+
   // See
   // https://stackoverflow.com/questions/68075036/eclipse-plugin-how-do-i-create-all-folders-ifolders-in-a-given-path-ipath
   public static void createFolderRecursively(IFolder folder, boolean force, boolean local, IProgressMonitor monitor)
@@ -107,7 +141,25 @@ public class PreesmIOHelper {
       if (parent instanceof IFolder) {
         createFolderRecursively((IFolder) parent, force, local, null);
       }
-      folder.create(force, local, monitor);
+      try {
+        folder.create(force, local, monitor);
+      } catch (final CoreException e) {
+        // the folder may have been created concurrently by another workflow
+        if (!folder.exists()) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  private static void createFile(final IFile iFile) throws CoreException {
+    try {
+      iFile.create(new ByteArrayInputStream("".getBytes()), false, new NullProgressMonitor());
+    } catch (final CoreException e) {
+      // the file may have been created concurrently by another workflow
+      if (!iFile.exists()) {
+        throw e;
+      }
     }
   }
 
@@ -96,6 +96,26 @@ public class WorkspaceUtils {
     }
   }
 
+  /**
+   * Update the given project only, leaving the rest of the workspace untouched. Updates the whole workspace if the
+   * project does not exist.
+   *
+   * @param projectName
+   *          name of the project to refresh
+   */
+  public static final void updateProject(final String projectName) {
+    final IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
+    if (!project.exists()) {
+      updateWorkspace();
+      return;
+    }
+    try {
+      project.refreshLocal(IResource.DEPTH_INFINITE, new NullProgressMonitor());
+    } catch (final Exception e) {
+      PreesmLogger.getLogger().log(Level.SEVERE, "Could not refresh project " + projectName, e);
+    }
+  }
+
   /**
    * Check if an IProject named projectName exists in the workspace.
    *
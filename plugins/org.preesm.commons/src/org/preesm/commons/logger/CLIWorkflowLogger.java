@@ -58,8 +58,17 @@ public class CLIWorkflowLogger extends Logger {
 
   /** The logger. */
   public CLIWorkflowLogger(final boolean debugMode) {
+    this(new CLIWorkflowLogHandler(debugMode));
+  }
+
+  /**
+   * Builds a CLI logger publishing its records to the given handler instead of the system console.
+   *
+   * @param handler
+   *          the handler receiving the records
+   */
+  public CLIWorkflowLogger(final Handler handler) {
     super("Preesm-CLI", null);
-    final Handler handler = new CLIWorkflowLogHandler(debugMode);
     this.addHandler(handler);
     this.setUseParentHandlers(false);
 
@@ -0,0 +1,75 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.commons.logger;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Logger publishing the records it accepts to another logger. Used as a thread logger (see
+ * {@link PreesmLogger#setThreadLogger(Logger)}) to change the level of the logs of a thread without changing the level
+ * of the logger shared with the other threads.
+ */
+public class ForwardingLogger extends Logger {
+
+  private final Logger target;
+
+  /**
+   * Builds a logger forwarding to the given logger the records having at least the given level.
+   *
+   * @param target
+   *          the logger publishing the records
+   * @param level
+   *          the initial level of this logger, the records are also filtered by the level of the target
+   */
+  public ForwardingLogger(final Logger target, final Level level) {
+    super(null, null);
+    this.target = target;
+    setLevel(level);
+    setUseParentHandlers(false);
+  }
+
+  @Override
+  public void log(final LogRecord logRecord) {
+    if (!isLoggable(logRecord.getLevel())) {
+      return;
+    }
+    if ((logRecord.getThrown() == null) && (logRecord.getParameters() == null)) {
+      // let the target format the message as its own
+      this.target.log(logRecord.getLevel(), logRecord.getMessage());
+    } else {
+      this.target.log(logRecord);
+    }
+  }
+}
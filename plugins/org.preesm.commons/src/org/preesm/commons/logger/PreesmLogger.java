@@ -57,6 +57,9 @@ public abstract class PreesmLogger extends Logger {
   /** The logger. */
   private static Logger logger = null;
 
+  /** Logger overriding the global one in the current thread and in the threads it starts, if any. */
+  private static final InheritableThreadLocal<Logger> threadLogger = new InheritableThreadLocal<>();
+
   /**
    * Instantiates a new workflow logger.
    *
@@ -69,8 +72,41 @@ public abstract class PreesmLogger extends Logger {
     super(name, resourceBundleName);
   }
 
+  /**
+   * Sets the logger returned by {@link #getLogger()}. If a thread logger is set for the current thread, it is replaced
+   * instead of the global logger.
+   *
+   * @param newLogger
+   *          the new logger
+   */
   public static void setLogger(final Logger newLogger) {
-    PreesmLogger.logger = newLogger;
+    if (PreesmLogger.threadLogger.get() != null) {
+      PreesmLogger.threadLogger.set(newLogger);
+    } else {
+      PreesmLogger.logger = newLogger;
+    }
+  }
+
+  /**
+   * Sets a logger overriding the global one in the current thread and in the threads created afterwards by this one.
+   * Used to isolate the logs of workflows running concurrently.
+   *
+   * @param newLogger
+   *          the thread logger, or null to use the global logger again
+   */
+  public static void setThreadLogger(final Logger newLogger) {
+    if (newLogger == null) {
+      PreesmLogger.threadLogger.remove();
+    } else {
+      PreesmLogger.threadLogger.set(newLogger);
+    }
+  }
+
+  /**
+   * Gets the logger overriding the global one in the current thread, or null if there is none.
+   */
+  public static Logger getThreadLogger() {
+    return PreesmLogger.threadLogger.get();
   }
 
   /**
@@ -79,6 +115,10 @@ public abstract class PreesmLogger extends Logger {
    * @return a Logger
    */
   public static Logger getLogger() {
+    final Logger scopedLogger = PreesmLogger.threadLogger.get();
+    if (scopedLogger != null) {
+      return scopedLogger;
+    }
     if (PreesmLogger.logger == null) {
       // use CLI logger by default
       try {
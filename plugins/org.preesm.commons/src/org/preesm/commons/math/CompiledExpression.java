@@ -0,0 +1,163 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.commons.math;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import org.nfunk.jep.JEP;
+import org.nfunk.jep.Node;
+import org.nfunk.jep.ParseException;
+import org.nfunk.jep.TokenMgrError;
+import org.nfunk.jep.Variable;
+
+/**
+ * Expression string parsed once into a JEP node tree. Evaluating it only binds the values of its free symbols, without
+ * parsing the string again. Instances are built and cached by {@link JEPWrapper#compile(String)}.
+ *
+ * <p>
+ * The underlying {@link JEP} instance and the variables of its tree are not thread safe: each thread evaluating the
+ * expression parses it once in its own JEP instance, so that concurrent evaluations do not wait for each other.
+ * </p>
+ */
+public class CompiledExpression {
+
+  /**
+   * JEP instance and the tree it parsed, which refers to the variables of the instance.
+   */
+  private static final class ParsedExpression {
+    private final JEP  jep;
+    private final Node node;
+
+    private ParsedExpression(final JEP jep, final Node node) {
+      this.jep = jep;
+      this.node = node;
+    }
+  }
+
+  private final String                       expression;
+  private final ThreadLocal<ParsedExpression> parsed;
+  private final List<String>                 symbols;
+
+  /**
+   *
+   * @throws ExpressionEvaluationException
+   *           If the expression cannot be parsed.
+   */
+  CompiledExpression(final String expression) {
+    this.expression = expression;
+    final ParsedExpression first = parse(expression);
+
+    final List<String> freeSymbols = new ArrayList<>();
+    @SuppressWarnings("unchecked")
+    final Set<Entry<String, Variable>> entries = first.jep.getSymbolTable().entrySet();
+    for (final Entry<String, Variable> sym : entries) {
+      if (sym.getValue().getValue() == null) {
+        freeSymbols.add(sym.getKey());
+      }
+    }
+    this.symbols = Collections.unmodifiableList(freeSymbols);
+
+    this.parsed = ThreadLocal.withInitial(() -> parse(expression));
+    this.parsed.set(first);
+  }
+
+  private static ParsedExpression parse(final String expression) {
+    final JEP jep = JEPWrapper.initJep(Collections.emptyMap());
+    // symbols are declared while parsing, and bound to actual values at evaluation time
+    jep.setAllowUndeclared(true);
+    final Node node;
+    try {
+      node = jep.parse(expression);
+    } catch (final ParseException | TokenMgrError e) {
+      final String msg = "Could not evaluate '" + expression + "': " + e.getMessage().trim();
+      throw new ExpressionEvaluationException(msg, e);
+    }
+    jep.setAllowUndeclared(false);
+    return new ParsedExpression(jep, node);
+  }
+
+  public String getExpression() {
+    return this.expression;
+  }
+
+  /**
+   * Return the symbols that have to be bound to a value in order to evaluate this expression. Standard constants and
+   * functions are not included.
+   */
+  public List<String> getSymbols() {
+    return this.symbols;
+  }
+
+  /**
+   * Return true if all the symbols of this expression have a value in the given map.
+   */
+  public boolean canEvaluate(final Map<String, ? extends Number> symbolValues) {
+    return symbolValues.keySet().containsAll(this.symbols);
+  }
+
+  /**
+   * Bind the symbols of this expression to the given values and evaluate the parsed tree of the calling thread. Values
+   * that are not used by the expression are ignored.
+   *
+   * @throws ExpressionEvaluationException
+   *           If a symbol has no value or if the expression cannot be evaluated.
+   */
+  public long evaluate(final Map<String, ? extends Number> symbolValues) {
+    final ParsedExpression parsedExpression = this.parsed.get();
+    final JEP jep = parsedExpression.jep;
+    try {
+      for (final String symbol : this.symbols) {
+        final Number value = (symbolValues == null) ? null : symbolValues.get(symbol);
+        jep.getVar(symbol).setValue(value);
+      }
+      return JEPWrapper.toLong(this.expression, jep.evaluate(parsedExpression.node));
+    } catch (final ParseException e) {
+      final String msg = "Could not evaluate '" + this.expression + "': " + e.getMessage().trim();
+      throw new ExpressionEvaluationException(msg, e);
+    } finally {
+      // unbind values so that a later evaluation cannot silently reuse them
+      for (final String symbol : this.symbols) {
+        jep.getVar(symbol).setValue(null);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.expression;
+  }
+}
@@ -38,12 +38,13 @@ package org.preesm.commons.math;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import org.nfunk.jep.JEP;
-import org.nfunk.jep.Node;
 import org.nfunk.jep.ParseException;
 import org.nfunk.jep.SymbolTable;
 import org.nfunk.jep.TokenMgrError;
@@ -60,10 +61,74 @@ import org.preesm.commons.math.functions.MinFunction;
  */
 public class JEPWrapper {
 
+  /**
+   * Maximal number of distinct expression strings kept in the compiled expression cache.
+   */
+  public static final int COMPILED_EXPRESSION_CACHE_SIZE = 4096;
+
+  private static final Map<String, CompiledExpression> COMPILED_EXPRESSIONS = new LinkedHashMap<>(16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String, CompiledExpression> eldest) {
+      return size() > COMPILED_EXPRESSION_CACHE_SIZE;
+    }
+  };
+
+  private static final AtomicLong CACHE_HITS   = new AtomicLong();
+  private static final AtomicLong CACHE_MISSES = new AtomicLong();
+
   private JEPWrapper() {
     // forbid instantiation
   }
 
+  /**
+   * Return the parsed form of the expression. Expressions are parsed only once and kept in a bounded LRU cache keyed by
+   * the expression string.
+   *
+   * @throws ExpressionEvaluationException
+   *           If the expression cannot be parsed.
+   */
+  public static final CompiledExpression compile(final String expression) {
+    synchronized (COMPILED_EXPRESSIONS) {
+      final CompiledExpression cached = COMPILED_EXPRESSIONS.get(expression);
+      if (cached != null) {
+        CACHE_HITS.incrementAndGet();
+        return cached;
+      }
+    }
+    CACHE_MISSES.incrementAndGet();
+    // parse outside of the lock; concurrent misses on the same string simply keep the first parsed instance
+    final CompiledExpression compiled = new CompiledExpression(expression);
+    synchronized (COMPILED_EXPRESSIONS) {
+      final CompiledExpression previous = COMPILED_EXPRESSIONS.putIfAbsent(expression, compiled);
+      return previous != null ? previous : compiled;
+    }
+  }
+
+  /**
+   * Number of {@link #compile(String)} calls served from the cache since startup.
+   */
+  public static final long getCacheHits() {
+    return CACHE_HITS.get();
+  }
+
+  /**
+   * Number of {@link #compile(String)} calls that required parsing since startup.
+   */
+  public static final long getCacheMisses() {
+    return CACHE_MISSES.get();
+  }
+
+  /**
+   * Drop all compiled expressions from the cache. Hit and miss counters are not reset.
+   */
+  public static final void clearCache() {
+    synchronized (COMPILED_EXPRESSIONS) {
+      COMPILED_EXPRESSIONS.clear();
+    }
+  }
+
   /**
    * Return the list of symbols used in the expression. The result list does not include standard constants, standard
    * functions and user declared functions (see {@link #initJep(Map)}). Unknown functions are treated as symbols.
@@ -101,18 +166,10 @@ public class JEPWrapper {
    */
   public static final long evaluate(final String expression,
       final Map<String, ? extends Number> addInputParameterValues) {
-    final JEP jep = initJep(addInputParameterValues);
-    long result;
-    try {
-      result = parse(expression, jep);
-    } catch (final ParseException | TokenMgrError e) {
-      final String msg = "Could not evaluate '" + expression + "': " + e.getMessage().trim();
-      throw new ExpressionEvaluationException(msg, e);
-    }
-    return result;
+    return compile(expression).evaluate(addInputParameterValues);
   }
 
-  private static JEP initJep(final Map<String, ? extends Number> addInputParameterValues) {
+  static JEP initJep(final Map<String, ? extends Number> addInputParameterValues) {
     final JEP jep = new JEP();
 
     jep.setAllowAssignment(false);
@@ -137,13 +194,12 @@ public class JEPWrapper {
   }
 
   /**
-   * 
+   * Convert the result of a JEP evaluation to long.
+   *
    * @throws ExpressionEvaluationException
-   *           If the expression cannot be evaluated.
+   *           If the result cannot be represented as a long.
    */
-  private static long parse(final String allExpression, final JEP jep) throws ParseException {
-    final Node parse = jep.parse(allExpression);
-    final Object result = jep.evaluate(parse);
+  static long toLong(final String allExpression, final Object result) {
     if (result instanceof Long) {
       return (long) result;
     } else if (result instanceof Double) {
@@ -36,6 +36,7 @@ package org.preesm.commons.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.ecore.util.EcoreUtil;
@@ -54,10 +55,12 @@ public interface IPreesmAdapter extends Adapter {
    *
    */
   public static <T extends IPreesmAdapter> void unadapt(final List<? extends Adapter> adapters, final Class<T> target) {
-    final List<Adapter> arrayList = new ArrayList<>(adapters);
-    final Adapter adapter = EcoreUtil.getAdapter(arrayList, target);
-    if (adapter != null) {
-      adapters.remove(adapter);
+    synchronized (IPreesmAdapter.class) {
+      final List<Adapter> arrayList = new ArrayList<>(adapters);
+      final Adapter adapter = EcoreUtil.getAdapter(arrayList, target);
+      if (adapter != null) {
+        adapters.remove(adapter);
+      }
     }
   }
 
@@ -69,13 +72,47 @@ public interface IPreesmAdapter extends Adapter {
    *
    */
   public static <T extends IPreesmAdapter> T adapt(final List<? extends Adapter> adapters, final Class<T> target) {
-    final List<Adapter> arrayList = new ArrayList<>(adapters);
+    final List<Adapter> arrayList;
+    synchronized (IPreesmAdapter.class) {
+      arrayList = new ArrayList<>(adapters);
+    }
     final Adapter adapter = EcoreUtil.getAdapter(arrayList, target);
     @SuppressWarnings("unchecked")
     final T result = (T) adapter;
     return result;
   }
 
+  /**
+   * Return the adapter of the given class attached to the notifier, attaching the one given by the factory if there is
+   * none. The lookup and the attachment are atomic with respect to the other methods of this interface, so that the
+   * adapter caches can be attached to models shared by the tasks of a parallel workflow.
+   */
+  public static <T extends IPreesmAdapter> T attach(final Notifier notifier, final Class<T> target,
+      final Supplier<T> factory) {
+    synchronized (IPreesmAdapter.class) {
+      final T existing = adapt(notifier, target);
+      if (existing != null) {
+        return existing;
+      }
+      final T adapter = factory.get();
+      notifier.eAdapters().add(adapter);
+      return adapter;
+    }
+  }
+
+  /**
+   * Attach the given adapter to the notifier if it is not attached yet, atomically with respect to the other methods
+   * of this interface. Unlike {@link #attach(Notifier, Class, Supplier)}, the adapter may already observe other
+   * notifiers.
+   */
+  public static void observe(final Notifier notifier, final Adapter adapter) {
+    synchronized (IPreesmAdapter.class) {
+      if (!notifier.eAdapters().contains(adapter)) {
+        notifier.eAdapters().add(adapter);
+      }
+    }
+  }
+
   default boolean isAdapterForClass(final Class<?> type) {
     return this.getClass() == type;
   }
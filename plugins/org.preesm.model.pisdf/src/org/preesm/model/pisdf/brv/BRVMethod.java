@@ -41,7 +41,9 @@ public enum BRVMethod {
 
   LCM("LCM"),
 
-  TOPOLOGY("Topology");
+  TOPOLOGY("Topology"),
+
+  SPARSE("Sparse");
 
   private final String literal;
 
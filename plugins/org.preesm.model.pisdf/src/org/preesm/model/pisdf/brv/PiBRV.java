@@ -40,6 +40,7 @@
  */
 package org.preesm.model.pisdf.brv;
 
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -83,12 +84,34 @@ public abstract class PiBRV {
       case TOPOLOGY:
         piBRVAlgo = new TopologyBasedBRV();
         break;
+      case SPARSE:
+        piBRVAlgo = new SparseBRV();
+        break;
       default:
         throw new PreesmRuntimeException("unexpected value for BRV method: [" + method + "]");
     }
     return piBRVAlgo.computeBRV(piGraph);
   }
 
+  /**
+   * Recompute the BRV of a graph after local edits, with the {@link BRVMethod#SPARSE} method. Only the connected
+   * components containing an edited actor (or an actor unknown from the previous BRV) are computed again, the values of
+   * the other ones, and of their subgraphs, are copied from the previous BRV.
+   *
+   * @param piGraph
+   *          Graph to recompute the BRV of.
+   * @param previousBRV
+   *          BRV of the graph before the edits. It is not modified.
+   * @param editedActors
+   *          Actors whose ports, rates or FIFOs have been edited, possibly in subgraphs of piGraph. When a FIFO is
+   *          removed, both of its former ends must be given.
+   * @return the BRV as a Map that associates a long value (the repetition value) for every AbstractVertex
+   */
+  public static final Map<AbstractVertex, Long> recompute(final PiGraph piGraph,
+      final Map<AbstractVertex, Long> previousBRV, final Collection<AbstractActor> editedActors) {
+    return new SparseBRV().recomputeBRV(piGraph, previousBRV, editedActors);
+  }
+
   /**
    * Print the BRV values of every vertex. For debug purposes.
    */
@@ -114,25 +137,38 @@ public abstract class PiBRV {
       final Map<AbstractVertex, Long> parentBRV) {
     final Map<AbstractVertex, Long> resultBrv = new LinkedHashMap<>();
     for (final AbstractActor actor : parentGraph.getActors()) {
-      PiGraph childGraph = null;
-      if (actor instanceof PiGraph) {
-        childGraph = (PiGraph) actor;
-      } else if (actor instanceof Actor) {
-        final Actor act = (Actor) actor;
-        if (act.isHierarchical()) {
-          childGraph = act.getSubGraph();
-        }
+      computeChildBRV(actor, parentBRV, resultBrv);
+    }
+    return resultBrv;
+  }
+
+  protected void computeChildBRV(final AbstractActor actor, final Map<AbstractVertex, Long> parentBRV,
+      final Map<AbstractVertex, Long> resultBrv) {
+    final PiGraph childGraph = getChildGraph(actor);
+    if (childGraph != null) {
+      if (parentBRV.get(actor) == 0L) {
+        // the BRV of all actors in the subgraph will be 0 as well
+        childGraph.getAllActors().forEach(x -> resultBrv.put(x, 0L));
+      } else {
+        resultBrv.putAll(this.computeBRV(childGraph));
       }
-      if (childGraph != null) {
-        if (parentBRV.get(actor) == 0L) {
-          // the BRV of all actors in the subgraph will be 0 as well
-          childGraph.getAllActors().forEach(x -> resultBrv.put(x, 0L));
-        } else {
-          resultBrv.putAll(this.computeBRV(childGraph));
-        }
+    }
+  }
+
+  /**
+   * @return the graph refining the actor, or null if it is not hierarchical.
+   */
+  protected static PiGraph getChildGraph(final AbstractActor actor) {
+    if (actor instanceof PiGraph) {
+      return (PiGraph) actor;
+    }
+    if (actor instanceof Actor) {
+      final Actor act = (Actor) actor;
+      if (act.isHierarchical()) {
+        return act.getSubGraph();
       }
     }
-    return resultBrv;
+    return null;
   }
 
   protected static void updateRVWithInterfaces(final PiGraph graph, final List<AbstractActor> connectedComponent,
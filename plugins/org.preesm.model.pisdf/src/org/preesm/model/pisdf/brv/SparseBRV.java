@@ -0,0 +1,420 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.model.pisdf.brv;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.preesm.commons.exceptions.PreesmRuntimeException;
+import org.preesm.commons.math.MathFunctionsHelper;
+import org.preesm.model.pisdf.AbstractActor;
+import org.preesm.model.pisdf.AbstractVertex;
+import org.preesm.model.pisdf.DataInputPort;
+import org.preesm.model.pisdf.DataOutputPort;
+import org.preesm.model.pisdf.DelayActor;
+import org.preesm.model.pisdf.Fifo;
+import org.preesm.model.pisdf.InterfaceActor;
+import org.preesm.model.pisdf.PiGraph;
+
+/**
+ * This class is used to compute the basic repetition vector of a static PiSDF graph on a compressed sparse row (CSR)
+ * adjacency of its actors. Repetition ratios are propagated once along a breadth first traversal of each connected
+ * component, as reduced fractions of longs, so that the computation is linear in the number of FIFOs. Overflows are
+ * detected and reported instead of silently wrapping around.
+ *
+ * It gives the same repetition values as {@link LCMBasedBRV}.
+ */
+class SparseBRV extends PiBRV {
+
+  /**
+   * Compact view of one graph level: actors are indexed in the order of the graph, FIFOs between two actors (interfaces
+   * excluded) are edges, and the edges of each actor are stored contiguously.
+   */
+  private static class SparseTopology {
+    final AbstractActor[] actors;
+    final Fifo[]          fifos;
+    final int[]           sources;
+    final int[]           targets;
+    final long[]          prods;
+    final long[]          conss;
+    /** Edges of actor i are adjEdges[adjStart[i]] to adjEdges[adjStart[i + 1] - 1]. */
+    final int[]           adjStart;
+    final int[]           adjEdges;
+    /** Connected components, zero rate FIFOs included, ordered by their first actor in the graph. */
+    final List<int[]>     components;
+
+    SparseTopology(final PiGraph graph) {
+      final List<AbstractActor> actorList = new ArrayList<>();
+      for (final AbstractActor actor : graph.getActors()) {
+        // unused delay actors are not connected and have no repetition
+        if (!(actor instanceof InterfaceActor)
+            && !((actor instanceof final DelayActor delayActor) && !delayActor.getLinkedDelay().isDynamic())) {
+          actorList.add(actor);
+        }
+      }
+      this.actors = actorList.toArray(new AbstractActor[actorList.size()]);
+      final Map<AbstractActor, Integer> indexes = new HashMap<>();
+      for (int i = 0; i < this.actors.length; i++) {
+        indexes.put(this.actors[i], i);
+      }
+
+      // each FIFO is reached once, from its target port
+      final List<Fifo> fifoList = new ArrayList<>();
+      for (final AbstractActor actor : this.actors) {
+        for (final DataOutputPort output : actor.getDataOutputPorts()) {
+          if (output.getOutgoingFifo() == null) {
+            throw new PreesmRuntimeException("Actor [" + actor.getVertexPath() + "] data output port ["
+                + output.getName() + "] is not connected to a FIFO.");
+          }
+        }
+        for (final DataInputPort input : actor.getDataInputPorts()) {
+          final Fifo fifo = input.getIncomingFifo();
+          if (fifo == null) {
+            throw new PreesmRuntimeException("Actor [" + actor.getVertexPath() + "] data input port ["
+                + input.getName() + "] is not connected to a FIFO.");
+          }
+          if (!(fifo.getSourcePort().getContainingActor() instanceof InterfaceActor)) {
+            fifoList.add(fifo);
+          }
+        }
+      }
+
+      final int nbFifos = fifoList.size();
+      this.fifos = fifoList.toArray(new Fifo[nbFifos]);
+      this.sources = new int[nbFifos];
+      this.targets = new int[nbFifos];
+      this.prods = new long[nbFifos];
+      this.conss = new long[nbFifos];
+      this.adjStart = new int[this.actors.length + 1];
+      for (int e = 0; e < nbFifos; e++) {
+        final Fifo fifo = this.fifos[e];
+        final AbstractActor sourceActor = fifo.getSourcePort().getContainingActor();
+        final AbstractActor targetActor = fifo.getTargetPort().getContainingActor();
+        final Integer sourceIndex = indexes.get(sourceActor);
+        if (sourceIndex == null) {
+          throw new PreesmRuntimeException("Fifo [" + fifo.getId() + "] comes from actor ["
+              + sourceActor.getVertexPath() + "] which is not in graph [" + graph.getVertexPath() + "].");
+        }
+        this.sources[e] = sourceIndex;
+        this.targets[e] = indexes.get(targetActor);
+        this.prods[e] = fifo.getSourcePort().getPortRateExpression().evaluate();
+        this.conss[e] = fifo.getTargetPort().getPortRateExpression().evaluate();
+        checkRates(e);
+        this.adjStart[this.sources[e] + 1]++;
+        if (this.sources[e] != this.targets[e]) {
+          this.adjStart[this.targets[e] + 1]++;
+        }
+      }
+      for (int i = 0; i < this.actors.length; i++) {
+        this.adjStart[i + 1] += this.adjStart[i];
+      }
+      this.adjEdges = new int[this.adjStart[this.actors.length]];
+      final int[] fill = new int[this.actors.length];
+      for (int e = 0; e < nbFifos; e++) {
+        this.adjEdges[this.adjStart[this.sources[e]] + fill[this.sources[e]]++] = e;
+        if (this.sources[e] != this.targets[e]) {
+          this.adjEdges[this.adjStart[this.targets[e]] + fill[this.targets[e]]++] = e;
+        }
+      }
+
+      this.components = computeComponents();
+    }
+
+    private void checkRates(final int e) {
+      final long prod = this.prods[e];
+      final long cons = this.conss[e];
+      final AbstractActor src = this.actors[this.sources[e]];
+      final AbstractActor tgt = this.actors[this.targets[e]];
+      if ((prod < 0) || (cons < 0)) {
+        throw new PreesmRuntimeException("Fifo [" + this.fifos[e].getId() + "] has bad production / consumption rates: "
+            + prod + " / " + cons + ".");
+      }
+      if ((prod == 0 && cons != 0) || (prod != 0 && cons == 0)) {
+        final String message = "Non valid edge prod / cons from actor " + src.getName() + "["
+            + this.fifos[e].getSourcePort().getName() + "] to " + tgt.getName() + "["
+            + this.fifos[e].getTargetPort().getName() + "].";
+        throw new PreesmRuntimeException(message);
+      }
+    }
+
+    int getOpposite(final int e, final int actor) {
+      return this.sources[e] == actor ? this.targets[e] : this.sources[e];
+    }
+
+    private List<int[]> computeComponents() {
+      final List<int[]> result = new ArrayList<>();
+      final boolean[] visited = new boolean[this.actors.length];
+      final int[] queue = new int[this.actors.length];
+      for (int start = 0; start < this.actors.length; start++) {
+        if (visited[start]) {
+          continue;
+        }
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        visited[start] = true;
+        while (head < tail) {
+          final int actor = queue[head++];
+          for (int i = this.adjStart[actor]; i < this.adjStart[actor + 1]; i++) {
+            final int next = getOpposite(this.adjEdges[i], actor);
+            if (!visited[next]) {
+              visited[next] = true;
+              queue[tail++] = next;
+            }
+          }
+        }
+        final int[] component = new int[tail];
+        System.arraycopy(queue, 0, component, 0, tail);
+        result.add(component);
+      }
+      return result;
+    }
+  }
+
+  @Override
+  public Map<AbstractVertex, Long> computeBRV(final PiGraph piGraph) {
+    return recomputeBRV(piGraph, Collections.emptyMap(), Collections.emptySet());
+  }
+
+  /**
+   * See {@link PiBRV#recompute(PiGraph, Map, Collection)}.
+   */
+  Map<AbstractVertex, Long> recomputeBRV(final PiGraph piGraph, final Map<AbstractVertex, Long> previousBRV,
+      final Collection<AbstractActor> editedActors) {
+    if (piGraph == null) {
+      final String msg = "cannot compute BRV for null graph.";
+      throw new PreesmRuntimeException(msg);
+    }
+    final Set<AbstractActor> editedLocalActors = getLocalActors(piGraph, editedActors);
+
+    final SparseTopology topology = new SparseTopology(piGraph);
+    final Map<AbstractVertex, Long> graphBRV = new LinkedHashMap<>();
+    final boolean[] reused = new boolean[topology.actors.length];
+    final long[] num = new long[topology.actors.length];
+    final long[] den = new long[topology.actors.length];
+    final int[] queue = new int[topology.actors.length];
+
+    for (final int[] component : topology.components) {
+      boolean reuse = true;
+      for (final int actor : component) {
+        final AbstractActor aa = topology.actors[actor];
+        reuse &= !editedLocalActors.contains(aa) && previousBRV.containsKey(aa);
+      }
+      if (reuse) {
+        for (final int actor : component) {
+          reused[actor] = true;
+          graphBRV.put(topology.actors[actor], previousBRV.get(topology.actors[actor]));
+        }
+      } else {
+        final List<AbstractActor> cc = new ArrayList<>(component.length);
+        for (final int actor : component) {
+          cc.add(topology.actors[actor]);
+          graphBRV.put(topology.actors[actor], 1L);
+        }
+        computeComponentRV(piGraph, topology, component, num, den, queue, graphBRV);
+        // Update BRV values with interfaces
+        updateRVWithInterfaces(piGraph, cc, graphBRV);
+      }
+    }
+
+    // Subgraphs of the reused components keep their BRV as well
+    for (int i = 0; i < topology.actors.length; i++) {
+      final AbstractActor actor = topology.actors[i];
+      final PiGraph childGraph = getChildGraph(actor);
+      if (childGraph != null && reused[i]) {
+        childGraph.getAllActors().stream().filter(previousBRV::containsKey)
+            .forEach(x -> graphBRV.put(x, previousBRV.get(x)));
+      } else {
+        computeChildBRV(actor, graphBRV, graphBRV);
+      }
+    }
+    return graphBRV;
+  }
+
+  /**
+   * @return the actors of piGraph being or containing one of the given actors, possibly in a subgraph.
+   */
+  private static Set<AbstractActor> getLocalActors(final PiGraph piGraph, final Collection<AbstractActor> actors) {
+    final Set<AbstractActor> result = new HashSet<>();
+    for (final AbstractActor actor : actors) {
+      AbstractActor current = actor;
+      PiGraph container = current.getContainingPiGraph();
+      while (container != null && container != piGraph) {
+        current = container;
+        container = current.getContainingPiGraph();
+      }
+      if (container != null) {
+        result.add(current);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Computes the repetition values of the actors of one connected component. Zero rate FIFOs split the component in
+   * several parts which are solved separately.
+   */
+  private static void computeComponentRV(final PiGraph piGraph, final SparseTopology topology, final int[] component,
+      final long[] num, final long[] den, final int[] queue, final Map<AbstractVertex, Long> graphBRV) {
+    for (final int actor : component) {
+      num[actor] = 0L;
+    }
+    for (final int start : component) {
+      if (num[start] != 0L) {
+        continue;
+      }
+      // the first actor of each part has repetition ratio 1/1
+      num[start] = 1L;
+      den[start] = 1L;
+      int head = 0;
+      int tail = 0;
+      queue[tail++] = start;
+      boolean hasZeroRateFifo = false;
+      while (head < tail) {
+        final int actor = queue[head++];
+        for (int i = topology.adjStart[actor]; i < topology.adjStart[actor + 1]; i++) {
+          final int e = topology.adjEdges[i];
+          if (topology.prods[e] == 0L) {
+            // both rates are 0: the fifo is treated as non existent
+            hasZeroRateFifo = true;
+            continue;
+          }
+          final int next = topology.getOpposite(e, actor);
+          if (num[next] == 0L) {
+            propagateRatio(topology, e, actor, next, num, den);
+            queue[tail++] = next;
+          }
+        }
+      }
+
+      if (tail == 1 && hasZeroRateFifo && !hasNonZeroFifo(topology, start)) {
+        // if current actor is surrounded by null fifo, it is not executed
+        graphBRV.put(topology.actors[start], 0L);
+        continue;
+      }
+
+      // Computes the LCM of the reps denominators and sets the repetition values accordingly
+      long lcm = 1L;
+      try {
+        for (int i = 0; i < tail; i++) {
+          lcm = Math.multiplyExact(lcm / MathFunctionsHelper.gcd(lcm, den[queue[i]]), den[queue[i]]);
+        }
+        for (int i = 0; i < tail; i++) {
+          graphBRV.put(topology.actors[queue[i]], Math.multiplyExact(num[queue[i]], lcm / den[queue[i]]));
+        }
+      } catch (final ArithmeticException e) {
+        throw new PreesmRuntimeException("Repetition vector of the connected component of actor ["
+            + topology.actors[start].getVertexPath() + "] in graph [" + piGraph.getVertexPath()
+            + "] overflows 64 bits.", e);
+      }
+
+      checkConsistency(topology, queue, tail, graphBRV);
+    }
+  }
+
+  private static boolean hasNonZeroFifo(final SparseTopology topology, final int actor) {
+    for (int i = topology.adjStart[actor]; i < topology.adjStart[actor + 1]; i++) {
+      if (topology.prods[topology.adjEdges[i]] != 0L) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Sets the repetition ratio of next from the one of actor, as reduced fraction, through fifo e.
+   */
+  private static void propagateRatio(final SparseTopology topology, final int e, final int actor, final int next,
+      final long[] num, final long[] den) {
+    // rep(next) = rep(actor) * a / b
+    long a = topology.prods[e];
+    long b = topology.conss[e];
+    if (topology.sources[e] != actor) {
+      a = topology.conss[e];
+      b = topology.prods[e];
+    }
+    final long g = MathFunctionsHelper.gcd(a, b);
+    a /= g;
+    b /= g;
+    final long g1 = MathFunctionsHelper.gcd(num[actor], b);
+    final long g2 = MathFunctionsHelper.gcd(a, den[actor]);
+    try {
+      num[next] = Math.multiplyExact(num[actor] / g1, a / g2);
+      den[next] = Math.multiplyExact(den[actor] / g2, b / g1);
+    } catch (final ArithmeticException ex) {
+      throw new PreesmRuntimeException("Repetition ratio of actor [" + topology.actors[next].getVertexPath()
+          + "] overflows 64 bits when going through fifo [" + topology.fifos[e].getId() + "].", ex);
+    }
+  }
+
+  /**
+   * Checks that every fifo of a part of a connected component is balanced.
+   */
+  private static void checkConsistency(final SparseTopology topology, final int[] part, final int size,
+      final Map<AbstractVertex, Long> graphBRV) {
+    for (int p = 0; p < size; p++) {
+      final int actor = part[p];
+      for (int i = topology.adjStart[actor]; i < topology.adjStart[actor + 1]; i++) {
+        final int e = topology.adjEdges[i];
+        if (topology.sources[e] != actor || topology.prods[e] == 0L) {
+          continue;
+        }
+        final AbstractActor sourceActor = topology.actors[actor];
+        final AbstractActor targetActor = topology.actors[topology.targets[e]];
+        final long sourceRV = graphBRV.get(sourceActor);
+        final long targetRV = graphBRV.get(targetActor);
+        final long prod;
+        final long cons;
+        try {
+          prod = Math.multiplyExact(topology.prods[e], sourceRV);
+          cons = Math.multiplyExact(topology.conss[e], targetRV);
+        } catch (final ArithmeticException ex) {
+          throw new PreesmRuntimeException("Number of tokens exchanged per iteration on fifo ["
+              + topology.fifos[e].getId() + "] overflows 64 bits.", ex);
+        }
+        if (prod != cons) {
+          String message = "Graph non consistent: edge source production [" + sourceActor.getName() + "] with rate ["
+              + prod + "] != edge target consumption [" + targetActor.getName() + "] with rate [" + cons + "]";
+          throw new PreesmRuntimeException(message);
+        }
+      }
+    }
+  }
+
+}
@@ -39,6 +39,7 @@
 package org.preesm.model.pisdf.brv;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -106,7 +107,12 @@ class TopologyBasedBRV extends PiBRV {
 
   private double[][] getTopologyMatrix(final List<Fifo> listFifo, final List<AbstractActor> subgraph) {
     final double[][] topologyMatrix = new double[listFifo.size()][subgraph.size()];
-    for (final Fifo fifo : listFifo) {
+    final Map<AbstractActor, Integer> actorIndexes = new HashMap<>();
+    for (int i = 0; i < subgraph.size(); i++) {
+      actorIndexes.put(subgraph.get(i), i);
+    }
+    for (int fifoIndex = 0; fifoIndex < listFifo.size(); fifoIndex++) {
+      final Fifo fifo = listFifo.get(fifoIndex);
       final AbstractActor sourceActor = fifo.getSourcePort().getContainingActor();
       final AbstractActor targetActor = fifo.getTargetPort().getContainingActor();
       final long prod = fifo.getSourcePort().getPortRateExpression().evaluate();
@@ -117,15 +123,15 @@ class TopologyBasedBRV extends PiBRV {
         final String errorString = "Bad production / consumption rates\n";
         throw new PreesmRuntimeException("Fifo [" + fifo.getId() + "]\n" + prodString + consString + errorString);
       }
-      final int sourceIndex = subgraph.indexOf(sourceActor);
-      final int targetIndex = subgraph.indexOf(targetActor);
+      final int sourceIndex = actorIndexes.getOrDefault(sourceActor, -1);
+      final int targetIndex = actorIndexes.getOrDefault(targetActor, -1);
       if ((sourceIndex < 0) || (targetIndex < 0)) {
         throw new PreesmRuntimeException(
             "Bad index error:\nSource actor index [" + sourceActor.getName() + "]: " + Integer.toString(sourceIndex)
                 + "\nTarget actor index [" + targetActor.getName() + "]: " + Integer.toString(targetIndex));
       }
-      topologyMatrix[listFifo.indexOf(fifo)][sourceIndex] = prod;
-      topologyMatrix[listFifo.indexOf(fifo)][targetIndex] = -cons;
+      topologyMatrix[fifoIndex][sourceIndex] = prod;
+      topologyMatrix[fifoIndex][targetIndex] = -cons;
     }
 
     return topologyMatrix;
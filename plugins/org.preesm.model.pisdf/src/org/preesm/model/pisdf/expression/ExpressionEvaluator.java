@@ -41,6 +41,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import org.preesm.commons.math.CompiledExpression;
 import org.preesm.commons.math.ExpressionEvaluationException;
 import org.preesm.commons.math.JEPWrapper;
 import org.preesm.model.pisdf.AbstractActor;
@@ -111,10 +112,34 @@ public class ExpressionEvaluator {
    */
   public static final long evaluate(final Expression expression,
       final Map<Parameter, String> overridenParameterValues) {
+    if (overridenParameterValues.isEmpty()) {
+      final ResolvedValueStore store = ResolvedValueStore.lookup(expression);
+      if (store != null) {
+        return store.evaluate(expression);
+      }
+    }
     return new InternalExpressionEvaluationVisitor(Collections.emptyMap(), overridenParameterValues)
         .doSwitch(expression);
   }
 
+  /**
+   * Evaluate the expression without overridden values and without looking up the {@link ResolvedValueStore}.
+   */
+  static final long evaluateExpression(final Expression expression) {
+    return new InternalExpressionEvaluationVisitor(Collections.emptyMap(), Collections.emptyMap()).doSwitch(expression);
+  }
+
+  /**
+   * Evaluate the value of the parameter as seen by its dependents, without overridden values and without looking up
+   * the {@link ResolvedValueStore} for this parameter (its parents are still looked up).
+   */
+  static final long evaluateParameter(final Parameter param) {
+    if (param instanceof ConfigInputInterface) {
+      return (long) evaluateConfigInputInterface(Collections.emptyMap(), (ConfigInputInterface) param);
+    }
+    return evaluate(param, param.getExpression().getExpressionAsString(), Collections.emptyMap());
+  }
+
   /**
    *
    */
@@ -199,6 +224,12 @@ public class ExpressionEvaluator {
 
   private static double evaluateExpression(final Map<Parameter, String> overridenValues, final Parameter param,
       final String paramExpressionValue) {
+    if (overridenValues.isEmpty()) {
+      final ResolvedValueStore store = ResolvedValueStore.lookup(param);
+      if (store != null) {
+        return store.getParameterValue(param);
+      }
+    }
     final double evaluate;
     if (param instanceof ConfigInputInterface) {
       final ConfigInputInterface configInputInterface = (ConfigInputInterface) param;
@@ -230,7 +261,7 @@ public class ExpressionEvaluator {
       } else {
         connectedeParamExpressionValue = connectedParam.getExpression().getExpressionAsString();
       }
-      evaluate = evaluate(connectedParam, connectedeParamExpressionValue, overridenValues);
+      evaluate = evaluateExpression(overridenValues, connectedParam, connectedeParamExpressionValue);
     } else {
       evaluate = evaluate(configInputInterface.getExpression());
     }
@@ -286,18 +317,17 @@ public class ExpressionEvaluator {
         // NumberFormatException is thrown if the expression String does not represent a long value
         return Long.parseLong(expressionString);
       } catch (final NumberFormatException e) {
-        try {
-          // try to evaluate the expression without collecting variables, but only the one given in the parameterValue
-          // Map. ExpressionEvaluationException is thrown if the evaluation encounter unknown parameters.
+        final CompiledExpression compiledExpression = JEPWrapper.compile(expressionString);
+        if (compiledExpression.canEvaluate(this.parameterValues)) {
+          // evaluate the expression without collecting variables, but only the one given in the parameterValue Map.
           // This can speedup even with empty Map in case expression only involves constant values.
-          return JEPWrapper.evaluate(expressionString, this.parameterValues);
-        } catch (final ExpressionEvaluationException ex) {
-          // gather Expression parameters and evaluate the expression.
-          // ExpressionEvaluationException will still be thrown if something goes wrong.
-          final Map<String,
-              Number> addInputParameterValues = ExpressionEvaluator.lookupParameterValues(stringExpr, overridenValues);
-          return JEPWrapper.evaluate(expressionString, addInputParameterValues);
+          return compiledExpression.evaluate(this.parameterValues);
         }
+        // gather Expression parameters and evaluate the expression.
+        // ExpressionEvaluationException will still be thrown if something goes wrong.
+        final Map<String,
+            Number> addInputParameterValues = ExpressionEvaluator.lookupParameterValues(stringExpr, overridenValues);
+        return compiledExpression.evaluate(addInputParameterValues);
       }
     }
   }
@@ -0,0 +1,310 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.model.pisdf.expression;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.preesm.commons.model.IPreesmAdapter;
+import org.preesm.commons.model.PreesmAdapter;
+import org.preesm.commons.model.PreesmContentAdapter;
+import org.preesm.model.pisdf.ConfigInputInterface;
+import org.preesm.model.pisdf.ConfigInputPort;
+import org.preesm.model.pisdf.Configurable;
+import org.preesm.model.pisdf.DataPort;
+import org.preesm.model.pisdf.Dependency;
+import org.preesm.model.pisdf.Expression;
+import org.preesm.model.pisdf.ExpressionHolder;
+import org.preesm.model.pisdf.LongExpression;
+import org.preesm.model.pisdf.Parameter;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.PiMMPackage;
+import org.preesm.model.pisdf.StringExpression;
+
+/**
+ * Opt-in memoization of the values of the {@link Parameter}s and data port rates of a {@link PiGraph} hierarchy, as
+ * computed by {@link ExpressionEvaluator} when no overridden values are given.
+ *
+ * <p>
+ * The store is attached to the root graph with {@link #attach(PiGraph)} and observes all its contents. A change of the
+ * expression of a {@link Parameter} invalidates this parameter and all the parameters depending on it (following
+ * {@link Dependency} and {@link ConfigInputInterface} links), and all the cached rates. Any other change in the
+ * hierarchy (new vertex, new dependency, renaming, ...) invalidates the whole store.
+ * </p>
+ *
+ * <p>
+ * Values overriding the expressions of the parameters outside of the graph, such as the parameter values of a
+ * scenario, can be observed with {@link #observeOverrides(EObject, EStructuralFeature)}: any change of them
+ * invalidates the whole store. Copies of the graph do not share the store, a store must be attached to each copy.
+ * </p>
+ */
+public class ResolvedValueStore extends PreesmContentAdapter {
+
+  /**
+   * Attach a store to the root graph of the given graph, or return the one already attached.
+   */
+  public static final ResolvedValueStore attach(final PiGraph graph) {
+    final PiGraph root = (PiGraph) EcoreUtil.getRootContainer(graph);
+    return IPreesmAdapter.attach(root, ResolvedValueStore.class, ResolvedValueStore::new);
+  }
+
+  /**
+   * Detach the store from the root graph of the given graph (and from all its contents), if any.
+   */
+  public static final void detach(final PiGraph graph) {
+    final PiGraph root = (PiGraph) EcoreUtil.getRootContainer(graph);
+    final ResolvedValueStore store = IPreesmAdapter.adapt(root, ResolvedValueStore.class);
+    if (store != null) {
+      store.stopObservingOverrides();
+    }
+    IPreesmAdapter.unadapt(root, ResolvedValueStore.class);
+  }
+
+  /**
+   * Return the store observing the given model element, or null if none has been attached to its hierarchy.
+   */
+  public static final ResolvedValueStore lookup(final Notifier element) {
+    return IPreesmAdapter.adapt(element, ResolvedValueStore.class);
+  }
+
+  private final Map<Parameter, Long> parameterValues = new IdentityHashMap<>();
+  private final Map<DataPort, Long>  rateValues      = new IdentityHashMap<>();
+
+  private long hits   = 0L;
+  private long misses = 0L;
+
+  /** Observer of the overriding values, and the objects it observes. */
+  private final OverrideObserver overrideObserver  = new OverrideObserver();
+  private final List<Notifier>   overrideNotifiers = new ArrayList<>();
+
+  private ResolvedValueStore() {
+    super();
+  }
+
+  /**
+   * Value of the parameter as seen by its dependents, that is the value of the first non interface parent for
+   * {@link ConfigInputInterface}s.
+   */
+  public synchronized long getParameterValue(final Parameter parameter) {
+    final Long cached = this.parameterValues.get(parameter);
+    if (cached != null) {
+      this.hits++;
+      return cached;
+    }
+    this.misses++;
+    // evaluation may recursively fill the store with the values of the parent parameters
+    final long value = ExpressionEvaluator.evaluateParameter(parameter);
+    this.parameterValues.put(parameter, value);
+    return value;
+  }
+
+  /**
+   * Value of the rate of the given data port.
+   */
+  public synchronized long getRate(final DataPort port) {
+    final Long cached = this.rateValues.get(port);
+    if (cached != null) {
+      this.hits++;
+      return cached;
+    }
+    this.misses++;
+    final long value = ExpressionEvaluator.evaluateExpression(port.getPortRateExpression());
+    this.rateValues.put(port, value);
+    return value;
+  }
+
+  /**
+   * Evaluate the expression, using the store when its holder is a cached element.
+   */
+  synchronized long evaluate(final Expression expression) {
+    final ExpressionHolder holder = expression.getHolder();
+    if (holder instanceof DataPort) {
+      return getRate((DataPort) holder);
+    } else if (holder instanceof Parameter && !(holder instanceof ConfigInputInterface)) {
+      // the default expression of interfaces is not their value as seen by dependents: do not cache it
+      return getParameterValue((Parameter) holder);
+    }
+    return ExpressionEvaluator.evaluateExpression(expression);
+  }
+
+  public synchronized long getHits() {
+    return this.hits;
+  }
+
+  public synchronized long getMisses() {
+    return this.misses;
+  }
+
+  /**
+   * Observe the values held by the given feature of the owner, which override the expressions of the parameters (for
+   * instance the parameter values of a scenario): the store is cleared when values are added, removed, or changed.
+   */
+  public synchronized void observeOverrides(final EObject owner, final EStructuralFeature feature) {
+    this.overrideObserver.features.put(owner, feature);
+    observeOverride(owner);
+    observeOverrideValues(owner, feature);
+  }
+
+  private synchronized void observeOverride(final Notifier notifier) {
+    if (!this.overrideNotifiers.contains(notifier)) {
+      this.overrideNotifiers.add(notifier);
+      IPreesmAdapter.observe(notifier, this.overrideObserver);
+    }
+  }
+
+  private void observeOverrideValues(final EObject owner, final EStructuralFeature feature) {
+    final Object values = owner.eGet(feature);
+    final Collection<?> collection = (values instanceof Collection) ? (Collection<?>) values
+        : Collections.singleton(values);
+    for (final Object value : collection) {
+      if (value instanceof Notifier) {
+        observeOverride((Notifier) value);
+      }
+    }
+  }
+
+  private synchronized void stopObservingOverrides() {
+    for (final Notifier notifier : this.overrideNotifiers) {
+      notifier.eAdapters().remove(this.overrideObserver);
+    }
+    this.overrideNotifiers.clear();
+    this.overrideObserver.features.clear();
+  }
+
+  /**
+   * Clears the store when the observed overriding values change, and observes the new values.
+   */
+  private class OverrideObserver extends PreesmAdapter {
+
+    private final Map<EObject, EStructuralFeature> features = new IdentityHashMap<>();
+
+    @Override
+    public void notifyChanged(final Notification notification) {
+      if (notification.isTouch()) {
+        return;
+      }
+      final Object notifier = notification.getNotifier();
+      synchronized (ResolvedValueStore.this) {
+        final EStructuralFeature feature = this.features.get(notifier);
+        if (feature == null) {
+          // change of an observed value
+          clear();
+        } else if (notification.getFeature() == feature) {
+          observeOverrideValues((EObject) notifier, feature);
+          clear();
+        }
+      }
+    }
+  }
+
+  /**
+   * Drop all the cached values.
+   */
+  public synchronized void clear() {
+    this.parameterValues.clear();
+    this.rateValues.clear();
+  }
+
+  /**
+   * Drop the value of the parameter and of all the parameters that depend on it. All the rates are dropped.
+   */
+  public synchronized void invalidate(final Parameter parameter) {
+    this.rateValues.clear();
+    final Deque<Parameter> toVisit = new ArrayDeque<>();
+    toVisit.add(parameter);
+    while (!toVisit.isEmpty()) {
+      final Parameter current = toVisit.pop();
+      this.parameterValues.remove(current);
+      for (final Dependency dependency : current.getOutgoingDependencies()) {
+        final ConfigInputPort getter = dependency.getGetter();
+        final Configurable target = (getter != null) ? getter.getConfigurable() : null;
+        if (target instanceof Parameter) {
+          toVisit.push((Parameter) target);
+        } else if (target instanceof PiGraph) {
+          for (final Parameter subParameter : ((PiGraph) target).getParameters()) {
+            if (subParameter instanceof ConfigInputInterface
+                && ((ConfigInputInterface) subParameter).getGraphPort() == getter) {
+              toVisit.push(subParameter);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public void notifyChanged(final Notification notification) {
+    // maintain the adapter on the contents
+    super.notifyChanged(notification);
+    if (notification.isTouch()) {
+      return;
+    }
+    final Object notifier = notification.getNotifier();
+    if ((notifier instanceof StringExpression
+        && notification.getFeatureID(StringExpression.class) == PiMMPackage.STRING_EXPRESSION__EXPRESSION_STRING)
+        || (notifier instanceof LongExpression
+            && notification.getFeatureID(LongExpression.class) == PiMMPackage.LONG_EXPRESSION__VALUE)) {
+      expressionChanged(((Expression) notifier).getHolder());
+    } else if (notifier instanceof ExpressionHolder
+        && notification.getFeatureID(ExpressionHolder.class) == PiMMPackage.EXPRESSION_HOLDER__EXPRESSION) {
+      expressionChanged((ExpressionHolder) notifier);
+    } else if (notifier instanceof Expression) {
+      // opposite side of the holder expression reference, already handled on the holder side
+    } else {
+      // structural change: dependencies may have changed
+      clear();
+    }
+  }
+
+  private synchronized void expressionChanged(final ExpressionHolder holder) {
+    if (holder instanceof Parameter) {
+      invalidate((Parameter) holder);
+    } else if (holder instanceof DataPort) {
+      this.rateValues.remove(holder);
+    } else {
+      // delay sizes are not cached but may be proxied by the rates of delay actors
+      this.rateValues.clear();
+    }
+  }
+
+}
@@ -88,46 +88,59 @@ public final class PiMMUserFactory extends PiMMFactoryImpl implements PreesmUser
     final T copy = PreesmUserFactory.super.copyWithHistory(eObject);
 
     if (copy instanceof PiGraph) {
+      addGraphObservers((PiGraph) copy);
+    }
+
+    return copy;
+  }
+
+  /**
+   * Copy a PiGraph without tracking history. The {@link GraphObserver} is attached to the copied graph, its subgraphs
+   * and fifos, as done by {@link #copyWithHistory(EObject)}.
+   */
+  public PiGraph copyPiGraph(final PiGraph origGraph) {
+    final PiGraph copy = copy(origGraph);
+    addGraphObservers(copy);
+    return copy;
+  }
 
-      // Check if the PiGraph has an observer
-      boolean hasAnObserver = false;
-      for (Adapter adapt : ((PiGraph) copy).eAdapters()) {
+  private static void addGraphObservers(final PiGraph graph) {
+    // Check if the PiGraph has an observer
+    boolean hasAnObserver = false;
+    for (Adapter adapt : graph.eAdapters()) {
+      if (adapt instanceof GraphObserver) {
+        hasAnObserver = true;
+      }
+    }
+    if (!hasAnObserver) {
+      graph.eAdapters().add(GraphObserver.getInstance());
+    }
+
+    // Check for all subgraph in this PiGraph and its subgraph
+    for (PiGraph child : graph.getAllChildrenGraphs()) {
+      hasAnObserver = false;
+      for (Adapter adapt : child.eAdapters()) {
         if (adapt instanceof GraphObserver) {
           hasAnObserver = true;
         }
       }
       if (!hasAnObserver) {
-        copy.eAdapters().add(GraphObserver.getInstance());
+        child.eAdapters().add(GraphObserver.getInstance());
       }
+    }
 
-      // Check for all subgraph in this PiGraph and its subgraph
-      for (PiGraph graph : ((PiGraph) copy).getAllChildrenGraphs()) {
-        hasAnObserver = false;
-        for (Adapter adapt : graph.eAdapters()) {
-          if (adapt instanceof GraphObserver) {
-            hasAnObserver = true;
-          }
-        }
-        if (!hasAnObserver) {
-          graph.eAdapters().add(GraphObserver.getInstance());
+    // Check for all fifos in this PiGraph and its subgraph
+    for (Fifo fifo : graph.getAllFifos()) {
+      hasAnObserver = false;
+      for (Adapter adapt : fifo.eAdapters()) {
+        if (adapt instanceof GraphObserver) {
+          hasAnObserver = true;
         }
       }
-
-      // Check for all fifos in this PiGraph and its subgraph
-      for (Fifo fifo : ((PiGraph) copy).getAllFifos()) {
-        hasAnObserver = false;
-        for (Adapter adapt : fifo.eAdapters()) {
-          if (adapt instanceof GraphObserver) {
-            hasAnObserver = true;
-          }
-        }
-        if (!hasAnObserver) {
-          fifo.eAdapters().add(GraphObserver.getInstance());
-        }
+      if (!hasAnObserver) {
+        fifo.eAdapters().add(GraphObserver.getInstance());
       }
     }
-
-    return copy;
   }
 
   /**
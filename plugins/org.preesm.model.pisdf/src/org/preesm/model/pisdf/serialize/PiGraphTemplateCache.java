@@ -0,0 +1,154 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.model.pisdf.serialize;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.factory.PiMMUserFactory;
+
+/**
+ * Process-wide cache of the {@link PiGraph} parsed from Pi files. Graphs are keyed by their workspace path and
+ * invalidated when the modification time or the length of the file changes. The cached graphs are templates that are
+ * never returned: each lookup returns a fresh copy, owned by the caller.
+ *
+ * <p>
+ * When the file cannot be located in a workspace (e.g. in plain Java applications), the cache is bypassed and the
+ * file is parsed on each call.
+ * </p>
+ */
+public final class PiGraphTemplateCache {
+
+  /** Maximum number of parsed graphs kept in memory. */
+  public static final int MAX_ENTRIES = 64;
+
+  /** Parsed graph and the stamp of the file it was parsed from. */
+  private static final class Template {
+    private final long    modified;
+    private final long    length;
+    private final PiGraph graph;
+
+    private Template(final long modified, final long length, final PiGraph graph) {
+      this.modified = modified;
+      this.length = length;
+      this.graph = graph;
+    }
+  }
+
+  /** Templates in access order, the least recently used one is evicted first. */
+  private static final Map<String, Template> TEMPLATES = new LinkedHashMap<String, Template>(16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String, Template> eldest) {
+      return size() > MAX_ENTRIES;
+    }
+  };
+
+  private PiGraphTemplateCache() {
+    // disallow instantiation
+  }
+
+  /**
+   * Gets a copy of the graph stored in the given file, parsing the file only if it was not cached or has changed
+   * since it was parsed.
+   *
+   * @param algorithmURL
+   *          workspace path of the Pi file
+   * @return a new {@link PiGraph}, not shared with other callers
+   */
+  public static PiGraph getPiGraph(final String algorithmURL) {
+    final File file = getFile(algorithmURL);
+    if (file == null) {
+      return PiParser.parsePiGraph(algorithmURL);
+    }
+    final long modified = file.lastModified();
+    final long length = file.length();
+
+    final Template cached;
+    synchronized (TEMPLATES) {
+      cached = TEMPLATES.get(algorithmURL);
+    }
+    if (cached != null && cached.modified == modified && cached.length == length) {
+      return copy(cached.graph);
+    }
+
+    // parse outside of the lock, concurrent resolutions of distinct files should not wait for each other
+    final PiGraph graph = PiParser.parsePiGraph(algorithmURL);
+    synchronized (TEMPLATES) {
+      TEMPLATES.put(algorithmURL, new Template(modified, length, graph));
+    }
+    return copy(graph);
+  }
+
+  /**
+   * Copies the template into a new resource having the same URI, so that the copy can be located as the parsed graph.
+   * Copies of the same template are serialized since reading an EMF model may lazily initialize its lists, copies of
+   * distinct templates run concurrently.
+   */
+  private static PiGraph copy(final PiGraph template) {
+    final PiGraph copy;
+    synchronized (template) {
+      copy = PiMMUserFactory.instance.copyPiGraph(template);
+    }
+    final Resource resource = template.eResource();
+    if (resource != null) {
+      new PiResourceImpl(resource.getURI()).getContents().add(copy);
+    }
+    return copy;
+  }
+
+  /**
+   * Returns the file of the workspace resource at the given path, or null if there is none.
+   */
+  private static File getFile(final String algorithmURL) {
+    try {
+      final IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(algorithmURL);
+      if (resource != null && resource.getType() == IResource.FILE) {
+        final IPath location = resource.getLocation();
+        if (location != null) {
+          final File file = location.toFile();
+          return file.isFile() ? file : null;
+        }
+      }
+    } catch (final RuntimeException | LinkageError e) {
+      // no workspace, or not a path
+    }
+    return null;
+  }
+}
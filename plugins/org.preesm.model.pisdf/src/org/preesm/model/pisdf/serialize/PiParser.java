@@ -40,17 +40,14 @@
  */
 package org.preesm.model.pisdf.serialize;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
-import org.apache.commons.io.IOUtils;
+import javax.xml.stream.XMLStreamException;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
-import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.emf.common.util.URI;
@@ -59,6 +56,7 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.preesm.commons.DomUtil;
+import org.preesm.commons.StreamedDocumentReader;
 import org.preesm.commons.exceptions.PreesmRuntimeException;
 import org.preesm.model.pisdf.AbstractActor;
 import org.preesm.model.pisdf.AbstractVertex;
@@ -106,10 +104,12 @@ import org.preesm.model.pisdf.factory.PiMMUserFactory;
 import org.preesm.model.pisdf.reconnection.SubgraphReconnector;
 import org.preesm.model.pisdf.util.PiIdentifiers;
 import org.preesm.model.pisdf.util.PiSDFXSDValidator;
+import org.preesm.model.pisdf.util.PiSDFXSDValidator.PiSDFXSDValidationException;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
 
 /**
  * Parser for the PiMM Model in the Pi format.
@@ -120,15 +120,25 @@ import org.w3c.dom.NodeList;
 public class PiParser {
 
   /**
-   * Gets the pi graph.
+   * Gets the pi graph. The file is parsed only once as long as it does not change, see {@link PiGraphTemplateCache};
+   * the returned graph is a new copy on each call.
    *
    * @param algorithmURL
    *          URL of the Algorithm.
    * @return the {@link PiGraph} algorithm.
-   * @throws CoreException
-   *           the core exception
    */
   public static PiGraph getPiGraph(final String algorithmURL) {
+    return PiGraphTemplateCache.getPiGraph(algorithmURL);
+  }
+
+  /**
+   * Parses the pi graph, without any caching.
+   *
+   * @param algorithmURL
+   *          URL of the Algorithm.
+   * @return the {@link PiGraph} algorithm.
+   */
+  static PiGraph parsePiGraph(final String algorithmURL) {
     PiGraph pigraph = null;
     final ResourceSet resourceSet = new ResourceSetImpl();
 
@@ -209,27 +219,41 @@ public class PiParser {
    *
    * @param inputStream
    *          The Parsed input stream
+   * @param streaming
+   *          if true, the document is streamed and the nodes and edges are parsed one at a time, and it is validated
+   *          in the same pass; otherwise the whole document is loaded in a DOM, then validated and parsed. Both produce
+   *          the same graph.
    * @return The parsed Graph or null is something went wrong
    */
-  PiGraph parse(final InputStream inputStream) {
+  PiGraph parse(final InputStream inputStream, final boolean streaming) {
     // Instantiate the graph that will be filled with parser informations
     final PiGraph graph = PiMMUserFactory.instance.createPiGraph();
 
-    // wrap the input stream in one that supports mark/reset
-    final BufferedInputStream bis = new BufferedInputStream(inputStream);
+    if (streaming) {
+      // each event is validated before the node or edge it belongs to is parsed
+      try {
+        final StreamedGraphHandler handler = new StreamedGraphHandler(graph);
+        StreamedDocumentReader.read(inputStream, handler, PiSDFXSDValidator.newValidatorHandler());
+        handler.checkGraphFound();
+      } catch (final XMLStreamException e) {
+        if (e.getNestedException() instanceof final SAXException saxException) {
+          throw new PiSDFXSDValidationException("Could not validate PiSDF", saxException);
+        }
+        throw new PreesmRuntimeException("Could not parse the input graph: \n" + e.getMessage(), e);
+      } catch (final RuntimeException e) {
+        throw new PreesmRuntimeException("Could not parse the input graph: \n" + e.getMessage(), e);
+      }
+      return graph;
+    }
 
+    // Parse the input stream
+    final Document document = DomUtil.parseDocument(inputStream);
     try {
-      bis.mark(Integer.MAX_VALUE);
-      final String pisdfContent = IOUtils.toString(bis, StandardCharsets.UTF_8);
-      PiSDFXSDValidator.validate(pisdfContent);
-      bis.reset();
+      PiSDFXSDValidator.validate(document);
     } catch (final IOException ex) {
       throw new PreesmRuntimeException("Could not parse the input graph: \n" + ex.getMessage(), ex);
     }
 
-    // Parse the input stream
-    final Document document = DomUtil.parseDocument(bis);
-
     // Retrieve the root element
     final Element rootElt = document.getDocumentElement();
 
@@ -733,6 +757,24 @@ public class PiParser {
     // document
     final Element graphElt = (Element) graphElts.item(0);
 
+    parseGraphAttributes(graphElt, graph);
+
+    // Parse the elements of the graph
+    final NodeList childList = graphElt.getChildNodes();
+    for (int i = 0; i < childList.getLength(); i++) {
+      parseGraphChild(childList.item(i), graph);
+    }
+  }
+
+  /**
+   * Parse the attributes of the graph element of the Pi description.
+   *
+   * @param graphElt
+   *          The graph element
+   * @param graph
+   *          The deserialized {@link PiGraph}
+   */
+  private void parseGraphAttributes(final Element graphElt, final PiGraph graph) {
     final String attribute = graphElt.getAttribute(PiIdentifiers.ACTOR_PERIOD);
     if (attribute != null && !attribute.isEmpty()) {
       graph.setExpression(attribute);
@@ -748,33 +790,94 @@ public class PiParser {
       // If there is no attribute for cluster value, it means that current PiGraph is not a cluster
       graph.setClusterValue(false);
     }
+  }
 
-    // Parse the elements of the graph
-    final NodeList childList = graphElt.getChildNodes();
-    for (int i = 0; i < childList.getLength(); i++) {
-      final Node elt = childList.item(i);
+  /**
+   * Parse a child of the graph element of the Pi description: a graph property, a node or an edge.
+   *
+   * @param elt
+   *          The child node
+   * @param graph
+   *          The deserialized {@link PiGraph}
+   */
+  private void parseGraphChild(final Node elt, final PiGraph graph) {
+    final String eltName = elt.getNodeName();
+
+    switch (eltName) {
+      case PiIdentifiers.DATA:
+        // Properties of the Graph.
+        final String keyName = elt.getAttributes().getNamedItem(PiIdentifiers.DATA_KEY).getNodeValue();
+        final String keyValue = elt.getTextContent();
+        if (keyName.equals(PiIdentifiers.GRAPH_NAME)) {
+          graph.setName(keyValue);
+        }
+        break;
+      case PiIdentifiers.NODE:
+        // Node elements
+        parseNode((Element) elt, graph);
+        break;
+      case PiIdentifiers.EDGE:
+        // Edge elements
+        parseEdge((Element) elt, graph);
+        break;
+      default:
 
-      final String eltName = elt.getNodeName();
+    }
+  }
 
-      switch (eltName) {
-        case PiIdentifiers.DATA:
-          // Properties of the Graph.
-          final String keyName = elt.getAttributes().getNamedItem(PiIdentifiers.DATA_KEY).getNodeValue();
-          final String keyValue = elt.getTextContent();
-          if (keyName.equals(PiIdentifiers.GRAPH_NAME)) {
-            graph.setName(keyValue);
-          }
-          break;
-        case PiIdentifiers.NODE:
-          // Node elements
-          parseNode((Element) elt, graph);
-          break;
-        case PiIdentifiers.EDGE:
-          // Edge elements
-          parseEdge((Element) elt, graph);
-          break;
-        default:
+  /**
+   * Streamed counterpart of {@link PiParser#parseGraph(Element, PiGraph)}: the graph element is streamed, and each of
+   * its children is built and parsed on its own, in document order.
+   */
+  private class StreamedGraphHandler implements StreamedDocumentReader.Handler {
+
+    private final PiGraph graph;
+    private int           nbGraphs = 0;
+    private boolean       inGraph  = false;
+
+    StreamedGraphHandler(final PiGraph graph) {
+      this.graph = graph;
+    }
+
+    @Override
+    public boolean open(final Element element) {
+      if (this.inGraph) {
+        // nodes, edges and properties of the graph are built whole
+        return false;
+      }
+      if (PiIdentifiers.GRAPH.equals(element.getNodeName())) {
+        checkUniqueGraph();
+        parseGraphAttributes(element, this.graph);
+        this.inGraph = true;
+      }
+      return true;
+    }
+
+    @Override
+    public void element(final Element element) {
+      if (element.getElementsByTagName(PiIdentifiers.GRAPH).getLength() > 0) {
+        checkUniqueGraph();
+      }
+      parseGraphChild(element, this.graph);
+    }
+
+    @Override
+    public void close(final Element element) {
+      if (this.inGraph && PiIdentifiers.GRAPH.equals(element.getNodeName())) {
+        this.inGraph = false;
+      }
+    }
+
+    private void checkGraphFound() {
+      if (this.nbGraphs == 0) {
+        throw new PreesmRuntimeException("No graph was found in the parsed document");
+      }
+    }
 
+    private void checkUniqueGraph() {
+      this.nbGraphs++;
+      if (this.nbGraphs > 1) {
+        throw new PreesmRuntimeException("More than one graph was found in the parsed document");
       }
     }
   }
@@ -53,6 +53,12 @@ import org.preesm.model.pisdf.PiGraph;
  */
 public class PiResourceImpl extends ResourceImpl {
 
+  /**
+   * Load option selecting the parser. By default the document is streamed and parsed one node or edge at a time; when
+   * this option is mapped to {@link Boolean#FALSE}, the whole document is loaded in a DOM before being parsed.
+   */
+  public static final String OPTION_STREAMING = "org.preesm.model.pisdf.serialize.streaming";
+
   /**
    * Default constructor of the {@link PiResourceImpl}
    *
@@ -85,7 +91,8 @@ public class PiResourceImpl extends ResourceImpl {
   @Override
   protected void doLoad(final InputStream inputStream, final Map<?, ?> options) throws IOException {
     // Parse the Graph from the InputStream using the Pi format
-    final PiGraph graph = new PiParser(this.uri).parse(inputStream);
+    final boolean streaming = (options == null) || !Boolean.FALSE.equals(options.get(OPTION_STREAMING));
+    final PiGraph graph = new PiParser(this.uri).parse(inputStream, streaming);
 
     // If the graph was correctly parsed, add it to the Resource
     if (graph != null) {
@@ -41,6 +41,8 @@
  */
 package org.preesm.model.pisdf.serialize;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
@@ -48,6 +50,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.apache.commons.io.output.TeeOutputStream;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -275,26 +278,15 @@ public class PiWriter {
     // Fill the root Element with the Graph
     writePi(this.rootElement, graph);
 
-    final OutputStream tmpStream = new OutputStream() {
-      StringBuilder buffer = new StringBuilder();
-
-      @Override
-      public void write(final int b) throws IOException {
-        outputStream.write(b);
-        this.buffer.append((char) b);
-      }
-
-      @Override
-      public String toString() {
-        return this.buffer.toString();
-      }
-    };
+    // keep the written bytes for the validation
+    final ByteArrayOutputStream writtenBytes = new ByteArrayOutputStream();
+    final OutputStream tmpStream = new TeeOutputStream(outputStream, writtenBytes);
 
     // Produce the output file
     DomUtil.writeDocument(this.domDocument, tmpStream);
 
     try {
-      PiSDFXSDValidator.validate(tmpStream.toString());
+      PiSDFXSDValidator.validate(new ByteArrayInputStream(writtenBytes.toByteArray()));
     } catch (final IOException e) {
       throw new PreesmRuntimeException("Fatal Error: the wirtten PiSDF does not comply to the XSD Schema", e);
     }
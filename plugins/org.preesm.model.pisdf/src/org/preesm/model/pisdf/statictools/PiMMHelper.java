@@ -45,6 +45,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -151,11 +152,11 @@ public class PiMMHelper {
       return Collections.emptyList();
     }
     final boolean containsInterfaceActors = containsInterfaceActors(cc);
-    final List<Fifo> fifos = new ArrayList<>();
+    final Set<Fifo> fifos = new LinkedHashSet<>();
     for (final AbstractActor actor : cc) {
       extractFifosFromActor(containsInterfaceActors, actor, fifos);
     }
-    return fifos;
+    return new ArrayList<>(fifos);
   }
 
   /**
@@ -166,10 +167,10 @@ public class PiMMHelper {
    * @param actor
    *          the actor to evaluate
    * @param fifos
-   *          list of Fifo to update @ the PiMMHandlerException exception
+   *          set of Fifo to update @ the PiMMHandlerException exception
    */
   private static void extractFifosFromActor(final boolean containsInterfaceActors, final AbstractActor actor,
-      final List<Fifo> fifos) {
+      final Set<Fifo> fifos) {
     for (final DataPort port : actor.getAllDataPorts()) {
       final Fifo fifo = port.getFifo();
       if (fifo == null) {
@@ -182,9 +183,7 @@ public class PiMMHelper {
           && ((sourceActor instanceof InterfaceActor) || (targetActor instanceof InterfaceActor))) {
         continue;
       }
-      if (!fifos.contains(fifo)) {
-        fifos.add(fifo);
-      }
+      fifos.add(fifo);
     }
   }
 
@@ -266,22 +265,16 @@ public class PiMMHelper {
     // Fetch all actors without interfaces in the PiGraph
     final List<List<AbstractActor>> listCCs = new ArrayList<>();
     final List<AbstractActor> fullActorList = new ArrayList<>(graph.getActors());
+    final Set<AbstractActor> visited = new HashSet<>();
     for (final AbstractActor actor : fullActorList) {
       // Ignore unused delay actor
       if ((actor instanceof final DelayActor delayActor) && !delayActor.getLinkedDelay().isDynamic()) {
         continue;
       }
-      boolean alreadyContained = false;
-      for (final List<AbstractActor> cc : listCCs) {
-        if (cc.contains(actor)) {
-          alreadyContained = true;
-          break;
-        }
-      }
-      if (!alreadyContained) {
+      if (visited.add(actor)) {
         final List<AbstractActor> cc = new ArrayList<>();
         cc.add(actor);
-        PiMMHelper.iterativeCCFetcher(actor, cc);
+        PiMMHelper.iterativeCCFetcher(actor, cc, visited);
         listCCs.add(cc);
       }
     }
@@ -295,8 +288,11 @@ public class PiMMHelper {
    *          the current actor
    * @param cc
    *          the current connected component @ the PiMMHandlerException exception
+   * @param visited
+   *          the actors already put in a connected component
    */
-  private static void iterativeCCFetcher(final AbstractActor actor, final List<AbstractActor> cc) {
+  private static void iterativeCCFetcher(final AbstractActor actor, final List<AbstractActor> cc,
+      final Set<AbstractActor> visited) {
     for (final ConfigOutputPort output : actor.getConfigOutputPorts()) {
       final Fifo fifo = output.getOutgoingFifo();
       if (fifo == null && output.getOutgoingDependencies().isEmpty()) {
@@ -304,9 +300,9 @@ public class PiMMHelper {
             + output.getName() + "] is not connected to a FIFO nor a parameter.");
       }
       final AbstractActor targetActor = fifo.getTargetPort().getContainingActor();
-      if (!cc.contains(targetActor)) {
+      if (visited.add(targetActor)) {
         cc.add(targetActor);
-        PiMMHelper.iterativeCCFetcher(targetActor, cc);
+        PiMMHelper.iterativeCCFetcher(targetActor, cc, visited);
       }
     }
     for (final DataOutputPort output : actor.getDataOutputPorts()) {
@@ -316,9 +312,9 @@ public class PiMMHelper {
             + "] is not connected to a FIFO.");
       }
       final AbstractActor targetActor = fifo.getTargetPort().getContainingActor();
-      if (!cc.contains(targetActor)) {
+      if (visited.add(targetActor)) {
         cc.add(targetActor);
-        PiMMHelper.iterativeCCFetcher(targetActor, cc);
+        PiMMHelper.iterativeCCFetcher(targetActor, cc, visited);
       }
     }
     for (final DataInputPort input : actor.getDataInputPorts()) {
@@ -328,9 +324,9 @@ public class PiMMHelper {
             + "] is not connected to a FIFO.");
       }
       final AbstractActor sourceActor = fifo.getSourcePort().getContainingActor();
-      if (!cc.contains(sourceActor)) {
+      if (visited.add(sourceActor)) {
         cc.add(sourceActor);
-        PiMMHelper.iterativeCCFetcher(sourceActor, cc);
+        PiMMHelper.iterativeCCFetcher(sourceActor, cc, visited);
       }
     }
   }
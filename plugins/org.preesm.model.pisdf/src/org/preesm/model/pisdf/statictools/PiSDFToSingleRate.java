@@ -46,6 +46,10 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.logging.Level;
 import org.preesm.commons.IntegerName;
 import org.preesm.commons.exceptions.PreesmRuntimeException;
@@ -89,6 +93,7 @@ import org.preesm.model.pisdf.check.PiGraphConsistenceChecker;
 import org.preesm.model.pisdf.factory.PiMMUserFactory;
 import org.preesm.model.pisdf.statictools.optims.BroadcastRoundBufferOptimization;
 import org.preesm.model.pisdf.statictools.optims.ForkJoinOptimization;
+import org.preesm.model.pisdf.util.PiGraphLookupIndex;
 import org.preesm.model.pisdf.util.PiMMSwitch;
 
 /**
@@ -135,17 +140,21 @@ public class PiSDFToSingleRate extends PiMMSwitch<Boolean> {
 
   private final Map<Parameter, Parameter> param2param = new LinkedHashMap<>();
 
+  /** Pool expanding the children graphs of a same firing concurrently, null if sequential. */
+  private final ForkJoinPool pool;
+
   /**
    * Instantiates a new abstract StaticPiMM2ASrPiMMVisitor.
    *
    */
-  private PiSDFToSingleRate(final PiGraph inputGraph, final Map<AbstractVertex, Long> brv) {
+  private PiSDFToSingleRate(final PiGraph inputGraph, final Map<AbstractVertex, Long> brv, final ForkJoinPool pool) {
     this.inputGraph = inputGraph;
     this.result = PiMMUserFactory.instance.createPiGraph();
     PreesmCopyTracker.trackCopy(inputGraph, this.result);
     this.result.setName(this.inputGraph.getName());
     this.result.setUrl(this.inputGraph.getUrl());
     this.brv = brv;
+    this.pool = pool;
     this.graphName = "";
     this.graphPrefix = "";
     this.firingInstance = 0;
@@ -154,12 +163,39 @@ public class PiSDFToSingleRate extends PiMMSwitch<Boolean> {
     this.result.setExpression(inputGraph.getPeriod().evaluate());
   }
 
+  /**
+   * Instantiates a visitor expanding one child graph of the parent visitor in a separate fragment graph, which is then
+   * merged in the result of the parent by {@link #mergeFragment(PiSDFToSingleRate)}.
+   */
+  private PiSDFToSingleRate(final PiSDFToSingleRate parent, final long firingInstance) {
+    this.inputGraph = parent.inputGraph;
+    this.result = PiMMUserFactory.instance.createPiGraph();
+    this.brv = parent.brv;
+    this.pool = parent.pool;
+    this.graphName = parent.graphName;
+    this.graphPrefix = parent.graphPrefix;
+    this.firingInstance = firingInstance;
+    this.param2param.putAll(parent.param2param);
+  }
+
   /**
    * Precondition: All.
    *
    * @return the SDFGraph obtained by visiting graph
    */
   public static final PiGraph compute(final PiGraph graph, final BRVMethod method) {
+    return compute(graph, method, 1);
+  }
+
+  /**
+   * Precondition: All.
+   *
+   * @param nbThreads
+   *          Number of threads expanding the children graphs of a same hierarchy level concurrently. The result does
+   *          not depend on it.
+   * @return the SDFGraph obtained by visiting graph
+   */
+  public static final PiGraph compute(final PiGraph graph, final BRVMethod method, final int nbThreads) {
 
     PreesmLogger.getLogger().log(Level.FINE, " >> Start srdag transfo");
 
@@ -195,8 +231,27 @@ public class PiSDFToSingleRate extends PiMMSwitch<Boolean> {
 
     // 5. Convert to SR-DAG
     PreesmLogger.getLogger().log(Level.FINE, " >>   - apply single rate transfo");
-    PiSDFToSingleRate staticPiMM2ASrPiMMVisitor = new PiSDFToSingleRate(graphCopy, brv);
-    staticPiMM2ASrPiMMVisitor.doSwitch(graphCopy);
+    final ForkJoinPool pool = nbThreads > 1 ? new ForkJoinPool(nbThreads) : null;
+    // delay actors added during the transformation are put in the BRV by all the threads
+    final Map<AbstractVertex, Long> srBrv = pool != null ? new ConcurrentHashMap<>(brv) : brv;
+    final PiSDFToSingleRate staticPiMM2ASrPiMMVisitor = new PiSDFToSingleRate(graphCopy, srBrv, pool);
+    // the SR linkers look up vertices by name in both graphs
+    PiGraphLookupIndex.attach(graphCopy);
+    PiGraphLookupIndex.attach(staticPiMM2ASrPiMMVisitor.getResult());
+    try {
+      if (pool == null) {
+        staticPiMM2ASrPiMMVisitor.doSwitch(graphCopy);
+      } else {
+        // children graphs are forked from the pool threads only
+        join(pool.submit(() -> staticPiMM2ASrPiMMVisitor.doSwitch(graphCopy)));
+      }
+    } finally {
+      PiGraphLookupIndex.detach(graphCopy);
+      PiGraphLookupIndex.detach(staticPiMM2ASrPiMMVisitor.getResult());
+      if (pool != null) {
+        pool.shutdownNow();
+      }
+    }
     final PiGraph acyclicSRPiMM = staticPiMM2ASrPiMMVisitor.getResult();
 
     srCheck(graphCopy, acyclicSRPiMM);
@@ -935,12 +990,18 @@ public class PiSDFToSingleRate extends PiMMSwitch<Boolean> {
       long lInstance = backupInstance * graphRV + i;
       final String backupPrefix = this.graphPrefix;
       final String backupName = this.graphName;
-      for (final PiGraph g : graph.getChildrenGraphs()) {
-        this.firingInstance = lInstance;
-        doSwitch(g);
-        this.graphPrefix = backupPrefix;
-        this.graphName = backupName;
+      final List<PiGraph> childrenGraphs = graph.getChildrenGraphs();
+      if (canExpandConcurrently(childrenGraphs)) {
+        expandConcurrently(childrenGraphs, lInstance);
         this.actor2SRActors.clear();
+      } else {
+        for (final PiGraph g : childrenGraphs) {
+          this.firingInstance = lInstance;
+          doSwitch(g);
+          this.graphPrefix = backupPrefix;
+          this.graphName = backupName;
+          this.actor2SRActors.clear();
+        }
       }
       for (final Fifo f : graph.getFifosWithDelay()) {
         this.firingInstance = lInstance;
@@ -971,6 +1032,67 @@ public class PiSDFToSingleRate extends PiMMSwitch<Boolean> {
     return true;
   }
 
+  /**
+   * The children graphs of a firing only share the BRV and the lookup index of the input graph, both being thread
+   * safe, and each one of them is modified by a single thread if they are distinct.
+   */
+  private boolean canExpandConcurrently(final List<PiGraph> childrenGraphs) {
+    return (this.pool != null) && (childrenGraphs.size() > 1)
+        && (childrenGraphs.stream().distinct().count() == childrenGraphs.size());
+  }
+
+  /**
+   * Expand each child graph in its own fragment, then merge the fragments in the order of the children graphs. Each
+   * child only adds elements to the result and to the port maps, and only looks up the vertices it has created, so
+   * that the merged result is the same as the one of the sequential expansion.
+   */
+  private void expandConcurrently(final List<PiGraph> childrenGraphs, final long instance) {
+    final List<PiSDFToSingleRate> fragments = new ArrayList<>();
+    final List<ForkJoinTask<Boolean>> tasks = new ArrayList<>();
+    for (final PiGraph childGraph : childrenGraphs) {
+      final PiSDFToSingleRate fragment = new PiSDFToSingleRate(this, instance);
+      fragments.add(fragment);
+      tasks.add(ForkJoinTask.adapt(() -> fragment.expandFragment(childGraph)).fork());
+    }
+    for (int i = 0; i < fragments.size(); i++) {
+      join(tasks.get(i));
+      mergeFragment(fragments.get(i));
+    }
+  }
+
+  private Boolean expandFragment(final PiGraph childGraph) {
+    PiGraphLookupIndex.attach(this.result);
+    return doSwitch(childGraph);
+  }
+
+  private void mergeFragment(final PiSDFToSingleRate fragment) {
+    final PiGraph fragmentGraph = fragment.getResult();
+    PiGraphLookupIndex.detach(fragmentGraph);
+    new ArrayList<>(fragmentGraph.getParameters()).forEach(this.result::addParameter);
+    new ArrayList<>(fragmentGraph.getActors()).forEach(this.result::addActor);
+    new ArrayList<>(fragmentGraph.getFifos()).forEach(this.result::addFifo);
+    new ArrayList<>(fragmentGraph.getDependencies()).forEach(this.result::addDependency);
+    fragment.inPort2SRActors.forEach(
+        (port, vertices) -> this.inPort2SRActors.computeIfAbsent(port, p -> new ArrayList<>()).addAll(vertices));
+    fragment.outPort2SRActors.forEach(
+        (port, vertices) -> this.outPort2SRActors.computeIfAbsent(port, p -> new ArrayList<>()).addAll(vertices));
+    this.param2param.putAll(fragment.param2param);
+  }
+
+  private static void join(final ForkJoinTask<?> task) {
+    try {
+      task.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PreesmRuntimeException("Single-rate transformation has been interrupted.", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw new PreesmRuntimeException(e.getCause());
+    }
+  }
+
   /**
    * Split each delay actors in two delay actors: a setter and a getter.
    *
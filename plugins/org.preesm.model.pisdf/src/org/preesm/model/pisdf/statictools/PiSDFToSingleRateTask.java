@@ -64,10 +64,20 @@ import org.preesm.workflow.implement.AbstractWorkflowNodeImplementation;
     inputs = { @Port(name = "PiMM", type = PiGraph.class) }, outputs = { @Port(name = "PiMM", type = PiGraph.class) },
 
     parameters = { @Parameter(name = "Consistency_Method",
-        values = { @Value(name = "LCM", effect = ""), @Value(name = "Topology", effect = "") }) })
+        values = { @Value(name = "LCM", effect = ""), @Value(name = "Topology", effect = ""),
+            @Value(name = "Sparse", effect = "") }),
+        @Parameter(name = "Threads",
+            description = "Number of threads expanding the subgraphs of a same hierarchy level concurrently. The "
+                + "resulting graph does not depend on it.",
+            values = { @Value(name = "1", effect = "(default) Sequential transformation."),
+                @Value(name = "0", effect = "Uses as many threads as available processors."),
+                @Value(name = "$$n$$", effect = "Uses $$n$$ threads.") }) },
+
+    cacheable = true)
 public class PiSDFToSingleRateTask extends AbstractTaskImplementation {
 
   public static final String CONSISTENCY_METHOD = "Consistency_Method";
+  public static final String THREADS            = "Threads";
 
   final Logger logger = PreesmLogger.getLogger();
 
@@ -83,8 +93,10 @@ public class PiSDFToSingleRateTask extends AbstractTaskImplementation {
       throw new PreesmRuntimeException("Unsupported method for checking consistency [" + consistencyMethod + "]");
     }
 
+    final int nbThreads = getNbThreads(parameters.get(THREADS));
+
     // Flatten the graph
-    final PiGraph result = PiSDFToSingleRate.compute(graph, method);
+    final PiGraph result = PiSDFToSingleRate.compute(graph, method, nbThreads);
 
     final Map<String, Object> output = new LinkedHashMap<>();
     output.put(AbstractWorkflowNodeImplementation.KEY_PI_GRAPH, result);
@@ -95,9 +107,28 @@ public class PiSDFToSingleRateTask extends AbstractTaskImplementation {
   public Map<String, String> getDefaultParameters() {
     final LinkedHashMap<String, String> res = new LinkedHashMap<>();
     res.put(CONSISTENCY_METHOD, BRVMethod.LCM.getLiteral());
+    res.put(THREADS, "1");
     return res;
   }
 
+  private static int getNbThreads(final String nbThreadsStr) {
+    if (nbThreadsStr == null) {
+      return 1;
+    }
+    try {
+      final int nbThreads = Integer.parseInt(nbThreadsStr.trim());
+      if (nbThreads == 0) {
+        return Runtime.getRuntime().availableProcessors();
+      }
+      if (nbThreads > 0) {
+        return nbThreads;
+      }
+    } catch (final NumberFormatException e) {
+      // handled below
+    }
+    throw new PreesmRuntimeException("Unsupported number of threads [" + nbThreadsStr + "]");
+  }
+
   @Override
   public String monitorMessage() {
     return "Transforming PiGraph to Single-Rate Directed Acyclic PiGraph.";
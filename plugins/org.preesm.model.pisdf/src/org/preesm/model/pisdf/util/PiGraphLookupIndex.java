@@ -0,0 +1,478 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.model.pisdf.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.preesm.commons.model.IPreesmAdapter;
+import org.preesm.commons.model.PreesmContentAdapter;
+import org.preesm.model.pisdf.AbstractActor;
+import org.preesm.model.pisdf.AbstractVertex;
+import org.preesm.model.pisdf.Actor;
+import org.preesm.model.pisdf.Delay;
+import org.preesm.model.pisdf.Fifo;
+import org.preesm.model.pisdf.Parameter;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.PiMMPackage;
+import org.preesm.model.pisdf.PiSDFRefinement;
+import org.preesm.model.pisdf.Port;
+import org.preesm.model.pisdf.RefinementContainer;
+
+/**
+ * Opt-in index of the vertices and fifos of a {@link PiGraph} hierarchy, backing the lookup operations of
+ * {@link PiGraph} (such as {@link PiGraph#lookupVertex(String)} or {@link PiGraph#lookupFifos(AbstractActor,
+ * AbstractActor)}) while it is attached.
+ *
+ * <p>
+ * The index is attached to the root graph with {@link #attach(PiGraph)} and is shared by all the graphs it contains.
+ * Each graph is indexed lazily on its first lookup, by vertex name, by {@link Fifo#getId() fifo id} and by fifo source
+ * and target. The indexes are then maintained incrementally when vertices and fifos are added to or removed from the
+ * graph (see {@link PiGraph#addActor(AbstractActor)} and {@link PiGraph#addFifo(Fifo)}) and when vertices are renamed.
+ * Changes that cannot be followed incrementally (ports renamed or reconnected, refinements replaced, ...) drop the
+ * affected index, which is built again on the next lookup.
+ * </p>
+ *
+ * <p>
+ * When several elements match a lookup, the first one added to the graph is returned.
+ * </p>
+ */
+public class PiGraphLookupIndex extends PreesmContentAdapter {
+
+  /**
+   * Attach an index to the root graph of the given graph, or return the one already attached.
+   */
+  public static final PiGraphLookupIndex attach(final PiGraph graph) {
+    final PiGraph root = (PiGraph) EcoreUtil.getRootContainer(graph);
+    return IPreesmAdapter.attach(root, PiGraphLookupIndex.class, PiGraphLookupIndex::new);
+  }
+
+  /**
+   * Detach the index from the root graph of the given graph (and from all its contents), if any.
+   */
+  public static final void detach(final PiGraph graph) {
+    final PiGraph root = (PiGraph) EcoreUtil.getRootContainer(graph);
+    IPreesmAdapter.unadapt(root, PiGraphLookupIndex.class);
+  }
+
+  /**
+   * Return the index observing the given model element, or null if none has been attached to its hierarchy.
+   */
+  public static final PiGraphLookupIndex lookup(final Notifier element) {
+    return IPreesmAdapter.adapt(element, PiGraphLookupIndex.class);
+  }
+
+  /**
+   * Indexes of the content of a single graph.
+   */
+  private static class GraphIndex {
+    /** Vertices by name, in insertion order. */
+    private final Map<String, List<AbstractVertex>> vertices           = new HashMap<>();
+    /** {@link PiGraph}s and {@link Actor}s with a {@link PiSDFRefinement}, that may have children graphs. */
+    private final List<AbstractActor>               hierarchicalActors = new ArrayList<>();
+
+    /** Fifos by id, built lazily. */
+    private Map<String, Fifo>                                  fifoIds   = null;
+    private Map<Fifo, String>                                  fifoKeys  = null;
+    /** Fifos by source and target, built lazily. */
+    private Map<AbstractActor, Map<AbstractActor, List<Fifo>>> fifoEnds  = null;
+    private Map<Fifo, List<Fifo>>                              fifoLists = null;
+  }
+
+  private final Map<PiGraph, GraphIndex> graphs = new IdentityHashMap<>();
+
+  private PiGraphLookupIndex() {
+    super();
+  }
+
+  /**
+   * Same as {@link PiGraph#lookupVertex(String)}.
+   */
+  public synchronized AbstractVertex lookupVertex(final PiGraph graph, final String vertexName) {
+    final AbstractActor actor = findFirst(graph, vertexName, AbstractActor.class);
+    return (actor != null) ? actor : findFirst(graph, vertexName, Parameter.class);
+  }
+
+  /**
+   * Same as {@link PiGraph#lookupAllVertex(String)}.
+   */
+  public synchronized AbstractVertex lookupAllVertex(final PiGraph graph, final String vertexName) {
+    final AbstractActor actor = findFirstInHierarchy(graph, vertexName, AbstractActor.class);
+    return (actor != null) ? actor : findFirstInHierarchy(graph, vertexName, Parameter.class);
+  }
+
+  /**
+   * Same as {@link PiGraph#lookupDelay(String)}.
+   */
+  public synchronized Delay lookupDelay(final PiGraph graph, final String delayId) {
+    return findFirst(graph, delayId, Delay.class);
+  }
+
+  /**
+   * Same as {@link PiGraph#lookupParameterGivenGraph(String, String)}.
+   */
+  public synchronized Parameter lookupParameterGivenGraph(final PiGraph graph, final String parameterName,
+      final String graphName) {
+    if (Objects.equals(graph.getName(), graphName)) {
+      final Parameter parameter = findFirst(graph, parameterName, Parameter.class);
+      if (parameter != null) {
+        return parameter;
+      }
+    }
+    for (final PiGraph child : getChildrenGraphs(graph)) {
+      final Parameter parameter = lookupParameterGivenGraph(child, parameterName, graphName);
+      if (parameter != null) {
+        return parameter;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Same as {@link PiGraph#lookupFifo(String)}.
+   */
+  public synchronized Fifo lookupFifo(final PiGraph graph, final String fifoId) {
+    final GraphIndex index = getIndex(graph);
+    if (index.fifoIds == null) {
+      buildFifoIndexes(graph, index);
+    }
+    return index.fifoIds.get(fifoId);
+  }
+
+  /**
+   * Same as {@link PiGraph#lookupFifos(AbstractActor, AbstractActor)}. The fifos are returned in insertion order.
+   */
+  public synchronized EList<Fifo> lookupFifos(final PiGraph graph, final AbstractActor source,
+      final AbstractActor target) {
+    final GraphIndex index = getIndex(graph);
+    if (index.fifoEnds == null) {
+      buildFifoIndexes(graph, index);
+    }
+    final List<Fifo> fifos = index.fifoEnds.getOrDefault(source, Collections.emptyMap()).get(target);
+    return (fifos == null) ? new BasicEList<>() : new BasicEList<>(fifos);
+  }
+
+  /**
+   * Drop all the indexes. They will be built again on the next lookups.
+   */
+  public synchronized void clear() {
+    this.graphs.clear();
+  }
+
+  private <T extends AbstractVertex> T findFirst(final PiGraph graph, final String name, final Class<T> type) {
+    if (lookup(graph) != this) {
+      // graph outside of the observed hierarchy (subgraph of a refinement for instance)
+      return graph.getVertices().stream().filter(type::isInstance).map(type::cast)
+          .filter(v -> Objects.equals(v.getName(), name)).findFirst().orElse(null);
+    }
+    final List<AbstractVertex> candidates = getIndex(graph).vertices.get(name);
+    if (candidates != null) {
+      for (final AbstractVertex candidate : candidates) {
+        if (type.isInstance(candidate)) {
+          return type.cast(candidate);
+        }
+      }
+    }
+    return null;
+  }
+
+  private <T extends AbstractVertex> T findFirstInHierarchy(final PiGraph graph, final String name,
+      final Class<T> type) {
+    final T vertex = findFirst(graph, name, type);
+    if (vertex != null) {
+      return vertex;
+    }
+    for (final PiGraph child : getChildrenGraphs(graph)) {
+      final T childVertex = findFirstInHierarchy(child, name, type);
+      if (childVertex != null) {
+        return childVertex;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Same content and order as {@link PiGraph#getChildrenGraphs()}, without scanning all the actors of the graph.
+   */
+  private List<PiGraph> getChildrenGraphs(final PiGraph graph) {
+    if (lookup(graph) != this) {
+      return graph.getChildrenGraphs();
+    }
+    final List<PiGraph> children = new ArrayList<>();
+    final List<AbstractActor> hierarchicalActors = getIndex(graph).hierarchicalActors;
+    for (final AbstractActor actor : hierarchicalActors) {
+      if (actor instanceof PiGraph) {
+        children.add((PiGraph) actor);
+      }
+    }
+    for (final AbstractActor actor : hierarchicalActors) {
+      if (actor instanceof Actor && ((Actor) actor).isHierarchical()) {
+        children.add(((Actor) actor).getSubGraph());
+      }
+    }
+    return children;
+  }
+
+  private GraphIndex getIndex(final PiGraph graph) {
+    GraphIndex index = this.graphs.get(graph);
+    if (index == null) {
+      index = new GraphIndex();
+      for (final AbstractVertex vertex : graph.getVertices()) {
+        addVertex(index, vertex);
+      }
+      this.graphs.put(graph, index);
+    }
+    return index;
+  }
+
+  private void buildFifoIndexes(final PiGraph graph, final GraphIndex index) {
+    index.fifoIds = new HashMap<>();
+    index.fifoKeys = new IdentityHashMap<>();
+    index.fifoEnds = new IdentityHashMap<>();
+    index.fifoLists = new IdentityHashMap<>();
+    for (final Fifo fifo : graph.getFifos()) {
+      addFifo(index, fifo);
+    }
+  }
+
+  private static void addVertex(final GraphIndex index, final AbstractVertex vertex) {
+    index.vertices.computeIfAbsent(vertex.getName(), n -> new ArrayList<>(1)).add(vertex);
+    if (vertex instanceof PiGraph
+        || (vertex instanceof Actor && ((Actor) vertex).getRefinement() instanceof PiSDFRefinement)) {
+      index.hierarchicalActors.add((AbstractActor) vertex);
+    }
+  }
+
+  private static void removeVertex(final GraphIndex index, final AbstractVertex vertex, final String name) {
+    final List<AbstractVertex> candidates = index.vertices.get(name);
+    if (candidates != null) {
+      candidates.remove(vertex);
+      if (candidates.isEmpty()) {
+        index.vertices.remove(name);
+      }
+    }
+  }
+
+  private static void addFifo(final GraphIndex index, final Fifo fifo) {
+    if ((fifo.getSourcePort() == null) || (fifo.getTargetPort() == null)
+        || (fifo.getSourcePort().getContainingActor() == null) || (fifo.getTargetPort().getContainingActor() == null)) {
+      // fifo not connected yet: indexes are dropped when its ports are set
+      return;
+    }
+    final String id = fifo.getId();
+    index.fifoIds.putIfAbsent(id, fifo);
+    index.fifoKeys.put(fifo, id);
+    final List<Fifo> fifos = index.fifoEnds
+        .computeIfAbsent((AbstractActor) fifo.getSource(), s -> new IdentityHashMap<>())
+        .computeIfAbsent((AbstractActor) fifo.getTarget(), t -> new ArrayList<>(1));
+    fifos.add(fifo);
+    index.fifoLists.put(fifo, fifos);
+  }
+
+  private static void removeFifo(final GraphIndex index, final Fifo fifo) {
+    final String id = index.fifoKeys.remove(fifo);
+    if (id != null) {
+      index.fifoIds.remove(id, fifo);
+    }
+    final List<Fifo> fifos = index.fifoLists.remove(fifo);
+    if (fifos != null) {
+      fifos.remove(fifo);
+    }
+  }
+
+  private static void dropFifoIndexes(final GraphIndex index) {
+    index.fifoIds = null;
+    index.fifoKeys = null;
+    index.fifoEnds = null;
+    index.fifoLists = null;
+  }
+
+  @Override
+  public void notifyChanged(final Notification notification) {
+    // maintain the adapter on the contents
+    super.notifyChanged(notification);
+    if (notification.isTouch()) {
+      return;
+    }
+    final Object notifier = notification.getNotifier();
+    if (notifier instanceof PiGraph && (notification.getFeatureID(null) == PiMMPackage.PI_GRAPH__VERTICES)) {
+      verticesChanged((PiGraph) notifier, notification);
+    } else if (notifier instanceof PiGraph && (notification.getFeatureID(null) == PiMMPackage.PI_GRAPH__EDGES)) {
+      edgesChanged((PiGraph) notifier, notification);
+    } else if (notifier instanceof AbstractVertex
+        && notification.getFeatureID(AbstractVertex.class) == PiMMPackage.ABSTRACT_VERTEX__NAME) {
+      vertexRenamed((AbstractVertex) notifier, (String) notification.getOldValue());
+    } else if (notifier instanceof Port && notification.getFeatureID(Port.class) == PiMMPackage.PORT__NAME) {
+      // fifo ids are built from port names
+      fifoConnectionChanged(((Port) notifier).eContainer());
+    } else if (notifier instanceof Fifo && (notification.getFeatureID(null) == PiMMPackage.FIFO__SOURCE_PORT
+        || notification.getFeatureID(null) == PiMMPackage.FIFO__TARGET_PORT)) {
+      fifoConnectionChanged(notifier);
+    } else if (notifier instanceof AbstractActor && isPortListFeature(notification.getFeatureID(AbstractActor.class))) {
+      fifoConnectionChanged(notifier);
+    } else if (notifier instanceof Actor && notification
+        .getFeatureID(RefinementContainer.class) == PiMMPackage.REFINEMENT_CONTAINER__REFINEMENT) {
+      dropGraphIndex(((Actor) notifier).getContainingPiGraph());
+    }
+  }
+
+  private synchronized void verticesChanged(final PiGraph graph, final Notification notification) {
+    switch (notification.getEventType()) {
+      case Notification.ADD:
+        vertexAdded(graph, (AbstractVertex) notification.getNewValue());
+        break;
+      case Notification.ADD_MANY:
+        for (final Object object : (List<?>) notification.getNewValue()) {
+          vertexAdded(graph, (AbstractVertex) object);
+        }
+        break;
+      case Notification.REMOVE:
+        vertexRemoved(graph, (AbstractVertex) notification.getOldValue());
+        break;
+      case Notification.REMOVE_MANY:
+        for (final Object object : (List<?>) notification.getOldValue()) {
+          vertexRemoved(graph, (AbstractVertex) object);
+        }
+        break;
+      case Notification.MOVE:
+        // same content
+        break;
+      default:
+        dropGraphIndex(graph);
+    }
+  }
+
+  private void vertexAdded(final PiGraph graph, final AbstractVertex vertex) {
+    final GraphIndex index = this.graphs.get(graph);
+    if (index != null) {
+      addVertex(index, vertex);
+    }
+  }
+
+  private void vertexRemoved(final PiGraph graph, final AbstractVertex vertex) {
+    final GraphIndex index = this.graphs.get(graph);
+    if (index != null) {
+      removeVertex(index, vertex, vertex.getName());
+      if (vertex instanceof AbstractActor) {
+        index.hierarchicalActors.remove(vertex);
+      }
+    }
+    if (vertex instanceof PiGraph) {
+      // the subgraph and its own children are no longer observed
+      this.graphs.keySet().removeIf(g -> EcoreUtil.isAncestor(vertex, g));
+    }
+  }
+
+  private synchronized void edgesChanged(final PiGraph graph, final Notification notification) {
+    final GraphIndex index = this.graphs.get(graph);
+    if (index == null || index.fifoIds == null) {
+      return;
+    }
+    switch (notification.getEventType()) {
+      case Notification.ADD:
+        if (notification.getNewValue() instanceof Fifo) {
+          addFifo(index, (Fifo) notification.getNewValue());
+        }
+        break;
+      case Notification.ADD_MANY:
+        for (final Object object : (List<?>) notification.getNewValue()) {
+          if (object instanceof Fifo) {
+            addFifo(index, (Fifo) object);
+          }
+        }
+        break;
+      case Notification.REMOVE:
+        if (notification.getOldValue() instanceof Fifo) {
+          removeFifo(index, (Fifo) notification.getOldValue());
+        }
+        break;
+      case Notification.REMOVE_MANY:
+        for (final Object object : (List<?>) notification.getOldValue()) {
+          if (object instanceof Fifo) {
+            removeFifo(index, (Fifo) object);
+          }
+        }
+        break;
+      case Notification.MOVE:
+        // same content
+        break;
+      default:
+        dropFifoIndexes(index);
+    }
+  }
+
+  private synchronized void vertexRenamed(final AbstractVertex vertex, final String oldName) {
+    final PiGraph graph = vertex.getContainingPiGraph();
+    final GraphIndex index = (graph != null) ? this.graphs.get(graph) : null;
+    if (index != null) {
+      removeVertex(index, vertex, oldName);
+      index.vertices.computeIfAbsent(vertex.getName(), n -> new ArrayList<>(1)).add(vertex);
+      // fifo ids are built from actor names
+      dropFifoIndexes(index);
+    }
+  }
+
+  private static boolean isPortListFeature(final int featureID) {
+    return featureID == PiMMPackage.ABSTRACT_ACTOR__DATA_INPUT_PORTS
+        || featureID == PiMMPackage.ABSTRACT_ACTOR__DATA_OUTPUT_PORTS
+        || featureID == PiMMPackage.ABSTRACT_ACTOR__CONFIG_OUTPUT_PORTS;
+  }
+
+  private synchronized void fifoConnectionChanged(final Object element) {
+    PiGraph graph = null;
+    if (element instanceof Fifo) {
+      graph = ((Fifo) element).getContainingPiGraph();
+    } else if (element instanceof AbstractActor) {
+      graph = ((AbstractActor) element).getContainingPiGraph();
+    }
+    final GraphIndex index = (graph != null) ? this.graphs.get(graph) : null;
+    if (index != null) {
+      dropFifoIndexes(index);
+    }
+  }
+
+  private synchronized void dropGraphIndex(final PiGraph graph) {
+    if (graph != null) {
+      this.graphs.remove(graph);
+    }
+  }
+}
@@ -177,7 +177,7 @@ public class PiSDFMergeabilty {
    */
   public static boolean isCycleIntroductionConditionValid(final PiGraph graph, final AbstractActor x,
       final AbstractActor y) {
-    return !(new PiSDFTopologyHelper(graph).isThereIsALongPath(x, y));
+    return !PiSDFTopologyHelper.hasLongPath(x, y);
   }
 
   /**
@@ -42,13 +42,16 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import javax.xml.XMLConstants;
 import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
+import javax.xml.validation.ValidatorHandler;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.CloseShieldInputStream;
 import org.preesm.commons.files.PreesmResourcesHelper;
+import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 
 /**
@@ -98,27 +101,61 @@ public class PiSDFXSDValidator {
     new PiSDFXSDValidator().validateLocal(targetStream);
   }
 
+  /**
+   * Validates the content of the given stream, which must support mark/reset.
+   */
+  public static final void validate(final InputStream pisdfStream) throws IOException {
+    new PiSDFXSDValidator().validateLocal(pisdfStream);
+  }
+
+  /**
+   * Validates the given document, parsed with namespaces.
+   */
+  public static final void validate(final Document pisdfDocument) throws IOException {
+    new PiSDFXSDValidator().validateLocal(new DOMSource(pisdfDocument));
+  }
+
+  /**
+   * Creates a handler validating the SAX events it receives, to validate a document while it is read. It throws a
+   * {@link SAXException} on the first error.
+   */
+  public static final ValidatorHandler newValidatorHandler() {
+    try {
+      final ValidatorHandler validatorHandler = new PiSDFXSDValidator().newSchema().newValidatorHandler();
+      validatorHandler.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+      validatorHandler.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+      return validatorHandler;
+    } catch (final SAXException e) {
+      throw new PiSDFXSDValidationException("Could not load the PiSDF XSD", e);
+    }
+  }
+
   /**
    * @throws IOException
    *
    */
   private final void validateLocal(final InputStream pisdfStreamed) throws IOException {
-    if (this.schemaURL == null) {
-      throw new NullPointerException("PiSDF XSD was not initialized properly");
-    }
     pisdfStreamed.mark(Integer.MAX_VALUE);
     final CloseShieldInputStream protectedStream = new CloseShieldInputStream(pisdfStreamed);
-    final Source xmlFile = new StreamSource(protectedStream);
-    final SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+    validateLocal(new StreamSource(protectedStream));
+    pisdfStreamed.reset();
+  }
+
+  private final void validateLocal(final Source xmlFile) throws IOException {
     try {
-      final Schema schema = schemaFactory.newSchema(this.schemaURL);
-      final Validator validator = schema.newValidator();
+      final Validator validator = newSchema().newValidator();
       validator.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
       validator.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
       validator.validate(xmlFile);
     } catch (final SAXException e) {
       throw new PiSDFXSDValidationException("Could not validate PiSDF", e);
     }
-    pisdfStreamed.reset();
+  }
+
+  private final Schema newSchema() throws SAXException {
+    if (this.schemaURL == null) {
+      throw new NullPointerException("PiSDF XSD was not initialized properly");
+    }
+    return SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(this.schemaURL);
   }
 }
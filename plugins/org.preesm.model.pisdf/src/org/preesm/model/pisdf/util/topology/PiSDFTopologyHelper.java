@@ -167,6 +167,14 @@ public class PiSDFTopologyHelper extends PreesmContentAdapter {
    * more than one Fifo.
    */
   public final boolean isThereIsALongPath(final AbstractActor potentialSucc, final AbstractActor target) {
+    return hasLongPath(potentialSucc, target);
+  }
+
+  /**
+   * Same as {@link #isThereIsALongPath(AbstractActor, AbstractActor)}, without building a helper (and thus without
+   * observing the graph).
+   */
+  public static final boolean hasLongPath(final AbstractActor potentialSucc, final AbstractActor target) {
     try {
       new IsThereALongPathSwitch(target).doSwitch(potentialSucc);
       return false;
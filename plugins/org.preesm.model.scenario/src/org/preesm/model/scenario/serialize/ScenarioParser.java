@@ -45,6 +45,7 @@ package org.preesm.model.scenario.serialize;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -55,12 +56,14 @@ import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.emf.common.util.ECollections;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.preesm.commons.StreamedDocumentReader;
 import org.preesm.commons.logger.PreesmLogger;
 import org.preesm.model.pisdf.AbstractActor;
 import org.preesm.model.pisdf.Actor;
@@ -112,14 +115,14 @@ public class ScenarioParser {
   /**
    * Gets the dom.
    *
-   * @return the dom
+   * @return the dom, null if the last file was streamed
    */
   public Document getDom() {
     return this.dom;
   }
 
   /**
-   * Retrieves the DOM document.
+   * Retrieves the scenario, streaming the file.
    *
    * @param file
    *          the file
@@ -130,6 +133,47 @@ public class ScenarioParser {
    *           the core exception
    */
   public Scenario parseXmlFile(final IFile file) throws FileNotFoundException, CoreException {
+    return parseXmlFile(file, true);
+  }
+
+  /**
+   * Retrieves the scenario.
+   *
+   * @param file
+   *          the file
+   * @param streaming
+   *          if true, the file is streamed and the timings, constraints and energies are parsed one at a time;
+   *          otherwise the DOM document of the whole file is retrieved first. Both produce the same scenario.
+   * @return the preesm scenario
+   * @throws FileNotFoundException
+   *           the file not found exception
+   * @throws CoreException
+   *           the core exception
+   */
+  public Scenario parseXmlFile(final IFile file, final boolean streaming)
+      throws FileNotFoundException, CoreException {
+    if (streaming) {
+      // sections are parsed as they are read, before the end of the document is known to be well formed: fill a new
+      // scenario and keep it only once the whole file has been parsed, as the DOM path does
+      final Scenario previousScenario = this.scenario;
+      this.scenario = ScenarioUserFactory.createScenario();
+      boolean parsed = false;
+      try (InputStream contents = file.getContents()) {
+        this.scenario.setScenarioURL(file.getFullPath().toString());
+        StreamedDocumentReader.read(contents, new StreamedScenarioHandler());
+        parsed = true;
+      } catch (final XMLStreamException | IOException | CoreException e) {
+        PreesmLogger.getLogger().log(Level.WARNING, "Could not parse file: " + e.getMessage(), e);
+        return null;
+      } finally {
+        if (!parsed) {
+          this.scenario = previousScenario;
+        }
+      }
+      this.dom = null;
+      return checkSizesAreInBit();
+    }
+
     // get the factory
     final DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
     dbf.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, ""); // Compliant
@@ -157,46 +201,17 @@ public class ScenarioParser {
       while (node != null) {
 
         if (node instanceof final Element elt) {
-          final String type = elt.getTagName();
-          switch (type) {
-            case "files":
-              parseFileNames(elt);
-              break;
-            case "constraints":
-              parseConstraintGroups(elt);
-              break;
-            case "timings":
-              parseTimings(elt);
-              break;
-            case "simuParams":
-              parseSimuParams(elt);
-              break;
-            case "parameterValues":
-              parseParameterValues(elt);
-              break;
-            case "papifyConfigs":
-              parsePapifyConfigs(elt);
-              break;
-            case "energyConfigs":
-              parseEnergyConfigs(elt);
-              break;
-            case "variables":
-              // deprecated
-              break;
-            case "relativeconstraints":
-              // deprecated
-              break;
-            case "flags":
-              parseFlags(elt);
-              break;
-            default:
-          }
+          parseSection(elt);
         }
 
         node = node.getNextSibling();
       }
     }
 
+    return checkSizesAreInBit();
+  }
+
+  private Scenario checkSizesAreInBit() {
     if (!this.scenario.getSizesAreInBit()) {
       PreesmLogger.getLogger()
           .severe(() -> "The Scenario was created with an older version of PREESM."
@@ -207,6 +222,117 @@ public class ScenarioParser {
     return this.scenario;
   }
 
+  /**
+   * Retrieves a section of the scenario, i.e. a child of the document element.
+   *
+   * @param elt
+   *          the section elt
+   */
+  private void parseSection(final Element elt) {
+    final String type = elt.getTagName();
+    switch (type) {
+      case "files":
+        parseFileNames(elt);
+        break;
+      case "constraints":
+        parseConstraintGroups(elt);
+        break;
+      case "timings":
+        parseTimings(elt);
+        break;
+      case "simuParams":
+        parseSimuParams(elt);
+        break;
+      case "parameterValues":
+        parseParameterValues(elt);
+        break;
+      case "papifyConfigs":
+        parsePapifyConfigs(elt);
+        break;
+      case "energyConfigs":
+        parseEnergyConfigs(elt);
+        break;
+      case "variables":
+        // deprecated
+        break;
+      case "relativeconstraints":
+        // deprecated
+        break;
+      case "flags":
+        parseFlags(elt);
+        break;
+      default:
+    }
+  }
+
+  /**
+   * Streamed counterpart of the section loop of {@link #parseXmlFile(IFile, boolean)}: the timings, constraints and
+   * energy sections are streamed and their children are built and parsed one at a time; the other sections are built
+   * whole.
+   */
+  private class StreamedScenarioHandler implements StreamedDocumentReader.Handler {
+
+    /** Number of streamed elements enclosing the next opened element. */
+    private int    depth   = 0;
+    /** Tag name of the streamed section, if any. */
+    private String section = null;
+
+    @Override
+    public boolean open(final Element element) {
+      if (this.depth == 0) {
+        // the document element
+        this.depth++;
+        return true;
+      }
+      if (this.depth > 1) {
+        return false;
+      }
+      final String type = element.getTagName();
+      switch (type) {
+        case "constraints":
+          parseConstraintGroupsAttributes(element);
+          break;
+        case "timings":
+          parseTimingsAttributes(element);
+          break;
+        case "energyConfigs":
+          parseEnergyConfigsAttributes(element);
+          break;
+        default:
+          return false;
+      }
+      this.section = type;
+      this.depth++;
+      return true;
+    }
+
+    @Override
+    public void element(final Element element) {
+      if (this.section == null) {
+        parseSection(element);
+        return;
+      }
+      switch (this.section) {
+        case "constraints":
+          parseConstraintGroupsChild(element);
+          break;
+        case "timings":
+          parseTimingsChild(element);
+          break;
+        case "energyConfigs":
+          parseEnergyConfigsChild(element);
+          break;
+        default:
+      }
+    }
+
+    @Override
+    public void close(final Element element) {
+      this.depth--;
+      this.section = null;
+    }
+  }
+
   /**
    * Retrieves all the parameter values.
    *
@@ -455,24 +581,32 @@ public class ScenarioParser {
    */
   private void parseConstraintGroups(final Element cstGroupsElt) {
 
-    final String excelFileUrl = cstGroupsElt.getAttribute("excelUrl");
-    this.scenario.getConstraints().setGroupConstraintsFileURL(excelFileUrl);
+    parseConstraintGroupsAttributes(cstGroupsElt);
 
     Node node = cstGroupsElt.getFirstChild();
 
     while (node != null) {
 
       if (node instanceof final Element elt) {
-        final String type = elt.getTagName();
-        if (type.equals("constraintGroup")) {
-          parseConstraintGroup(elt);
-        }
+        parseConstraintGroupsChild(elt);
       }
 
       node = node.getNextSibling();
     }
   }
 
+  private void parseConstraintGroupsAttributes(final Element cstGroupsElt) {
+    final String excelFileUrl = cstGroupsElt.getAttribute("excelUrl");
+    this.scenario.getConstraints().setGroupConstraintsFileURL(excelFileUrl);
+  }
+
+  private void parseConstraintGroupsChild(final Element elt) {
+    final String type = elt.getTagName();
+    if (type.equals("constraintGroup")) {
+      parseConstraintGroup(elt);
+    }
+  }
+
   /**
    * Retrieves a constraint group (only for regular actors).
    *
@@ -802,20 +936,14 @@ public class ScenarioParser {
    */
   private void parseTimings(final Element timingsElt) {
 
-    final String timingFileUrl = timingsElt.getAttribute("excelUrl");
-    this.scenario.getTimings().setExcelFileURL(timingFileUrl);
+    parseTimingsAttributes(timingsElt);
 
     Node node = timingsElt.getFirstChild();
     if (scenario.isProperlySet()) {
       while (node != null) {
 
         if (node instanceof final Element elt) {
-          final String type = elt.getTagName();
-          if (type.equals("timing")) {
-            parseTiming(elt);
-          } else if (type.equals("memcpyspeed")) {
-            retrieveMemcpySpeed(this.scenario.getTimings(), elt);
-          }
+          parseTimingsChild(elt);
         }
 
         node = node.getNextSibling();
@@ -823,6 +951,26 @@ public class ScenarioParser {
     }
   }
 
+  private void parseTimingsAttributes(final Element timingsElt) {
+    final String timingFileUrl = timingsElt.getAttribute("excelUrl");
+    this.scenario.getTimings().setExcelFileURL(timingFileUrl);
+  }
+
+  /**
+   * Retrieves a timing or a memcopy speed, if the scenario is properly set.
+   */
+  private void parseTimingsChild(final Element elt) {
+    if (!scenario.isProperlySet()) {
+      return;
+    }
+    final String type = elt.getTagName();
+    if (type.equals("timing")) {
+      parseTiming(elt);
+    } else if (type.equals("memcpyspeed")) {
+      retrieveMemcpySpeed(this.scenario.getTimings(), elt);
+    }
+  }
+
   /**
    * Retrieves one timing.
    *
@@ -920,30 +1068,38 @@ public class ScenarioParser {
    */
   private void parseEnergyConfigs(final Element energyConfigsElt) {
 
-    final String xmlFileURL = energyConfigsElt.getAttribute("xmlUrl");
-    this.scenario.getEnergyConfig().setExcelFileURL(xmlFileURL);
+    parseEnergyConfigsAttributes(energyConfigsElt);
 
     Node node = energyConfigsElt.getFirstChild();
 
     while (node != null) {
 
       if (node instanceof final Element elt) {
-        final String type = elt.getTagName();
-        if (type.equals("performanceObjective")) {
-          parsePerformanceObjective(elt);
-        } else if (type.equals("pePower")) {
-          parsePlatformPower(elt);
-        } else if (type.equals("peActorsEnergy")) {
-          parsePeActorEnergy(elt);
-        } else if (type.equals("peTypeCommsEnergy")) {
-          parsePeCommsEnergy(elt);
-        }
+        parseEnergyConfigsChild(elt);
       }
 
       node = node.getNextSibling();
     }
   }
 
+  private void parseEnergyConfigsAttributes(final Element energyConfigsElt) {
+    final String xmlFileURL = energyConfigsElt.getAttribute("xmlUrl");
+    this.scenario.getEnergyConfig().setExcelFileURL(xmlFileURL);
+  }
+
+  private void parseEnergyConfigsChild(final Element elt) {
+    final String type = elt.getTagName();
+    if (type.equals("performanceObjective")) {
+      parsePerformanceObjective(elt);
+    } else if (type.equals("pePower")) {
+      parsePlatformPower(elt);
+    } else if (type.equals("peActorsEnergy")) {
+      parsePeActorEnergy(elt);
+    } else if (type.equals("peTypeCommsEnergy")) {
+      parsePeCommsEnergy(elt);
+    }
+  }
+
   /**
    * Retrieves a performanceObjective.
    *
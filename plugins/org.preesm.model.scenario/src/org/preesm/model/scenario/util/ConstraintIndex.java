@@ -0,0 +1,154 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.model.scenario.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.ECollections;
+import org.eclipse.emf.common.util.EList;
+import org.preesm.commons.model.IPreesmAdapter;
+import org.preesm.commons.model.PreesmContentAdapter;
+import org.preesm.commons.model.PreesmCopyTracker;
+import org.preesm.model.pisdf.AbstractActor;
+import org.preesm.model.scenario.Constraints;
+import org.preesm.model.slam.ComponentInstance;
+
+/**
+ * Index of the {@link Constraints} of a scenario, from actors to the component instances they can be mapped on.
+ *
+ * <p>
+ * Component instances are numbered by their position in {@link Constraints#getGroupConstraints()}, and the possible
+ * mappings of each actor are stored as a {@link BitSet} over these numbers. The index is built lazily on the first
+ * query, and copies of actors are resolved to their source (see {@link PreesmCopyTracker}) only once. Resolved copies
+ * are weakly referenced, so that the index does not keep copied graphs alive. It observes the constraints and is
+ * dropped on any change of them.
+ * </p>
+ */
+public class ConstraintIndex extends PreesmContentAdapter {
+
+  /**
+   * Return the index of the given constraints, creating and attaching it if needed.
+   */
+  public static final ConstraintIndex get(final Constraints constraints) {
+    return IPreesmAdapter.attach(constraints, ConstraintIndex.class, () -> new ConstraintIndex(constraints));
+  }
+
+  private static final BitSet NO_MAPPING = new BitSet(0);
+
+  private final Constraints constraints;
+
+  private List<ComponentInstance>                            componentInstances = null;
+  private Map<AbstractActor, BitSet>                         actorMappings      = null;
+  /** Mappings of the queried actors, including copies; EObjects use identity equality so a weak map can be used. */
+  private final Map<AbstractActor, EList<ComponentInstance>> resolvedMappings   = new WeakHashMap<>();
+
+  private ConstraintIndex(final Constraints constraints) {
+    super();
+    this.constraints = constraints;
+  }
+
+  /**
+   * Return the component instances the actor can be mapped on, following the copy chain of the actor when no
+   * constraint refers to it. The result is ordered as the group constraints, and is unmodifiable.
+   */
+  public synchronized EList<ComponentInstance> getPossibleMappings(final AbstractActor actor) {
+    final EList<ComponentInstance> cached = this.resolvedMappings.get(actor);
+    if (cached != null) {
+      return cached;
+    }
+    if (this.actorMappings == null) {
+      build();
+    }
+    BitSet mapping = NO_MAPPING;
+    AbstractActor current = actor;
+    while (current != null) {
+      final EList<ComponentInstance> resolved = this.resolvedMappings.get(current);
+      if (resolved != null) {
+        this.resolvedMappings.put(actor, resolved);
+        return resolved;
+      }
+      final BitSet bits = this.actorMappings.get(current);
+      if (bits != null) {
+        mapping = bits;
+        break;
+      }
+      final AbstractActor source = PreesmCopyTracker.getSource(current);
+      current = (source != current) ? source : null;
+    }
+    final EList<ComponentInstance> result = ECollections.newBasicEList();
+    for (int i = mapping.nextSetBit(0); i >= 0; i = mapping.nextSetBit(i + 1)) {
+      result.add(this.componentInstances.get(i));
+    }
+    final EList<ComponentInstance> unmodifiableResult = ECollections.unmodifiableEList(result);
+    this.resolvedMappings.put(actor, unmodifiableResult);
+    return unmodifiableResult;
+  }
+
+  private void build() {
+    final EList<Map.Entry<ComponentInstance, EList<AbstractActor>>> groupConstraints = this.constraints
+        .getGroupConstraints();
+    final int nbGroups = groupConstraints.size();
+    this.componentInstances = new ArrayList<>(nbGroups);
+    this.actorMappings = new IdentityHashMap<>();
+    for (int i = 0; i < nbGroups; i++) {
+      final Map.Entry<ComponentInstance, EList<AbstractActor>> groupConstraint = groupConstraints.get(i);
+      this.componentInstances.add(groupConstraint.getKey());
+      for (final AbstractActor actor : groupConstraint.getValue()) {
+        this.actorMappings.computeIfAbsent(actor, a -> new BitSet(nbGroups)).set(i);
+      }
+    }
+  }
+
+  /**
+   * Drop the index. It will be built again on the next query.
+   */
+  public synchronized void clear() {
+    this.componentInstances = null;
+    this.actorMappings = null;
+    this.resolvedMappings.clear();
+  }
+
+  @Override
+  public void notifyChanged(final Notification notification) {
+    // maintain the adapter on the contents
+    super.notifyChanged(notification);
+    if (!notification.isTouch()) {
+      clear();
+    }
+  }
+}
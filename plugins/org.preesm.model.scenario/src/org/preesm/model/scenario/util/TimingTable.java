@@ -0,0 +1,292 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.model.scenario.util;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.preesm.commons.model.IPreesmAdapter;
+import org.preesm.commons.model.PreesmAdapter;
+import org.preesm.commons.model.PreesmContentAdapter;
+import org.preesm.commons.model.PreesmCopyTracker;
+import org.preesm.model.pisdf.AbstractActor;
+import org.preesm.model.pisdf.Expression;
+import org.preesm.model.pisdf.Parameter;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.expression.ExpressionEvaluator;
+import org.preesm.model.scenario.ActorComponentTimings;
+import org.preesm.model.scenario.ActorTimingValue;
+import org.preesm.model.scenario.ActorTimings;
+import org.preesm.model.scenario.ParameterValueOverride;
+import org.preesm.model.scenario.Scenario;
+import org.preesm.model.scenario.ScenarioConstants;
+import org.preesm.model.scenario.ScenarioPackage;
+import org.preesm.model.scenario.Timings;
+import org.preesm.model.slam.Component;
+import org.preesm.model.slam.TimingType;
+
+/**
+ * Table of evaluated timings, backing {@link Timings#evaluateTiming(AbstractActor, Component, TimingType)}.
+ *
+ * <p>
+ * Actors are resolved once to the actor holding their timings (following {@link PreesmCopyTracker} sources), and
+ * receive a dense integer id; components receive a dense integer id as well. The evaluated values are stored in one
+ * primitive array per resolved actor, indexed by component id and {@link TimingType}, and computed at most once for
+ * the current parameter values.
+ * </p>
+ *
+ * <p>
+ * The table is attached to the {@link Scenario} (or to the {@link Timings} if they do not belong to any scenario), and
+ * is cleared whenever the timings or the parameter value overrides of the scenario change. The parameters of the
+ * graphs holding the timed actors are observed as well, and the table is cleared when any of their expressions or
+ * dependencies change.
+ * </p>
+ *
+ * <p>
+ * Copies of actors (e.g. in single-rate graphs) are only weakly referenced, so that the table does not keep them
+ * alive.
+ * </p>
+ */
+public class TimingTable extends PreesmContentAdapter {
+
+  /** Marker of a timing that has not been evaluated yet. */
+  private static final long NOT_EVALUATED = Long.MIN_VALUE;
+
+  /** Id of the actors that have no timing at all, neither themselves nor their sources. */
+  private static final int NO_TIMINGS = -1;
+
+  private static final int NB_TIMING_TYPES = TimingType.values().length;
+
+  /**
+   * Return the table of the given timings, creating and attaching it if needed.
+   */
+  public static final TimingTable get(final Timings timings) {
+    final Scenario scenario = timings.getScenario();
+    final Notifier owner = (scenario != null) ? scenario : timings;
+    return IPreesmAdapter.attach(owner, TimingTable.class, () -> new TimingTable(timings));
+  }
+
+  private final Timings timings;
+
+  /** Ids of the actors, including copies; EObjects use identity equality so a weak map can be used. */
+  private final Map<AbstractActor, Integer> actorIds          = new WeakHashMap<>();
+  private final Map<Component, Integer>     componentIds      = new IdentityHashMap<>();
+  /** Timing holders, i.e. actors of the timings of the scenario. */
+  private AbstractActor[]                   actors            = new AbstractActor[16];
+  private long[][]                          values            = new long[16][];
+  private int                               nbActors          = 0;
+  /** Root graphs whose parameters are observed. */
+  private final Map<PiGraph, Boolean>       observedGraphs    = new WeakHashMap<>();
+  private final ParameterObserver           parameterObserver = new ParameterObserver();
+
+  private TimingTable(final Timings timings) {
+    super();
+    this.timings = timings;
+  }
+
+  /**
+   * Evaluate the timing, or return the value already evaluated for the current parameter values.
+   *
+   * @return the timing value if the expression is valid, ScenarioConstants.DEFAULT_MISSING_TIMING otherwise.
+   */
+  public synchronized long evaluateTiming(final AbstractActor actor, final Component component,
+      final TimingType timingType) {
+    final int actorId = getActorId(actor);
+    if (actorId == NO_TIMINGS) {
+      return ScenarioConstants.DEFAULT_MISSING_TIMING.getValue();
+    }
+    final int index = (getComponentId(component) * NB_TIMING_TYPES) + timingType.ordinal();
+    long[] row = this.values[actorId];
+    if (row.length <= index) {
+      final int oldLength = row.length;
+      row = Arrays.copyOf(row, this.componentIds.size() * NB_TIMING_TYPES);
+      Arrays.fill(row, oldLength, row.length, NOT_EVALUATED);
+      this.values[actorId] = row;
+    }
+    long value = row[index];
+    if (value == NOT_EVALUATED) {
+      value = evaluate(this.actors[actorId], component, timingType);
+      row[index] = value;
+    }
+    return value;
+  }
+
+  /**
+   * Drop all the evaluated values and actor ids.
+   */
+  public synchronized void clear() {
+    this.actorIds.clear();
+    this.componentIds.clear();
+    Arrays.fill(this.actors, null);
+    Arrays.fill(this.values, null);
+    this.nbActors = 0;
+  }
+
+  private int getActorId(final AbstractActor actor) {
+    final Integer id = this.actorIds.get(actor);
+    if (id != null) {
+      return id;
+    }
+    final AbstractActor resolved = resolveTimingHolder(actor);
+    final int newId;
+    if (resolved == null) {
+      newId = NO_TIMINGS;
+    } else if (resolved != actor && this.actorIds.containsKey(resolved)) {
+      newId = this.actorIds.get(resolved);
+    } else {
+      newId = this.nbActors++;
+      if (newId == this.actors.length) {
+        this.actors = Arrays.copyOf(this.actors, newId * 2);
+        this.values = Arrays.copyOf(this.values, newId * 2);
+      }
+      this.actors[newId] = resolved;
+      observeParameters(resolved);
+      final long[] row = new long[Math.max(1, this.componentIds.size()) * NB_TIMING_TYPES];
+      Arrays.fill(row, NOT_EVALUATED);
+      this.values[newId] = row;
+      this.actorIds.put(resolved, newId);
+    }
+    this.actorIds.put(actor, newId);
+    return newId;
+  }
+
+  /**
+   * Observe the parameters of the graph of the given timing holder, which the timing expressions depend on.
+   */
+  private void observeParameters(final AbstractActor actor) {
+    final EObject root = EcoreUtil.getRootContainer(actor);
+    if (!(root instanceof final PiGraph rootGraph) || this.observedGraphs.containsKey(rootGraph)) {
+      return;
+    }
+    this.observedGraphs.put(rootGraph, Boolean.TRUE);
+    observe(rootGraph);
+    for (final PiGraph graph : rootGraph.getAllChildrenGraphs()) {
+      observe(graph);
+    }
+    for (final Parameter parameter : rootGraph.getAllParameters()) {
+      observe(parameter);
+      observe(parameter.getExpression());
+      parameter.getConfigInputPorts().forEach(this::observe);
+    }
+  }
+
+  private void observe(final Notifier notifier) {
+    if (notifier != null) {
+      IPreesmAdapter.observe(notifier, this.parameterObserver);
+    }
+  }
+
+  /**
+   * Clears the table when a parameter of an observed graph changes. Structural changes of the observed graphs (new
+   * parameters, dependencies) also clear the table, and the graph is observed again at the next evaluation.
+   */
+  private class ParameterObserver extends PreesmAdapter {
+    @Override
+    public void notifyChanged(final Notification notification) {
+      if (notification.isTouch()) {
+        return;
+      }
+      final Object notifier = notification.getNotifier();
+      synchronized (TimingTable.this) {
+        if (notifier instanceof PiGraph) {
+          // parameters may have been added or removed: observe the graph again at the next evaluation
+          TimingTable.this.observedGraphs.remove(EcoreUtil.getRootContainer((PiGraph) notifier));
+        } else if (notification.getNewValue() instanceof Expression) {
+          // the expression of a parameter was replaced
+          observe((Expression) notification.getNewValue());
+        }
+        clear();
+      }
+    }
+  }
+
+  private int getComponentId(final Component component) {
+    final Integer id = this.componentIds.get(component);
+    if (id != null) {
+      return id;
+    }
+    final int newId = this.componentIds.size();
+    this.componentIds.put(component, newId);
+    return newId;
+  }
+
+  /**
+   * Return the first actor of the copy chain of the given actor that has timings, or null if none.
+   */
+  private AbstractActor resolveTimingHolder(final AbstractActor actor) {
+    AbstractActor current = actor;
+    while (current != null) {
+      if (this.timings.getActorTimings().containsKey(current)) {
+        return current;
+      }
+      final AbstractActor source = PreesmCopyTracker.getSource(current);
+      current = (source != current) ? source : null;
+    }
+    return null;
+  }
+
+  private long evaluate(final AbstractActor actor, final Component component, final TimingType timingType) {
+    final String timingExpression = this.timings.getTimingOrDefault(actor, component, timingType);
+    if ((timingExpression == null) || timingExpression.isEmpty()) {
+      return ScenarioConstants.DEFAULT_MISSING_TIMING.getValue();
+    }
+    final Scenario scenario = this.timings.getScenario();
+    return ExpressionEvaluator.evaluate(actor.getContainingPiGraph(), timingExpression,
+        scenario.getParameterValues().map());
+  }
+
+  @Override
+  public void notifyChanged(final Notification notification) {
+    // maintain the adapter on the contents
+    super.notifyChanged(notification);
+    if (notification.isTouch()) {
+      return;
+    }
+    final Object notifier = notification.getNotifier();
+    if (notifier instanceof Timings || notifier instanceof ActorTimings || notifier instanceof ActorComponentTimings
+        || notifier instanceof ActorTimingValue || notifier instanceof ParameterValueOverride) {
+      clear();
+    } else if (notifier instanceof Scenario) {
+      final int featureID = notification.getFeatureID(Scenario.class);
+      if (featureID == ScenarioPackage.SCENARIO__TIMINGS || featureID == ScenarioPackage.SCENARIO__PARAMETER_VALUES
+          || featureID == ScenarioPackage.SCENARIO__ALGORITHM) {
+        clear();
+      }
+    }
+  }
+}
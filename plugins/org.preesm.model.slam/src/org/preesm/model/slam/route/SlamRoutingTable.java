@@ -40,80 +40,87 @@
 package org.preesm.model.slam.route;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Level;
-import org.apache.commons.lang3.tuple.MutablePair;
+import org.eclipse.emf.common.notify.Notification;
 import org.preesm.commons.exceptions.PreesmRuntimeException;
 import org.preesm.commons.logger.PreesmLogger;
+import org.preesm.commons.model.IPreesmAdapter;
+import org.preesm.commons.model.PreesmContentAdapter;
 import org.preesm.model.slam.ComponentInstance;
 import org.preesm.model.slam.Design;
 import org.preesm.model.slam.Link;
 import org.preesm.model.slam.ProcessingElement;
 import org.preesm.model.slam.SlamRoute;
+import org.preesm.model.slam.SlamRouteStep;
 import org.preesm.model.slam.impl.ComNodeImpl;
 import org.preesm.model.slam.utils.SlamUserFactory;
 
 /**
  * Table representing the different routes available to go from one operator to another.
  *
+ * <p>
+ * Operators are numbered by their position in {@link Design#getOperatorComponentInstances()}. The best route between
+ * each couple of operators is computed once, as an array of route step indices with its cost, and the corresponding
+ * {@link SlamRoute} is only created when first asked for. The table is not modified after its construction and can be
+ * shared between threads; {@link #get(Design)} returns a table shared by all the users of a design, and dropped
+ * whenever the design changes.
+ * </p>
+ *
  * @author mpelcat
  */
 public class SlamRoutingTable {
 
   /**
-   * A couple of operators to which the routes are linked. Used a the key in Maps
+   * Holds the routing table of a design, and drops it on any change of the design.
    */
-  private class OperatorCouple extends MutablePair<ComponentInstance, ComponentInstance> {
-    private static final long serialVersionUID = -451571160460519876L;
+  private static final class DesignRoutingTable extends PreesmContentAdapter {
 
-    OperatorCouple(final ComponentInstance op1, final ComponentInstance op2) {
-      super(op1, op2);
-    }
+    private SlamRoutingTable table = null;
 
     @Override
-    public String toString() {
-      return "(" + getLeft() + "," + getRight() + ")";
+    public void notifyChanged(final Notification notification) {
+      // maintain the adapter on the contents
+      super.notifyChanged(notification);
+      if (!notification.isTouch()) {
+        synchronized (SlamRoutingTable.class) {
+          this.table = null;
+        }
+      }
     }
   }
 
   /**
-   * A list of routes ordered in inverse order of transfer cost.
+   * Return the routing table of the given design, building it if the design has no table yet or has changed since the
+   * table was built.
    */
-  private class RouteList extends ConcurrentSkipListSet<SlamRoute> {
-
-    private static final long serialVersionUID = -851695207011182681L;
-
-    RouteList() {
-      super((o1, o2) -> {
-        final double difference = RouteCostEvaluator.evaluateTransferCost(o1, 1)
-            - RouteCostEvaluator.evaluateTransferCost(o2, 1);
-        if (difference >= 0) {
-          return 1;
-        } else {
-          return -1;
-        }
-      });
-    }
-
-    @Override
-    public String toString() {
-      final StringBuilder sb = new StringBuilder("|");
-      for (final SlamRoute r : this) {
-        sb.append(r.toString() + "|");
-      }
-      return sb.toString();
+  public static final synchronized SlamRoutingTable get(final Design archi) {
+    final DesignRoutingTable holder = IPreesmAdapter.attach(archi, DesignRoutingTable.class, DesignRoutingTable::new);
+    if (holder.table == null) {
+      holder.table = new SlamRoutingTable(archi);
     }
+    return holder.table;
   }
 
-  /** List of available routes. */
-  private final Map<OperatorCouple, RouteList> table;
-  private final Design                         archi;
+  private final Design archi;
+
+  private final List<ComponentInstance>         operators;
+  private final Map<ComponentInstance, Integer> operatorIndices;
+
+  /** Route steps between directly connected operators, and their cost factors. */
+  private final List<SlamRouteStep> steps     = new ArrayList<>();
+  private double[]                  stepCosts = new double[16];
+
+  /** Best route between each couple of operators, as route step indices, or null if there is none. */
+  private final int[][]                         bestRoutes;
+  private final double[]                        bestRouteCosts;
+  private final AtomicReferenceArray<SlamRoute> routes;
 
   /**
    * Instantiates a new routing table.
@@ -122,7 +129,15 @@ public class SlamRoutingTable {
   public SlamRoutingTable(final Design archi) {
     super();
     this.archi = archi;
-    this.table = new LinkedHashMap<>();
+    this.operators = new ArrayList<>(archi.getOperatorComponentInstances());
+    final int nbOperators = this.operators.size();
+    this.operatorIndices = new IdentityHashMap<>();
+    for (int i = 0; i < nbOperators; i++) {
+      this.operatorIndices.putIfAbsent(this.operators.get(i), i);
+    }
+    this.bestRoutes = new int[nbOperators * nbOperators][];
+    this.bestRouteCosts = new double[nbOperators * nbOperators];
+    this.routes = new AtomicReferenceArray<>(nbOperators * nbOperators);
 
     // Creating the route steps between directly connected operators
     createRouteSteps();
@@ -131,8 +146,12 @@ public class SlamRoutingTable {
     createRoutes();
   }
 
+  private int pairIndex(final int src, final int tgt) {
+    return (src * this.operators.size()) + tgt;
+  }
+
   /**
-   * Gets a route with a given index.
+   * Gets the best route between two operators, or null if there is none.
    *
    * @param op1
    *          the op 1
@@ -141,44 +160,27 @@ public class SlamRoutingTable {
    * @return the best route
    */
   SlamRoute getBestRoute(final ComponentInstance op1, final ComponentInstance op2) {
-    final OperatorCouple obj = new OperatorCouple(op1, op2);
-    if (this.table.containsKey(obj)) {
-      return this.table.get(obj).first();
+    final Integer src = this.operatorIndices.get(op1);
+    final Integer tgt = this.operatorIndices.get(op2);
+    if ((src == null) || (tgt == null)) {
+      return null;
     }
-    return null;
-  }
-
-  /**
-   * Removes all the routes corresponding to the operator couple.
-   *
-   * @param op1
-   *          the op 1
-   * @param op2
-   *          the op 2
-   */
-  void removeRoutes(final ComponentInstance op1, final ComponentInstance op2) {
-    final OperatorCouple route = new OperatorCouple(op1, op2);
-    if (this.table.containsKey(route)) {
-      this.table.get(route).clear();
+    final int pair = pairIndex(src, tgt);
+    final int[] stepIndices = this.bestRoutes[pair];
+    if (stepIndices == null) {
+      return null;
     }
-  }
-
-  /**
-   * Adds a new route.
-   *
-   * @param op1
-   *          the op 1
-   * @param op2
-   *          the op 2
-   * @param route
-   *          the route
-   */
-  void addRoute(final ComponentInstance op1, final ComponentInstance op2, final SlamRoute route) {
-    final OperatorCouple opCouple = new OperatorCouple(op1, op2);
-    if (!this.table.containsKey(opCouple)) {
-      this.table.put(opCouple, new RouteList());
+    SlamRoute route = this.routes.get(pair);
+    if (route == null) {
+      route = SlamUserFactory.eINSTANCE.createSlamRoute();
+      for (final int stepIndex : stepIndices) {
+        route.getRouteSteps().add(this.steps.get(stepIndex));
+      }
+      if (!this.routes.compareAndSet(pair, null, route)) {
+        route = this.routes.get(pair);
+      }
     }
-    this.table.get(opCouple).add(route);
+    return route;
   }
 
   /**
@@ -189,9 +191,13 @@ public class SlamRoutingTable {
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder();
-    for (final Entry<OperatorCouple, RouteList> e : this.table.entrySet()) {
-      final OperatorCouple couple = e.getKey();
-      sb.append(couple + " -> " + e.getValue() + "\n");
+    for (final ComponentInstance src : this.operators) {
+      for (final ComponentInstance tgt : this.operators) {
+        final SlamRoute route = getBestRoute(src, tgt);
+        if (route != null) {
+          sb.append("(" + src + "," + tgt + ") -> |" + route + "|\n");
+        }
+      }
     }
     return sb.toString();
   }
@@ -202,7 +208,7 @@ public class SlamRoutingTable {
   private void createRouteSteps() {
     PreesmLogger.getLogger().log(Level.INFO, "Creating route steps.");
 
-    for (final ComponentInstance c : this.archi.getOperatorComponentInstances()) {
+    for (final ComponentInstance c : this.operators) {
       final ComponentInstance o = c;
 
       createRouteSteps(o);
@@ -264,9 +270,33 @@ public class SlamRoutingTable {
         }
       } else if ((otherEnd.getComponent() instanceof ProcessingElement)
           && !otherEnd.getInstanceName().equals(source.getInstanceName())) {
-        final SlamRoute newRoute = SlamUserFactory.eINSTANCE.createSlamRoute(this.archi, source, alreadyVisitedNodes,
-            otherEnd);
-        this.addRoute(source, otherEnd, newRoute);
+        final SlamRouteStep newStep = SlamUserFactory.eINSTANCE.createSlamRouteStep(this.archi, source,
+            alreadyVisitedNodes, otherEnd);
+        addRouteStep(source, otherEnd, newStep);
+      }
+    }
+  }
+
+  /**
+   * Adds a route made of a single step, if it is strictly better than the best known route.
+   */
+  private void addRouteStep(final ComponentInstance source, final ComponentInstance target,
+      final SlamRouteStep step) {
+    final int stepIndex = this.steps.size();
+    this.steps.add(step);
+    if (stepIndex == this.stepCosts.length) {
+      this.stepCosts = Arrays.copyOf(this.stepCosts, stepIndex * 2);
+    }
+    this.stepCosts[stepIndex] = RouteCostEvaluator.getTransferCost(step, 1);
+
+    final Integer src = this.operatorIndices.get(source);
+    final Integer tgt = this.operatorIndices.get(target);
+    if ((src != null) && (tgt != null)) {
+      final int pair = pairIndex(src, tgt);
+      final double cost = this.stepCosts[stepIndex];
+      if ((this.bestRoutes[pair] == null) || (cost < this.bestRouteCosts[pair])) {
+        this.bestRoutes[pair] = new int[] { stepIndex };
+        this.bestRouteCosts[pair] = cost;
       }
     }
   }
@@ -277,45 +307,36 @@ public class SlamRoutingTable {
   private void createRoutes() {
     PreesmLogger.getLogger().log(Level.INFO, "Initializing routing table.");
 
-    floydWarshall(this, this.archi.getOperatorComponentInstances());
+    floydWarshall();
   }
 
   /**
-   * The floydWarshall algorithm is used to add routes in the table in increasing order of cost.
-   *
-   * @param table
-   *          the table
-   * @param operators
-   *          the operators
+   * The floydWarshall algorithm is used to keep the route of lowest cost between each couple of operators.
    */
-  private void floydWarshall(final SlamRoutingTable table, final List<ComponentInstance> operators) {
-
-    for (final ComponentInstance k : operators) {
-
-      for (final ComponentInstance src : operators) {
-
-        for (final ComponentInstance tgt : operators) {
-
-          if (!k.equals(src) && !k.equals(tgt) && !src.equals(tgt)) {
-            final SlamRoute routeSrcK = table.getBestRoute(src, k);
-            final SlamRoute routeKTgt = table.getBestRoute(k, tgt);
-
-            if ((routeSrcK != null) && (routeKTgt != null)) {
-              final SlamRoute compoundRoute = SlamUserFactory.eINSTANCE.createSlamRoute(routeSrcK, routeKTgt);
-              if (compoundRoute.isSingleAppearance()) {
-                // If this if statement is removed, several
-                // routes become available
-                final SlamRoute bestRoute = table.getBestRoute(src, tgt);
-                if (bestRoute == null) {
-                  table.addRoute(src, tgt, compoundRoute);
-                } else {
-                  final double bestRouteCost = RouteCostEvaluator.evaluateTransferCost(bestRoute, 1);
-                  final double newRouteCost = RouteCostEvaluator.evaluateTransferCost(compoundRoute, 1);
-                  if (bestRouteCost > newRouteCost) {
-                    table.removeRoutes(src, tgt);
-                    table.addRoute(src, tgt, compoundRoute);
-                  }
-                }
+  private void floydWarshall() {
+    final int nbOperators = this.operators.size();
+
+    for (int k = 0; k < nbOperators; k++) {
+
+      for (int src = 0; src < nbOperators; src++) {
+        final int[] routeSrcK = this.bestRoutes[pairIndex(src, k)];
+        if ((k == src) || (routeSrcK == null)) {
+          continue;
+        }
+
+        for (int tgt = 0; tgt < nbOperators; tgt++) {
+          final int[] routeKTgt = this.bestRoutes[pairIndex(k, tgt)];
+
+          if ((k != tgt) && (src != tgt) && (routeKTgt != null)) {
+            final int[] compoundRoute = concatenate(routeSrcK, routeKTgt);
+            // If this if statement is removed, several
+            // routes become available
+            if (isSingleAppearance(compoundRoute)) {
+              final int pair = pairIndex(src, tgt);
+              final double newRouteCost = getCost(compoundRoute);
+              if ((this.bestRoutes[pair] == null) || (this.bestRouteCosts[pair] > newRouteCost)) {
+                this.bestRoutes[pair] = compoundRoute;
+                this.bestRouteCosts[pair] = newRouteCost;
               }
             }
           }
@@ -324,6 +345,48 @@ public class SlamRoutingTable {
     }
   }
 
+  /**
+   * Concatenates two routes. As in the route steps of a {@link SlamRoute}, a step appears at most once.
+   */
+  private static int[] concatenate(final int[] route1, final int[] route2) {
+    final int[] result = Arrays.copyOf(route1, route1.length + route2.length);
+    int length = route1.length;
+    for (final int step : route2) {
+      boolean present = false;
+      for (int i = 0; (i < length) && !present; i++) {
+        present = result[i] == step;
+      }
+      if (!present) {
+        result[length++] = step;
+      }
+    }
+    return (length == result.length) ? result : Arrays.copyOf(result, length);
+  }
+
+  /**
+   * Returns true if each operator in the route appears only once (see {@link SlamRoute#isSingleAppearance()}).
+   */
+  private boolean isSingleAppearance(final int[] route) {
+    final Set<ComponentInstance> opSet = new LinkedHashSet<>();
+    for (final int step : route) {
+      if (!opSet.add(this.steps.get(step).getSender())) {
+        return false;
+      }
+    }
+    return !opSet.contains(this.steps.get(route[route.length - 1]).getReceiver());
+  }
+
+  /**
+   * Cost factor of the route, summed in the same order as {@link RouteCostEvaluator#evaluateTransferCost}.
+   */
+  private double getCost(final int[] route) {
+    double cost = 0;
+    for (final int step : route) {
+      cost += this.stepCosts[step];
+    }
+    return cost;
+  }
+
   /**
    * Choosing a route between 2 operators.
    *
@@ -344,4 +407,20 @@ public class SlamRoutingTable {
     return r;
   }
 
+  /**
+   * Evaluates the cost of a data transfer with size transferSize along the route between 2 operators, without creating
+   * the route. The result is the same as {@link RouteCostEvaluator#evaluateTransferCost(SlamRoute, long)} with the
+   * route returned by {@link #getRoute(ComponentInstance, ComponentInstance)}.
+   */
+  public double evaluateTransferCost(final ComponentInstance op1, final ComponentInstance op2,
+      final long transferSize) {
+    final Integer src = this.operatorIndices.get(op1);
+    final Integer tgt = this.operatorIndices.get(op2);
+    if ((src == null) || (tgt == null) || (this.bestRoutes[pairIndex(src, tgt)] == null)) {
+      final String msg = "Did not find a route between " + op1 + " and " + op2 + ".";
+      throw new PreesmRuntimeException(msg);
+    }
+    return this.bestRouteCosts[pairIndex(src, tgt)] * (double) transferSize;
+  }
+
 }
@@ -34,21 +34,38 @@
  */
 package org.preesm.workflow;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
 import org.preesm.commons.exceptions.PreesmException;
 import org.preesm.commons.exceptions.PreesmFrameworkException;
 import org.preesm.commons.files.WorkspaceUtils;
 import org.preesm.commons.logger.PreesmLogger;
+import org.preesm.commons.math.JEPWrapper;
 import org.preesm.commons.messages.PreesmMessages;
 import org.preesm.workflow.elements.AbstractWorkflowNode;
 import org.preesm.workflow.elements.ScenarioNode;
@@ -60,6 +77,7 @@ import org.preesm.workflow.eow.ErrorOnWarningLogHandler;
 import org.preesm.workflow.implement.AbstractScenarioImplementation;
 import org.preesm.workflow.implement.AbstractTaskImplementation;
 import org.preesm.workflow.implement.AbstractWorkflowNodeImplementation;
+import org.preesm.workflow.implement.ExclusiveTask;
 
 /**
  * This abstract class provides methods to check and execute a workflow. A workflow consists of several transformation
@@ -77,6 +95,9 @@ public abstract class AbstractWorkflowExecutor {
 
   private boolean debug = false;
 
+  /** Cache of the task results, when enabled by the workflow being executed. */
+  private TaskResultCache resultCache = null;
+
   public final void setDebug(final boolean newDebugMode) {
     this.debug = newDebugMode;
   }
@@ -95,6 +116,11 @@ public abstract class AbstractWorkflowExecutor {
    */
   public static final String IGNORE_PORT_NAME = "void";
 
+  /**
+   * Folder of the workflow project where the task results are cached.
+   */
+  public static final String RESULT_CACHE_FOLDER = ".cache";
+
   /**
    * Checks the existence of all task and scenario classes and sets the classes in the workflow nodess.
    *
@@ -220,6 +246,17 @@ public abstract class AbstractWorkflowExecutor {
     return true;
   }
 
+  /**
+   * Refreshes the workspace before and after the execution of a workflow, so that the tasks see the files modified
+   * outside Eclipse and the workspace sees the files they generate. Refreshes the whole workspace by default.
+   *
+   * @param workflow
+   *          the workflow being executed
+   */
+  protected void refreshWorkspace(final Workflow workflow) {
+    WorkspaceUtils.updateWorkspace();
+  }
+
   /**
    * Executes the workflow.
    *
@@ -240,23 +277,23 @@ public abstract class AbstractWorkflowExecutor {
     }
     final Handler eowHandler = addEOWHandler(workflow);
     final Level oldLevel = Optional.ofNullable(this.logger.getLevel()).orElse(Level.INFO);
+    final long expressionCacheHits = JEPWrapper.getCacheHits();
+    final long expressionCacheMisses = JEPWrapper.getCacheMisses();
     try {
       // read and apply workflow parameters
       this.logger.setLevel(workflow.getOutputLevel());
-      WorkspaceUtils.updateWorkspace();
+      refreshWorkspace(workflow);
+      this.resultCache = createResultCache(workflow);
 
-      final Iterator<AbstractWorkflowNode<?>> iterator = workflow.vertexTopologicalList().iterator();
-
-      while (result && iterator.hasNext()) {
-        AbstractWorkflowNode<?> node = iterator.next();
-        result = executeNode(scenarioPath, monitor, workflow, node);
-      }
+      result = executeNodes(scenarioPath, monitor, workflow);
 
       if (result) {
         log(Level.INFO, "Workflow.EndInfo", workflowPath);
       }
+      log(Level.FINE, "Workflow.ExpressionCacheInfo", Long.toString(JEPWrapper.getCacheHits() - expressionCacheHits),
+          Long.toString(JEPWrapper.getCacheMisses() - expressionCacheMisses));
 
-      WorkspaceUtils.updateWorkspace();
+      refreshWorkspace(workflow);
 
       // set back default logger behavior
 
@@ -264,12 +301,284 @@ public abstract class AbstractWorkflowExecutor {
       this.logger.log(e.getRecord());
       result = false;
     } finally {
+      this.resultCache = null;
       this.logger.removeHandler(eowHandler);
       this.logger.setLevel(oldLevel);
     }
     return result;
   }
 
+  /**
+   * Executes the nodes of a checked workflow, in topological order or on a thread pool if the workflow is parallel.
+   *
+   * @return true, if all the nodes have been executed successfully
+   */
+  protected boolean executeNodes(final String scenarioPath, final IProgressMonitor monitor, final Workflow workflow) {
+    if (workflow.isParallel()) {
+      return executeParallel(scenarioPath, monitor, workflow);
+    }
+    boolean result = true;
+    final Iterator<AbstractWorkflowNode<?>> iterator = workflow.vertexTopologicalList().iterator();
+    while (result && iterator.hasNext()) {
+      final AbstractWorkflowNode<?> node = iterator.next();
+      result = executeNode(scenarioPath, monitor, workflow, node);
+    }
+    return result;
+  }
+
+  private TaskResultCache createResultCache(final Workflow workflow) {
+    if (!workflow.isResultCache()) {
+      return null;
+    }
+    final IPath projectLocation = ResourcesPlugin.getWorkspace().getRoot().getProject(workflow.getProjectName())
+        .getLocation();
+    if (projectLocation == null) {
+      getLogger().log(Level.FINE, "No location for the result cache, the cache is disabled.");
+      return null;
+    }
+    return new TaskResultCache(projectLocation.append(RESULT_CACHE_FOLDER).toFile().toPath());
+  }
+
+  /**
+   * Returns the key of the task execution in the result cache, or null if it is not to be cached.
+   */
+  private String getCacheKey(final TaskNode taskNode, final Map<String, Object> inputs, final Workflow workflow) {
+    final TaskResultCache cache = this.resultCache;
+    if ((cache == null) || !TaskResultCache.isCacheable(taskNode)) {
+      return null;
+    }
+    final Map<String, String> inputDigests = new LinkedHashMap<>();
+    for (final WorkflowEdge edge : workflow.incomingEdgesOf(taskNode)) {
+      inputDigests.put(edge.getTargetPort(), edge.getDataDigest());
+    }
+    return cache.getKey(taskNode, inputs, inputDigests, taskNode.getParameters());
+  }
+
+  /**
+   * Executes the nodes of the workflow on a thread pool, each node being submitted as soon as all its predecessors
+   * have been executed successfully. Nodes whose task is annotated with {@link ExclusiveTask} do not run concurrently
+   * with any other node.
+   *
+   * <p>
+   * The messages logged by each node are published once the node is over, in the topological order of the workflow,
+   * so that the log reads as for a sequential execution. No node is submitted after a failure or a cancellation
+   * request; the nodes already running are waited for, and their records are published as well.
+   * </p>
+   */
+  private boolean executeParallel(final String scenarioPath, final IProgressMonitor monitor, final Workflow workflow) {
+    final List<AbstractWorkflowNode<?>> topologicalList = workflow.vertexTopologicalList();
+    final IProgressMonitor sharedMonitor = (monitor != null) ? new SynchronizedProgressMonitor(monitor) : null;
+    final NodeLogFilter logFilter = new NodeLogFilter(this.logger.getFilter(), workflow.isErrorOnWarning());
+    final ReadWriteLock exclusiveLock = new ReentrantReadWriteLock(true);
+
+    final int nbThreads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), topologicalList.size()));
+    final ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+    final CompletionService<NodeExecution> completionService = new ExecutorCompletionService<>(executor);
+
+    final Map<AbstractWorkflowNode<?>, Integer> missingInputs = new LinkedHashMap<>();
+    final Map<AbstractWorkflowNode<?>, List<LogRecord>> nodeRecords = new LinkedHashMap<>();
+    topologicalList.forEach(node -> missingInputs.put(node, workflow.inDegreeOf(node)));
+
+    boolean result = true;
+    int nbRunning = 0;
+    int nbPublished = 0;
+    this.logger.setFilter(logFilter);
+    try {
+      for (final AbstractWorkflowNode<?> node : topologicalList) {
+        if (missingInputs.get(node) == 0) {
+          completionService.submit(() -> executeNodeTask(scenarioPath, sharedMonitor, workflow, node, logFilter,
+              exclusiveLock));
+          nbRunning++;
+        }
+      }
+
+      while (nbRunning > 0) {
+        final NodeExecution execution = getExecution(completionService.take());
+        nbRunning--;
+        if (execution == null) {
+          result = false;
+          continue;
+        }
+        nodeRecords.put(execution.node, execution.records);
+        result &= execution.result;
+
+        if ((monitor != null) && monitor.isCanceled() && result) {
+          log(Level.SEVERE, "Workflow.CancellationRequested");
+          result = false;
+        }
+
+        if (result) {
+          for (final WorkflowEdge edge : workflow.outgoingEdgesOf(execution.node)) {
+            final AbstractWorkflowNode<?> successor = workflow.getEdgeTarget(edge);
+            final int missing = missingInputs.get(successor) - 1;
+            missingInputs.put(successor, missing);
+            if (missing == 0) {
+              completionService.submit(() -> executeNodeTask(scenarioPath, sharedMonitor, workflow, successor,
+                  logFilter, exclusiveLock));
+              nbRunning++;
+            }
+          }
+        }
+
+        // publish the records of the nodes that are over, in topological order
+        while ((nbPublished < topologicalList.size()) && nodeRecords.containsKey(topologicalList.get(nbPublished))) {
+          nodeRecords.remove(topologicalList.get(nbPublished)).forEach(this.logger::log);
+          nbPublished++;
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      getLogger().log(Level.SEVERE, "Workflow execution interrupted.", e);
+      result = false;
+    } finally {
+      awaitTermination(executor);
+      // nodes that were still running when the execution was interrupted
+      Future<NodeExecution> future;
+      while ((future = completionService.poll()) != null) {
+        final NodeExecution execution = getExecution(future);
+        if (execution != null) {
+          nodeRecords.put(execution.node, execution.records);
+        }
+      }
+      // publish the records of the remaining nodes, if some nodes have not been executed
+      for (final AbstractWorkflowNode<?> node : topologicalList) {
+        final List<LogRecord> records = nodeRecords.remove(node);
+        if (records != null) {
+          records.forEach(this.logger::log);
+        }
+      }
+      this.logger.setFilter(logFilter.getPreviousFilter());
+    }
+    return result;
+  }
+
+  /**
+   * Returns the execution of a node that is over, or null if it failed unexpectedly.
+   */
+  private NodeExecution getExecution(final Future<NodeExecution> future) {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (final ExecutionException e) {
+      getLogger().log(Level.SEVERE, "Unexpected Exception: " + e.getCause().getClass().getCanonicalName() + ":"
+          + e.getCause().getMessage() + "\n Contact Preesm developers if you cannot solve the problem.", e.getCause());
+      return null;
+    }
+  }
+
+  /**
+   * Lets the running nodes complete. If the current thread is interrupted while waiting, the nodes are interrupted.
+   */
+  private static void awaitTermination(final ExecutorService executor) {
+    executor.shutdown();
+    boolean interrupted = false;
+    while (!executor.isTerminated()) {
+      try {
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        interrupted = true;
+        executor.shutdownNow();
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Executes one node on the current thread, keeping aside the records it logs.
+   */
+  private NodeExecution executeNodeTask(final String scenarioPath, final IProgressMonitor monitor,
+      final Workflow workflow, final AbstractWorkflowNode<?> node, final NodeLogFilter logFilter,
+      final ReadWriteLock exclusiveLock) {
+    final boolean exclusive = node.isTaskNode()
+        && ((TaskNode) node).getTask().getClass().isAnnotationPresent(ExclusiveTask.class);
+    final Lock lock = exclusive ? exclusiveLock.writeLock() : exclusiveLock.readLock();
+    boolean nodeResult = false;
+    logFilter.startNode();
+    lock.lock();
+    try {
+      nodeResult = executeNode(scenarioPath, monitor, workflow, node);
+    } catch (final ErrorOnWarningError e) {
+      // the warning is kept by the filter, and reported when publishing the records of the node
+      nodeResult = false;
+    } catch (final RuntimeException | Error e) {
+      // reported with the records of the node, which are published like the ones of the other nodes
+      nodeResult = false;
+      try {
+        getLogger().log(Level.SEVERE, "Unexpected Exception: " + e.getClass().getCanonicalName() + ":"
+            + e.getMessage() + "\n Contact Preesm developers if you cannot solve the problem.", e);
+      } catch (final ErrorOnWarningError warning) {
+        // the record is kept by the filter
+      }
+    } finally {
+      lock.unlock();
+    }
+    final List<LogRecord> records = logFilter.endNode();
+    if (workflow.isErrorOnWarning() && NodeLogFilter.hasWarning(records)) {
+      // warnings logged by the threads started by the node
+      nodeResult = false;
+    }
+    return new NodeExecution(node, nodeResult, records);
+  }
+
+  /**
+   * Result of the execution of a node in a parallel workflow.
+   */
+  private static class NodeExecution {
+    private final AbstractWorkflowNode<?> node;
+    private final boolean                 result;
+    private final List<LogRecord>         records;
+
+    private NodeExecution(final AbstractWorkflowNode<?> node, final boolean result, final List<LogRecord> records) {
+      this.node = node;
+      this.result = result;
+      this.records = records;
+    }
+  }
+
+  /**
+   * Progress monitor shared by the nodes of a parallel workflow.
+   */
+  private static class SynchronizedProgressMonitor extends ProgressMonitorWrapper {
+
+    private SynchronizedProgressMonitor(final IProgressMonitor monitor) {
+      super(monitor);
+    }
+
+    @Override
+    public synchronized void beginTask(final String name, final int totalWork) {
+      super.beginTask(name, totalWork);
+    }
+
+    @Override
+    public synchronized void done() {
+      super.done();
+    }
+
+    @Override
+    public synchronized void internalWorked(final double work) {
+      super.internalWorked(work);
+    }
+
+    @Override
+    public synchronized void setTaskName(final String name) {
+      super.setTaskName(name);
+    }
+
+    @Override
+    public synchronized void subTask(final String name) {
+      super.subTask(name);
+    }
+
+    @Override
+    public synchronized void worked(final int work) {
+      super.worked(work);
+    }
+  }
+
   private Handler addEOWHandler(final Workflow workflow) {
     final boolean errorOnWarning = workflow.isErrorOnWarning();
     Handler eowHandler = null;
@@ -289,6 +598,7 @@ public abstract class AbstractWorkflowExecutor {
       // Data outputs of the node
       Map<String, Object> outputs = null;
       String nodeId = null;
+      String cacheKey = null;
 
       if (node.isScenarioNode()) {
         // The scenario node is special because it gets a reference
@@ -389,8 +699,18 @@ public abstract class AbstractWorkflowExecutor {
                 nodeResult = false;
               } else {
 
-                // execution
-                outputs = task.execute(inputs, taskNode.getParameters(), monitor, nodeId, workflow);
+                // execution, unless the outputs can be restored from the result cache
+                cacheKey = getCacheKey(taskNode, inputs, workflow);
+                Map<String, Object> cachedOutputs = null;
+                if (cacheKey != null) {
+                  cachedOutputs = this.resultCache.restore(cacheKey, inputs);
+                }
+                if (cachedOutputs != null) {
+                  log(Level.INFO, "Workflow.Step", node.getName(), node.getID(), "Restored from the result cache.");
+                  outputs = cachedOutputs;
+                } else {
+                  outputs = task.execute(inputs, taskNode.getParameters(), monitor, nodeId, workflow);
+                }
 
                 // Filter only outputs required in the workflow
                 final Map<String, Object> outs = outputs; // final
@@ -406,6 +726,10 @@ public abstract class AbstractWorkflowExecutor {
                 // Check the outputs have the right type.
                 checkOutputType(outputs, task);
 
+                if ((cacheKey != null) && (cachedOutputs == null)) {
+                  this.resultCache.store(cacheKey, inputs, outputs);
+                }
+
                 // Each node execution is equivalent for the monitor
                 if (monitor != null) {
                   monitor.worked(1);
@@ -431,6 +755,9 @@ public abstract class AbstractWorkflowExecutor {
         } else {
           // Retrieving output of the current node
           // Putting the data in output edges
+          final Set<String> keyDigestedPorts = (cacheKey != null)
+              ? TaskResultCache.getKeyDigestedPorts(workflow, node, outputs)
+              : Collections.emptySet();
           for (final WorkflowEdge edge : workflow.outgoingEdgesOf(node)) {
             final String type = edge.getSourcePort();
             // The same data may be transferred to several
@@ -439,6 +766,8 @@ public abstract class AbstractWorkflowExecutor {
               // Ignore data
             } else if (outputs.containsKey(type)) {
               edge.setData(outputs.get(type));
+              edge.setDataDigest(
+                  keyDigestedPorts.contains(type) ? TaskResultCache.getOutputDigest(cacheKey, type) : null);
             } else {
               edge.setData(null);
               log(Level.SEVERE, "Workflow.IncorrectOutput", node.getName(), node.getID(), type);
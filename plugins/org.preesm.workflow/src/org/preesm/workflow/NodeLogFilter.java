@@ -0,0 +1,143 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.workflow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Filter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.preesm.workflow.eow.ErrorOnWarningError;
+
+/**
+ * Log {@link Filter} used during the parallel execution of a workflow. The records logged by a thread executing a
+ * workflow node, and by the threads it starts, are kept aside to be published once the node is over, so that the
+ * messages of concurrent nodes are not interleaved. The records of the other threads are passed to the previous filter
+ * of the logger, if any.
+ *
+ * <p>
+ * Started threads inherit the records of their node when they are created, so the threads of a pool created before
+ * the node (such as the common fork join pool) are not attributed to it. The records logged by a started thread after
+ * the end of its node are passed to the previous filter.
+ * </p>
+ *
+ * <p>
+ * If error on warning is enabled, logging a warning from the thread of a workflow node stops the node with an
+ * {@link ErrorOnWarningError}, as the {@link org.preesm.workflow.eow.ErrorOnWarningLogHandler} would. Warnings logged
+ * by the threads it starts are found by {@link #hasWarning(List)} once the node is over. The error is reported when
+ * the kept records are published.
+ * </p>
+ */
+class NodeLogFilter implements Filter {
+
+  private final Filter previousFilter;
+
+  private final boolean errorOnWarning;
+
+  private final InheritableThreadLocal<NodeRecords> nodeRecords = new InheritableThreadLocal<>();
+
+  NodeLogFilter(final Filter previousFilter, final boolean errorOnWarning) {
+    this.previousFilter = previousFilter;
+    this.errorOnWarning = errorOnWarning;
+  }
+
+  Filter getPreviousFilter() {
+    return this.previousFilter;
+  }
+
+  /**
+   * Start keeping the records logged by the current thread and the threads it starts.
+   */
+  void startNode() {
+    this.nodeRecords.set(new NodeRecords(Thread.currentThread()));
+  }
+
+  /**
+   * Stop keeping the records logged by the current thread and the threads it started, and return the records kept
+   * since {@link #startNode()}.
+   */
+  List<LogRecord> endNode() {
+    final NodeRecords node = this.nodeRecords.get();
+    this.nodeRecords.remove();
+    return node.close();
+  }
+
+  /**
+   * Whether the given records contain a warning or a more severe record.
+   */
+  static boolean hasWarning(final List<LogRecord> records) {
+    return records.stream().anyMatch(NodeLogFilter::isWarning);
+  }
+
+  private static boolean isWarning(final LogRecord record) {
+    return record.getLevel().intValue() >= Level.WARNING.intValue();
+  }
+
+  @Override
+  public boolean isLoggable(final LogRecord record) {
+    final NodeRecords node = this.nodeRecords.get();
+    if ((node == null) || !node.add(record)) {
+      return (this.previousFilter == null) || this.previousFilter.isLoggable(record);
+    }
+    if (this.errorOnWarning && isWarning(record) && (node.thread == Thread.currentThread())) {
+      throw new ErrorOnWarningError(record);
+    }
+    return false;
+  }
+
+  /**
+   * Records of a node, shared by the thread executing the node and the threads it starts.
+   */
+  private static class NodeRecords {
+    private final Thread          thread;
+    private final List<LogRecord> records = new ArrayList<>();
+    private boolean               closed  = false;
+
+    private NodeRecords(final Thread thread) {
+      this.thread = thread;
+    }
+
+    private synchronized boolean add(final LogRecord record) {
+      if (this.closed) {
+        return false;
+      }
+      this.records.add(record);
+      return true;
+    }
+
+    private synchronized List<LogRecord> close() {
+      this.closed = true;
+      return new ArrayList<>(this.records);
+    }
+  }
+}
@@ -0,0 +1,731 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.workflow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+import org.preesm.commons.doc.annotations.PreesmTask;
+import org.preesm.commons.exceptions.PreesmFrameworkException;
+import org.preesm.commons.logger.PreesmLogger;
+import org.preesm.commons.model.PreesmCopyTracker;
+import org.preesm.workflow.elements.AbstractWorkflowNode;
+import org.preesm.workflow.elements.TaskNode;
+import org.preesm.workflow.elements.Workflow;
+import org.preesm.workflow.elements.WorkflowEdge;
+
+/**
+ * On-disk cache of the outputs of the workflow tasks declared {@link PreesmTask#cacheable() cacheable}.
+ *
+ * <p>
+ * An entry is keyed by a digest of the task, of the version of the bundle contributing it, of its parameters and of
+ * the digests of its inputs. The digest of data produced by a cacheable task and consumed by cacheable tasks only is
+ * derived from the key of the task, so that an unchanged prefix of the workflow is recognized without looking at the
+ * data again. Other data are digested from their content each time they are needed, since they may be modified in
+ * place between two tasks: model objects are walked through their structural
+ * features, following the references to other models (such as the algorithm and the architecture of a scenario), and
+ * the workspace files named by their string attributes (headers, timing files, ...) contribute their modification
+ * time.
+ * </p>
+ *
+ * <p>
+ * Outputs are stored only when they are strings, numbers, booleans, or model objects. Model objects are saved as XMI,
+ * along with the objects they refer to that are contained nowhere (such as the communication actors of a schedule).
+ * Their references to the inputs of the task are saved as paths in the inputs and resolved against the current inputs
+ * when the entry is restored, as is the {@link PreesmCopyTracker copy history} linking them to the inputs. Outputs
+ * referring to other objects are not stored.
+ * </p>
+ *
+ * <p>
+ * The number of entries is bounded: once it is exceeded, the least recently stored or restored entries are deleted.
+ * </p>
+ */
+public class TaskResultCache {
+
+  /** Version of the format of the keys and entries. Changing it invalidates all the existing entries. */
+  private static final String FORMAT_VERSION = "1";
+
+  private static final String INDEX_FILE   = "index.properties";
+  private static final String COPIES_FILE  = "copies.properties";
+  private static final String OUTPUTS_FILE = "outputs.xmi";
+
+  private static final String OBJECT_KIND = "object";
+  private static final String NULL_KIND   = "null";
+
+  /** Scheme of the URIs standing for the objects of the inputs in the saved outputs. */
+  private static final String INPUT_SCHEME = "preesm-input";
+
+  /** Suffix of the entries being stored. */
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+
+  /** Default maximum number of entries of a cache. */
+  public static final int DEFAULT_MAX_ENTRIES = 256;
+
+  private final Path directory;
+
+  private final int maxEntries;
+
+  /**
+   * Builds a cache storing at most {@link #DEFAULT_MAX_ENTRIES} entries in the given directory.
+   */
+  public TaskResultCache(final Path directory) {
+    this(directory, DEFAULT_MAX_ENTRIES);
+  }
+
+  /**
+   * Builds a cache storing at most the given number of entries in the given directory.
+   */
+  public TaskResultCache(final Path directory, final int maxEntries) {
+    this.directory = directory;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Whether the task of the node declares its outputs cacheable.
+   */
+  public static boolean isCacheable(final TaskNode taskNode) {
+    final PreesmTask annotation = taskNode.getTask().getClass().getAnnotation(PreesmTask.class);
+    return (annotation != null) && annotation.cacheable();
+  }
+
+  /**
+   * Returns the version of the bundle contributing the task class, or an empty string outside of an OSGi framework.
+   */
+  public static String getTaskVersion(final Class<?> taskClass) {
+    try {
+      final Bundle bundle = FrameworkUtil.getBundle(taskClass);
+      if (bundle != null) {
+        return bundle.getVersion().toString();
+      }
+    } catch (final RuntimeException | LinkageError e) {
+      // no framework
+    }
+    final String implementationVersion = taskClass.getPackage().getImplementationVersion();
+    return (implementationVersion != null) ? implementationVersion : "";
+  }
+
+  /**
+   * Returns the output ports of the node whose data can be digested from the key of the node, that is the ports whose
+   * data is sent to cacheable tasks only. Other tasks may modify their inputs in place, so the data they receive is
+   * digested from its content by the cacheable tasks that also receive it.
+   */
+  public static Set<String> getKeyDigestedPorts(final Workflow workflow, final AbstractWorkflowNode<?> node,
+      final Map<String, Object> outputs) {
+    final Set<Object> sharedData = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (final WorkflowEdge edge : workflow.outgoingEdgesOf(node)) {
+      final AbstractWorkflowNode<?> target = workflow.getEdgeTarget(edge);
+      if (outputs.containsKey(edge.getSourcePort())
+          && !(target instanceof TaskNode && isCacheable((TaskNode) target))) {
+        sharedData.add(outputs.get(edge.getSourcePort()));
+      }
+    }
+    final Set<String> ports = new LinkedHashSet<>();
+    for (final Entry<String, Object> output : outputs.entrySet()) {
+      if (!sharedData.contains(output.getValue())) {
+        ports.add(output.getKey());
+      }
+    }
+    return ports;
+  }
+
+  /**
+   * Returns the digest of an output of the task with the given key.
+   */
+  public static String getOutputDigest(final String key, final String port) {
+    final MessageDigest digest = newDigest();
+    update(digest, key);
+    update(digest, port);
+    return toHex(digest.digest());
+  }
+
+  /**
+   * Returns the key of the execution of the task with the given inputs and parameters, or null if some input cannot be
+   * digested.
+   *
+   * @param inputDigests
+   *          the digests of the inputs, by input port, or null for inputs to be digested from their content.
+   */
+  public String getKey(final TaskNode taskNode, final Map<String, Object> inputs,
+      final Map<String, String> inputDigests, final Map<String, String> parameters) {
+    final MessageDigest digest = newDigest();
+    update(digest, FORMAT_VERSION);
+    update(digest, taskNode.getID());
+    update(digest, taskNode.getTask().getClass().getName());
+    update(digest, getTaskVersion(taskNode.getTask().getClass()));
+    if (parameters != null) {
+      for (final Entry<String, String> parameter : new TreeMap<>(parameters).entrySet()) {
+        update(digest, parameter.getKey());
+        update(digest, String.valueOf(parameter.getValue()));
+      }
+    }
+    for (final String port : new TreeMap<>(inputs).keySet()) {
+      String inputDigest = inputDigests.get(port);
+      if (inputDigest == null) {
+        inputDigest = getContentDigest(inputs.get(port));
+      }
+      if (inputDigest == null) {
+        return null;
+      }
+      update(digest, port);
+      update(digest, inputDigest);
+    }
+    return toHex(digest.digest());
+  }
+
+  /**
+   * Returns the digest of the content of the data, or null if the data cannot be digested.
+   */
+  public String getContentDigest(final Object data) {
+    final MessageDigest digest = newDigest();
+    if (data == null) {
+      update(digest, NULL_KIND);
+    } else if (isValue(data)) {
+      update(digest, data.getClass().getName());
+      update(digest, data.toString());
+    } else if (data instanceof EObject) {
+      digestObject(digest, (EObject) data);
+    } else {
+      return null;
+    }
+    return toHex(digest.digest());
+  }
+
+  /**
+   * Returns the outputs stored with the given key, or null if there is no such entry or it cannot be restored.
+   */
+  public Map<String, Object> restore(final String key, final Map<String, Object> inputs) {
+    final Path entry = this.directory.resolve(key);
+    if (!Files.isDirectory(entry)) {
+      return null;
+    }
+    try {
+      // mark the entry as recently used
+      Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+      final Properties index = loadProperties(entry.resolve(INDEX_FILE));
+      final Properties copies = loadProperties(entry.resolve(COPIES_FILE));
+      final List<EObject> roots = new ArrayList<>();
+      if (Files.exists(entry.resolve(OUTPUTS_FILE))) {
+        final Resource resource = new XMIResourceImpl(URI.createFileURI(entry.resolve(OUTPUTS_FILE).toString()));
+        resource.load(null);
+        roots.addAll(resource.getContents());
+        // detach the outputs from the cache resource
+        resource.getContents().clear();
+        if (!resolveInputs(roots, inputs)) {
+          return null;
+        }
+      }
+
+      final Map<EObject, EObject> sources = new LinkedHashMap<>();
+      for (final String copyPath : copies.stringPropertyNames()) {
+        final EObject copy = resolve(copyPath, roots);
+        final EObject source = resolve(copies.getProperty(copyPath), inputs);
+        if (copy == null || source == null) {
+          return null;
+        }
+        sources.put(copy, source);
+      }
+      sources.forEach(PreesmCopyTracker::trackCopy);
+
+      final Map<String, Object> outputs = new LinkedHashMap<>();
+      for (final String port : new TreeSet<>(index.stringPropertyNames())) {
+        outputs.put(port, parseValue(index.getProperty(port), roots));
+      }
+      return outputs;
+    } catch (final IOException | RuntimeException e) {
+      PreesmLogger.getLogger().log(Level.FINE, "Could not restore the cache entry " + key, e);
+      return null;
+    }
+  }
+
+  /**
+   * Stores the outputs of the task with the given key, if they can be stored.
+   *
+   * @return true if the outputs have been stored.
+   */
+  public boolean store(final String key, final Map<String, Object> inputs, final Map<String, Object> outputs) {
+    final Properties index = new Properties();
+    final Properties copies = new Properties();
+    final List<EObject> roots = new ArrayList<>();
+    for (final Entry<String, Object> output : outputs.entrySet()) {
+      final Object value = output.getValue();
+      if (value == null) {
+        index.setProperty(output.getKey(), NULL_KIND);
+      } else if (isValue(value)) {
+        index.setProperty(output.getKey(), value.getClass().getName() + ":" + value);
+      } else if (value instanceof EObject && ((EObject) value).eContainer() == null
+          && locate((EObject) value, inputs) == null) {
+        index.setProperty(output.getKey(), OBJECT_KIND + ":" + roots.size());
+        roots.add((EObject) value);
+      } else {
+        // data that cannot be saved, or modified in place
+        return false;
+      }
+    }
+    if (!addUncontainedObjects(roots, inputs)) {
+      return false;
+    }
+    for (int i = 0; i < roots.size(); i++) {
+      final EObject root = roots.get(i);
+      final TreeIterator<EObject> iterator = EcoreUtil.getAllProperContents(root, false);
+      final List<EObject> objects = new ArrayList<>();
+      objects.add(root);
+      iterator.forEachRemaining(objects::add);
+      for (final EObject object : objects) {
+        EObject source = PreesmCopyTracker.getSource(object);
+        String sourcePath = null;
+        while (source != null && (sourcePath = locate(source, inputs)) == null) {
+          source = PreesmCopyTracker.getSource(source);
+        }
+        if (source != null) {
+          copies.setProperty(i + "/" + EcoreUtil.getRelativeURIFragmentPath(root, object), sourcePath);
+        } else if (PreesmCopyTracker.getSource(object) != null) {
+          // the copy history does not lead to the inputs
+          return false;
+        }
+      }
+    }
+
+    final Path entry = this.directory.resolve(key);
+    final Path temporaryEntry = this.directory.resolve(key + "." + UUID.randomUUID() + TEMPORARY_SUFFIX);
+    try {
+      Files.createDirectories(temporaryEntry);
+      if (!roots.isEmpty()) {
+        final Resource resource = new XMIResourceImpl(
+            URI.createFileURI(temporaryEntry.resolve(OUTPUTS_FILE).toString()));
+        final EcoreUtil.Copier copier = new InputProxyCopier(inputs);
+        final Collection<EObject> rootCopies = copier.copyAll(roots);
+        copier.copyReferences();
+        resource.getContents().addAll(rootCopies);
+        resource.save(null);
+      }
+      storeProperties(index, temporaryEntry.resolve(INDEX_FILE));
+      storeProperties(copies, temporaryEntry.resolve(COPIES_FILE));
+      Files.move(temporaryEntry, entry, StandardCopyOption.ATOMIC_MOVE);
+      Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+      evict(key);
+      return true;
+    } catch (final FileAlreadyExistsException | DirectoryNotEmptyException e) {
+      // stored concurrently by another execution
+      return true;
+    } catch (final IOException | RuntimeException e) {
+      PreesmLogger.getLogger().log(Level.FINE, "Could not store the cache entry " + key, e);
+      return false;
+    } finally {
+      delete(temporaryEntry);
+    }
+  }
+
+  /**
+   * Deletes the least recently used entries, other than the given one, while there are too many entries.
+   */
+  private void evict(final String keptKey) {
+    final List<Path> entries;
+    try (Stream<Path> files = Files.list(this.directory)) {
+      entries = files.filter(Files::isDirectory)
+          .filter(file -> !file.getFileName().toString().endsWith(TEMPORARY_SUFFIX)).collect(Collectors.toList());
+    } catch (final IOException e) {
+      PreesmLogger.getLogger().log(Level.FINE, "Could not list the cache entries", e);
+      return;
+    }
+    if (entries.size() <= this.maxEntries) {
+      return;
+    }
+    final Map<Path, FileTime> times = new LinkedHashMap<>();
+    for (final Path entry : entries) {
+      try {
+        times.put(entry, Files.getLastModifiedTime(entry));
+      } catch (final IOException e) {
+        // deleted concurrently
+        times.put(entry, FileTime.fromMillis(0));
+      }
+    }
+    entries.sort(Comparator.comparing(times::get));
+    int nbEntries = entries.size();
+    for (final Path entry : entries) {
+      if (nbEntries <= this.maxEntries) {
+        break;
+      }
+      if (!entry.getFileName().toString().equals(keptKey)) {
+        delete(entry);
+        nbEntries--;
+      }
+    }
+  }
+
+  /**
+   * Adds to the roots the objects they refer to that are contained nowhere, until the roots refer only to themselves
+   * and to the inputs.
+   *
+   * @return false if the roots refer to other objects.
+   */
+  private static boolean addUncontainedObjects(final List<EObject> roots, final Map<String, Object> inputs) {
+    int nbRoots;
+    do {
+      nbRoots = roots.size();
+      for (final EObject target : EcoreUtil.ExternalCrossReferencer.find(roots).keySet()) {
+        if (locate(target, inputs) == null) {
+          if ((target.eContainer() != null) || target.eIsProxy()) {
+            return false;
+          }
+          roots.add(target);
+        }
+      }
+    } while (roots.size() > nbRoots);
+    return true;
+  }
+
+  /**
+   * Replaces the references to the inputs of the restored objects, saved as proxies, by the objects of the inputs.
+   *
+   * @return false if some object cannot be found in the inputs.
+   */
+  private static boolean resolveInputs(final List<EObject> roots, final Map<String, Object> inputs) {
+    final List<EObject> objects = new ArrayList<>();
+    for (final EObject root : roots) {
+      objects.add(root);
+      EcoreUtil.<EObject>getAllProperContents(root, false).forEachRemaining(objects::add);
+    }
+    for (final EObject object : objects) {
+      for (final EReference reference : object.eClass().getEAllReferences()) {
+        if (reference.isContainment() || reference.isContainer() || reference.isDerived() || reference.isTransient()
+            || !reference.isChangeable()) {
+          continue;
+        }
+        if (reference.isMany()) {
+          @SuppressWarnings("unchecked")
+          final List<EObject> values = (List<EObject>) object.eGet(reference, false);
+          for (int i = 0; i < values.size(); i++) {
+            final EObject value = values.get(i);
+            if (isInputProxy(value)) {
+              final EObject input = resolveInput(value, inputs);
+              if (input == null) {
+                return false;
+              }
+              values.set(i, input);
+            }
+          }
+        } else {
+          final EObject value = (EObject) object.eGet(reference, false);
+          if (isInputProxy(value)) {
+            final EObject input = resolveInput(value, inputs);
+            if (input == null) {
+              return false;
+            }
+            object.eSet(reference, input);
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  private static boolean isInputProxy(final EObject object) {
+    return (object != null) && object.eIsProxy()
+        && INPUT_SCHEME.equals(((InternalEObject) object).eProxyURI().scheme());
+  }
+
+  private static EObject resolveInput(final EObject proxy, final Map<String, Object> inputs) {
+    final URI uri = ((InternalEObject) proxy).eProxyURI();
+    return resolve(URI.decode(uri.opaquePart()), inputs);
+  }
+
+  /**
+   * Copier of the outputs to save, replacing the references to the inputs by proxies holding their path in the inputs.
+   */
+  private static class InputProxyCopier extends EcoreUtil.Copier {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Map<String, Object> inputs;
+
+    private InputProxyCopier(final Map<String, Object> inputs) {
+      this.inputs = inputs;
+    }
+
+    @Override
+    public EObject get(final Object key) {
+      final EObject copy = super.get(key);
+      if ((copy == null) && (key instanceof EObject)) {
+        final EObject object = (EObject) key;
+        final String path = locate(object, this.inputs);
+        if (path != null) {
+          final InternalEObject proxy = (InternalEObject) EcoreUtil.create(object.eClass());
+          proxy.eSetProxyURI(URI.createURI(INPUT_SCHEME + ":" + URI.encodeOpaquePart(path, false)));
+          return proxy;
+        }
+      }
+      return copy;
+    }
+  }
+
+  private static boolean isValue(final Object data) {
+    return data instanceof String || data instanceof Boolean || data instanceof Long || data instanceof Integer
+        || data instanceof Double;
+  }
+
+  private static Object parseValue(final String value, final List<EObject> roots) {
+    if (NULL_KIND.equals(value)) {
+      return null;
+    }
+    final int separator = value.indexOf(':');
+    final String kind = value.substring(0, separator);
+    final String content = value.substring(separator + 1);
+    if (OBJECT_KIND.equals(kind)) {
+      return roots.get(Integer.parseInt(content));
+    } else if (String.class.getName().equals(kind)) {
+      return content;
+    } else if (Boolean.class.getName().equals(kind)) {
+      return Boolean.valueOf(content);
+    } else if (Long.class.getName().equals(kind)) {
+      return Long.valueOf(content);
+    } else if (Integer.class.getName().equals(kind)) {
+      return Integer.valueOf(content);
+    } else if (Double.class.getName().equals(kind)) {
+      return Double.valueOf(content);
+    }
+    throw new PreesmFrameworkException("Unknown kind of cached value: " + kind);
+  }
+
+  /**
+   * Returns the path of the object as the input port of the input containing it and its fragment path in this input,
+   * or null if the object does not belong to the inputs.
+   */
+  private static String locate(final EObject object, final Map<String, Object> inputs) {
+    for (final Entry<String, Object> input : new TreeMap<>(inputs).entrySet()) {
+      if (input.getValue() instanceof EObject) {
+        final EObject root = (EObject) input.getValue();
+        if (EcoreUtil.isAncestor(root, object)) {
+          return input.getKey() + "/" + EcoreUtil.getRelativeURIFragmentPath(root, object);
+        }
+      }
+    }
+    return null;
+  }
+
+  private static EObject resolve(final String path, final Map<String, Object> inputs) {
+    final int separator = path.indexOf('/');
+    final Object root = inputs.get(path.substring(0, separator));
+    if (!(root instanceof EObject)) {
+      return null;
+    }
+    return resolve((EObject) root, path.substring(separator + 1));
+  }
+
+  private static EObject resolve(final String path, final List<EObject> roots) {
+    final int separator = path.indexOf('/');
+    final EObject root = roots.get(Integer.parseInt(path.substring(0, separator)));
+    return resolve(root, path.substring(separator + 1));
+  }
+
+  private static EObject resolve(final EObject root, final String fragmentPath) {
+    if (fragmentPath.isEmpty()) {
+      return root;
+    }
+    return EcoreUtil.getEObject(root, fragmentPath);
+  }
+
+  /**
+   * Digests the tree of objects contained in the given root: classes, attribute values, and references. The trees of
+   * the other models referred to are digested after it, in the order they are first referred to, and references are
+   * digested as the index of the tree of the target and its fragment path in this tree.
+   */
+  private static void digestObject(final MessageDigest digest, final EObject root) {
+    final List<EObject> roots = new ArrayList<>();
+    final Map<EObject, Integer> rootIndexes = new IdentityHashMap<>();
+    roots.add(root);
+    rootIndexes.put(root, 0);
+    for (int i = 0; i < roots.size(); i++) {
+      final EObject currentRoot = roots.get(i);
+      final List<EObject> objects = new ArrayList<>();
+      objects.add(currentRoot);
+      EcoreUtil.<EObject>getAllProperContents(currentRoot, false).forEachRemaining(objects::add);
+      for (final EObject object : objects) {
+        digestFeatures(digest, object, roots, rootIndexes);
+      }
+    }
+  }
+
+  private static void digestFeatures(final MessageDigest digest, final EObject object, final List<EObject> roots,
+      final Map<EObject, Integer> rootIndexes) {
+    update(digest, object.eClass().getEPackage().getNsURI());
+    update(digest, object.eClass().getName());
+    for (final EStructuralFeature feature : object.eClass().getEAllStructuralFeatures()) {
+      if (feature.isTransient() || feature.isDerived()) {
+        continue;
+      }
+      update(digest, feature.getName());
+      final Object value = object.eGet(feature, false);
+      final Collection<?> values = feature.isMany() ? (Collection<?>) value : Collections.singleton(value);
+      update(digest, Integer.toString(values.size()));
+      for (final Object item : values) {
+        if (feature instanceof EAttribute) {
+          final String text = String.valueOf(item);
+          update(digest, text);
+          digestFile(digest, text);
+        } else if (item == null) {
+          update(digest, NULL_KIND);
+        } else if (!((EReference) feature).isContainment()) {
+          digestReference(digest, (EObject) item, roots, rootIndexes);
+        }
+      }
+    }
+  }
+
+  private static void digestReference(final MessageDigest digest, final EObject target, final List<EObject> roots,
+      final Map<EObject, Integer> rootIndexes) {
+    if (target.eIsProxy()) {
+      update(digest, EcoreUtil.getURI(target).toString());
+      return;
+    }
+    // the digested data may be contained in a bigger tree, the other trees are walked from their root container
+    EObject targetRoot = roots.get(0);
+    if (!EcoreUtil.isAncestor(targetRoot, target)) {
+      targetRoot = EcoreUtil.getRootContainer(target);
+      if (!rootIndexes.containsKey(targetRoot)) {
+        rootIndexes.put(targetRoot, roots.size());
+        roots.add(targetRoot);
+      }
+    }
+    update(digest, Integer.toString(rootIndexes.get(targetRoot)));
+    update(digest, EcoreUtil.getRelativeURIFragmentPath(targetRoot, target));
+  }
+
+  /**
+   * Adds the modification time of the workspace file named by the text, if any.
+   */
+  private static void digestFile(final MessageDigest digest, final String text) {
+    if (text.indexOf('/') < 0 || text.indexOf('.') < 0) {
+      return;
+    }
+    try {
+      final IResource file = ResourcesPlugin.getWorkspace().getRoot().findMember(text);
+      if (file != null && file.getType() == IResource.FILE) {
+        update(digest, Long.toString(file.getLocalTimeStamp()));
+      }
+    } catch (final RuntimeException | LinkageError e) {
+      // no workspace, or not a path
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new PreesmFrameworkException("SHA-256 is not available", e);
+    }
+  }
+
+  private static void update(final MessageDigest digest, final String text) {
+    final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    digest.update((byte) (bytes.length >>> 24));
+    digest.update((byte) (bytes.length >>> 16));
+    digest.update((byte) (bytes.length >>> 8));
+    digest.update((byte) bytes.length);
+    digest.update(bytes);
+  }
+
+  private static String toHex(final byte[] bytes) {
+    final StringBuilder builder = new StringBuilder(bytes.length * 2);
+    for (final byte b : bytes) {
+      builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+      builder.append(Character.forDigit(b & 0xF, 16));
+    }
+    return builder.toString();
+  }
+
+  private static Properties loadProperties(final Path file) throws IOException {
+    final Properties properties = new Properties();
+    try (InputStream stream = Files.newInputStream(file)) {
+      properties.load(stream);
+    }
+    return properties;
+  }
+
+  private static void storeProperties(final Properties properties, final Path file) throws IOException {
+    try (OutputStream stream = Files.newOutputStream(file)) {
+      properties.store(stream, null);
+    }
+  }
+
+  private static void delete(final Path path) {
+    if (!Files.exists(path)) {
+      return;
+    }
+    try (Stream<Path> files = Files.walk(path)) {
+      files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+    } catch (final IOException e) {
+      PreesmLogger.getLogger().log(Level.FINE, "Could not delete " + path, e);
+    }
+  }
+}
@@ -146,8 +146,14 @@ public class WorkflowParser extends DefaultHandler2 {
           valueOfvl = Level.INFO;
         }
       }
+      final String parallel = attributes.getValue("parallel");
+      final boolean valueOfParallel = parallel != null && Boolean.parseBoolean(parallel.trim());
+      final String resultCache = attributes.getValue("resultCache");
+      final boolean valueOfResultCache = resultCache != null && Boolean.parseBoolean(resultCache.trim());
       this.workflow.setErrorOnWarning(valueOfeow);
       this.workflow.setOutputLevel(valueOfvl);
+      this.workflow.setParallel(valueOfParallel);
+      this.workflow.setResultCache(valueOfResultCache);
     } else if (qName.equals("dftools:scenario")) {
       final String pluginId = attributes.getValue("pluginId");
       final ScenarioNode node = new ScenarioNode(pluginId);
@@ -59,6 +59,8 @@ public class Workflow extends DirectedMultigraph<AbstractWorkflowNode<?>, Workfl
 
   private boolean errorOnWarning = true;
   private Level   outputLevel    = Level.INFO;
+  private boolean parallel       = false;
+  private boolean resultCache    = false;
 
   /**
    * Instantiates a new workflow.
@@ -83,6 +85,28 @@ public class Workflow extends DirectedMultigraph<AbstractWorkflowNode<?>, Workfl
     this.outputLevel = outputLevel;
   }
 
+  /**
+   * Whether the independent branches of the workflow are executed in parallel.
+   */
+  public boolean isParallel() {
+    return this.parallel;
+  }
+
+  public void setParallel(final boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  /**
+   * Whether the outputs of the cacheable tasks are stored on disk and restored in the next executions.
+   */
+  public boolean isResultCache() {
+    return this.resultCache;
+  }
+
+  public void setResultCache(final boolean resultCache) {
+    this.resultCache = resultCache;
+  }
+
   @Override
   public boolean equals(final Object obj) {
     if (obj instanceof Workflow) {
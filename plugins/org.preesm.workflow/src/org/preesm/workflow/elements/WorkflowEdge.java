@@ -53,6 +53,9 @@ public class WorkflowEdge {
   /** Object carrying the data. */
   private Object data = null;
 
+  /** Digest of the data, when it has been produced by a cacheable task. */
+  private String dataDigest = null;
+
   /**
    * Gets the data.
    *
@@ -72,6 +75,25 @@ public class WorkflowEdge {
     this.data = data;
   }
 
+  /**
+   * Gets the digest of the data, or null if the data has not been produced by a cacheable task.
+   *
+   * @return the data digest
+   */
+  public String getDataDigest() {
+    return this.dataDigest;
+  }
+
+  /**
+   * Sets the digest of the data.
+   *
+   * @param dataDigest
+   *          the new data digest
+   */
+  public void setDataDigest(final String dataDigest) {
+    this.dataDigest = dataDigest;
+  }
+
   /**
    * Gets the source port.
    *
@@ -0,0 +1,183 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.ietr.preesm.mapper.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.algorithm.mapper.model.MapperDAG;
+import org.preesm.algorithm.mapper.model.MapperDAGEdge;
+import org.preesm.algorithm.mapper.model.MapperDAGVertex;
+import org.preesm.algorithm.mapper.timekeeper.BLevelVisitor;
+import org.preesm.algorithm.mapper.timekeeper.LevelEngine;
+import org.preesm.algorithm.mapper.timekeeper.TLevelVisitor;
+import org.preesm.algorithm.model.dag.DAGEdge;
+
+/**
+ */
+public class LevelEngineTest {
+
+  private final Random random = new Random(17);
+
+  private MapperDAGVertex addVertex(final MapperDAG dag, final String name) {
+    final MapperDAGVertex vertex = new MapperDAGVertex(name, null);
+    dag.addVertex(vertex);
+    dag.getTimings().dedicate(vertex);
+    vertex.getTiming().setCost(1 + this.random.nextInt(100));
+    return vertex;
+  }
+
+  private void addEdge(final MapperDAG dag, final MapperDAGVertex source, final MapperDAGVertex target) {
+    final DAGEdge edge = dag.addEdge(source, target);
+    ((MapperDAGEdge) edge).getTiming().setCost(this.random.nextInt(20));
+  }
+
+  private static long[] getTLevels(final List<MapperDAGVertex> vertices) {
+    return vertices.stream().mapToLong(v -> v.getTiming().getTLevel()).toArray();
+  }
+
+  private static long[] getBLevels(final List<MapperDAGVertex> vertices) {
+    return vertices.stream().mapToLong(v -> v.getTiming().getBLevel()).toArray();
+  }
+
+  /**
+   * Checks that a complete pass of the visitors does not change the levels computed by the engine.
+   */
+  private static void assertSameAsVisitors(final MapperDAG dag, final List<MapperDAGVertex> vertices) {
+    final long[] tLevels = getTLevels(vertices);
+    new TLevelVisitor(Collections.emptySet()).visit(dag);
+    Assert.assertArrayEquals(getTLevels(vertices), tLevels);
+  }
+
+  @Test
+  public void testIncrementalLevels() {
+    final MapperDAG dag = new MapperDAG(null);
+    final List<MapperDAGVertex> vertices = new ArrayList<>();
+    for (int i = 0; i < 60; i++) {
+      vertices.add(addVertex(dag, "v" + i));
+    }
+    for (int i = 0; i < 60; i++) {
+      for (int j = i + 1; j < 60; j++) {
+        if (this.random.nextInt(10) == 0) {
+          addEdge(dag, vertices.get(i), vertices.get(j));
+        }
+      }
+    }
+    // an unmapped vertex
+    vertices.get(30).getTiming().reset();
+
+    final LevelEngine engine = new LevelEngine(dag);
+    engine.updateTLevels(Collections.emptySet());
+    assertSameAsVisitors(dag, vertices);
+
+    // changes of costs, only some of them being notified
+    final Set<MapperDAGVertex> dirtyVertices = new LinkedHashSet<>();
+    vertices.get(12).getTiming().setCost(500);
+    dirtyVertices.add(vertices.get(12));
+    vertices.get(40).getTiming().setCost(3);
+    vertices.get(30).getTiming().setCost(42);
+    for (final DAGEdge edge : vertices.get(20).outgoingEdges()) {
+      ((MapperDAGEdge) edge).getTiming().setCost(1000);
+    }
+    engine.updateTLevels(dirtyVertices);
+    assertSameAsVisitors(dag, vertices);
+
+    // structural changes
+    final MapperDAGVertex newVertex = addVertex(dag, "new");
+    vertices.add(newVertex);
+    addEdge(dag, vertices.get(5), newVertex);
+    addEdge(dag, newVertex, vertices.get(50));
+    final MapperDAGVertex target = vertices.stream().filter(v -> v.incomingEdges().size() > 1).findFirst().get();
+    dag.removeEdge(target.incomingEdges().iterator().next());
+    engine.updateTLevels(Collections.singleton(newVertex));
+    assertSameAsVisitors(dag, vertices);
+
+    // B levels
+    engine.updateBLevels();
+    final long[] bLevels = getBLevels(vertices);
+    new BLevelVisitor().visit(dag);
+    Assert.assertArrayEquals(getBLevels(vertices), bLevels);
+
+    engine.dispose();
+  }
+
+  @Test
+  public void testRandomMoves() {
+    final MapperDAG dag = new MapperDAG(null);
+    final List<MapperDAGVertex> vertices = new ArrayList<>();
+    for (int i = 0; i < 80; i++) {
+      vertices.add(addVertex(dag, "v" + i));
+    }
+    final List<MapperDAGEdge> edges = new ArrayList<>();
+    for (int i = 0; i < 80; i++) {
+      for (int j = i + 1; j < 80; j++) {
+        if (this.random.nextInt(8) == 0) {
+          addEdge(dag, vertices.get(i), vertices.get(j));
+          edges.add((MapperDAGEdge) dag.getEdge(vertices.get(i), vertices.get(j)));
+        }
+      }
+    }
+
+    final LevelEngine engine = new LevelEngine(dag);
+    engine.updateTLevels(Collections.emptySet());
+    assertSameAsVisitors(dag, vertices);
+
+    // no vertex is notified, the engine tracks the changes of the timings
+    for (int step = 0; step < 500; step++) {
+      final MapperDAGVertex vertex = vertices.get(this.random.nextInt(vertices.size()));
+      switch (this.random.nextInt(4)) {
+        case 0:
+          vertex.getTiming().setCost(1 + this.random.nextInt(100));
+          break;
+        case 1:
+          edges.get(this.random.nextInt(edges.size())).getTiming().setCost(this.random.nextInt(20));
+          break;
+        case 2:
+          vertex.getTiming().setTLevel(this.random.nextInt(1000));
+          break;
+        default:
+          vertex.getTiming().reset();
+          break;
+      }
+      engine.updateTLevels(Collections.emptySet());
+      assertSameAsVisitors(dag, vertices);
+    }
+
+    engine.dispose();
+  }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.ietr.preesm.mapper.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.algorithm.mapper.abc.order.VertexOrderList;
+import org.preesm.algorithm.mapper.model.MapperDAG;
+import org.preesm.algorithm.mapper.model.MapperDAGEdge;
+import org.preesm.algorithm.mapper.model.MapperDAGSnapshot;
+import org.preesm.algorithm.mapper.model.MapperDAGVertex;
+import org.preesm.algorithm.mapper.model.property.VertexTiming;
+
+/**
+ */
+public class MapperDAGSnapshotTest {
+
+  private static MapperDAG createDAG(final List<MapperDAGVertex> vertices, final List<MapperDAGEdge> edges) {
+    final MapperDAG dag = new MapperDAG(null);
+    for (int i = 0; i < 10; i++) {
+      final MapperDAGVertex vertex = new MapperDAGVertex("v" + i, null);
+      dag.addVertex(vertex);
+      dag.getTimings().dedicate(vertex);
+      dag.getMappings().dedicate(vertex);
+      vertices.add(vertex);
+    }
+    for (int i = 1; i < 10; i++) {
+      edges.add((MapperDAGEdge) dag.addEdge(vertices.get(i - 1), vertices.get(i)));
+    }
+    return dag;
+  }
+
+  private static void setState(final MapperDAG dag, final List<MapperDAGVertex> vertices,
+      final List<MapperDAGEdge> edges, final int seed) {
+    for (int i = 0; i < vertices.size(); i++) {
+      final VertexTiming timing = vertices.get(i).getTiming();
+      timing.setCost(seed + i);
+      timing.setTLevel(seed * i);
+      timing.setBLevel(seed + (2 * i));
+      if ((i % 3) == 0) {
+        timing.resetTotalOrder(vertices.get(i).getName());
+      } else {
+        vertices.get(i).setTotalOrder(seed + i);
+      }
+    }
+    for (int i = 0; i < edges.size(); i++) {
+      edges.get(i).getTiming().setCost(seed - i);
+    }
+    dag.setScheduleCost(seed * 100L);
+  }
+
+  private static void assertState(final MapperDAG dag, final int seed) {
+    for (int i = 0; i < 10; i++) {
+      final MapperDAGVertex vertex = dag.getMapperDAGVertex("v" + i);
+      final VertexTiming timing = vertex.getTiming();
+      Assert.assertEquals(seed + i, timing.getCost());
+      Assert.assertEquals(seed * i, timing.getTLevel());
+      Assert.assertEquals(seed + (2 * i), timing.getBLevel());
+      if ((i % 3) == 0) {
+        Assert.assertFalse(timing.hasTotalOrder(vertex.getName()));
+      } else {
+        Assert.assertEquals(seed + i, vertex.getTotalOrder());
+      }
+      if (i > 0) {
+        final MapperDAGEdge edge = (MapperDAGEdge) dag.getEdge(dag.getMapperDAGVertex("v" + (i - 1)), vertex);
+        Assert.assertEquals(seed - (i - 1), edge.getTiming().getCost());
+      }
+    }
+    Assert.assertEquals(seed * 100L, dag.getScheduleCost());
+  }
+
+  @Test
+  public void testCaptureAndRestore() {
+    final List<MapperDAGVertex> vertices = new ArrayList<>();
+    final List<MapperDAGEdge> edges = new ArrayList<>();
+    final MapperDAG dag = createDAG(vertices, edges);
+
+    setState(dag, vertices, edges, 5);
+    final MapperDAGSnapshot first = MapperDAGSnapshot.capture(dag);
+    Assert.assertSame(dag, first.getDAG());
+    Assert.assertEquals(500L, first.getScheduleCost());
+
+    setState(dag, vertices, edges, 7);
+    final MapperDAGSnapshot second = first.recapture();
+    Assert.assertEquals(700L, second.getScheduleCost());
+
+    // building a DAG from a snapshot does not modify the original one
+    final MapperDAG firstDAG = first.toDAG();
+    Assert.assertNotSame(dag, firstDAG);
+    assertState(firstDAG, 5);
+    assertState(dag, 7);
+    assertState(second.toDAG(), 7);
+  }
+
+  @Test
+  public void testChangesAfterCapture() {
+    final List<MapperDAGVertex> vertices = new ArrayList<>();
+    final List<MapperDAGEdge> edges = new ArrayList<>();
+    final MapperDAG dag = createDAG(vertices, edges);
+    final String key = "custom_property";
+
+    setState(dag, vertices, edges, 5);
+    vertices.get(3).getPropertyBean().setValue(key, "captured");
+    final VertexOrderList order = new VertexOrderList();
+    for (int i = 0; i < vertices.size(); i++) {
+      order.addLast(order.new OrderProperty(vertices.get(i).getName(), i));
+    }
+    final MapperDAGSnapshot snapshot = MapperDAGSnapshot.capture(dag, order);
+
+    // moves, properties and structure of the live DAG change after the capture
+    setState(dag, vertices, edges, 7);
+    vertices.get(3).getPropertyBean().setValue(key, "changed");
+    final MapperDAGVertex added = new MapperDAGVertex("v10", null);
+    dag.addVertex(added);
+    dag.getTimings().dedicate(added);
+    dag.getMappings().dedicate(added);
+    dag.addEdge(vertices.get(9), added);
+
+    final MapperDAG restored = snapshot.toDAG();
+    assertState(restored, 5);
+    Assert.assertEquals(10, restored.vertexSet().size());
+    Assert.assertEquals(9, restored.edgeSet().size());
+    Assert.assertEquals("captured", restored.getMapperDAGVertex("v3").getPropertyBean().getValue(key));
+    Assert.assertSame(order, snapshot.getTotalOrder());
+    Assert.assertEquals(5L * 100, snapshot.getScheduleCost());
+
+    // restoring again gives the same DAG, restored copies are independent
+    restored.getMapperDAGVertex("v3").getTiming().setCost(-5);
+    assertState(snapshot.toDAG(), 5);
+
+    // the structure changed: recapturing takes the new structure
+    final MapperDAGSnapshot recaptured = snapshot.recapture();
+    Assert.assertNull(recaptured.getTotalOrder());
+    Assert.assertEquals(11, recaptured.toDAG().vertexSet().size());
+    assertState(recaptured.toDAG(), 7);
+  }
+}
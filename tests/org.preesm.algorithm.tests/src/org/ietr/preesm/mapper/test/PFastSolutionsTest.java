@@ -0,0 +1,104 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.ietr.preesm.mapper.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.algorithm.mapper.algo.PFastSolutions;
+import org.preesm.algorithm.mapper.model.MapperDAG;
+import org.preesm.algorithm.mapper.model.MapperDAGSnapshot;
+
+/**
+ */
+public class PFastSolutionsTest {
+
+  private static final int NB_SUBTASKS = 32;
+
+  private static MapperDAGSnapshot createSnapshot(final long cost) {
+    final MapperDAG dag = new MapperDAG(null);
+    dag.setScheduleCost(cost);
+    return MapperDAGSnapshot.capture(dag);
+  }
+
+  /**
+   * Solutions of seeded subtasks, added in a shuffled order as if the subtasks completed in any order.
+   */
+  @Test
+  public void testBestOfSubtasks() {
+    for (long seed = 0; seed < 20; seed++) {
+      final Random random = new Random(seed);
+      final List<MapperDAGSnapshot> bySubtask = new ArrayList<>();
+      for (int i = 0; i < NB_SUBTASKS; i++) {
+        // few distinct costs, so that several subtasks find the best one
+        bySubtask.add(createSnapshot(100 + random.nextInt(8)));
+      }
+
+      // expected: lowest cost, then lowest subtask index
+      int expectedIndex = 0;
+      for (int i = 1; i < NB_SUBTASKS; i++) {
+        if (bySubtask.get(i).getScheduleCost() < bySubtask.get(expectedIndex).getScheduleCost()) {
+          expectedIndex = i;
+        }
+      }
+
+      final List<Integer> completionOrder = new ArrayList<>();
+      for (int i = 0; i < NB_SUBTASKS; i++) {
+        completionOrder.add(i);
+      }
+      Collections.shuffle(completionOrder, random);
+
+      final PFastSolutions solutions = new PFastSolutions();
+      for (final int index : completionOrder) {
+        solutions.add(index, bySubtask.get(index));
+      }
+
+      // solutions with the same cost are not dropped as duplicates
+      Assert.assertEquals(NB_SUBTASKS, solutions.size());
+      Assert.assertSame(bySubtask.get(expectedIndex), solutions.getBest());
+
+      final List<MapperDAGSnapshot> sorted = solutions.getSnapshots();
+      for (int i = 1; i < sorted.size(); i++) {
+        Assert.assertTrue(sorted.get(i - 1).getScheduleCost() <= sorted.get(i).getScheduleCost());
+      }
+
+      solutions.retainBest(4);
+      Assert.assertEquals(4, solutions.size());
+      Assert.assertEquals(sorted.subList(0, 4), solutions.getSnapshots());
+      Assert.assertSame(bySubtask.get(expectedIndex), solutions.getBest());
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.ietr.preesm.mapper.test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.algorithm.mapper.abc.order.Schedule;
+import org.preesm.algorithm.mapper.model.MapperDAG;
+import org.preesm.algorithm.mapper.model.MapperDAGVertex;
+
+/**
+ */
+public class ScheduleTest {
+
+  private static void assertSameOrder(final List<MapperDAGVertex> expected, final Schedule schedule) {
+    Assert.assertEquals(expected.size(), schedule.size());
+    Assert.assertEquals(expected, new ArrayList<>(schedule.getList()));
+    long busyTime = 0;
+    for (int i = 0; i < expected.size(); i++) {
+      final MapperDAGVertex vertex = expected.get(i);
+      busyTime += vertex.getTiming().getCost();
+      Assert.assertEquals(i, schedule.indexOf(vertex));
+      Assert.assertSame(vertex, schedule.get(i));
+      Assert.assertEquals((i > 0) ? expected.get(i - 1) : null, schedule.getPrevious(vertex));
+      Assert.assertEquals((i < (expected.size() - 1)) ? expected.get(i + 1) : null, schedule.getNext(vertex));
+      Assert.assertEquals(expected.subList(i + 1, expected.size()),
+          new ArrayList<>(schedule.getSuccessors(vertex)));
+    }
+    Assert.assertEquals(busyTime, schedule.getBusyTime());
+  }
+
+  @Test
+  public void testRandomOperations() {
+    final Random random = new Random(23);
+    final MapperDAG dag = new MapperDAG(null);
+    final List<MapperDAGVertex> vertices = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      final MapperDAGVertex vertex = new MapperDAGVertex("v" + i, null);
+      dag.addVertex(vertex);
+      dag.getTimings().dedicate(vertex);
+      vertex.getTiming().setCost(1 + random.nextInt(50));
+      vertices.add(vertex);
+    }
+
+    final Schedule schedule = new Schedule();
+    final LinkedList<MapperDAGVertex> expected = new LinkedList<>();
+    for (int step = 0; step < 2000; step++) {
+      final MapperDAGVertex vertex = vertices.get(random.nextInt(vertices.size()));
+      final boolean scheduled = expected.contains(vertex);
+      if (scheduled && random.nextInt(3) == 0) {
+        schedule.remove(vertex);
+        expected.remove(vertex);
+      } else if (!scheduled) {
+        final int operation = expected.isEmpty() ? random.nextInt(2) : random.nextInt(4);
+        switch (operation) {
+          case 0:
+            schedule.addFirst(vertex);
+            expected.addFirst(vertex);
+            break;
+          case 1:
+            schedule.addLast(vertex);
+            expected.addLast(vertex);
+            break;
+          case 2:
+            final int previousIndex = random.nextInt(expected.size());
+            schedule.insertAfter(expected.get(previousIndex), vertex);
+            expected.add(previousIndex + 1, vertex);
+            break;
+          default:
+            final int nextIndex = random.nextInt(expected.size());
+            schedule.insertBefore(expected.get(nextIndex), vertex);
+            expected.add(nextIndex, vertex);
+            break;
+        }
+      } else {
+        // adding a scheduled vertex does nothing
+        schedule.addLast(vertex);
+      }
+      if ((step % 100) == 0) {
+        assertSameOrder(expected, schedule);
+      }
+    }
+    assertSameOrder(expected, schedule);
+    Assert.assertEquals(-1, schedule.indexOf(new MapperDAGVertex("unknown", null)));
+
+    schedule.clear();
+    Assert.assertTrue(schedule.isEmpty());
+    Assert.assertEquals(0, schedule.getBusyTime());
+  }
+}
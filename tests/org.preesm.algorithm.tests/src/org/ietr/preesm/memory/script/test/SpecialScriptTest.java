@@ -0,0 +1,101 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.ietr.preesm.memory.script.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.algorithm.memory.script.SpecialScript;
+import org.preesm.commons.exceptions.PreesmRuntimeException;
+
+/**
+ * Tests of the Java implementations of the special actor memory scripts, against the matches of the BeanShell scripts.
+ */
+public class SpecialScriptTest {
+
+  private final Map<String, Long> nbTokens = new LinkedHashMap<>();
+
+  private final List<String> matches = new ArrayList<>();
+
+  private List<String> buffers(final String prefix, final long... sizes) {
+    final List<String> result = new ArrayList<>();
+    for (int i = 0; i < sizes.length; i++) {
+      final String name = prefix + i;
+      this.nbTokens.put(name, sizes[i]);
+      result.add(name);
+    }
+    return result;
+  }
+
+  private void run(final SpecialScript script, final List<String> inputs, final List<String> outputs) {
+    script.run(inputs, outputs, this.nbTokens::get, (local, localIdx, remote, remoteIdx, size) -> this.matches
+        .add(local + "[" + localIdx + "] " + remote + "[" + remoteIdx + "] " + size));
+  }
+
+  @Test
+  public void testFork() {
+    run(SpecialScript.FORK, buffers("in", 8), buffers("out", 2, 2, 4));
+    Assert.assertEquals(Arrays.asList("in0[0] out0[0] 2", "in0[2] out1[0] 2", "in0[4] out2[0] 4"), this.matches);
+  }
+
+  @Test
+  public void testJoin() {
+    run(SpecialScript.JOIN, buffers("in", 3, 5), buffers("out", 8));
+    Assert.assertEquals(Arrays.asList("out0[0] in0[0] 3", "out0[3] in1[0] 5"), this.matches);
+  }
+
+  @Test
+  public void testBroadcast() {
+    run(SpecialScript.BROADCAST, buffers("in", 3), buffers("out", 5, 0, 4));
+    Assert.assertEquals(Arrays.asList("in0[0] out0[0] 3", "in0[0] out0[3] 2", "in0[2] out1[0] 0", "in0[2] out2[0] 1",
+        "in0[0] out2[1] 3"), this.matches);
+  }
+
+  @Test
+  public void testRoundBuffer() {
+    final List<String> inputs = buffers("in", 2, 3);
+    run(SpecialScript.ROUNDBUFFER, inputs, buffers("out", 4));
+    Assert.assertEquals(Arrays.asList("in1[0] out0[1] 3", "in0[1] out0[0] 1"), this.matches);
+    // the inputs are reversed in place, as in the BeanShell script
+    Assert.assertEquals(Arrays.asList("in1", "in0"), inputs);
+  }
+
+  @Test(expected = PreesmRuntimeException.class)
+  public void testRoundBufferTooSmall() {
+    run(SpecialScript.ROUNDBUFFER, buffers("in", 1, 2), buffers("out", 4));
+  }
+}
@@ -0,0 +1,191 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.ietr.preesm.memory.test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.algorithm.mapper.graphtransfo.BufferAggregate;
+import org.preesm.algorithm.mapper.graphtransfo.BufferProperties;
+import org.preesm.algorithm.mapper.graphtransfo.ImplementationPropertyNames;
+import org.preesm.algorithm.mapper.graphtransfo.VertexType;
+import org.preesm.algorithm.mapper.model.MapperDAG;
+import org.preesm.algorithm.mapper.model.MapperDAGVertex;
+import org.preesm.algorithm.memory.exclusiongraph.MemoryExclusionGraph;
+import org.preesm.algorithm.memory.exclusiongraph.MemoryExclusionVertex;
+import org.preesm.algorithm.model.dag.DAGEdge;
+import org.preesm.algorithm.model.dag.DirectedAcyclicGraph;
+import org.preesm.model.scenario.Scenario;
+import org.preesm.model.scenario.util.ScenarioUserFactory;
+import org.preesm.model.slam.ComponentInstance;
+import org.preesm.model.slam.SlamFactory;
+
+/**
+ */
+public class DenseExclusionMatrixTest {
+
+  private static MapperDAGVertex addVertex(final MapperDAG dag, final String name, final String kind,
+      final ComponentInstance operator, final int schedulingOrder) {
+    final MapperDAGVertex vertex = new MapperDAGVertex(name, null);
+    vertex.setKind(kind);
+    vertex.getPropertyBean().setValue(ImplementationPropertyNames.Vertex_vertexType, VertexType.TASK);
+    vertex.getPropertyBean().setValue(ImplementationPropertyNames.Vertex_schedulingOrder, schedulingOrder);
+    vertex.getPropertyBean().setValue("Operator", operator);
+    dag.addVertex(vertex);
+    return vertex;
+  }
+
+  private static void addEdge(final MapperDAG dag, final MapperDAGVertex source, final MapperDAGVertex target,
+      final long nbTokens) {
+    final DAGEdge edge = dag.addEdge(source, target);
+    final BufferAggregate buffers = new BufferAggregate();
+    buffers.add(new BufferProperties("char", "out", "in", nbTokens));
+    edge.getPropertyBean().setValue(BufferAggregate.propertyBeanName, buffers);
+  }
+
+  /**
+   * Builds a scheduled DAG on two cores, with parallel branches and a delay between actor d and actor a.
+   */
+  private static MapperDAG createScheduledDAG(final ComponentInstance core0, final ComponentInstance core1) {
+    final MapperDAG dag = new MapperDAG(null);
+    final MapperDAGVertex init = addVertex(dag, "init", MapperDAGVertex.DAG_INIT_VERTEX, core0, 0);
+    final MapperDAGVertex src = addVertex(dag, "src", MapperDAGVertex.DAG_VERTEX, core0, 1);
+    final MapperDAGVertex a = addVertex(dag, "a", MapperDAGVertex.DAG_VERTEX, core0, 2);
+    final MapperDAGVertex b = addVertex(dag, "b", MapperDAGVertex.DAG_VERTEX, core1, 3);
+    final MapperDAGVertex e = addVertex(dag, "e", MapperDAGVertex.DAG_VERTEX, core1, 4);
+    final MapperDAGVertex c = addVertex(dag, "c", MapperDAGVertex.DAG_VERTEX, core0, 5);
+    final MapperDAGVertex d = addVertex(dag, "d", MapperDAGVertex.DAG_VERTEX, core1, 6);
+    final MapperDAGVertex end = addVertex(dag, "end", MapperDAGVertex.DAG_END_VERTEX, core1, 7);
+    final MapperDAGVertex snk = addVertex(dag, "snk", MapperDAGVertex.DAG_VERTEX, core0, 8);
+    init.getPropertyBean().setValue(MapperDAGVertex.END_REFERENCE, end.getName());
+
+    addEdge(dag, init, a, 4);
+    addEdge(dag, src, a, 8);
+    addEdge(dag, src, b, 16);
+    addEdge(dag, src, e, 2);
+    addEdge(dag, a, c, 8);
+    addEdge(dag, b, c, 4);
+    addEdge(dag, b, d, 4);
+    addEdge(dag, e, snk, 2);
+    addEdge(dag, c, snk, 8);
+    addEdge(dag, d, snk, 4);
+    addEdge(dag, d, end, 4);
+    return dag;
+  }
+
+  private static Map<String, Set<String>> getExclusions(final MemoryExclusionGraph meg) {
+    final Map<String, Set<String>> exclusions = new TreeMap<>();
+    for (final MemoryExclusionVertex vertex : meg.vertexSet()) {
+      final Set<String> adjacent = new TreeSet<>();
+      meg.getAdjacentVertexOf(vertex).forEach(v -> adjacent.add(v.toString()));
+      exclusions.put(vertex.toString(), adjacent);
+    }
+    return exclusions;
+  }
+
+  @Test
+  public void testSameExclusionsAsSets() {
+    final Scenario scenario = ScenarioUserFactory.createScenario();
+    scenario.getSimulationInfo().getDataTypes().put("char", 8L);
+    final ComponentInstance core0 = SlamFactory.eINSTANCE.createComponentInstance();
+    core0.setInstanceName("Core0");
+    final ComponentInstance core1 = SlamFactory.eINSTANCE.createComponentInstance();
+    core1.setInstanceName("Core1");
+
+    final MapperDAG setDAG = createScheduledDAG(core0, core1);
+    final MemoryExclusionGraph setMeg = new MemoryExclusionGraph(scenario);
+    setMeg.buildGraph(setDAG, false);
+    final MapperDAG bitSetDAG = createScheduledDAG(core0, core1);
+    final MemoryExclusionGraph bitSetMeg = new MemoryExclusionGraph(scenario);
+    bitSetMeg.buildGraph(bitSetDAG, true);
+
+    // 11 buffers and the head of the delay
+    Assert.assertEquals(12, setMeg.vertexSet().size());
+    Assert.assertEquals(getExclusions(setMeg), getExclusions(bitSetMeg));
+    final int nbExclusions = setMeg.getNumberOfExclusions();
+    Assert.assertEquals(nbExclusions, bitSetMeg.getNumberOfExclusions());
+    for (final MemoryExclusionVertex vertex : setMeg.vertexSet()) {
+      Assert.assertEquals(setMeg.degreeOf(vertex), bitSetMeg.degreeOf(vertex));
+    }
+
+    setMeg.updateWithSchedule(setDAG);
+    bitSetMeg.updateWithSchedule(bitSetDAG);
+    Assert.assertTrue(setMeg.getNumberOfExclusions() < nbExclusions);
+    Assert.assertEquals(getExclusions(setMeg), getExclusions(bitSetMeg));
+    Assert.assertEquals(setMeg.getNumberOfExclusions(), bitSetMeg.getNumberOfExclusions());
+
+    // the edges created on demand are the same as the exclusions of the matrix
+    Assert.assertEquals(setMeg.edgeSet().size(), bitSetMeg.edgeSet().size());
+    for (final MemoryExclusionVertex vertex : setMeg.vertexSet()) {
+      for (final MemoryExclusionVertex adjacent : setMeg.getAdjacentVertexOf(vertex)) {
+        Assert.assertNotNull(bitSetMeg.getEdge(vertex, adjacent));
+      }
+    }
+    Assert.assertEquals(setMeg.getComplementary().edgeSet().size(), bitSetMeg.getComplementary().edgeSet().size());
+  }
+
+  @Test
+  public void testBitSetMemoryExclusionGraph() {
+    final MemoryExclusionGraph meg = new MemoryExclusionGraph(null);
+    meg.buildGraph(new DirectedAcyclicGraph(), true);
+
+    final MemoryExclusionVertex a = new MemoryExclusionVertex("a", "b", 8, null);
+    final MemoryExclusionVertex b = new MemoryExclusionVertex("b", "c", 8, null);
+    final MemoryExclusionVertex c = new MemoryExclusionVertex("c", "d", 8, null);
+    meg.addVertex(a);
+    meg.addVertex(b);
+    meg.addVertex(c);
+    meg.addEdge(a, b);
+    meg.addEdge(a, c);
+
+    Assert.assertEquals(Arrays.asList(b, c), Arrays.asList(meg.getAdjacentVertexOf(a).toArray()));
+    Assert.assertEquals(Collections.singleton(a), meg.getAdjacentVertexOf(c));
+
+    final MemoryExclusionGraph complementary = meg.getComplementary();
+    Assert.assertEquals(3, complementary.vertexSet().size());
+    Assert.assertEquals(1, complementary.edgeSet().size());
+    Assert.assertTrue(complementary.containsEdge(b, c));
+
+    // removal through an equal vertex is reflected in the exclusions
+    meg.clearAdjacentVerticesBackup();
+    meg.removeEdge(new MemoryExclusionVertex("a", "b", 0, null), c);
+    meg.deepRemoveAllVertices(Collections.singleton(b));
+    Assert.assertTrue(meg.getAdjacentVertexOf(a).isEmpty());
+    Assert.assertEquals(1, meg.getComplementary().edgeSet().size());
+  }
+}
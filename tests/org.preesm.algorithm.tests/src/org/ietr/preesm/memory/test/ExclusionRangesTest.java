@@ -0,0 +1,190 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.ietr.preesm.memory.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.algorithm.memory.allocation.ExclusionRanges;
+
+/**
+ */
+public class ExclusionRangesTest {
+
+  @Test
+  public void testFirstFit() {
+    final ExclusionRanges ranges = new ExclusionRanges();
+    Assert.assertEquals(0, ranges.firstFit(16, -1));
+
+    ranges.add(8, 16);
+    ranges.add(32, 40);
+    ranges.add(12, 20);
+    Assert.assertEquals(0, ranges.firstFit(8, -1));
+    Assert.assertEquals(20, ranges.firstFit(12, -1));
+    Assert.assertEquals(40, ranges.firstFit(12, 8));
+    Assert.assertEquals(40, ranges.firstFit(16, -1));
+
+    // touching ranges are merged
+    ranges.add(0, 8);
+    ranges.add(20, 32);
+    Assert.assertEquals(40, ranges.firstFit(1, -1));
+  }
+
+  @Test
+  public void testBestFit() {
+    final ExclusionRanges ranges = new ExclusionRanges();
+    ranges.add(16, 20);
+    ranges.add(28, 64);
+    // free spaces: [0, 16[, [20, 28[, [64, ...[
+    Assert.assertEquals(20, ranges.bestFit(8, -1));
+    Assert.assertEquals(0, ranges.bestFit(12, -1));
+    Assert.assertEquals(64, ranges.bestFit(24, -1));
+    Assert.assertEquals(20, ranges.bestFit(4, -1));
+    Assert.assertEquals(24, ranges.bestFit(4, 8));
+
+    // empty ranges split free spaces
+    ranges.clear();
+    ranges.add(10, 10);
+    ranges.add(30, 40);
+    Assert.assertEquals(10, ranges.bestFit(20, -1));
+  }
+
+  @Test
+  public void testZeroSizeAndAdjacentRanges() {
+    final ExclusionRanges ranges = new ExclusionRanges();
+    ranges.add(0, 4);
+    ranges.add(4, 8);
+    ranges.add(12, 12);
+    ranges.add(16, 20);
+    // a zero-size object fits before the first range, the empty gap between touching ranges is not a free space
+    Assert.assertEquals(0, ranges.firstFit(0, -1));
+    Assert.assertEquals(8, ranges.firstFit(4, -1));
+    Assert.assertEquals(12, ranges.firstFit(4, 3));
+    Assert.assertEquals(20, ranges.firstFit(5, -1));
+    // as before, a zero-size object has a null occupation in any free space, and goes after the last range
+    Assert.assertEquals(20, ranges.bestFit(0, -1));
+    Assert.assertEquals(8, ranges.bestFit(4, -1));
+    Assert.assertEquals(8, ranges.bestFit(3, -1));
+  }
+
+  /**
+   * Checks that merging the ranges, including zero-size and touching ones, gives the offsets of the sweep over the
+   * sorted range bounds that the allocators used before.
+   */
+  @Test
+  public void testSameOffsetsAsSweep() {
+    final Random random = new Random(7);
+    for (int i = 0; i < 20000; i++) {
+      final List<long[]> bounds = new ArrayList<>();
+      final ExclusionRanges ranges = new ExclusionRanges();
+      final int nbRanges = random.nextInt(10);
+      for (int j = 0; j < nbRanges; j++) {
+        final long from = random.nextInt(40);
+        final long to = from + ((random.nextInt(4) == 0) ? 0 : random.nextInt(10));
+        bounds.add(new long[] { from, to });
+        ranges.add(from, to);
+      }
+      final long size = (random.nextInt(3) == 0) ? 0 : random.nextInt(12);
+      final long align = random.nextBoolean() ? -1 : 1 + random.nextInt(8);
+      Assert.assertEquals(sweep(bounds, size, align, false), ranges.firstFit(size, align));
+      Assert.assertEquals(sweep(bounds, size, align, true), ranges.bestFit(size, align));
+    }
+  }
+
+  /**
+   * Former first fit and best fit search of the allocators.
+   */
+  private static long sweep(final List<long[]> bounds, final long size, final long align, final boolean bestFit) {
+    final List<Long> excludeFrom = new ArrayList<>();
+    final List<Long> excludeTo = new ArrayList<>();
+    for (final long[] range : bounds) {
+      excludeFrom.add(range[0]);
+      excludeTo.add(range[1]);
+    }
+    Collections.sort(excludeFrom);
+    Collections.sort(excludeTo);
+
+    long fitOffset = -1;
+    long freeFrom = 0;
+    double bestFitOccupation = 0;
+    if (!excludeFrom.isEmpty()) {
+      final Iterator<Long> iterFrom = excludeFrom.iterator();
+      final Iterator<Long> iterTo = excludeTo.iterator();
+      long from = iterFrom.next();
+      long to = iterTo.next();
+      int nbExcludeFrom = 0;
+      boolean lastFromTreated = false;
+      boolean lastToTreated = false;
+      while (!lastToTreated && (bestFit || (fitOffset == -1))) {
+        if (from <= to) {
+          if (nbExcludeFrom == 0) {
+            final long freeSpaceSize = from - freeFrom;
+            final double occupation = (double) size / (double) freeSpaceSize;
+            if (bestFit && (occupation <= 1.0) && (occupation > bestFitOccupation)) {
+              fitOffset = freeFrom;
+              bestFitOccupation = occupation;
+            } else if (!bestFit && (size <= freeSpaceSize)) {
+              fitOffset = freeFrom;
+            }
+          }
+          if (iterFrom.hasNext()) {
+            from = iterFrom.next();
+            nbExcludeFrom++;
+          } else if (!lastFromTreated) {
+            lastFromTreated = true;
+            nbExcludeFrom++;
+          }
+        }
+        if ((to < from) || !iterFrom.hasNext()) {
+          nbExcludeFrom--;
+          if (nbExcludeFrom == 0) {
+            freeFrom = to;
+            if (align > -1) {
+              freeFrom += ((freeFrom % align) == 0) ? 0 : align - (freeFrom % align);
+            }
+          }
+          if (iterTo.hasNext()) {
+            to = iterTo.next();
+          } else {
+            lastToTreated = true;
+          }
+        }
+      }
+    }
+    return (fitOffset <= -1) ? freeFrom : fitOffset;
+  }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.ietr.preesm.memory.test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.algorithm.memory.allocation.BestFitAllocator;
+import org.preesm.algorithm.memory.allocation.FirstFitAllocator;
+import org.preesm.algorithm.memory.allocation.OrderedAllocator;
+import org.preesm.algorithm.memory.allocation.OrderedAllocator.Order;
+import org.preesm.algorithm.memory.allocation.OrderedAllocator.Policy;
+import org.preesm.algorithm.memory.exclusiongraph.MemoryExclusionGraph;
+import org.preesm.algorithm.memory.exclusiongraph.MemoryExclusionVertex;
+
+/**
+ */
+public class OrderedAllocatorTest {
+
+  private static MemoryExclusionGraph createGraph() {
+    final MemoryExclusionGraph meg = new MemoryExclusionGraph(null);
+    final Random random = new Random(42);
+    final List<MemoryExclusionVertex> vertices = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      final MemoryExclusionVertex vertex = new MemoryExclusionVertex("v" + i, "v" + (i + 1),
+          8 * (1 + random.nextInt(64)), null);
+      meg.addVertex(vertex);
+      vertices.add(vertex);
+    }
+    for (final MemoryExclusionVertex v1 : vertices) {
+      for (final MemoryExclusionVertex v2 : vertices) {
+        if ((v1 != v2) && (random.nextInt(4) == 0)) {
+          meg.addEdge(v1, v2);
+        }
+      }
+    }
+    return meg;
+  }
+
+  private static Map<MemoryExclusionVertex, Long> allocate(final OrderedAllocator allocator, final Policy policy,
+      final int nbThreads) {
+    allocator.setOrder(Order.SHUFFLE);
+    allocator.setNbShuffle(50);
+    allocator.setSeed(7L);
+    allocator.setNbThreads(nbThreads);
+    allocator.setPolicy(policy);
+    allocator.allocate();
+    Assert.assertTrue(allocator.checkAllocation().isEmpty());
+    return allocator.getMemObjectAllocation();
+  }
+
+  @Test
+  public void testShuffledAllocationDoesNotDependOnThreads() {
+    final MemoryExclusionGraph meg = createGraph();
+    for (final Policy policy : Policy.values()) {
+      final OrderedAllocator sequential = new FirstFitAllocator(meg);
+      final Map<MemoryExclusionVertex, Long> expected = new LinkedHashMap<>(allocate(sequential, policy, 1));
+      final long expectedSize = sequential.getMemorySizeInByte();
+
+      final OrderedAllocator parallel = new FirstFitAllocator(meg);
+      Assert.assertEquals(expected, allocate(parallel, policy, 4));
+      Assert.assertEquals(expectedSize, parallel.getMemorySizeInByte());
+    }
+  }
+
+  @Test
+  public void testShuffledAllocationPolicy() {
+    final MemoryExclusionGraph meg = createGraph();
+    final OrderedAllocator allocator = new BestFitAllocator(meg);
+    allocate(allocator, Policy.WORST, 4);
+    final long worst = allocator.getMemorySizeInByte();
+    allocator.setPolicy(Policy.BEST);
+    final long best = allocator.getMemorySizeInByte();
+    Assert.assertTrue(best <= worst);
+  }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.ietr.preesm.throughput.helpers.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.algorithm.throughput.sdf.tools.CycleRatioGraph;
+
+/**
+ * Unit test of CycleRatioGraph class
+ */
+public class CycleRatioGraphTest {
+
+  @Test
+  public void testMaximumCycleRatioShouldBeComputed() {
+    // cycles: 0-1 ratio (3+1)/(1+1) = 2; 1-2 ratio (10+0)/(2+3) = 2; self loop on 2 ratio 5/1 = 5
+    final CycleRatioGraph graph = new CycleRatioGraph(3, 5);
+    graph.addEdge(0, 1, 3, 1);
+    graph.addEdge(1, 0, 1, 1);
+    graph.addEdge(1, 2, 10, 2);
+    graph.addEdge(2, 1, 0, 3);
+    Assert.assertEquals(2, graph.maximumCycleRatio(), 1e-12);
+
+    graph.addEdge(2, 2, 5, 1);
+    Assert.assertEquals(5, graph.maximumCycleRatio(), 1e-12);
+  }
+
+  @Test
+  public void testSeparateComponentsShouldBeEvaluated() {
+    // 0-1 ratio 1, 2-3 ratio 7/2, linked by an edge not belonging to any cycle
+    final CycleRatioGraph graph = new CycleRatioGraph(4, 5);
+    graph.addEdge(0, 1, 1, 1);
+    graph.addEdge(1, 0, 1, 1);
+    graph.addEdge(1, 2, 100, 1);
+    graph.addEdge(2, 3, 3, 1);
+    graph.addEdge(3, 2, 4, 1);
+    Assert.assertEquals(3.5, graph.maximumCycleRatio(), 1e-12);
+  }
+
+  @Test
+  public void testAcyclicGraphShouldHaveNullRatio() {
+    final CycleRatioGraph graph = new CycleRatioGraph(3, 2);
+    graph.addEdge(0, 1, 4, 1);
+    graph.addEdge(1, 2, 4, 1);
+    Assert.assertEquals(0, graph.maximumCycleRatio(), 0);
+  }
+
+  @Test
+  public void testUnboundedRatioShouldBeDetected() {
+    // negative transit time on the cycle
+    final CycleRatioGraph negative = new CycleRatioGraph(2, 2);
+    negative.addEdge(0, 1, 1, 1);
+    negative.addEdge(1, 0, 1, -2);
+    Assert.assertTrue(Double.isInfinite(negative.maximumCycleRatio()));
+
+    // null transit time and positive weight on the cycle
+    final CycleRatioGraph zero = new CycleRatioGraph(2, 2);
+    zero.addEdge(0, 1, 1, 1);
+    zero.addEdge(1, 0, 1, -1);
+    Assert.assertTrue(Double.isInfinite(zero.maximumCycleRatio()));
+  }
+
+  @Test
+  public void testNullCycleShouldBeIgnored() {
+    // cycle 0-1 has null weight and null transit time, cycle 1-2 has ratio 3
+    final CycleRatioGraph graph = new CycleRatioGraph(3, 4);
+    graph.addEdge(0, 1, 0, 1);
+    graph.addEdge(1, 0, 0, -1);
+    graph.addEdge(1, 2, 2, 1);
+    graph.addEdge(2, 1, 4, 1);
+    Assert.assertEquals(3, graph.maximumCycleRatio(), 1e-12);
+  }
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.ietr.preesm.throughput.test;
+
+import java.util.Random;
+import java.util.logging.Level;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.algorithm.deadlock.IBSDFConsistency;
+import org.preesm.algorithm.evaluator.IBSDFThroughputEvaluator;
+import org.preesm.algorithm.evaluator.SDFThroughputEvaluator;
+import org.preesm.algorithm.evaluator.ThroughputEvaluator;
+import org.preesm.algorithm.model.sdf.SDFAbstractVertex;
+import org.preesm.algorithm.model.sdf.SDFGraph;
+import org.preesm.algorithm.schedule.sdf.PeriodicSchedulerSDF;
+import org.preesm.algorithm.throughput.sdf.ClassicalMethod;
+import org.preesm.algorithm.throughput.sdf.tools.GraphStructureHelper;
+import org.preesm.commons.logger.PreesmLogger;
+
+/**
+ * Compares the throughput computed with the maximum cycle ratio algorithm against the linear program, and the periods
+ * computed by the throughput evaluators against the classical method, and logs the time spent by each of them.
+ */
+public class MaximumCycleRatioBenchmarkTest {
+
+  private static final double PRECISION = 1e-6;
+
+  @Test
+  public void testIBSDFThroughputShouldMatchLinearProgram() {
+    compare("AB[DEF]C", new ClassicalMethodTest().generateIBSDFGraph(), false);
+    compare("AB[DEF]C constrained", new ClassicalMethodTest().generateIBSDFGraph(), true);
+  }
+
+  @Test
+  public void testRandomGraphThroughputShouldMatchLinearProgram() {
+    final Random random = new Random(42);
+    for (final int size : new int[] { 50, 200 }) {
+      compare("ring" + size, generateRingGraph(random, size), false);
+    }
+  }
+
+  @Test
+  public void testEvaluatorsShouldMatchClassicalMethod() {
+    final Random random = new Random(42);
+    for (final int size : new int[] { 50, 200 }) {
+      compareEvaluators("ring" + size, generateRingGraph(random, size));
+    }
+  }
+
+  @Test
+  public void testHierarchicalEvaluatorShouldMatchClassicalMethod() {
+    final SDFGraph graph = generateHierarchicalRingGraph();
+    final double throughput = new ClassicalMethod().evaluate(graph, false, PeriodicSchedulerSDF.Method.ALGORITHM);
+    // the only cycle with a single token goes through all the actors: A, E, F, C
+    Assert.assertEquals(1 / 10., throughput, PRECISION);
+    Assert.assertEquals(10., evaluate("A[EF]C IBSDF evaluator", new DurationIBSDFEvaluator(), graph), PRECISION);
+  }
+
+  private static void compareEvaluators(final String name, final SDFGraph graph) {
+    final double throughput = new ClassicalMethod().evaluate(graph, false, PeriodicSchedulerSDF.Method.ALGORITHM);
+    final double sdfPeriod = evaluate(name + " SDF evaluator", new DurationSDFEvaluator(), graph);
+    final double ibsdfPeriod = evaluate(name + " IBSDF evaluator", new DurationIBSDFEvaluator(), graph);
+    Assert.assertEquals(throughput, 1 / sdfPeriod, throughput * PRECISION);
+    Assert.assertEquals(throughput, 1 / ibsdfPeriod, throughput * PRECISION);
+  }
+
+  private static double evaluate(final String name, final ThroughputEvaluator evaluator, final SDFGraph graph) {
+    final long start = System.nanoTime();
+    final double period = evaluator.launch(graph);
+    final long time = System.nanoTime() - start;
+    final String msg = String.format("%s: %.3f ms", name, time / 1e6);
+    PreesmLogger.getLogger().log(Level.INFO, msg);
+    return period;
+  }
+
+  private static void compare(final String name, final SDFGraph graph, final boolean withExecRules) {
+    final ClassicalMethod method = new ClassicalMethod();
+
+    long start = System.nanoTime();
+    final double lp = method.evaluate(graph, withExecRules);
+    final long lpTime = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    final double mcr = method.evaluate(graph, withExecRules, PeriodicSchedulerSDF.Method.ALGORITHM);
+    final long mcrTime = System.nanoTime() - start;
+
+    final String msg = String.format("%s: LP %.3f ms, MCR %.3f ms", name, lpTime / 1e6, mcrTime / 1e6);
+    PreesmLogger.getLogger().log(Level.INFO, msg);
+    Assert.assertEquals(lp, mcr, Math.abs(lp) * PRECISION);
+  }
+
+  /**
+   * generates a homogeneous IBSDF graph A B[a E F c] C, whose only cycle is closed by a delayed edge from C to A
+   *
+   * @return IBSDF graph
+   */
+  private static SDFGraph generateHierarchicalRingGraph() {
+    final SDFGraph subgraph = new SDFGraph();
+    subgraph.setName("subgraph");
+    GraphStructureHelper.addActor(subgraph, "E", null, 0, 2., 0, null);
+    GraphStructureHelper.addActor(subgraph, "F", null, 0, 3., 0, null);
+    GraphStructureHelper.addInputInterface(subgraph, "a", 0, 0., 0, null);
+    GraphStructureHelper.addOutputInterface(subgraph, "c", 0, 0., 0, null);
+    GraphStructureHelper.addEdge(subgraph, "a", null, "E", null, 1, 1, 0, null);
+    GraphStructureHelper.addEdge(subgraph, "E", null, "F", null, 1, 1, 0, null);
+    GraphStructureHelper.addEdge(subgraph, "F", null, "c", null, 1, 1, 0, null);
+
+    final SDFGraph topgraph = new SDFGraph();
+    topgraph.setName("topgraph");
+    GraphStructureHelper.addActor(topgraph, "A", null, 0, 1., 0, null);
+    GraphStructureHelper.addActor(topgraph, "B", subgraph, 0, 0, 0, null);
+    GraphStructureHelper.addActor(topgraph, "C", null, 0, 4., 0, null);
+    GraphStructureHelper.addEdge(topgraph, "A", null, "B", "a", 1, 1, 0, null);
+    GraphStructureHelper.addEdge(topgraph, "B", "c", "C", null, 1, 1, 0, null);
+    GraphStructureHelper.addEdge(topgraph, "C", null, "A", null, 1, 1, 1, null);
+
+    IBSDFConsistency.computeRV(topgraph);
+    return topgraph;
+  }
+
+  /**
+   * Returns the duration set on the vertex by {@link GraphStructureHelper}, instead of the timing of the scenario.
+   */
+  private static double getDurationProperty(final SDFAbstractVertex vertex) {
+    final Object duration = vertex.getPropertyBean().getValue(GraphStructureHelper.DURATION_PROPERTY);
+    return (duration instanceof final Number number) ? number.doubleValue() : 0;
+  }
+
+  /**
+   * SDF evaluator reading the durations of the actors from their properties.
+   */
+  private static class DurationSDFEvaluator extends SDFThroughputEvaluator {
+    @Override
+    protected double getDuration(final SDFAbstractVertex vertex) {
+      return getDurationProperty(vertex);
+    }
+  }
+
+  /**
+   * IBSDF evaluator reading the durations of the actors from their properties.
+   */
+  private static class DurationIBSDFEvaluator extends IBSDFThroughputEvaluator {
+    private DurationIBSDFEvaluator() {
+      super(null);
+    }
+
+    @Override
+    protected double getDuration(final SDFAbstractVertex vertex) {
+      return getDurationProperty(vertex);
+    }
+  }
+
+  /**
+   * generates a live homogeneous SDF graph: a ring of actors closed by a delayed edge, plus random backward edges
+   * carrying at least one token
+   *
+   * @return SDF graph
+   */
+  private static SDFGraph generateRingGraph(final Random random, final int size) {
+    final SDFGraph graph = new SDFGraph();
+    graph.setName("ring" + size);
+    for (int i = 0; i < size; i++) {
+      GraphStructureHelper.addActor(graph, "a" + i, null, 0, 1. + random.nextInt(10), 0, null);
+    }
+    for (int i = 0; i < size; i++) {
+      final long delay = i == (size - 1) ? 1 : 0;
+      GraphStructureHelper.addEdge(graph, "a" + i, null, "a" + ((i + 1) % size), null, 1, 1, delay, null);
+    }
+    for (int i = 0; i < size; i++) {
+      final int source = random.nextInt(size);
+      final int target = random.nextInt(source + 1);
+      GraphStructureHelper.addEdge(graph, "a" + source, null, "a" + target, null, 1, 1, 1L + random.nextInt(3), null);
+    }
+    IBSDFConsistency.computeRV(graph);
+    return graph;
+  }
+}
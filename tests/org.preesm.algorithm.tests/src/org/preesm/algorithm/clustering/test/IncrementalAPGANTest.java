@@ -0,0 +1,253 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.algorithm.clustering.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.algorithm.clustering.APGANAlgorithm;
+import org.preesm.algorithm.clustering.ClusteringHelper;
+import org.preesm.algorithm.clustering.IncrementalAPGAN;
+import org.preesm.model.pisdf.AbstractActor;
+import org.preesm.model.pisdf.AbstractVertex;
+import org.preesm.model.pisdf.Actor;
+import org.preesm.model.pisdf.DataInputPort;
+import org.preesm.model.pisdf.DataOutputPort;
+import org.preesm.model.pisdf.Delay;
+import org.preesm.model.pisdf.DelayActor;
+import org.preesm.model.pisdf.Fifo;
+import org.preesm.model.pisdf.InterfaceActor;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.brv.BRVMethod;
+import org.preesm.model.pisdf.brv.PiBRV;
+import org.preesm.model.pisdf.factory.PiMMUserFactory;
+import org.preesm.model.pisdf.util.PiSDFSubgraphBuilder;
+import org.preesm.model.scenario.Scenario;
+import org.preesm.model.scenario.util.ScenarioUserFactory;
+import org.preesm.model.slam.ComponentInstance;
+import org.preesm.model.slam.SlamFactory;
+
+/**
+ * Checks that {@link IncrementalAPGAN} clusters the same couples, in the same order, as
+ * {@link APGANAlgorithm#getBestCouple(List, Map)} applied to
+ * {@link ClusteringHelper#getClusterizableCouples(PiGraph, Map, Scenario)} with the repetition vector computed again
+ * after each merge.
+ */
+public class IncrementalAPGANTest {
+
+  /**
+   * Fifo of a test graph: source, production, target, consumption and delay.
+   */
+  private static class Edge {
+
+    private final String source;
+    private final long   production;
+    private final String target;
+    private final long   consumption;
+    private final long   delay;
+
+    private Edge(final String source, final long production, final String target, final long consumption,
+        final long delay) {
+      this.source = source;
+      this.production = production;
+      this.target = target;
+      this.consumption = consumption;
+      this.delay = delay;
+    }
+  }
+
+  private static Edge edge(final String source, final long production, final String target, final long consumption) {
+    return new Edge(source, production, target, consumption, 0L);
+  }
+
+  private static Edge edge(final String source, final long production, final String target, final long consumption,
+      final long delay) {
+    return new Edge(source, production, target, consumption, delay);
+  }
+
+  /**
+   * Graph and scenario where all actors can be mapped on both cores, except the ones starting with "X" (core0 only)
+   * and with "Y" (core1 only).
+   */
+  private static class TestCase {
+
+    private final PiGraph           graph;
+    private final Scenario          scenario;
+    private final ComponentInstance core0;
+    private final ComponentInstance core1;
+
+    private TestCase(final List<String> actorNames, final List<Edge> edges) {
+      this.graph = PiMMUserFactory.instance.createPiGraph();
+      this.graph.setName("top");
+      this.graph.setUrl("top");
+      this.scenario = ScenarioUserFactory.createScenario();
+      this.scenario.setAlgorithm(this.graph);
+      this.core0 = SlamFactory.eINSTANCE.createComponentInstance();
+      this.core0.setInstanceName("core0");
+      this.core1 = SlamFactory.eINSTANCE.createComponentInstance();
+      this.core1.setInstanceName("core1");
+
+      for (final String name : actorNames) {
+        final Actor actor = PiMMUserFactory.instance.createActor(name);
+        this.graph.addActor(actor);
+        if (!name.startsWith("Y")) {
+          this.scenario.getConstraints().addConstraint(this.core0, actor);
+        }
+        if (!name.startsWith("X")) {
+          this.scenario.getConstraints().addConstraint(this.core1, actor);
+        }
+      }
+      int index = 0;
+      for (final Edge e : edges) {
+        final AbstractActor source = (AbstractActor) this.graph.lookupVertex(e.source);
+        final AbstractActor target = (AbstractActor) this.graph.lookupVertex(e.target);
+        final DataOutputPort output = PiMMUserFactory.instance.createDataOutputPort("out_" + index);
+        final DataInputPort input = PiMMUserFactory.instance.createDataInputPort("in_" + index);
+        index++;
+        source.getDataOutputPorts().add(output);
+        target.getDataInputPorts().add(input);
+        output.setExpression(e.production);
+        input.setExpression(e.consumption);
+        final Fifo fifo = PiMMUserFactory.instance.createFifo(output, input, "void");
+        if (e.delay > 0) {
+          final Delay delay = PiMMUserFactory.instance.createDelay();
+          delay.setExpression(e.delay);
+          fifo.assignDelay(delay);
+          this.graph.addDelay(delay);
+        }
+        this.graph.addFifo(fifo);
+      }
+    }
+
+    /**
+     * Builds the cluster of a couple, as the PGAN scheduler does.
+     */
+    private PiGraph cluster(final Pair<AbstractActor, AbstractActor> couple, final int clusterId) {
+      final List<AbstractActor> actors = Arrays.asList(couple.getLeft(), couple.getRight());
+      final List<ComponentInstance> components = ClusteringHelper.getListOfCommonComponent(actors, this.scenario);
+      final PiGraph cluster = new PiSDFSubgraphBuilder(this.graph, actors, "cluster_" + clusterId).build();
+      cluster.setClusterValue(true);
+      for (final ComponentInstance component : components) {
+        this.scenario.getConstraints().addConstraint(component, cluster);
+      }
+      return cluster;
+    }
+  }
+
+  private static String toString(final Pair<AbstractActor, AbstractActor> couple) {
+    return couple.getLeft().getName() + "+" + couple.getRight().getName();
+  }
+
+  private static List<String> clusterWithAPGAN(final TestCase testCase) {
+    final List<String> sequence = new ArrayList<>();
+    int clusterId = 0;
+    Map<AbstractVertex, Long> repetitionVector = PiBRV.compute(testCase.graph, BRVMethod.LCM);
+    List<Pair<AbstractActor, AbstractActor>> couples = ClusteringHelper.getClusterizableCouples(testCase.graph,
+        repetitionVector, testCase.scenario);
+    while (!couples.isEmpty()) {
+      final Pair<AbstractActor, AbstractActor> couple = APGANAlgorithm.getBestCouple(couples, repetitionVector);
+      sequence.add(toString(couple));
+      testCase.cluster(couple, clusterId++);
+      repetitionVector = PiBRV.compute(testCase.graph, BRVMethod.LCM);
+      couples = ClusteringHelper.getClusterizableCouples(testCase.graph, repetitionVector, testCase.scenario);
+    }
+    return sequence;
+  }
+
+  private static List<String> clusterWithIncrementalAPGAN(final TestCase testCase) {
+    final List<String> sequence = new ArrayList<>();
+    int clusterId = 0;
+    final IncrementalAPGAN apgan = new IncrementalAPGAN(testCase.graph, testCase.scenario);
+    Pair<AbstractActor, AbstractActor> couple = apgan.pollBestCouple();
+    while (couple != null) {
+      sequence.add(toString(couple));
+      final PiGraph cluster = testCase.cluster(couple, clusterId++);
+      apgan.merge(couple.getLeft(), couple.getRight(), cluster);
+      assertSameRepetitions(PiBRV.compute(testCase.graph, BRVMethod.LCM), apgan.getRepetitionVector(),
+          testCase.graph);
+      couple = apgan.pollBestCouple();
+    }
+    return sequence;
+  }
+
+  private static void assertSameRepetitions(final Map<AbstractVertex, Long> expected,
+      final Map<AbstractVertex, Long> actual, final PiGraph graph) {
+    for (final AbstractActor actor : graph.getActors()) {
+      if (!(actor instanceof InterfaceActor) && !(actor instanceof DelayActor)) {
+        Assert.assertEquals(actor.getName(), expected.get(actor), actual.get(actor));
+      }
+    }
+  }
+
+  private static void assertSameSequence(final List<String> actorNames, final List<Edge> edges) {
+    final List<String> expected = clusterWithAPGAN(new TestCase(actorNames, edges));
+    Assert.assertFalse(expected.isEmpty());
+    Assert.assertEquals(expected, clusterWithIncrementalAPGAN(new TestCase(actorNames, edges)));
+  }
+
+  @Test
+  public void testChain() {
+    // repetition vector [4, 6, 6, 3, 1]
+    assertSameSequence(Arrays.asList("A", "B", "C", "D", "E"),
+        Arrays.asList(edge("A", 3, "B", 2), edge("B", 1, "C", 1), edge("C", 2, "D", 4), edge("D", 1, "E", 3)));
+  }
+
+  @Test
+  public void testForkJoin() {
+    // repetition vector [1, 1, 2, 2, 1, 1], A+D would create a cycle through B or C, X and Y cannot be merged
+    assertSameSequence(Arrays.asList("A", "B", "C", "D", "X", "Y"),
+        Arrays.asList(edge("A", 1, "B", 1), edge("A", 2, "C", 1), edge("B", 2, "D", 1), edge("C", 1, "D", 1),
+            edge("A", 2, "D", 1), edge("D", 1, "X", 2), edge("X", 1, "Y", 1)));
+  }
+
+  @Test
+  public void testCycle() {
+    // repetition vector [1, 2, 2, 1, 1], the cycle A -> B -> C -> A holds a delay
+    assertSameSequence(Arrays.asList("A", "B", "C", "D", "E"),
+        Arrays.asList(edge("A", 2, "B", 1), edge("B", 1, "C", 1), edge("C", 1, "A", 2, 2), edge("C", 1, "D", 2),
+            edge("D", 1, "E", 1)));
+  }
+
+  @Test
+  public void testCycleWithSeveralFifos() {
+    // two fifos between A and B, and a cycle B -> C -> B
+    assertSameSequence(Arrays.asList("A", "B", "C", "D"),
+        Arrays.asList(edge("A", 2, "B", 1), edge("A", 4, "B", 2), edge("B", 1, "C", 1), edge("C", 1, "B", 1, 1),
+            edge("C", 3, "D", 6)));
+  }
+
+}
@@ -0,0 +1,261 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.algorithm.mparameters.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.algorithm.mparameters.AbstractConfigurationScheduler;
+import org.preesm.algorithm.mparameters.DSEpointIR;
+import org.preesm.algorithm.mparameters.DSEpointIR.DSEpointGlobalComparator;
+import org.preesm.algorithm.mparameters.MalleableParameterIR;
+import org.preesm.algorithm.mparameters.MalleableParameterNumberIR;
+import org.preesm.algorithm.mparameters.SetMalleableParameters;
+import org.preesm.commons.logger.PreesmLogger;
+import org.preesm.model.pisdf.MalleableParameter;
+import org.preesm.model.pisdf.Parameter;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.factory.PiMMUserFactory;
+import org.preesm.model.scenario.Scenario;
+import org.preesm.model.scenario.util.ScenarioUserFactory;
+import org.preesm.model.slam.Design;
+
+/**
+ * Checks that the DSE of malleable parameters gives the same result whatever the number of threads evaluating the
+ * configurations of a batch.
+ */
+public class SetMalleableParametersTest {
+
+  private static final int NB_THREADS = 4;
+
+  private static final String HIDDEN_MESSAGE    = "logged while scheduling";
+  private static final String EVALUATED_MESSAGE = "configuration evaluated";
+
+  /**
+   * Result of a DSE, without the evaluation times.
+   */
+  private static class DSEresult {
+
+    private final List<Long> mparamsValues;
+    private final String     comparatorLog;
+    private final String     paretoLog;
+
+    private DSEresult(final PiGraph graph, final SetMalleableParameters smp) {
+      this.mparamsValues = graph.getAllParameters().stream().filter(MalleableParameter.class::isInstance)
+          .map(x -> x.getExpression().evaluate()).collect(Collectors.toList());
+      this.comparatorLog = removeEvaluationTimes(smp.getComparatorLog().toString());
+      this.paretoLog = removeEvaluationTimes(smp.getParetorFrontLog().toString());
+    }
+
+    private static String removeEvaluationTimes(final String csv) {
+      return csv.replaceAll(";[0-9]+\n", "\n");
+    }
+
+  }
+
+  /**
+   * Scheduler computing the metrics from the malleable parameter values only. It also checks that the scenario it gets
+   * overrides the parameters with the same values as the graph.
+   */
+  private static class ParameterScheduler extends AbstractConfigurationScheduler {
+
+    @Override
+    public boolean supportsMemoryEstimation() {
+      return false;
+    }
+
+    @Override
+    public boolean supportsExtraDelayCuts() {
+      return false;
+    }
+
+    @Override
+    public AbstractConfigurationScheduler copy() {
+      return new ParameterScheduler();
+    }
+
+    @Override
+    public int getLatencyLowerBound(final PiGraph graph) {
+      return getLatency(graph);
+    }
+
+    private static List<Long> getValues(final PiGraph graph) {
+      return graph.getAllParameters().stream().filter(MalleableParameter.class::isInstance)
+          .map(x -> x.getExpression().evaluate()).collect(Collectors.toList());
+    }
+
+    private static int getLatency(final PiGraph graph) {
+      return 1 + (int) (getValues(graph).stream().mapToLong(Long::longValue).sum() % 3);
+    }
+
+    @Override
+    public DSEpointIR runConfiguration(final Scenario scenario, final PiGraph graph, final Design architecture) {
+      for (final Parameter p : graph.getAllParameters()) {
+        final Parameter ps = scenario.getAlgorithm().lookupParameterGivenGraph(p.getName(),
+            p.getContainingPiGraph().getName());
+        Assert.assertEquals(Long.toString(p.getExpression().evaluate()), scenario.getParameterValues().get(ps));
+      }
+      // like the actual schedulers, hide the logs while scheduling
+      final Logger logger = PreesmLogger.getLogger();
+      final Level backupLevel = logger.getLevel();
+      logger.setLevel(Level.SEVERE);
+      logger.warning(HIDDEN_MESSAGE);
+      logger.setLevel(backupLevel);
+      logger.info(EVALUATED_MESSAGE);
+      final List<Long> values = getValues(graph);
+      final long sum = values.stream().mapToLong(Long::longValue).sum();
+      final long product = values.stream().mapToLong(Long::longValue).reduce(1L, (a, b) -> a * b);
+      return new DSEpointIR(sum * 10, getLatency(graph), 1 + (product % 7), 0L, 0, 0, new LinkedHashMap<>(),
+          sum % 5 != 0);
+    }
+
+  }
+
+  private static PiGraph createGraph(final int nbMparams, final String userExpression) {
+    final PiGraph graph = PiMMUserFactory.instance.createPiGraph();
+    graph.setName("top");
+    for (int i = 0; i < nbMparams; i++) {
+      final MalleableParameter mp = PiMMUserFactory.instance.createMalleableParameter("m" + i, 1);
+      mp.setUserExpression(userExpression);
+      graph.addParameter(mp);
+    }
+    return graph;
+  }
+
+  private static DSEresult runDSE(final int nbMparams, final String userExpression, final boolean numbers,
+      final int nbThreads) {
+    final PiGraph graph = createGraph(nbMparams, userExpression);
+    final Scenario scenario = ScenarioUserFactory.createScenario();
+    scenario.setAlgorithm(graph);
+    for (final Parameter p : graph.getAllParameters()) {
+      scenario.getParameterValues().put(p, p.getExpression().getExpressionAsString());
+    }
+
+    final List<MalleableParameterIR> mparamsIR = new ArrayList<>();
+    for (final Parameter p : graph.getAllParameters()) {
+      final MalleableParameter mp = (MalleableParameter) p;
+      mparamsIR.add(numbers ? new MalleableParameterNumberIR(mp) : new MalleableParameterIR(mp));
+    }
+    // the latency threshold allows pruning, the throughput objective keeps a Pareto front of several points
+    final List<Comparator<DSEpointIR>> comparators = Arrays.asList(new DSEpointIR.LatencyAtMostComparator(2),
+        new DSEpointIR.ThroughputMaxComparator());
+    final DSEpointGlobalComparator globalComparator = new DSEpointGlobalComparator(comparators,
+        new LinkedHashMap<>());
+
+    final SetMalleableParameters smp = new SetMalleableParameters(scenario, graph, null, mparamsIR,
+        globalComparator, false, nbThreads);
+    if (numbers) {
+      smp.numbersDSE(new ParameterScheduler());
+    } else {
+      smp.exhaustiveDSE(new ParameterScheduler());
+    }
+    return new DSEresult(graph, smp);
+  }
+
+  private static void assertSameResult(final DSEresult expected, final DSEresult actual) {
+    Assert.assertEquals(expected.mparamsValues, actual.mparamsValues);
+    Assert.assertEquals(expected.comparatorLog, actual.comparatorLog);
+    Assert.assertEquals(expected.paretoLog, actual.paretoLog);
+  }
+
+  @Test
+  public void testExhaustiveDSE() {
+    // 49 configurations, so more than one batch
+    final DSEresult sequential = runDSE(2, "1;2;3;4;5;6;7", false, 1);
+    Assert.assertFalse(sequential.comparatorLog.isEmpty());
+    Assert.assertFalse(sequential.paretoLog.isEmpty());
+    assertSameResult(sequential, runDSE(2, "1;2;3;4;5;6;7", false, NB_THREADS));
+  }
+
+  @Test
+  public void testNumbersDSE() {
+    // 64 configurations per round, and configurations met in several rounds
+    final DSEresult sequential = runDSE(6, "1;2;3;4;5;6;7;8;9", true, 1);
+    Assert.assertFalse(sequential.comparatorLog.isEmpty());
+    assertSameResult(sequential, runDSE(6, "1;2;3;4;5;6;7;8;9", true, NB_THREADS));
+  }
+
+  /**
+   * Logger recording the messages it publishes.
+   */
+  private static class RecordingLogger extends Logger {
+
+    private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+    private RecordingLogger() {
+      super(null, null);
+      setLevel(Level.INFO);
+      setUseParentHandlers(false);
+    }
+
+    @Override
+    public void log(final LogRecord logRecord) {
+      if (isLoggable(logRecord.getLevel())) {
+        this.messages.add(logRecord.getMessage());
+      }
+    }
+  }
+
+  private static RecordingLogger runDSEWithLogger(final int nbThreads) {
+    final RecordingLogger logger = new RecordingLogger();
+    PreesmLogger.setThreadLogger(logger);
+    try {
+      runDSE(2, "1;2;3;4;5;6;7", false, nbThreads);
+    } finally {
+      PreesmLogger.setThreadLogger(null);
+    }
+    // the level changes of the evaluations are not made on the shared logger
+    Assert.assertEquals(Level.INFO, logger.getLevel());
+    Assert.assertFalse(logger.messages.contains(HIDDEN_MESSAGE));
+    return logger;
+  }
+
+  @Test
+  public void testLoggerLevel() {
+    final RecordingLogger sequential = runDSEWithLogger(1);
+    Assert.assertTrue(sequential.messages.contains(EVALUATED_MESSAGE));
+    // concurrent evaluations only publish their severe records
+    final RecordingLogger concurrent = runDSEWithLogger(NB_THREADS);
+    Assert.assertFalse(concurrent.messages.contains(EVALUATED_MESSAGE));
+  }
+
+}
@@ -34,9 +34,19 @@
  */
 package org.preesm.commons.test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Assert;
 import org.junit.Test;
+import org.preesm.commons.math.CompiledExpression;
+import org.preesm.commons.math.ExpressionEvaluationException;
 import org.preesm.commons.math.JEPWrapper;
 
 /**
@@ -122,4 +132,88 @@ public class JEPWrapperTest {
     Assert.assertEquals(0, involvement.size());
     Assert.assertFalse(involvement.contains("floor"));
   }
+
+  /**
+  *
+  */
+  @Test
+  public void testCompiledExpression_0() {
+    final String expression = "2*a+ceil(b/2)";
+    final CompiledExpression compiled = JEPWrapper.compile(expression);
+    Assert.assertSame(compiled, JEPWrapper.compile(expression));
+    Assert.assertEquals(2, compiled.getSymbols().size());
+    Assert.assertTrue(compiled.getSymbols().contains("a"));
+    Assert.assertTrue(compiled.getSymbols().contains("b"));
+
+    final Map<String, Number> values = new LinkedHashMap<>();
+    values.put("a", 3L);
+    values.put("b", 5.0);
+    Assert.assertEquals(9L, compiled.evaluate(values));
+    values.put("a", 10L);
+    Assert.assertEquals(23L, JEPWrapper.evaluate(expression, values));
+  }
+
+  /**
+  *
+  */
+  @Test
+  public void testCompiledExpression_1() {
+    final String expression = "a*b";
+    final Map<String, Number> values = new LinkedHashMap<>();
+    values.put("a", 3L);
+    values.put("b", 4L);
+    Assert.assertEquals(12L, JEPWrapper.evaluate(expression, values));
+    // values from a previous evaluation must not be reused
+    try {
+      JEPWrapper.evaluate(expression, Collections.singletonMap("a", 3L));
+      Assert.fail();
+    } catch (final ExpressionEvaluationException e) {
+      // expected
+    }
+  }
+
+  /**
+  *
+  */
+  @Test
+  public void testCompiledExpression_2() {
+    final long hits = JEPWrapper.getCacheHits();
+    final long misses = JEPWrapper.getCacheMisses();
+    final String expression = "floor(17/3) + 1";
+    Assert.assertEquals(6L, JEPWrapper.evaluate(expression, Collections.emptyMap()));
+    Assert.assertEquals(6L, JEPWrapper.evaluate(expression, Collections.emptyMap()));
+    Assert.assertTrue(JEPWrapper.getCacheHits() > hits);
+    Assert.assertTrue(JEPWrapper.getCacheMisses() > misses);
+  }
+
+  /**
+   * Concurrent evaluations of the same compiled expression do not see the values bound by the other threads.
+   */
+  @Test
+  public void testCompiledExpressionConcurrency() throws InterruptedException, ExecutionException {
+    final CompiledExpression compiled = JEPWrapper.compile("a*1000+b");
+    final ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Boolean>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        final long a = t;
+        futures.add(pool.submit(() -> {
+          for (long b = 0; b < 999; b++) {
+            final Map<String, Number> values = new LinkedHashMap<>();
+            values.put("a", a);
+            values.put("b", b);
+            if (compiled.evaluate(values) != (a * 1000) + b) {
+              return false;
+            }
+          }
+          return true;
+        }));
+      }
+      for (final Future<Boolean> future : futures) {
+        Assert.assertTrue(future.get());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
 }
@@ -0,0 +1,166 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.commons.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.commons.DomUtil;
+import org.preesm.commons.StreamedDocumentReader;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ *
+ */
+public class StreamedDocumentReaderTest {
+
+  private static final String DOCUMENT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+      + "<root xmlns=\"http://example.org/ns\" xmlns:p=\"http://example.org/p\" version=\"1\">\n"
+      + "  <section name=\"s1\">\n"
+      + "    <item id=\"a\" p:kind=\"x\"><data key=\"k\">value &amp; more</data></item>\n"
+      + "    <!-- comment -->\n"
+      + "    <item id=\"b\"><![CDATA[<raw>]]></item>\n"
+      + "  </section>\n"
+      + "  <p:other>text</p:other>\n"
+      + "</root>\n";
+
+  @Test
+  public void testSameElementsAsDom() throws XMLStreamException {
+    final List<String> opened = new ArrayList<>();
+    final List<String> closed = new ArrayList<>();
+    final List<Element> built = new ArrayList<>();
+    StreamedDocumentReader.read(new ByteArrayInputStream(DOCUMENT.getBytes(StandardCharsets.UTF_8)),
+        new StreamedDocumentReader.Handler() {
+          @Override
+          public boolean open(final Element element) {
+            opened.add(element.getNodeName());
+            return !"item".equals(element.getNodeName()) && !"p:other".equals(element.getNodeName());
+          }
+
+          @Override
+          public void element(final Element element) {
+            built.add(element);
+          }
+
+          @Override
+          public void close(final Element element) {
+            closed.add(element.getNodeName());
+          }
+        });
+
+    Assert.assertEquals(List.of("root", "section", "item", "item", "p:other"), opened);
+    Assert.assertEquals(List.of("section", "root"), closed);
+
+    final Document document = DomUtil
+        .parseDocument(new ByteArrayInputStream(DOCUMENT.getBytes(StandardCharsets.UTF_8)));
+    final List<Element> expected = new ArrayList<>();
+    final Element section = (Element) document.getDocumentElement().getElementsByTagName("section").item(0);
+    for (Node node = section.getFirstChild(); node != null; node = node.getNextSibling()) {
+      if (node instanceof final Element element) {
+        expected.add(element);
+      }
+    }
+    expected.add((Element) document.getDocumentElement().getElementsByTagName("p:other").item(0));
+
+    Assert.assertEquals(expected.size(), built.size());
+    for (int i = 0; i < expected.size(); i++) {
+      final Element expectedElt = expected.get(i);
+      final Element builtElt = built.get(i);
+      Assert.assertEquals(expectedElt.getNodeName(), builtElt.getNodeName());
+      Assert.assertEquals(expectedElt.getNamespaceURI(), builtElt.getNamespaceURI());
+      Assert.assertEquals(expectedElt.getAttribute("id"), builtElt.getAttribute("id"));
+      Assert.assertEquals(expectedElt.getAttribute("p:kind"), builtElt.getAttribute("p:kind"));
+      Assert.assertEquals(expectedElt.getTextContent(), builtElt.getTextContent());
+      Assert.assertEquals(expectedElt.getElementsByTagName("data").getLength(),
+          builtElt.getElementsByTagName("data").getLength());
+    }
+    Assert.assertEquals("value & more", built.get(0).getTextContent());
+    Assert.assertEquals("<raw>", built.get(1).getTextContent());
+  }
+
+  private static final String SCHEMA = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\""
+      + " xmlns=\"http://example.org/ns\" targetNamespace=\"http://example.org/ns\" elementFormDefault=\"qualified\">"
+      + "<xs:element name=\"root\"><xs:complexType><xs:sequence>"
+      + "<xs:element name=\"item\" maxOccurs=\"unbounded\"><xs:complexType>"
+      + "<xs:attribute name=\"id\" type=\"xs:int\" use=\"required\"/></xs:complexType></xs:element>"
+      + "</xs:sequence></xs:complexType></xs:element></xs:schema>";
+
+  private static List<String> readValidated(final String document) throws XMLStreamException, SAXException {
+    final Schema schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
+        .newSchema(new StreamSource(new StringReader(SCHEMA)));
+    final List<String> built = new ArrayList<>();
+    StreamedDocumentReader.read(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)),
+        new StreamedDocumentReader.Handler() {
+          @Override
+          public boolean open(final Element element) {
+            return "root".equals(element.getNodeName());
+          }
+
+          @Override
+          public void element(final Element element) {
+            built.add(element.getAttribute("id"));
+          }
+        }, schema.newValidatorHandler());
+    return built;
+  }
+
+  @Test
+  public void testValidatedWhileRead() throws XMLStreamException, SAXException {
+    final String valid = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<root xmlns=\"http://example.org/ns\">\n"
+        + "  <!-- comment -->\n  <item id=\"1\"/>\n  <item id=\"2\"></item>\n</root>\n";
+    Assert.assertEquals(List.of("1", "2"), readValidated(valid));
+
+    final String invalid = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<root xmlns=\"http://example.org/ns\">\n"
+        + "  <item id=\"1\"/>\n  <item id=\"x\"/>\n  <item id=\"3\"/>\n</root>\n";
+    try {
+      readValidated(invalid);
+      Assert.fail();
+    } catch (final XMLStreamException e) {
+      Assert.assertTrue(e.getNestedException() instanceof SAXParseException);
+      Assert.assertEquals(4, ((SAXParseException) e.getNestedException()).getLineNumber());
+    }
+  }
+}
@@ -0,0 +1,366 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.workflow.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.preesm.commons.doc.annotations.PreesmTask;
+import org.preesm.commons.exceptions.PreesmRuntimeException;
+import org.preesm.commons.logger.PreesmLogger;
+import org.preesm.workflow.WorkflowManager;
+import org.preesm.workflow.elements.TaskNode;
+import org.preesm.workflow.elements.Workflow;
+import org.preesm.workflow.elements.WorkflowEdge;
+import org.preesm.workflow.implement.AbstractTaskImplementation;
+
+/**
+ * Tests the parallel execution of workflows: nodes run after their predecessors, a failure stops the submission of new
+ * nodes but lets the running ones complete, and warnings fail the nodes that log them when error on warning is set.
+ */
+public class ParallelWorkflowTest {
+
+  private static final long SLOW = 200;
+
+  private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+  private final List<LogRecord> published = Collections.synchronizedList(new ArrayList<>());
+
+  private final Handler handler = new Handler() {
+    @Override
+    public void publish(final LogRecord record) {
+      ParallelWorkflowTest.this.published.add(record);
+    }
+
+    @Override
+    public void flush() {
+      // nothing to flush
+    }
+
+    @Override
+    public void close() {
+      // nothing to close
+    }
+  };
+
+  @Before
+  public void addHandler() {
+    PreesmLogger.getLogger().addHandler(this.handler);
+  }
+
+  @After
+  public void removeHandler() {
+    PreesmLogger.getLogger().removeHandler(this.handler);
+  }
+
+  @Test
+  public void testDependencyOrder() {
+    final Workflow workflow = createWorkflow();
+    final TaskNode a = addNode(workflow, "a", Action.RUN, SLOW);
+    final TaskNode b = addNode(workflow, "b", Action.RUN, SLOW);
+    final TaskNode c = addNode(workflow, "c", Action.RUN, 0);
+    final TaskNode d = addNode(workflow, "d", Action.RUN, 0);
+    final TaskNode e = addNode(workflow, "e", Action.LOG_FROM_THREAD, 0);
+    addDependency(workflow, a, b);
+    addDependency(workflow, a, c);
+    addDependency(workflow, b, d);
+    addDependency(workflow, c, d);
+    addDependency(workflow, e, d);
+
+    Assert.assertTrue(new ParallelWorkflowExecutor().run(workflow));
+
+    for (final String node : List.of("a", "b", "c", "d", "e")) {
+      Assert.assertTrue(this.events.contains("end " + node));
+    }
+    for (final WorkflowEdge edge : workflow.edgeSet()) {
+      final String source = workflow.getEdgeSource(edge).getName();
+      final String target = workflow.getEdgeTarget(edge).getName();
+      Assert.assertTrue(this.events.indexOf("end " + source) < this.events.indexOf("start " + target));
+    }
+
+    // the records of each node, including the ones of the threads it starts, are published in topological order
+    final List<String> expected = new ArrayList<>();
+    workflow.vertexTopologicalList().forEach(node -> {
+      expected.add("run " + node.getName());
+      if (node == e) {
+        expected.add("thread " + node.getName());
+      }
+    });
+    Assert.assertEquals(expected, getMessages());
+  }
+
+  @Test
+  public void testFailureLetsRunningNodesComplete() {
+    final Workflow workflow = createWorkflow();
+    final TaskNode a = addNode(workflow, "a", Action.FAIL, 0);
+    final TaskNode b = addNode(workflow, "b", Action.RUN, 0);
+    final TaskNode c = addNode(workflow, "c", Action.RUN, SLOW);
+    final TaskNode d = addNode(workflow, "d", Action.RUN, 0);
+    addDependency(workflow, a, b);
+    addDependency(workflow, c, d);
+
+    Assert.assertFalse(new ParallelWorkflowExecutor().run(workflow));
+
+    Assert.assertFalse(this.events.contains("end a"));
+    Assert.assertTrue(this.events.contains("end c"));
+    Assert.assertFalse(this.events.contains("start b"));
+    Assert.assertFalse(this.events.contains("start d"));
+    Assert.assertTrue(this.published.stream()
+        .anyMatch(r -> (r.getLevel() == Level.SEVERE) && r.getMessage().contains("failure of a")));
+    Assert.assertTrue(getMessages().contains("run c"));
+  }
+
+  @Test
+  public void testUnexpectedFailureWhileNodeRunning() {
+    final Workflow workflow = createWorkflow();
+    final TaskNode a = addNode(workflow, "a", Action.CRASH, 0);
+    final TaskNode b = addNode(workflow, "b", Action.RUN, 0);
+    final TaskNode c = addNode(workflow, "c", Action.RUN, SLOW);
+    final TaskNode d = addNode(workflow, "d", Action.RUN, 0);
+    addDependency(workflow, a, b);
+    addDependency(workflow, c, d);
+
+    Assert.assertFalse(new ParallelWorkflowExecutor().run(workflow));
+
+    // the running node is not interrupted, and the records of both nodes are published
+    Assert.assertTrue(this.events.contains("end c"));
+    Assert.assertFalse(this.events.contains("start b"));
+    Assert.assertFalse(this.events.contains("start d"));
+    Assert.assertTrue(getMessages().contains("run a"));
+    Assert.assertTrue(getMessages().contains("run c"));
+    Assert.assertTrue(this.published.stream()
+        .anyMatch(r -> (r.getLevel() == Level.SEVERE) && r.getMessage().contains("crash of a")));
+  }
+
+  @Test
+  public void testErrorOnWarning() {
+    final Workflow workflow = createWorkflow();
+    workflow.setErrorOnWarning(true);
+    final TaskNode a = addNode(workflow, "a", Action.WARN, 0);
+    final TaskNode b = addNode(workflow, "b", Action.RUN, 0);
+    addDependency(workflow, a, b);
+
+    Assert.assertFalse(new ParallelWorkflowExecutor().run(workflow));
+
+    // the warning stops the node
+    Assert.assertFalse(this.events.contains("end a"));
+    Assert.assertFalse(this.events.contains("start b"));
+    Assert.assertTrue(getMessages().contains("warning of a"));
+  }
+
+  @Test
+  public void testErrorOnWarningFromThread() {
+    final Workflow workflow = createWorkflow();
+    workflow.setErrorOnWarning(true);
+    final TaskNode a = addNode(workflow, "a", Action.WARN_FROM_THREAD, 0);
+    final TaskNode b = addNode(workflow, "b", Action.RUN, 0);
+    addDependency(workflow, a, b);
+
+    Assert.assertFalse(new ParallelWorkflowExecutor().run(workflow));
+
+    // the warning of the thread started by the node is kept with the records of the node, and fails it once over
+    Assert.assertTrue(this.events.contains("end a"));
+    Assert.assertFalse(this.events.contains("start b"));
+    Assert.assertTrue(getMessages().contains("warning of a"));
+  }
+
+  @Test
+  public void testWarningWithoutErrorOnWarning() {
+    final Workflow workflow = createWorkflow();
+    final TaskNode a = addNode(workflow, "a", Action.WARN_FROM_THREAD, 0);
+    final TaskNode b = addNode(workflow, "b", Action.RUN, 0);
+    addDependency(workflow, a, b);
+
+    Assert.assertTrue(new ParallelWorkflowExecutor().run(workflow));
+
+    Assert.assertTrue(this.events.contains("end b"));
+    Assert.assertEquals(List.of("run a", "warning of a", "run b"), getMessages());
+  }
+
+  private List<String> getMessages() {
+    final List<String> messages = new ArrayList<>();
+    synchronized (this.published) {
+      for (final LogRecord record : this.published) {
+        if (record.getMessage().startsWith(ParallelTestTask.PREFIX)) {
+          messages.add(record.getMessage().substring(ParallelTestTask.PREFIX.length()));
+        }
+      }
+    }
+    return messages;
+  }
+
+  private static Workflow createWorkflow() {
+    final Workflow workflow = new Workflow();
+    workflow.setParallel(true);
+    return workflow;
+  }
+
+  private TaskNode addNode(final Workflow workflow, final String name, final Action action, final long duration) {
+    final TaskNode node = new TestTaskNode(name, new ParallelTestTask(this.events, action, duration));
+    workflow.addVertex(node);
+    return node;
+  }
+
+  private static void addDependency(final Workflow workflow, final TaskNode source, final TaskNode target) {
+    final WorkflowEdge edge = workflow.addEdge(source, target);
+    edge.setSourcePort(WorkflowManager.IGNORE_PORT_NAME);
+    edge.setTargetPort(WorkflowManager.IGNORE_PORT_NAME);
+  }
+
+  /**
+   * Executes the nodes of a workflow built in memory, without going through the workflow file and the task registry.
+   */
+  private static class ParallelWorkflowExecutor extends WorkflowManager {
+    private boolean run(final Workflow workflow) {
+      return executeNodes(null, null, workflow);
+    }
+  }
+
+  /**
+   * Task node whose implementation is given instead of being looked up in the registry.
+   */
+  private static class TestTaskNode extends TaskNode {
+    private TestTaskNode(final String name, final AbstractTaskImplementation task) {
+      super(ParallelTestTask.ID, name);
+      this.implementation = task;
+      init(task);
+    }
+  }
+
+  private enum Action {
+    RUN, LOG_FROM_THREAD, FAIL, CRASH, WARN, WARN_FROM_THREAD
+  }
+
+  /**
+   * Error not expected by the workflow executor.
+   */
+  private static class CrashError extends Error {
+    private static final long serialVersionUID = 1L;
+
+    private CrashError(final String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * Task recording its start and end, and logging or failing as requested.
+   */
+  @PreesmTask(id = ParallelTestTask.ID, name = "Parallel Test Task")
+  public static class ParallelTestTask extends AbstractTaskImplementation {
+
+    private static final String ID = "org.preesm.workflow.test.ParallelTestTask";
+
+    private static final String PREFIX = "ParallelTestTask: ";
+
+    private final List<String> events;
+    private final Action       action;
+    private final long         duration;
+
+    private ParallelTestTask(final List<String> events, final Action action, final long duration) {
+      this.events = events;
+      this.action = action;
+      this.duration = duration;
+    }
+
+    @Override
+    public Map<String, Object> execute(final Map<String, Object> inputs, final Map<String, String> parameters,
+        final IProgressMonitor monitor, final String nodeName, final Workflow workflow) {
+      this.events.add("start " + nodeName);
+      final Logger logger = PreesmLogger.getLogger();
+      logger.log(Level.INFO, PREFIX + "run " + nodeName);
+      switch (this.action) {
+        case FAIL:
+          throw new PreesmRuntimeException(PREFIX + "failure of " + nodeName);
+        case CRASH:
+          throw new CrashError(PREFIX + "crash of " + nodeName);
+        case WARN:
+          logger.log(Level.WARNING, PREFIX + "warning of " + nodeName);
+          break;
+        case LOG_FROM_THREAD:
+          runThread(() -> logger.log(Level.INFO, PREFIX + "thread " + nodeName));
+          break;
+        case WARN_FROM_THREAD:
+          runThread(() -> logger.log(Level.WARNING, PREFIX + "warning of " + nodeName));
+          break;
+        default:
+          break;
+      }
+      if (this.duration > 0) {
+        sleep(this.duration);
+      }
+      this.events.add("end " + nodeName);
+      return new LinkedHashMap<>();
+    }
+
+    private static void runThread(final Runnable runnable) {
+      final Thread thread = new Thread(runnable);
+      thread.start();
+      try {
+        thread.join();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PreesmRuntimeException(e);
+      }
+    }
+
+    private static void sleep(final long duration) {
+      try {
+        Thread.sleep(duration);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PreesmRuntimeException(e);
+      }
+    }
+
+    @Override
+    public Map<String, String> getDefaultParameters() {
+      return new LinkedHashMap<>();
+    }
+
+    @Override
+    public String monitorMessage() {
+      return "Executing ParallelTestTask";
+    }
+  }
+}
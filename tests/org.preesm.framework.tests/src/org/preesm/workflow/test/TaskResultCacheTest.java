@@ -0,0 +1,356 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.workflow.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.preesm.commons.doc.annotations.PreesmTask;
+import org.preesm.commons.exceptions.PreesmRuntimeException;
+import org.preesm.commons.model.PreesmCopyTracker;
+import org.preesm.workflow.TaskResultCache;
+import org.preesm.workflow.elements.TaskNode;
+import org.preesm.workflow.elements.Workflow;
+import org.preesm.workflow.elements.WorkflowEdge;
+import org.preesm.workflow.implement.AbstractTaskImplementation;
+
+/**
+ * Tests of {@link TaskResultCache}.
+ */
+public class TaskResultCacheTest {
+
+  private static final String KEY  = "0123456789abcdef";
+  private static final String PORT = "model";
+
+  private Path directory;
+
+  @Before
+  public void createDirectory() throws IOException {
+    this.directory = Files.createTempDirectory("preesm-cache-test");
+  }
+
+  @After
+  public void deleteDirectory() throws IOException {
+    try (Stream<Path> files = Files.walk(this.directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+    }
+  }
+
+  private static EPackage createModel(final String className) {
+    final EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+    ePackage.setName("model");
+    ePackage.setNsURI("http://org.preesm/test/model");
+    final EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+    eClass.setName(className);
+    ePackage.getEClassifiers().add(eClass);
+    final EClass subClass = EcoreFactory.eINSTANCE.createEClass();
+    subClass.setName("Sub" + className);
+    subClass.getESuperTypes().add(eClass);
+    ePackage.getEClassifiers().add(subClass);
+    return ePackage;
+  }
+
+  private static void sleep() {
+    try {
+      // distinct modification times of the entries
+      Thread.sleep(50);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PreesmRuntimeException(e);
+    }
+  }
+
+  @Test
+  public void testContentDigest() {
+    final TaskResultCache cache = new TaskResultCache(this.directory);
+    final String digest = cache.getContentDigest(createModel("A"));
+    Assert.assertEquals(digest, cache.getContentDigest(createModel("A")));
+    Assert.assertNotEquals(digest, cache.getContentDigest(createModel("B")));
+    Assert.assertEquals(cache.getContentDigest("text"), cache.getContentDigest("text"));
+    Assert.assertNotEquals(cache.getContentDigest("1"), cache.getContentDigest(1L));
+    Assert.assertNull(cache.getContentDigest(new Object()));
+  }
+
+  @Test
+  public void testStoreAndRestore() {
+    final EPackage input = createModel("A");
+    final EPackage output = EcoreUtil.copy(input);
+    PreesmCopyTracker.trackCopy(input, output);
+    PreesmCopyTracker.trackCopy(input.getEClassifiers().get(1), output.getEClassifiers().get(1));
+
+    final Map<String, Object> inputs = new LinkedHashMap<>();
+    inputs.put(PORT, input);
+    final Map<String, Object> outputs = new LinkedHashMap<>();
+    outputs.put(PORT, output);
+    outputs.put("size", 2L);
+
+    final TaskResultCache cache = new TaskResultCache(this.directory);
+    Assert.assertNull(cache.restore(KEY, inputs));
+    Assert.assertTrue(cache.store(KEY, inputs, outputs));
+
+    final Map<String, Object> restored = new TaskResultCache(this.directory).restore(KEY, inputs);
+    Assert.assertNotNull(restored);
+    Assert.assertEquals(2L, restored.get("size"));
+    final EPackage restoredPackage = (EPackage) restored.get(PORT);
+    Assert.assertNotSame(output, restoredPackage);
+    Assert.assertNull(restoredPackage.eResource());
+    Assert.assertEquals(cache.getContentDigest(output), cache.getContentDigest(restoredPackage));
+    Assert.assertSame(input, PreesmCopyTracker.getSource(restoredPackage));
+    Assert.assertSame(input.getEClassifiers().get(1),
+        PreesmCopyTracker.getSource(restoredPackage.getEClassifiers().get(1)));
+    Assert.assertNull(PreesmCopyTracker.getSource(restoredPackage.getEClassifiers().get(0)));
+  }
+
+  @Test
+  public void testNoStoreOfInputs() {
+    final EPackage input = createModel("A");
+    final Map<String, Object> inputs = new LinkedHashMap<>();
+    inputs.put(PORT, input);
+
+    // outputs modified in place
+    final TaskResultCache cache = new TaskResultCache(this.directory);
+    Assert.assertFalse(cache.store(KEY, inputs, inputs));
+
+    // outputs referring to objects contained outside the inputs
+    final EPackage output = createModel("B");
+    ((EClass) output.getEClassifiers().get(0)).getESuperTypes().add((EClass) createModel("C").getEClassifiers().get(0));
+    final Map<String, Object> outputs = new LinkedHashMap<>();
+    outputs.put(PORT, output);
+    Assert.assertFalse(cache.store(KEY, inputs, outputs));
+    Assert.assertNull(cache.restore(KEY, inputs));
+  }
+
+  @Test
+  public void testStoreWithReferences() {
+    final EPackage input = createModel("A");
+    final Map<String, Object> inputs = new LinkedHashMap<>();
+    inputs.put(PORT, input);
+
+    // outputs referring to the inputs, and to an object contained nowhere
+    final EPackage output = createModel("B");
+    final EAnnotation annotation = EcoreFactory.eINSTANCE.createEAnnotation();
+    output.getEAnnotations().add(annotation);
+    annotation.getReferences().add(input.getEClassifiers().get(1));
+    final EClass uncontained = EcoreFactory.eINSTANCE.createEClass();
+    uncontained.setName("Uncontained");
+    annotation.getReferences().add(uncontained);
+    final Map<String, Object> outputs = new LinkedHashMap<>();
+    outputs.put(PORT, output);
+
+    final TaskResultCache cache = new TaskResultCache(this.directory);
+    Assert.assertTrue(cache.store(KEY, inputs, outputs));
+
+    final Map<String, Object> restored = new TaskResultCache(this.directory).restore(KEY, inputs);
+    Assert.assertNotNull(restored);
+    final EPackage restoredPackage = (EPackage) restored.get(PORT);
+    Assert.assertNotSame(output, restoredPackage);
+    final List<EObject> references = restoredPackage.getEAnnotations().get(0).getReferences();
+    Assert.assertEquals(2, references.size());
+    Assert.assertSame(input.getEClassifiers().get(1), references.get(0));
+    final EClass restoredUncontained = (EClass) references.get(1);
+    Assert.assertNotSame(uncontained, restoredUncontained);
+    Assert.assertEquals("Uncontained", restoredUncontained.getName());
+    Assert.assertNull(restoredUncontained.eContainer());
+    Assert.assertEquals(cache.getContentDigest(output), cache.getContentDigest(restoredPackage));
+
+    // the inputs no longer contain the referred object
+    final Map<String, Object> otherInputs = new LinkedHashMap<>();
+    otherInputs.put(PORT, createModel("B").getEClassifiers().get(0));
+    Assert.assertNull(new TaskResultCache(this.directory).restore(KEY, otherInputs));
+  }
+
+  @Test
+  public void testDigestOfModifiedModel() {
+    final TaskResultCache cache = new TaskResultCache(this.directory);
+    final EPackage model = createModel("A");
+    final String digest = cache.getContentDigest(model);
+    ((EClass) model.getEClassifiers().get(0)).setAbstract(true);
+    Assert.assertNotEquals(digest, cache.getContentDigest(model));
+  }
+
+  @Test
+  public void testDigestOfReferencedModel() {
+    final TaskResultCache cache = new TaskResultCache(this.directory);
+    final EPackage referenced = createModel("A");
+    final EPackage model = createModel("B");
+    final EAnnotation annotation = EcoreFactory.eINSTANCE.createEAnnotation();
+    model.getEAnnotations().add(annotation);
+    annotation.getReferences().add(referenced.getEClassifiers().get(0));
+    final String digest = cache.getContentDigest(model);
+
+    // changes of the referenced model that keep the same path to the referenced object
+    ((EClass) referenced.getEClassifiers().get(0)).setAbstract(true);
+    final String modifiedDigest = cache.getContentDigest(model);
+    Assert.assertNotEquals(digest, modifiedDigest);
+    ((EClass) referenced.getEClassifiers().get(1)).setInterface(true);
+    Assert.assertNotEquals(modifiedDigest, cache.getContentDigest(model));
+  }
+
+  @Test
+  public void testSharedOutputDigestedFromContent() {
+    final Workflow workflow = new Workflow();
+    final TaskNode producer = addNode(workflow, "producer", new CacheableTask());
+    final TaskNode consumer = addNode(workflow, "consumer", new CacheableTask());
+    final TaskNode modifier = addNode(workflow, "modifier", new ModifyingTask());
+    final EPackage model = createModel("A");
+    final Map<String, Object> outputs = new LinkedHashMap<>();
+    outputs.put(PORT, model);
+    outputs.put("size", 2L);
+    addEdge(workflow, producer, consumer, PORT);
+    addEdge(workflow, producer, consumer, "size");
+
+    // data sent to cacheable tasks only
+    Assert.assertEquals(Set.of(PORT, "size"), TaskResultCache.getKeyDigestedPorts(workflow, producer, outputs));
+
+    // data also sent to a task that may modify it in place
+    addEdge(workflow, producer, modifier, PORT);
+    Assert.assertEquals(Set.of("size"), TaskResultCache.getKeyDigestedPorts(workflow, producer, outputs));
+
+    // the consumer then digests the data from its content, and sees the changes of the modifier
+    final TaskResultCache cache = new TaskResultCache(this.directory);
+    final Map<String, Object> inputs = new LinkedHashMap<>();
+    inputs.put(PORT, model);
+    final Map<String, String> inputDigests = new LinkedHashMap<>();
+    inputDigests.put(PORT, null);
+    final String key = cache.getKey(consumer, inputs, inputDigests, Collections.emptyMap());
+    ((EClass) model.getEClassifiers().get(0)).setAbstract(true);
+    Assert.assertNotEquals(key, cache.getKey(consumer, inputs, inputDigests, Collections.emptyMap()));
+  }
+
+  @Test
+  public void testTaskVersion() {
+    // the tests run in an OSGi framework, where tasks are contributed by versioned bundles
+    Assert.assertFalse(TaskResultCache.getTaskVersion(CacheableTask.class).isEmpty());
+    Assert.assertFalse(TaskResultCache.getTaskVersion(TaskResultCache.class).isEmpty());
+  }
+
+  @Test
+  public void testEviction() {
+    final Map<String, Object> inputs = new LinkedHashMap<>();
+    final Map<String, Object> outputs = new LinkedHashMap<>();
+    outputs.put("size", 2L);
+
+    final TaskResultCache cache = new TaskResultCache(this.directory, 2);
+    Assert.assertTrue(cache.store("first", inputs, outputs));
+    sleep();
+    Assert.assertTrue(cache.store("second", inputs, outputs));
+    sleep();
+    Assert.assertNotNull(cache.restore("first", inputs));
+    sleep();
+    Assert.assertTrue(cache.store("third", inputs, outputs));
+
+    // the least recently used entry is evicted
+    Assert.assertNull(cache.restore("second", inputs));
+    Assert.assertNotNull(cache.restore("first", inputs));
+    Assert.assertNotNull(cache.restore("third", inputs));
+  }
+
+  private static TaskNode addNode(final Workflow workflow, final String name, final AbstractTaskImplementation task) {
+    final TaskNode node = new TestTaskNode(name, task);
+    workflow.addVertex(node);
+    return node;
+  }
+
+  private static void addEdge(final Workflow workflow, final TaskNode source, final TaskNode target,
+      final String port) {
+    final WorkflowEdge edge = workflow.addEdge(source, target);
+    edge.setSourcePort(port);
+    edge.setTargetPort(port);
+  }
+
+  /**
+   * Task node whose implementation is given instead of being looked up in the registry.
+   */
+  private static class TestTaskNode extends TaskNode {
+    private TestTaskNode(final String name, final AbstractTaskImplementation task) {
+      super(task.getClass().getName(), name);
+      this.implementation = task;
+      init(task);
+    }
+  }
+
+  /**
+   * Task returning no output.
+   */
+  private abstract static class NoOutputTask extends AbstractTaskImplementation {
+    @Override
+    public Map<String, Object> execute(final Map<String, Object> inputs, final Map<String, String> parameters,
+        final IProgressMonitor monitor, final String nodeName, final Workflow workflow) {
+      return new LinkedHashMap<>();
+    }
+
+    @Override
+    public Map<String, String> getDefaultParameters() {
+      return new LinkedHashMap<>();
+    }
+
+    @Override
+    public String monitorMessage() {
+      return getClass().getSimpleName();
+    }
+  }
+
+  /**
+   * Task whose outputs can be cached.
+   */
+  @PreesmTask(id = "org.preesm.workflow.test.CacheableTask", name = "Cacheable Task", cacheable = true)
+  public static class CacheableTask extends NoOutputTask {
+    // no behavior
+  }
+
+  /**
+   * Task which may modify its inputs in place.
+   */
+  @PreesmTask(id = "org.preesm.workflow.test.ModifyingTask", name = "Modifying Task")
+  public static class ModifyingTask extends NoOutputTask {
+    // no behavior
+  }
+}
@@ -84,6 +84,8 @@ public class TutorialsTest {
         params.add(new Object[] { workflow, scenario, sobelProjectName });
       }
     }
+    // PFAST subtasks running in parallel
+    params.add(new Object[] { "CodegenPFast.workflow", "4core.scenario", sobelProjectName });
 
     final String stereoProjectName = "org.ietr.preesm.stereo";
     final String[] stereoScenarios = new String[] { "1core.scenario", "4core.scenario", "8coresC6678.scenario",
@@ -0,0 +1,220 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.ietr.preesm.test.it.serialize;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.preesm.commons.files.PreesmResourcesHelper;
+import org.preesm.commons.files.URLHelper;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.serialize.PiResourceImpl;
+import org.preesm.model.scenario.Scenario;
+import org.preesm.model.scenario.serialize.ScenarioParser;
+
+/**
+ * Parses the Pi and scenario files of test projects both streamed and through a DOM, and checks that both parsers
+ * build the same models.
+ */
+@RunWith(Parameterized.class)
+public class StreamedParsingTest {
+
+  private final String projectName;
+  private final String scenarioPath;
+
+  private IProject project;
+  private Path     location;
+
+  /**
+   *
+   */
+  public StreamedParsingTest(final String projectName, final String scenarioPath) {
+    this.projectName = projectName;
+    this.scenarioPath = scenarioPath;
+  }
+
+  /**
+   *
+   */
+  @Parameters(name = "{0}{1}")
+  public static Collection<Object[]> data() {
+    final Object[][] data = new Object[][] {
+
+        { "org.ietr.preesm.triangle", "/Scenarios/Triangle.scenario" },
+
+        { "org.ietr.preesm.spider.sobel", "/Scenarios/4core.scenario" },
+
+        { "org.ietr.preesm.sobel-morpho.partitioner", "/Scenarios/MPPA2Cluster.scenario" },
+
+        { "org.ietr.preesm.reinforcement_learning", "/Scenarios/4corePrediction.scenario" },
+
+        { "fi.abo.preesm.data_par_eg", "/Scenarios/sobel_morpho_1CoreX86.scenario" },
+
+    };
+    return Arrays.asList(data);
+  }
+
+  /**
+   *
+   */
+  @Before
+  public void createProject() throws CoreException, IOException {
+    final IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    final IProjectDescription description = workspace.newProjectDescription(this.projectName);
+    this.location = Files.createTempDirectory("PREESM_TESTS_");
+    description.setLocationURI(this.location.toUri());
+    this.project = workspace.getRoot().getProject(this.projectName);
+    this.project.create(description, null);
+    this.project.open(null);
+
+    final URL resolve = PreesmResourcesHelper.getInstance().resolve(this.projectName, StreamedParsingTest.class);
+    URLHelper.copyContent(resolve, this.project);
+  }
+
+  /**
+   *
+   */
+  @After
+  public void deleteProject() throws CoreException, IOException {
+    this.project.close(null);
+    try (Stream<Path> walk = Files.walk(this.location, FileVisitOption.FOLLOW_LINKS)) {
+      walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+    this.project.delete(true, null);
+  }
+
+  private static PiGraph loadPiGraph(final IFile file, final boolean streaming) throws IOException {
+    final URI uri = URI.createPlatformResourceURI(file.getFullPath().toString(), true);
+    final PiResourceImpl resource = new PiResourceImpl(uri);
+    final Map<String, Boolean> options = streaming ? Collections.emptyMap()
+        : Collections.singletonMap(PiResourceImpl.OPTION_STREAMING, Boolean.FALSE);
+    resource.load(options);
+    return (PiGraph) resource.getContents().get(0);
+  }
+
+  private static void assertSameModel(final String message, final EObject expected, final EObject actual) {
+    Assert.assertNotNull(message, expected);
+    Assert.assertNotNull(message, actual);
+    Assert.assertTrue(message, EcoreUtil.equals(expected, actual));
+  }
+
+  /**
+   *
+   */
+  @Test
+  public void testPiGraphs() throws CoreException, IOException {
+    final List<IFile> piFiles = new ArrayList<>();
+    this.project.accept(resource -> {
+      if (resource instanceof final IFile file && "pi".equals(file.getFileExtension())) {
+        piFiles.add(file);
+      }
+      return true;
+    });
+    Assert.assertFalse(piFiles.isEmpty());
+
+    for (final IFile file : piFiles) {
+      final PiGraph domGraph = loadPiGraph(file, false);
+      final PiGraph streamedGraph = loadPiGraph(file, true);
+      assertSameModel(file.getFullPath().toString(), domGraph, streamedGraph);
+    }
+  }
+
+  /**
+   *
+   */
+  @Test
+  public void testScenario() throws CoreException, IOException {
+    final IFile file = this.project.getFile(this.scenarioPath);
+
+    final Scenario domScenario = new ScenarioParser().parseXmlFile(file, false);
+    final Scenario streamedScenario = new ScenarioParser().parseXmlFile(file, true);
+    assertSameModel(this.scenarioPath, domScenario, streamedScenario);
+    Assert.assertEquals(file.getFullPath().toString(), streamedScenario.getScenarioURL());
+  }
+
+  /**
+   *
+   */
+  @Test
+  public void testMalformedScenario() throws CoreException, IOException {
+    final IFile file = this.project.getFile(this.scenarioPath);
+    final String content;
+    try (InputStream stream = file.getContents()) {
+      content = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    // the first sections are well formed and parsed before the error is met
+    final IFile truncated = this.project.getFile(this.scenarioPath + ".truncated");
+    final byte[] truncatedContent = content.substring(0, content.length() / 2).getBytes(StandardCharsets.UTF_8);
+    truncated.create(new ByteArrayInputStream(truncatedContent), true, null);
+
+    final ScenarioParser parser = new ScenarioParser();
+    Assert.assertNull(parser.parseXmlFile(truncated, true));
+
+    // the failed parse left nothing in the parser
+    final Scenario scenario = parser.parseXmlFile(file, false);
+    assertSameModel(this.scenarioPath, new ScenarioParser().parseXmlFile(file, false), scenario);
+    Assert.assertEquals(file.getFullPath().toString(), scenario.getScenarioURL());
+  }
+}
@@ -41,6 +41,7 @@ import org.junit.Test;
 import org.preesm.commons.model.PreesmCopyTracker;
 import org.preesm.model.pisdf.Actor;
 import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.adapter.GraphObserver;
 import org.preesm.model.pisdf.factory.PiMMUserFactory;
 
 /**
@@ -81,4 +82,21 @@ public class CopyTrackingTest {
     Assert.assertEquals(originalSourceCopy4, originalGraph);
 
   }
+
+  @Test
+  public void testCopyWithoutHistory() {
+    final PiGraph originalGraph = PiMMUserFactory.instance.createPiGraph();
+    final Actor originalActor = PiMMUserFactory.instance.createActor();
+    originalActor.setName("A1");
+    originalGraph.addActor(originalActor);
+
+    final PiGraph copy = PiMMUserFactory.instance.copyPiGraph(originalGraph);
+    Assert.assertNull(PreesmCopyTracker.getSource(copy));
+    Assert.assertTrue(copy.eAdapters().contains(GraphObserver.getInstance()));
+
+    final Actor actor = (Actor) copy.lookupVertex("A1");
+    Assert.assertNotNull(actor);
+    Assert.assertNotSame(originalActor, actor);
+    Assert.assertEquals(1, copy.getActors().size());
+  }
 }
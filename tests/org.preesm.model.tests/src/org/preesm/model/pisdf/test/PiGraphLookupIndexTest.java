@@ -0,0 +1,116 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.model.pisdf.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.model.pisdf.Actor;
+import org.preesm.model.pisdf.DataInputPort;
+import org.preesm.model.pisdf.DataOutputPort;
+import org.preesm.model.pisdf.Fifo;
+import org.preesm.model.pisdf.Parameter;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.factory.PiMMUserFactory;
+import org.preesm.model.pisdf.util.PiGraphLookupIndex;
+
+/**
+ *
+ */
+public class PiGraphLookupIndexTest {
+
+  private static Actor createActor(final PiGraph graph, final String name) {
+    final Actor actor = PiMMUserFactory.instance.createActor(name);
+    actor.getDataInputPorts().add(PiMMUserFactory.instance.createDataInputPort("in"));
+    actor.getDataOutputPorts().add(PiMMUserFactory.instance.createDataOutputPort("out"));
+    graph.addActor(actor);
+    return actor;
+  }
+
+  private static Fifo connect(final PiGraph graph, final Actor source, final Actor target) {
+    final DataOutputPort sourcePort = source.getDataOutputPorts().get(0);
+    final DataInputPort targetPort = target.getDataInputPorts().get(0);
+    final Fifo fifo = PiMMUserFactory.instance.createFifo(sourcePort, targetPort, "char");
+    graph.addFifo(fifo);
+    return fifo;
+  }
+
+  @Test
+  public void testIncrementalUpdates() {
+    final PiGraph top = PiMMUserFactory.instance.createPiGraph();
+    top.setName("top");
+    final PiGraph sub = PiMMUserFactory.instance.createPiGraph();
+    sub.setName("sub");
+    top.addActor(sub);
+    final Actor a = createActor(top, "a");
+    final Actor b = createActor(top, "b");
+    final Actor c = createActor(sub, "c");
+    final Parameter p = PiMMUserFactory.instance.createParameter("p", 1);
+    sub.addParameter(p);
+
+    final PiGraphLookupIndex index = PiGraphLookupIndex.attach(sub);
+    Assert.assertSame(index, PiGraphLookupIndex.lookup(top));
+    Assert.assertSame(index, PiGraphLookupIndex.lookup(sub));
+
+    Assert.assertSame(a, top.lookupVertex("a"));
+    Assert.assertNull(top.lookupVertex("c"));
+    Assert.assertSame(c, top.lookupAllVertex("c"));
+    Assert.assertSame(p, top.lookupAllVertex("p"));
+    Assert.assertSame(p, top.lookupParameterGivenGraph("p", "sub"));
+    Assert.assertNull(top.lookupParameterGivenGraph("p", "top"));
+
+    // fifos added after the first lookup are indexed
+    Assert.assertTrue(top.lookupFifos(a, b).isEmpty());
+    final Fifo fifo = connect(top, a, b);
+    Assert.assertSame(fifo, top.lookupFifo(fifo.getId()));
+    Assert.assertEquals(1, top.lookupFifos(a, b).size());
+
+    // renaming updates the name and fifo id indexes
+    b.setName("b2");
+    Assert.assertNull(top.lookupVertex("b"));
+    Assert.assertSame(b, top.lookupVertex("b2"));
+    Assert.assertSame(fifo, top.lookupFifo("a.out-b2.in"));
+
+    // removals are followed
+    top.removeFifo(fifo);
+    Assert.assertNull(top.lookupFifo("a.out-b2.in"));
+    Assert.assertTrue(top.lookupFifos(a, b).isEmpty());
+    top.removeActor(b);
+    Assert.assertNull(top.lookupVertex("b2"));
+    final Actor d = createActor(sub, "d");
+    Assert.assertSame(d, top.lookupAllVertex("d"));
+
+    PiGraphLookupIndex.detach(top);
+    Assert.assertNull(PiGraphLookupIndex.lookup(sub));
+    Assert.assertSame(d, top.lookupAllVertex("d"));
+  }
+}
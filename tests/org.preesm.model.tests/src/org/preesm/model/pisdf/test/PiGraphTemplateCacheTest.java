@@ -0,0 +1,216 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.model.pisdf.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.preesm.commons.files.PreesmResourcesHelper;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.serialize.PiGraphTemplateCache;
+
+/**
+ * Checks the {@link PiGraphTemplateCache} against Pi files of a temporary workspace project. A cache hit is told apart
+ * from a new parse by rewriting a file with content of the same length and restoring its modification time: the cache
+ * cannot see the change and keeps returning the previous graph until the entry is invalidated or evicted.
+ */
+public class PiGraphTemplateCacheTest {
+
+  private static final String GRAPH_NAME   = "weight_generator";
+  private static final String CHANGED_NAME = "WEIGHT_GENERATOR";
+
+  private IProject project;
+  private Path     location;
+  private String   content;
+
+  /**
+   *
+   */
+  @Before
+  public void createProject() throws CoreException, IOException {
+    final URL url = PreesmResourcesHelper.getInstance().resolve("pisdf/" + GRAPH_NAME + ".pi",
+        PiGraphTemplateCacheTest.class);
+    try (InputStream stream = url.openStream()) {
+      this.content = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    // unique name, the cache is shared by the whole process
+    final IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    final String projectName = "PiGraphTemplateCacheTest_" + System.nanoTime();
+    final IProjectDescription description = workspace.newProjectDescription(projectName);
+    this.location = Files.createTempDirectory("PREESM_TESTS_");
+    description.setLocationURI(this.location.toUri());
+    this.project = workspace.getRoot().getProject(projectName);
+    this.project.create(description, null);
+    this.project.open(null);
+  }
+
+  /**
+   *
+   */
+  @After
+  public void deleteProject() throws CoreException, IOException {
+    this.project.close(null);
+    try (Stream<Path> walk = Files.walk(this.location, FileVisitOption.FOLLOW_LINKS)) {
+      walk.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+    this.project.delete(true, null);
+  }
+
+  private IFile createFile(final String name) throws CoreException {
+    final IFile file = this.project.getFile(name);
+    file.create(new ByteArrayInputStream(this.content.getBytes(StandardCharsets.UTF_8)), true, null);
+    return file;
+  }
+
+  private static String path(final IFile file) {
+    return file.getFullPath().toString();
+  }
+
+  /**
+   * Writes the given content in the file and refreshes the workspace.
+   */
+  private static void write(final IFile file, final String newContent, final boolean keepStamp)
+      throws CoreException, IOException {
+    final File javaFile = file.getLocation().toFile();
+    final long stamp = javaFile.lastModified();
+    Files.write(javaFile.toPath(), newContent.getBytes(StandardCharsets.UTF_8));
+    if (keepStamp) {
+      Assert.assertTrue(javaFile.setLastModified(stamp));
+    }
+    file.refreshLocal(IResource.DEPTH_ZERO, null);
+  }
+
+  /**
+   * Renames the graph in the file without changing its length nor its modification time.
+   */
+  private void renameSilently(final IFile file) throws CoreException, IOException {
+    final String renamed = this.content.replace(">" + GRAPH_NAME + "<", ">" + CHANGED_NAME + "<");
+    Assert.assertNotEquals(this.content, renamed);
+    write(file, renamed, true);
+  }
+
+  /**
+   *
+   */
+  @Test
+  public void testHitReturnsIndependentCopy() throws CoreException {
+    final IFile file = createFile("graph.pi");
+
+    final PiGraph first = PiGraphTemplateCache.getPiGraph(path(file));
+    final PiGraph second = PiGraphTemplateCache.getPiGraph(path(file));
+    Assert.assertNotSame(first, second);
+    Assert.assertEquals(GRAPH_NAME, first.getName());
+    Assert.assertEquals(first.getActors().size(), second.getActors().size());
+    Assert.assertNotSame(first.getActors().get(0), second.getActors().get(0));
+
+    // altering a copy affects neither the other copies nor the template
+    final int actorCount = first.getActors().size();
+    first.setName("altered");
+    first.removeActor(first.getActors().get(0));
+    Assert.assertEquals(GRAPH_NAME, second.getName());
+    Assert.assertEquals(actorCount, second.getActors().size());
+
+    final PiGraph third = PiGraphTemplateCache.getPiGraph(path(file));
+    Assert.assertNotSame(second, third);
+    Assert.assertEquals(GRAPH_NAME, third.getName());
+    Assert.assertEquals(actorCount, third.getActors().size());
+    Assert.assertEquals(path(file), third.getUrl());
+  }
+
+  /**
+   *
+   */
+  @Test
+  public void testInvalidationOnChange() throws CoreException, IOException {
+    final IFile file = createFile("graph.pi");
+    Assert.assertEquals(GRAPH_NAME, PiGraphTemplateCache.getPiGraph(path(file)).getName());
+
+    // same stamp: the cached template is used
+    renameSilently(file);
+    Assert.assertEquals(GRAPH_NAME, PiGraphTemplateCache.getPiGraph(path(file)).getName());
+
+    // new length: the file is parsed again
+    final String changed = this.content.replace(">" + GRAPH_NAME + "<", ">" + GRAPH_NAME + "_v2<");
+    write(file, changed, false);
+    Assert.assertEquals(GRAPH_NAME + "_v2", PiGraphTemplateCache.getPiGraph(path(file)).getName());
+
+    // new modification time only: the file is parsed again
+    final File javaFile = file.getLocation().toFile();
+    final String renamed = changed.replace(">" + GRAPH_NAME + "_v2<", ">" + CHANGED_NAME + "_v2<");
+    write(file, renamed, true);
+    Assert.assertEquals(GRAPH_NAME + "_v2", PiGraphTemplateCache.getPiGraph(path(file)).getName());
+    Assert.assertTrue(javaFile.setLastModified(javaFile.lastModified() + 10_000));
+    file.refreshLocal(IResource.DEPTH_ZERO, null);
+    Assert.assertEquals(CHANGED_NAME + "_v2", PiGraphTemplateCache.getPiGraph(path(file)).getName());
+  }
+
+  /**
+   *
+   */
+  @Test
+  public void testBoundedSize() throws CoreException, IOException {
+    final IFile[] files = new IFile[PiGraphTemplateCache.MAX_ENTRIES + 1];
+    for (int i = 0; i < files.length; i++) {
+      files[i] = createFile("graph_" + i + ".pi");
+      PiGraphTemplateCache.getPiGraph(path(files[i]));
+    }
+    final IFile oldest = files[0];
+    final IFile newest = files[files.length - 1];
+    renameSilently(oldest);
+    renameSilently(newest);
+
+    // the most recently used file is still cached, the least recently used one has been evicted
+    Assert.assertEquals(GRAPH_NAME, PiGraphTemplateCache.getPiGraph(path(newest)).getName());
+    Assert.assertEquals(CHANGED_NAME, PiGraphTemplateCache.getPiGraph(path(oldest)).getName());
+  }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.model.pisdf.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.preesm.model.pisdf.AbstractActor;
+import org.preesm.model.pisdf.AbstractVertex;
+import org.preesm.model.pisdf.ConfigInputPort;
+import org.preesm.model.pisdf.Configurable;
+import org.preesm.model.pisdf.DataInputPort;
+import org.preesm.model.pisdf.DataOutputPort;
+import org.preesm.model.pisdf.Delay;
+import org.preesm.model.pisdf.Dependency;
+import org.preesm.model.pisdf.EndActor;
+import org.preesm.model.pisdf.Fifo;
+import org.preesm.model.pisdf.InitActor;
+import org.preesm.model.pisdf.Parameter;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.brv.BRVMethod;
+import org.preesm.model.pisdf.factory.PiMMUserFactory;
+import org.preesm.model.pisdf.statictools.PiSDFToSingleRate;
+import org.preesm.model.pisdf.util.PiSDFSubgraphBuilder;
+
+/**
+ * Checks that the single-rate transformation gives the same graph with several threads.
+ */
+public class PiSDFToSingleRateTest {
+
+  @Test
+  public void testSameResultWithThreads() {
+    final PiGraph sequential = PiSDFToSingleRate.compute(createGraph(), BRVMethod.LCM, 1);
+    final PiGraph concurrent = PiSDFToSingleRate.compute(createGraph(), BRVMethod.LCM, 4);
+    assertEquals(sequential.getActors().stream().map(AbstractActor::getName).collect(Collectors.toList()),
+        concurrent.getActors().stream().map(AbstractActor::getName).collect(Collectors.toList()));
+    assertEquals(sequential.getFifos().stream().map(Fifo::getId).collect(Collectors.toList()),
+        concurrent.getFifos().stream().map(Fifo::getId).collect(Collectors.toList()));
+
+    final List<String> delays = describeDelays(sequential);
+    assertFalse(delays.isEmpty());
+    assertEquals(delays, describeDelays(concurrent));
+    final List<String> parameters = describeParameters(sequential);
+    assertFalse(parameters.isEmpty());
+    assertEquals(parameters, describeParameters(concurrent));
+    final List<String> dependencies = describeDependencies(sequential);
+    assertFalse(dependencies.isEmpty());
+    assertEquals(dependencies, describeDependencies(concurrent));
+  }
+
+  private static List<String> describeDelays(final PiGraph graph) {
+    // the delays are replaced by init and end actors in the single-rate graph
+    final List<String> result = new ArrayList<>();
+    for (final AbstractActor actor : graph.getAllActors()) {
+      if (actor instanceof InitActor) {
+        final InitActor init = (InitActor) actor;
+        result.add(init.getVertexPath() + " " + init.getLevel() + " " + init.getDelaySize() + " -> "
+            + getName(init.getEndReference()));
+      } else if (actor instanceof EndActor) {
+        final EndActor end = (EndActor) actor;
+        result.add(end.getVertexPath() + " <- " + getName(end.getInitReference()));
+      }
+    }
+    for (final Delay delay : graph.getAllDelays()) {
+      result.add(delay.getContainingFifo().getId() + " " + delay.getSizeExpression().getExpressionAsString() + " "
+          + delay.getLevel());
+    }
+    return result;
+  }
+
+  private static String getName(final AbstractActor actor) {
+    return actor == null ? null : actor.getName();
+  }
+
+  private static List<String> describeParameters(final PiGraph graph) {
+    return graph.getAllParameters().stream()
+        .map(p -> p.getVertexPath() + " = " + p.getExpression().getExpressionAsString()).collect(Collectors.toList());
+  }
+
+  private static List<String> describeDependencies(final PiGraph graph) {
+    return graph.getAllDependencies().stream()
+        .map(d -> ((AbstractVertex) d.getSource()).getVertexPath() + " -> "
+            + d.getGetter().getConfigurable().getVertexPath() + "." + d.getGetter().getName())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Builds A -(4:2)-> B -(N:1)-> C -(1:M)-> D -(1:1)-> E -(1:1)-> A, with a delay of 2 on B -> C and of 1 on E -> A,
+   * N = 2 and M = N * 2. B, C and D are in three subgraphs, the ones of B and C being in a fourth one, fired twice.
+   */
+  private static PiGraph createGraph() {
+    final PiGraph graph = PiMMUserFactory.instance.createPiGraph();
+    graph.setName("topgraph");
+    graph.setUrl("topgraph");
+    final Parameter paramN = PiMMUserFactory.instance.createParameter("N", 2);
+    final Parameter paramM = PiMMUserFactory.instance.createParameter("M", 0);
+    graph.addParameter(paramN);
+    graph.addParameter(paramM);
+    addDependency(graph, paramN, paramM);
+    paramM.setExpression("N*2");
+
+    final List<AbstractActor> actors = Arrays.asList(PiMMUserFactory.instance.createActor("A"),
+        PiMMUserFactory.instance.createActor("B"), PiMMUserFactory.instance.createActor("C"),
+        PiMMUserFactory.instance.createActor("D"), PiMMUserFactory.instance.createActor("E"));
+    actors.forEach(graph::addActor);
+    addDependency(graph, paramN, actors.get(1));
+    addDependency(graph, paramM, actors.get(3));
+    final String[] prods = { "4", "N", "1", "1", "1" };
+    final String[] conss = { "2", "1", "M", "1", "1" };
+    final long[] delays = { 0, 2, 0, 0, 1 };
+    for (int i = 0; i < prods.length; i++) {
+      final DataOutputPort output = PiMMUserFactory.instance.createDataOutputPort("out");
+      final DataInputPort input = PiMMUserFactory.instance.createDataInputPort("in");
+      actors.get(i).getDataOutputPorts().add(output);
+      actors.get((i + 1) % actors.size()).getDataInputPorts().add(input);
+      output.setExpression(prods[i]);
+      input.setExpression(conss[i]);
+      final Fifo fifo = PiMMUserFactory.instance.createFifo(output, input, "void");
+      if (delays[i] > 0) {
+        final Delay delay = PiMMUserFactory.instance.createDelay();
+        delay.setExpression(delays[i]);
+        fifo.assignDelay(delay);
+        graph.addDelay(delay);
+      }
+      graph.addFifo(fifo);
+    }
+    final PiGraph[] subgraphs = new PiGraph[4];
+    for (int i = 1; i < 4; i++) {
+      subgraphs[i] = new PiSDFSubgraphBuilder(graph, Arrays.asList(actors.get(i)), "subgraph_" + i).build();
+    }
+    new PiSDFSubgraphBuilder(graph, Arrays.asList(subgraphs[1], subgraphs[2]), "subgraph_12").build();
+    return graph;
+  }
+
+  private static void addDependency(final PiGraph graph, final Parameter setter, final Configurable getter) {
+    final ConfigInputPort port = PiMMUserFactory.instance.createConfigInputPort();
+    port.setName(setter.getName());
+    getter.getConfigInputPorts().add(port);
+    final Dependency dependency = PiMMUserFactory.instance.createDependency(setter, port);
+    graph.addDependency(dependency);
+  }
+
+}
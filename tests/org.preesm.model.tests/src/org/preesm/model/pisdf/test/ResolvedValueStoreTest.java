@@ -0,0 +1,134 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.model.pisdf.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.model.pisdf.ConfigInputPort;
+import org.preesm.model.pisdf.Dependency;
+import org.preesm.model.pisdf.Parameter;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.expression.ResolvedValueStore;
+import org.preesm.model.pisdf.factory.PiMMUserFactory;
+import org.preesm.model.scenario.Scenario;
+import org.preesm.model.scenario.ScenarioPackage;
+import org.preesm.model.scenario.util.ScenarioUserFactory;
+
+/**
+ *
+ */
+public class ResolvedValueStoreTest {
+
+  private static Parameter createDependentParameter(final PiGraph graph, final String name, final String expression,
+      final Parameter parent) {
+    final Parameter param = PiMMUserFactory.instance.createParameter(name, 0);
+    param.setExpression(expression);
+    graph.addParameter(param);
+    final ConfigInputPort port = PiMMUserFactory.instance.createConfigInputPort();
+    port.setName(parent.getName());
+    param.getConfigInputPorts().add(port);
+    final Dependency dependency = PiMMUserFactory.instance.createDependency(parent, port);
+    graph.addDependency(dependency);
+    return param;
+  }
+
+  @Test
+  public void testInvalidation() {
+    final PiGraph graph = PiMMUserFactory.instance.createPiGraph();
+    graph.setName("graph");
+    final Parameter a = PiMMUserFactory.instance.createParameter("a", 2);
+    graph.addParameter(a);
+    final Parameter b = createDependentParameter(graph, "b", "a*3", a);
+    final Parameter c = createDependentParameter(graph, "c", "b+1", b);
+
+    final ResolvedValueStore store = ResolvedValueStore.attach(graph);
+    Assert.assertSame(store, ResolvedValueStore.attach(graph));
+    Assert.assertSame(store, ResolvedValueStore.lookup(c));
+
+    Assert.assertEquals(7L, c.getValueExpression().evaluate());
+    final long misses = store.getMisses();
+    Assert.assertEquals(7L, c.getValueExpression().evaluate());
+    Assert.assertEquals(6L, b.getValueExpression().evaluate());
+    Assert.assertEquals(misses, store.getMisses());
+
+    // changing the root parameter invalidates its dependents
+    a.setExpression(5);
+    Assert.assertEquals(15L, b.getValueExpression().evaluate());
+    Assert.assertEquals(16L, c.getValueExpression().evaluate());
+
+    // changing a leaf parameter does not invalidate its parents
+    final long missesBeforeLeafChange = store.getMisses();
+    c.setExpression("b+2");
+    Assert.assertEquals(17L, c.getValueExpression().evaluate());
+    Assert.assertEquals(missesBeforeLeafChange + 1, store.getMisses());
+
+    ResolvedValueStore.detach(graph);
+    Assert.assertNull(ResolvedValueStore.lookup(c));
+    Assert.assertEquals(17L, c.getValueExpression().evaluate());
+  }
+
+  @Test
+  public void testScenarioValues() {
+    final PiGraph graph = PiMMUserFactory.instance.createPiGraph();
+    graph.setName("graph");
+    final Parameter a = PiMMUserFactory.instance.createParameter("a", 2);
+    graph.addParameter(a);
+    final Parameter b = createDependentParameter(graph, "b", "a*3", a);
+    final Scenario scenario = ScenarioUserFactory.createScenario();
+    scenario.setAlgorithm(graph);
+    scenario.getParameterValues().put(a, "2");
+
+    // each copy of the graph has its own store
+    final PiGraph copy = PiMMUserFactory.instance.copyPiGraphWithHistory(graph);
+    final ResolvedValueStore store = ResolvedValueStore.attach(graph);
+    Assert.assertNotSame(store, ResolvedValueStore.attach(copy));
+    store.observeOverrides(scenario, ScenarioPackage.eINSTANCE.getScenario_ParameterValues());
+    Assert.assertEquals(6L, b.getValueExpression().evaluate());
+    final long misses = store.getMisses();
+    Assert.assertEquals(6L, b.getValueExpression().evaluate());
+    Assert.assertEquals(misses, store.getMisses());
+
+    // changing a scenario value clears the store, the parameters are resolved again
+    scenario.getParameterValues().put(a, "5");
+    a.setExpression(scenario.getParameterValues().get(a));
+    Assert.assertEquals(15L, b.getValueExpression().evaluate());
+    final long missesAfterChange = store.getMisses();
+    scenario.getParameterValues().removeKey(a);
+    Assert.assertEquals(15L, b.getValueExpression().evaluate());
+    Assert.assertTrue(store.getMisses() > missesAfterChange);
+
+    // the scenario is no longer observed once the store is detached
+    ResolvedValueStore.detach(graph);
+    Assert.assertTrue(scenario.eAdapters().isEmpty());
+  }
+}
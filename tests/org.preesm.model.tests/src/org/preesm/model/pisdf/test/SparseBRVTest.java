@@ -0,0 +1,204 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.model.pisdf.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.preesm.commons.exceptions.PreesmRuntimeException;
+import org.preesm.model.pisdf.AbstractActor;
+import org.preesm.model.pisdf.AbstractVertex;
+import org.preesm.model.pisdf.DataInputPort;
+import org.preesm.model.pisdf.DataOutputPort;
+import org.preesm.model.pisdf.Fifo;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.brv.BRVMethod;
+import org.preesm.model.pisdf.brv.PiBRV;
+import org.preesm.model.pisdf.factory.PiMMUserFactory;
+import org.preesm.model.pisdf.util.PiSDFSubgraphBuilder;
+
+/**
+ * Tests of the {@link BRVMethod#SPARSE} repetition vector computation.
+ */
+public class SparseBRVTest {
+
+  private PiGraph       graph;
+  private AbstractActor actorA;
+  private AbstractActor actorB;
+  private AbstractActor actorC;
+  private AbstractActor actorD;
+  private AbstractActor actorE;
+
+  /**
+   * Builds A -(3:2)-> B -(1:3)-> C, and D -(0:0)-> E.
+   */
+  @Before
+  public void setUp() {
+    this.graph = PiMMUserFactory.instance.createPiGraph();
+    this.graph.setName("topgraph");
+    this.graph.setUrl("topgraph");
+    this.actorA = addActor("A");
+    this.actorB = addActor("B");
+    this.actorC = addActor("C");
+    this.actorD = addActor("D");
+    this.actorE = addActor("E");
+    connect(this.actorA, 3, this.actorB, 2);
+    connect(this.actorB, 1, this.actorC, 3);
+    connect(this.actorD, 0, this.actorE, 0);
+  }
+
+  @Test
+  public void testSameAsLCM() {
+    final Map<AbstractVertex, Long> lcm = PiBRV.compute(this.graph, BRVMethod.LCM);
+    final Map<AbstractVertex, Long> sparse = PiBRV.compute(this.graph, BRVMethod.SPARSE);
+    assertEquals(lcm, sparse);
+    assertEquals(Long.valueOf(2), sparse.get(this.actorA));
+    assertEquals(Long.valueOf(3), sparse.get(this.actorB));
+    assertEquals(Long.valueOf(1), sparse.get(this.actorC));
+    assertEquals(Long.valueOf(0), sparse.get(this.actorD));
+    assertEquals(Long.valueOf(0), sparse.get(this.actorE));
+
+    // B and C in a subgraph, whose local repetition vector is [3, 1]
+    final PiGraph subgraph = new PiSDFSubgraphBuilder(this.graph, Arrays.asList(this.actorB, this.actorC), "S")
+        .build();
+    final Map<AbstractVertex, Long> lcmHierarchical = PiBRV.compute(this.graph, BRVMethod.LCM);
+    final Map<AbstractVertex, Long> sparseHierarchical = PiBRV.compute(this.graph, BRVMethod.SPARSE);
+    assertEquals(lcmHierarchical, sparseHierarchical);
+    assertEquals(Long.valueOf(2), sparseHierarchical.get(this.actorA));
+    assertEquals(Long.valueOf(1), sparseHierarchical.get(subgraph));
+    assertEquals(Long.valueOf(3), sparseHierarchical.get(this.actorB));
+    assertEquals(Long.valueOf(1), sparseHierarchical.get(this.actorC));
+
+    // subgraph in a subgraph
+    final PiGraph upperSubgraph = new PiSDFSubgraphBuilder(this.graph, Arrays.asList(this.actorA, subgraph), "T")
+        .build();
+    final Map<AbstractVertex, Long> sparseNested = PiBRV.compute(this.graph, BRVMethod.SPARSE);
+    assertEquals(PiBRV.compute(this.graph, BRVMethod.LCM), sparseNested);
+    assertEquals(Long.valueOf(1), sparseNested.get(upperSubgraph));
+    assertEquals(Long.valueOf(3), sparseNested.get(this.actorB));
+  }
+
+  @Test
+  public void testInconsistent() {
+    connect(this.actorA, 1, this.actorC, 1);
+    try {
+      PiBRV.compute(this.graph, BRVMethod.SPARSE);
+      fail();
+    } catch (PreesmRuntimeException e) {
+      assertTrue(e.getMessage().startsWith("Graph non consistent"));
+    }
+  }
+
+  @Test
+  public void testOverflow() {
+    AbstractActor previous = this.actorC;
+    for (int i = 0; i < 3; i++) {
+      final AbstractActor next = addActor("X" + i);
+      connect(previous, 1L << 31, next, 1);
+      previous = next;
+    }
+    try {
+      PiBRV.compute(this.graph, BRVMethod.SPARSE);
+      fail();
+    } catch (PreesmRuntimeException e) {
+      assertTrue(e.getMessage().contains("overflows 64 bits"));
+    }
+  }
+
+  @Test
+  public void testRecompute() {
+    final Map<AbstractVertex, Long> previous = PiBRV.compute(this.graph, BRVMethod.SPARSE);
+    this.actorC.getDataInputPorts().get(0).setExpression(5);
+    final Map<AbstractVertex, Long> recomputed = PiBRV.recompute(this.graph, previous,
+        Collections.singletonList(this.actorC));
+    assertEquals(PiBRV.compute(this.graph, BRVMethod.LCM), recomputed);
+    assertEquals(Long.valueOf(15), recomputed.get(this.actorB));
+
+    // the component of C has not been edited, its stale values are kept
+    this.actorC.getDataInputPorts().get(0).setExpression(3);
+    final Map<AbstractVertex, Long> stale = PiBRV.recompute(this.graph, recomputed, Arrays.asList(this.actorD));
+    assertEquals(recomputed, stale);
+
+    // F -(2:1)-> [G -(1:2)-> H], the subgraph local repetition vector being [2, 1]
+    final AbstractActor actorF = addActor("F");
+    final AbstractActor actorG = addActor("G");
+    final AbstractActor actorH = addActor("H");
+    connect(actorF, 2, actorG, 1);
+    connect(actorG, 1, actorH, 2);
+    final PiGraph subgraph = new PiSDFSubgraphBuilder(this.graph, Arrays.asList(actorG, actorH), "S").build();
+    final Map<AbstractVertex, Long> hierarchical = PiBRV.compute(this.graph, BRVMethod.SPARSE);
+    assertEquals(PiBRV.compute(this.graph, BRVMethod.LCM), hierarchical);
+    assertEquals(Long.valueOf(1), hierarchical.get(subgraph));
+    assertEquals(Long.valueOf(2), hierarchical.get(actorG));
+    assertEquals(Long.valueOf(1), hierarchical.get(actorH));
+
+    // edit inside the subgraph, the interfaces are not changed: the local repetition vector becomes [2, 2]
+    actorH.getDataInputPorts().get(0).setExpression(1);
+    final Map<AbstractVertex, Long> expected = PiBRV.compute(this.graph, BRVMethod.LCM);
+    assertEquals(Long.valueOf(2), expected.get(actorH));
+
+    // the component of the subgraph has not been edited, its values and the ones of its subgraph are reused
+    final Map<AbstractVertex, Long> staleSubgraph = PiBRV.recompute(this.graph, hierarchical,
+        Arrays.asList(this.actorA));
+    assertEquals(hierarchical, staleSubgraph);
+    assertEquals(Long.valueOf(1), staleSubgraph.get(actorH));
+
+    // an actor of the subgraph is edited, its component in the top graph is computed again
+    assertEquals(expected, PiBRV.recompute(this.graph, hierarchical, Arrays.asList(actorH)));
+  }
+
+  private AbstractActor addActor(final String name) {
+    final AbstractActor actor = PiMMUserFactory.instance.createActor(name);
+    this.graph.addActor(actor);
+    return actor;
+  }
+
+  private void connect(final AbstractActor source, final long prod, final AbstractActor target, final long cons) {
+    final DataOutputPort output = PiMMUserFactory.instance
+        .createDataOutputPort("out" + source.getDataOutputPorts().size());
+    final DataInputPort input = PiMMUserFactory.instance.createDataInputPort("in" + target.getDataInputPorts().size());
+    source.getDataOutputPorts().add(output);
+    target.getDataInputPorts().add(input);
+    output.setExpression(prod);
+    input.setExpression(cons);
+    final Fifo fifo = PiMMUserFactory.instance.createFifo(output, input, "void");
+    this.graph.addFifo(fifo);
+  }
+
+}
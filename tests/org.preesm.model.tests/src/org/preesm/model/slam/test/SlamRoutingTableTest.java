@@ -0,0 +1,102 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.model.slam.test;
+
+import java.util.List;
+import java.util.Map;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.junit.Assert;
+import org.junit.Test;
+import org.preesm.model.slam.ComponentInstance;
+import org.preesm.model.slam.Design;
+import org.preesm.model.slam.SlamPackage;
+import org.preesm.model.slam.SlamRoute;
+import org.preesm.model.slam.process.SlamFlattener;
+import org.preesm.model.slam.route.RouteCostEvaluator;
+import org.preesm.model.slam.route.SlamRoutingTable;
+import org.preesm.model.slam.serialize.IPXACTResourceFactoryImpl;
+
+/**
+ */
+public class SlamRoutingTableTest {
+
+  private static Design loadDesign(final String path) {
+    final Map<String, Object> extToFactoryMap = Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap();
+    if (!extToFactoryMap.containsKey("slam")) {
+      extToFactoryMap.put("slam", new IPXACTResourceFactoryImpl());
+    }
+    if (!EPackage.Registry.INSTANCE.containsKey(SlamPackage.eNS_URI)) {
+      EPackage.Registry.INSTANCE.put(SlamPackage.eNS_URI, SlamPackage.eINSTANCE);
+    }
+    final ResourceSet resourceSet = new ResourceSetImpl();
+    final Resource resource = resourceSet.getResource(URI.createFileURI(path), true);
+    final Design design = (Design) resource.getContents().get(0);
+    new SlamFlattener().flattenAllLevels(design);
+    return design;
+  }
+
+  @Test
+  public void testSharedTable() {
+    final Design design = loadDesign("./resources/4CoreX86.slam");
+
+    final SlamRoutingTable table = SlamRoutingTable.get(design);
+    Assert.assertSame(table, SlamRoutingTable.get(design));
+
+    final List<ComponentInstance> operators = design.getOperatorComponentInstances();
+    Assert.assertTrue(operators.size() > 1);
+    for (final ComponentInstance src : operators) {
+      for (final ComponentInstance tgt : operators) {
+        if (src != tgt) {
+          final SlamRoute route = table.getRoute(src, tgt);
+          Assert.assertSame(src, route.getSource());
+          Assert.assertSame(tgt, route.getTarget());
+          Assert.assertTrue(route.isSingleAppearance());
+          // routes are only created once
+          Assert.assertSame(route, table.getRoute(src, tgt));
+          Assert.assertEquals(RouteCostEvaluator.evaluateTransferCost(route, 1000),
+              table.evaluateTransferCost(src, tgt, 1000), 0);
+        }
+      }
+    }
+
+    // the table is built again after a change of the design
+    design.setUrl("changed.slam");
+    final SlamRoutingTable newTable = SlamRoutingTable.get(design);
+    Assert.assertNotSame(table, newTable);
+    Assert.assertSame(newTable, SlamRoutingTable.get(design));
+  }
+}
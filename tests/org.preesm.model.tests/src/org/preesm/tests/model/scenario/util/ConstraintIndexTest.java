@@ -0,0 +1,128 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.tests.model.scenario.util;
+
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.preesm.model.pisdf.Actor;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.factory.PiMMUserFactory;
+import org.preesm.model.scenario.Constraints;
+import org.preesm.model.scenario.Scenario;
+import org.preesm.model.scenario.util.ConstraintIndex;
+import org.preesm.model.scenario.util.ScenarioUserFactory;
+import org.preesm.model.slam.ComponentInstance;
+import org.preesm.model.slam.SlamFactory;
+
+/**
+ *
+ */
+public class ConstraintIndexTest {
+
+  private PiGraph           graph;
+  private Actor             actorA;
+  private Actor             actorB;
+  private Constraints       constraints;
+  private ComponentInstance core0;
+  private ComponentInstance core1;
+
+  /**
+   * A can be mapped on core0 and core1, B on core1 only.
+   */
+  @Before
+  public void setUp() {
+    this.graph = PiMMUserFactory.instance.createPiGraph();
+    this.graph.setName("top");
+    this.actorA = PiMMUserFactory.instance.createActor("A");
+    this.actorB = PiMMUserFactory.instance.createActor("B");
+    this.graph.addActor(this.actorA);
+    this.graph.addActor(this.actorB);
+
+    final Scenario scenario = ScenarioUserFactory.createScenario();
+    scenario.setAlgorithm(this.graph);
+    this.constraints = scenario.getConstraints();
+
+    this.core0 = SlamFactory.eINSTANCE.createComponentInstance();
+    this.core0.setInstanceName("core0");
+    this.core1 = SlamFactory.eINSTANCE.createComponentInstance();
+    this.core1.setInstanceName("core1");
+
+    this.constraints.addConstraint(this.core0, this.actorA);
+    this.constraints.addConstraint(this.core1, this.actorA);
+    this.constraints.addConstraint(this.core1, this.actorB);
+  }
+
+  private List<ComponentInstance> mappings(final Actor actor) {
+    return ConstraintIndex.get(this.constraints).getPossibleMappings(actor);
+  }
+
+  @Test
+  public void testMappings() {
+    Assert.assertEquals(List.of(this.core0, this.core1), mappings(this.actorA));
+    Assert.assertEquals(List.of(this.core1), mappings(this.actorB));
+    Assert.assertSame(ConstraintIndex.get(this.constraints), ConstraintIndex.get(this.constraints));
+  }
+
+  @Test
+  public void testCopiedActor() {
+    final PiGraph copy = PiMMUserFactory.instance.copyPiGraphWithHistory(this.graph);
+    Assert.assertEquals(List.of(this.core0, this.core1), mappings((Actor) copy.lookupVertex("A")));
+    Assert.assertEquals(List.of(this.core1), mappings((Actor) copy.lookupVertex("B")));
+  }
+
+  @Test
+  public void testAddConstraint() {
+    Assert.assertEquals(List.of(this.core1), mappings(this.actorB));
+    this.constraints.addConstraint(this.core0, this.actorB);
+    Assert.assertEquals(List.of(this.core0, this.core1), mappings(this.actorB));
+  }
+
+  @Test
+  public void testRemoveConstraint() {
+    Assert.assertEquals(List.of(this.core0, this.core1), mappings(this.actorA));
+    this.constraints.getGroupConstraints().get(this.core0).remove(this.actorA);
+    Assert.assertEquals(List.of(this.core1), mappings(this.actorA));
+  }
+
+  @Test
+  public void testRemoveGroup() {
+    final PiGraph copy = PiMMUserFactory.instance.copyPiGraphWithHistory(this.graph);
+    final Actor copiedB = (Actor) copy.lookupVertex("B");
+    Assert.assertEquals(List.of(this.core1), mappings(copiedB));
+    this.constraints.getGroupConstraints().removeKey(this.core1);
+    Assert.assertEquals(List.of(), mappings(copiedB));
+    Assert.assertEquals(List.of(this.core0), mappings(this.actorA));
+  }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright or © or Copr. IETR/INSA - Rennes (2026) :
+ *
+ * This software is a computer program whose purpose is to help prototyping
+ * parallel applications using dataflow formalism.
+ *
+ * This software is governed by the CeCILL  license under French law and
+ * abiding by the rules of distribution of free software.  You can  use,
+ * modify and/ or redistribute the software under the terms of the CeCILL
+ * license as circulated by CEA, CNRS and INRIA at the following URL
+ * "http://www.cecill.info".
+ *
+ * As a counterpart to the access to the source code and  rights to copy,
+ * modify and redistribute granted by the license, users are provided only
+ * with a limited warranty  and the software's author,  the holder of the
+ * economic rights,  and the successive licensors  have only  limited
+ * liability.
+ *
+ * In this respect, the user's attention is drawn to the risks associated
+ * with loading,  using,  modifying and/or developing or reproducing the
+ * software by the user in light of its specific status of free software,
+ * that may mean  that it is complicated to manipulate,  and  that  also
+ * therefore means  that it is reserved for developers  and  experienced
+ * professionals having in-depth computer knowledge. Users are therefore
+ * encouraged to load and test the software's suitability as regards their
+ * requirements in conditions enabling the security of their systems and/or
+ * data to be ensured and,  more generally, to use and operate it in the
+ * same conditions as regards security.
+ *
+ * The fact that you are presently reading this means that you have had
+ * knowledge of the CeCILL license and that you accept its terms.
+ */
+package org.preesm.tests.model.scenario.util;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.preesm.model.pisdf.Actor;
+import org.preesm.model.pisdf.ConfigInputPort;
+import org.preesm.model.pisdf.LongExpression;
+import org.preesm.model.pisdf.Parameter;
+import org.preesm.model.pisdf.PiGraph;
+import org.preesm.model.pisdf.factory.PiMMUserFactory;
+import org.preesm.model.scenario.Scenario;
+import org.preesm.model.scenario.util.ScenarioUserFactory;
+import org.preesm.model.scenario.util.TimingTable;
+import org.preesm.model.slam.Component;
+import org.preesm.model.slam.SlamFactory;
+import org.preesm.model.slam.TimingType;
+
+/**
+ *
+ */
+public class TimingTableTest {
+
+  private PiGraph   graph;
+  private Parameter parameter;
+  private Actor     actor;
+  private Scenario  scenario;
+  private Component component;
+
+  /**
+   * Graph with a parameter N = 2 and an actor A whose execution time is N * 10.
+   */
+  @Before
+  public void setUp() {
+    this.graph = PiMMUserFactory.instance.createPiGraph();
+    this.graph.setName("top");
+    this.parameter = PiMMUserFactory.instance.createParameter("N", 2);
+    this.graph.addParameter(this.parameter);
+    this.actor = PiMMUserFactory.instance.createActor("A");
+    this.graph.addActor(this.actor);
+
+    this.scenario = ScenarioUserFactory.createScenario();
+    this.scenario.setAlgorithm(this.graph);
+    this.component = SlamFactory.eINSTANCE.createCPU();
+    this.scenario.getTimings().setTiming(this.actor, this.component, TimingType.EXECUTION_TIME, "N*10");
+  }
+
+  private long evaluate(final Actor timedActor) {
+    return this.scenario.getTimings().evaluateTiming(timedActor, this.component, TimingType.EXECUTION_TIME);
+  }
+
+  @Test
+  public void testHit() {
+    Assert.assertEquals(20L, evaluate(this.actor));
+    Assert.assertEquals(20L, evaluate(this.actor));
+    Assert.assertSame(TimingTable.get(this.scenario.getTimings()), TimingTable.get(this.scenario.getTimings()));
+  }
+
+  @Test
+  public void testCopiedActor() {
+    final PiGraph copy = PiMMUserFactory.instance.copyPiGraphWithHistory(this.graph);
+    final Actor copiedActor = (Actor) copy.lookupVertex("A");
+    Assert.assertEquals(20L, evaluate(copiedActor));
+    Assert.assertEquals(20L, evaluate(this.actor));
+  }
+
+  @Test
+  public void testTimingChange() {
+    Assert.assertEquals(20L, evaluate(this.actor));
+    this.scenario.getTimings().setTiming(this.actor, this.component, TimingType.EXECUTION_TIME, "N*5");
+    Assert.assertEquals(10L, evaluate(this.actor));
+  }
+
+  @Test
+  public void testParameterExpressionChange() {
+    Assert.assertEquals(20L, evaluate(this.actor));
+
+    // replaces the expression of the parameter
+    this.parameter.setExpression(3);
+    Assert.assertEquals(30L, evaluate(this.actor));
+
+    // changes the value of the new expression
+    ((LongExpression) this.parameter.getExpression()).setValue(4);
+    Assert.assertEquals(40L, evaluate(this.actor));
+  }
+
+  @Test
+  public void testParameterOverride() {
+    Assert.assertEquals(20L, evaluate(this.actor));
+    this.scenario.getParameterValues().put(this.parameter, "5");
+    Assert.assertEquals(50L, evaluate(this.actor));
+  }
+
+  @Test
+  public void testParentParameterChange() {
+    // N = P * 2, with P = 1
+    final Parameter parent = PiMMUserFactory.instance.createParameter("P", 1);
+    this.graph.addParameter(parent);
+    final ConfigInputPort port = PiMMUserFactory.instance.createConfigInputPort();
+    port.setName("P");
+    this.parameter.getConfigInputPorts().add(port);
+    this.graph.addDependency(PiMMUserFactory.instance.createDependency(parent, port));
+    this.parameter.setExpression("P*2");
+    Assert.assertEquals(20L, evaluate(this.actor));
+
+    parent.setExpression(2);
+    Assert.assertEquals(40L, evaluate(this.actor));
+  }
+}